@@ -31,7 +31,30 @@ description = "Lattices - Library for multidimensional grids and linear algebra"
 
 extra["moduleName"] = "io.jenetics.lattices"
 
+/**
+ * The optional SIMD kernels, which are using the 'jdk.incubator.vector' module.
+ * The classes are part of the main jar, but they are only loaded if the
+ * incubator module is available at runtime:
+ * 'java --add-modules jdk.incubator.vector ...'
+ * The main module descriptor doesn't require the incubator module, which
+ * keeps the main compilation free of the incubating warning.
+ */
+val vector: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+}
+
+tasks.named<JavaCompile>(vector.compileJavaTaskName) {
+    options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+}
+
+tasks.jar {
+    from(vector.output)
+}
+
 dependencies {
+    testRuntimeOnly(vector.output)
+    "jmhRuntimeOnly"(vector.output)
+
     testImplementation("colt:colt:1.2.0")
     testImplementation("nl.jqno.equalsverifier:equalsverifier:3.7.2")
     testImplementation("org.apache.commons:commons-math3:3.6.1")
@@ -40,8 +63,13 @@ dependencies {
     testImplementation("org.testng:testng:7.7.1")
 }
 
-tasks.test { dependsOn(tasks.compileJmhJava) }
+tasks.test {
+    dependsOn(tasks.compileJmhJava)
+    jvmArgs("--add-modules", "jdk.incubator.vector")
+}
 
 jmh {
     includes.add(".*DenseDoubleMatrix2dPerf.*")
+    includes.add(".*TransposedLoopPerf.*")
+    jvmArgsAppend.add("--add-modules=jdk.incubator.vector")
 }
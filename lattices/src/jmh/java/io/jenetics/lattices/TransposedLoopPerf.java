@@ -0,0 +1,129 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jenetics.lattices.grid.DoubleGrid2d;
+import io.jenetics.lattices.grid.lattice.Loop2d;
+import io.jenetics.lattices.structure.Range2d;
+import io.jenetics.lattices.structure.View2d;
+
+/**
+ * Compares the row-major loop with the stride-aware default loop, when
+ * looping over a transposed grid view. For the transposed view, the column
+ * stride is the long one and the row-major loop jumps through the memory.
+ * The {@code *_add} benchmarks loop over a row-major grid and a transposed
+ * view together, where no loop order fits both layouts.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 7)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransposedLoopPerf {
+
+    @Param({"100", "1000", "2048", "4000"})
+    public int size;
+
+    private DoubleGrid2d grid;
+    private DoubleGrid2d transposed;
+    private Loop2d rowFirst;
+    private Loop2d tiled;
+
+    @Setup
+    public void setup() {
+        final var random = new Random(123);
+        final var grid = DoubleGrid2d.DENSE.create(size, size);
+        grid.assign(v -> random.nextDouble());
+
+        transposed = grid.view(View2d.TRANSPOSE);
+        this.grid = grid.copy();
+        rowFirst = Loop2d.of(new Range2d(transposed.extent()));
+        tiled = Loop2d.tiled(new Range2d(transposed.extent()));
+    }
+
+    @Benchmark
+    public double rowFirst_sum() {
+        final double[] sum = {0};
+        rowFirst.forEach((r, c) -> sum[0] += transposed.get(r, c));
+        return sum[0];
+    }
+
+    @Benchmark
+    public double strided_sum() {
+        final double[] sum = {0};
+        transposed.forEach((r, c) -> sum[0] += transposed.get(r, c));
+        return sum[0];
+    }
+
+    // Negating keeps the values stable over all invocations. A repeated
+    // scaling would let them decay into denormals, which are much slower.
+    @Benchmark
+    public Object rowFirst_negate() {
+        rowFirst.forEach((r, c) ->
+            transposed.set(r, c, -transposed.get(r, c))
+        );
+        return transposed;
+    }
+
+    @Benchmark
+    public Object strided_negate() {
+        transposed.forEach((r, c) ->
+            transposed.set(r, c, -transposed.get(r, c))
+        );
+        return transposed;
+    }
+
+    @Benchmark
+    public Object rowFirst_add() {
+        rowFirst.forEach((r, c) ->
+            grid.set(r, c, grid.get(r, c) + transposed.get(r, c))
+        );
+        return grid;
+    }
+
+    @Benchmark
+    public Object tiled_add() {
+        tiled.forEach((r, c) ->
+            grid.set(r, c, grid.get(r, c) + transposed.get(r, c))
+        );
+        return grid;
+    }
+
+    @Benchmark
+    public Object assign_add() {
+        grid.assign(transposed, Double::sum);
+        return grid;
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid;
+
+import io.jenetics.lattices.grid.array.BigArray;
+import io.jenetics.lattices.grid.array.BigDoubleArray;
+import io.jenetics.lattices.structure.Band;
+import io.jenetics.lattices.structure.BigStructure3d;
+import io.jenetics.lattices.structure.Extent3d;
+import io.jenetics.lattices.structure.Range3d;
+import io.jenetics.lattices.structure.Stride3d;
+
+/**
+ * Class for <em>big</em> 3-d grids holding {@code double} elements. The grid
+ * is a view onto a {@link BigArray.OfDouble}, which is accessed with
+ * {@code long} offsets, and can therefore hold more than
+ * {@link Integer#MAX_VALUE} elements. Views and projections of big grids are
+ * zero-copy, like for the {@code int} indexed grids.
+ *
+ * <pre>{@code
+ * final var volume = BigDoubleGrid3d.DENSE.create(2_000, 2_000, 2_000);
+ * final var slice = volume.sliceAt(1_500);
+ * }</pre>
+ *
+ * @see DoubleGrid3d
+ *
+ * @param structure the big structure of the grid
+ * @param array the grid elements
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public record BigDoubleGrid3d(BigStructure3d structure, BigArray.OfDouble array) {
+
+    /**
+     * Factory for creating <em>dense</em> big grid instances.
+     */
+    public static final Grid3d.Factory<BigDoubleGrid3d> DENSE =
+        extent -> new BigDoubleGrid3d(
+            new BigStructure3d(extent),
+            BigDoubleArray.ofSize(extent.bigCells())
+        );
+
+    /**
+     * Return the extent of {@code this} grid.
+     *
+     * @return the extent of {@code this} grid
+     */
+    public Extent3d extent() {
+        return structure.extent();
+    }
+
+    /**
+     * Returns the grid cell value at coordinate {@code [slice, row, col]}.
+     *
+     * @param slice the index of the slice-coordinate
+     * @param row the index of the row-coordinate
+     * @param col the index of the column-coordinate
+     * @return the value of the specified cell
+     * @throws IndexOutOfBoundsException if the given coordinates are out of
+     *         bounds
+     */
+    public double get(int slice, int row, int col) {
+        return array.get(structure.layout().offset(slice, row, col));
+    }
+
+    /**
+     * Sets the grid cell at coordinate {@code [slice, row, col]} to the
+     * specified {@code value}.
+     *
+     * @param slice the index of the slice-coordinate
+     * @param row the index of the row-coordinate
+     * @param col the index of the column-coordinate
+     * @param value the value to be filled into the specified cell
+     * @throws IndexOutOfBoundsException if the given coordinates are out of
+     *         bounds
+     */
+    public void set(int slice, int row, int col, double value) {
+        array.set(structure.layout().offset(slice, row, col), value);
+    }
+
+    /**
+     * Sets all cells to the state specified by {@code value}.
+     *
+     * @param value the value to be filled into the cells
+     */
+    public void assign(double value) {
+        for (int s = 0, slices = extent().slices(); s < slices; ++s) {
+            sliceAt(s).assign(value);
+        }
+    }
+
+    /**
+     * Return a grid view of the given {@code range}.
+     *
+     * @param range the range of the view
+     * @return a new grid view
+     */
+    public BigDoubleGrid3d view(Range3d range) {
+        return new BigDoubleGrid3d(structure.view(range), array);
+    }
+
+    /**
+     * Return a grid view with the given {@code stride}.
+     *
+     * @param stride the stride of the view
+     * @return a new grid view
+     */
+    public BigDoubleGrid3d view(Stride3d stride) {
+        return new BigDoubleGrid3d(structure.view(stride), array);
+    }
+
+    /**
+     * Return a grid view onto the given {@code band}.
+     *
+     * @param band the band of the view
+     * @return a new grid view
+     */
+    public BigDoubleGrid3d view(Band band) {
+        return new BigDoubleGrid3d(structure.view(band), array);
+    }
+
+    /**
+     * Return the slice with the given {@code index} as 2-d grid view.
+     *
+     * @param index the slice index
+     * @return the slice view
+     * @throws IndexOutOfBoundsException if the given {@code index} is out of
+     *         bounds
+     */
+    public BigDoubleGrid2d sliceAt(int index) {
+        return new BigDoubleGrid2d(structure.slice(index), array);
+    }
+
+    /**
+     * Return the row with the given {@code index} as 2-d grid view.
+     *
+     * @param index the row index
+     * @return the row view
+     * @throws IndexOutOfBoundsException if the given {@code index} is out of
+     *         bounds
+     */
+    public BigDoubleGrid2d rowAt(int index) {
+        return new BigDoubleGrid2d(structure.row(index), array);
+    }
+
+    /**
+     * Return the column with the given {@code index} as 2-d grid view.
+     *
+     * @param index the column index
+     * @return the column view
+     * @throws IndexOutOfBoundsException if the given {@code index} is out of
+     *         bounds
+     */
+    public BigDoubleGrid2d colAt(int index) {
+        return new BigDoubleGrid2d(structure.col(index), array);
+    }
+
+}
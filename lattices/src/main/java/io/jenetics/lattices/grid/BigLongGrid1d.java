@@ -0,0 +1,130 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid;
+
+import io.jenetics.lattices.grid.array.BigArray;
+import io.jenetics.lattices.grid.array.BigLongArray;
+import io.jenetics.lattices.structure.Band;
+import io.jenetics.lattices.structure.BigStructure1d;
+import io.jenetics.lattices.structure.Extent1d;
+import io.jenetics.lattices.structure.Range1d;
+import io.jenetics.lattices.structure.Stride1d;
+
+/**
+ * Class for <em>big</em> 1-d grids holding {@code long} elements. The grid
+ * is a view onto a {@link BigArray.OfLong}, which is accessed with
+ * {@code long} offsets. Big 1-d grids are usually created as projections of
+ * big 2-d or 3-d grids.
+ *
+ * @see BigLongGrid2d#rowAt(int)
+ * @see BigLongGrid2d#colAt(int)
+ *
+ * @param structure the big structure of the grid
+ * @param array the grid elements
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public record BigLongGrid1d(BigStructure1d structure, BigArray.OfLong array) {
+
+    /**
+     * Factory for creating <em>dense</em> big grid instances.
+     */
+    public static final Grid1d.Factory<BigLongGrid1d> DENSE =
+        extent -> new BigLongGrid1d(
+            new BigStructure1d(extent),
+            BigLongArray.ofSize(extent.cells())
+        );
+
+    /**
+     * Return the extent of {@code this} grid.
+     *
+     * @return the extent of {@code this} grid
+     */
+    public Extent1d extent() {
+        return structure.extent();
+    }
+
+    /**
+     * Returns the grid cell value at the given {@code index}.
+     *
+     * @param index the index of the cell
+     * @return the value of the specified cell
+     * @throws IndexOutOfBoundsException if the given index is out of bounds
+     */
+    public long get(int index) {
+        return array.get(structure.layout().offset(index));
+    }
+
+    /**
+     * Sets the grid cell at the given {@code index} to the specified
+     * {@code value}.
+     *
+     * @param index the index of the cell
+     * @param value the value to be filled into the specified cell
+     * @throws IndexOutOfBoundsException if the given index is out of bounds
+     */
+    public void set(int index, long value) {
+        array.set(structure.layout().offset(index), value);
+    }
+
+    /**
+     * Sets all cells to the state specified by {@code value}.
+     *
+     * @param value the value to be filled into the cells
+     */
+    public void assign(long value) {
+        for (int i = 0, n = extent().elements(); i < n; ++i) {
+            set(i, value);
+        }
+    }
+
+    /**
+     * Return a grid view of the given {@code range}.
+     *
+     * @param range the range of the view
+     * @return a new grid view
+     */
+    public BigLongGrid1d view(Range1d range) {
+        return new BigLongGrid1d(structure.view(range), array);
+    }
+
+    /**
+     * Return a grid view with the given {@code stride}.
+     *
+     * @param stride the stride of the view
+     * @return a new grid view
+     */
+    public BigLongGrid1d view(Stride1d stride) {
+        return new BigLongGrid1d(structure.view(stride), array);
+    }
+
+    /**
+     * Return a grid view onto the given {@code band}.
+     *
+     * @param band the band of the view
+     * @return a new grid view
+     */
+    public BigLongGrid1d view(Band band) {
+        return new BigLongGrid1d(structure.view(band), array);
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid;
+
+import io.jenetics.lattices.grid.array.BitArray;
+import io.jenetics.lattices.grid.lattice.Lattice1d;
+import io.jenetics.lattices.grid.lattice.Lattice2d;
+import io.jenetics.lattices.grid.lattice.Lattice3d;
+import io.jenetics.lattices.structure.Structure1d;
+import io.jenetics.lattices.structure.Structure2d;
+import io.jenetics.lattices.structure.Structure3d;
+
+/**
+ * Helper methods for the word-level operations of the boolean grids.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+final class Bits {
+    private Bits() {
+    }
+
+    /**
+     * Return the bit array of the given {@code lattice}, if the lattice
+     * elements are exactly the bits of the array, in the default order.
+     * Otherwise, {@code null} is returned and the grid operations must be
+     * performed cell by cell.
+     *
+     * @param lattice the boolean lattice
+     * @return the underlying bit array, or {@code null}
+     */
+    static BitArray words(Lattice1d.OfBoolean<?> lattice) {
+        return lattice.array() instanceof BitArray bits &&
+            bits.length() == lattice.extent().elements() &&
+            lattice.structure().equals(new Structure1d(lattice.extent()))
+                ? bits
+                : null;
+    }
+
+    /**
+     * Return the bit array of the given {@code lattice}, if the lattice
+     * elements are exactly the bits of the array, in row-major order.
+     * Otherwise, {@code null} is returned and the grid operations must be
+     * performed cell by cell.
+     *
+     * @param lattice the boolean lattice
+     * @return the underlying bit array, or {@code null}
+     */
+    static BitArray words(Lattice2d.OfBoolean<?> lattice) {
+        return lattice.array() instanceof BitArray bits &&
+            bits.length() == lattice.extent().elements() &&
+            lattice.structure().equals(new Structure2d(lattice.extent()))
+                ? bits
+                : null;
+    }
+
+    /**
+     * Return the bit array of the given {@code lattice}, if the lattice
+     * elements are exactly the bits of the array, in slice-major order.
+     * Otherwise, {@code null} is returned and the grid operations must be
+     * performed cell by cell.
+     *
+     * @param lattice the boolean lattice
+     * @return the underlying bit array, or {@code null}
+     */
+    static BitArray words(Lattice3d.OfBoolean<?> lattice) {
+        return lattice.array() instanceof BitArray bits &&
+            bits.length() == lattice.extent().elements() &&
+            lattice.structure().equals(new Structure3d(lattice.extent()))
+                ? bits
+                : null;
+    }
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid;
+
+import static io.jenetics.lattices.grid.Structures.checkSameExtent;
+
+import io.jenetics.lattices.grid.array.Array;
+import io.jenetics.lattices.grid.array.BitArray;
+import io.jenetics.lattices.grid.lattice.Lattice1d;
+import io.jenetics.lattices.structure.Extent1d;
+import io.jenetics.lattices.structure.Structure1d;
+
+/**
+ * Generic class for 1-d grids holding {@code boolean} elements. The
+ * {@link #DENSE} grids are stored in a bit-packed {@link BitArray}, which
+ * needs one bit per grid cell. The following example shows how to create
+ * such a grid.
+ *
+ * <pre>{@code
+ * final var grid = new BooleanGrid1d(
+ *     new Structure1d(new Extent1d(100)),
+ *     BitArray.ofSize(100)
+ * );
+ * }</pre>
+ *
+ * The logical bulk operations, like {@link #and(Lattice1d.OfBoolean)} or
+ * {@link #cardinality()}, are performed <em>word-wise</em>, 64 cells at a
+ * time, if the grids are backed by a {@link BitArray} and have the default,
+ * default structure. For all other grids, including views, the operations
+ * are performed cell by cell.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public record BooleanGrid1d(Structure1d structure, Array.OfBoolean array)
+    implements Lattice1d.OfBoolean<Array.OfBoolean>, Grid1d<Array.OfBoolean, BooleanGrid1d>
+{
+
+    /**
+     * Factory for creating <em>dense</em>, bit-packed grid instances.
+     *
+     * @see BitArray
+     */
+    public static final Grid1d.Factory<BooleanGrid1d> DENSE =
+        extent -> new BooleanGrid1d(
+            new Structure1d(extent),
+            BitArray.ofSize(extent.cells())
+        );
+
+    /**
+     * Create a new grid view from the given lattice.
+     *
+     * @param lattice the underlying lattice data
+     */
+    public BooleanGrid1d(Lattice1d<? extends Array.OfBoolean> lattice) {
+        this(lattice.structure(), lattice.array());
+    }
+
+    @Override
+    public BooleanGrid1d create(Structure1d structure, Array.OfBoolean array) {
+        return new BooleanGrid1d(structure, array);
+    }
+
+    /**
+     * Performs the logical <em>and</em>,
+     * {@code this[i] = this[i] & other[i]}.
+     *
+     * @param other the second operand
+     * @throws IllegalArgumentException if {@code !extent().equals(other.extent())}
+     */
+    public void and(Lattice1d.OfBoolean<?> other) {
+        checkSameExtent(extent(), other.extent());
+        final var a = Bits.words(this);
+        final var b = Bits.words(other);
+        if (a != null && b != null) {
+            a.and(b);
+        } else {
+            assign(other, (x, y) -> x & y);
+        }
+    }
+
+    /**
+     * Performs the logical <em>or</em>,
+     * {@code this[i] = this[i] | other[i]}.
+     *
+     * @param other the second operand
+     * @throws IllegalArgumentException if {@code !extent().equals(other.extent())}
+     */
+    public void or(Lattice1d.OfBoolean<?> other) {
+        checkSameExtent(extent(), other.extent());
+        final var a = Bits.words(this);
+        final var b = Bits.words(other);
+        if (a != null && b != null) {
+            a.or(b);
+        } else {
+            assign(other, (x, y) -> x | y);
+        }
+    }
+
+    /**
+     * Performs the logical <em>xor</em>,
+     * {@code this[i] = this[i] ^ other[i]}.
+     *
+     * @param other the second operand
+     * @throws IllegalArgumentException if {@code !extent().equals(other.extent())}
+     */
+    public void xor(Lattice1d.OfBoolean<?> other) {
+        checkSameExtent(extent(), other.extent());
+        final var a = Bits.words(this);
+        final var b = Bits.words(other);
+        if (a != null && b != null) {
+            a.xor(b);
+        } else {
+            assign(other, (x, y) -> x ^ y);
+        }
+    }
+
+    /**
+     * Clears all cells which are set in the {@code other} grid,
+     * {@code this[i] = this[i] & !other[i]}.
+     *
+     * @param other the second operand
+     * @throws IllegalArgumentException if {@code !extent().equals(other.extent())}
+     */
+    public void andNot(Lattice1d.OfBoolean<?> other) {
+        checkSameExtent(extent(), other.extent());
+        final var a = Bits.words(this);
+        final var b = Bits.words(other);
+        if (a != null && b != null) {
+            a.andNot(b);
+        } else {
+            assign(other, (x, y) -> x & !y);
+        }
+    }
+
+    /**
+     * Inverts all cells of this grid.
+     */
+    public void not() {
+        final var a = Bits.words(this);
+        if (a != null) {
+            a.not();
+        } else {
+            assign(x -> !x);
+        }
+    }
+
+    /**
+     * Return the number of grid cells which are {@code true}.
+     *
+     * @return the number of {@code true} cells
+     */
+    public int cardinality() {
+        final var a = Bits.words(this);
+        if (a != null) {
+            return a.cardinality();
+        }
+
+        int count = 0;
+        for (int i = extent().elements(); --i >= 0;) {
+            if (get(i)) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Shifts the cells of this grid by the given {@code distance}. A positive
+     * distance moves the cell at index {@code i} to index {@code i + distance}.
+     * Cells which are shifted out of the grid are discarded and the vacated
+     * cells are set to {@code false}.
+     *
+     * @param distance the shift distance, in cells
+     */
+    public void shift(int distance) {
+        final var a = Bits.words(this);
+        if (a != null) {
+            a.shift(distance);
+        } else {
+            final var source = copy();
+            final long cells = extent().elements();
+            forEach(i -> {
+                final long j = (long)i - distance;
+                set(i, j >= 0 && j < cells && source.get((int)j));
+            });
+        }
+    }
+
+    /**
+     * Return a 1-d grid with the given input {@code values}.
+     *
+     * @implSpec
+     * The given input data is copied into a bit-packed {@link BitArray}.
+     *
+     * @param values the grid values
+     * @return a new grid with the given input data
+     */
+    public static BooleanGrid1d of(boolean... values) {
+        return new BooleanGrid1d(
+            new Structure1d(new Extent1d(values.length)),
+            BitArray.of(values)
+        );
+    }
+
+}
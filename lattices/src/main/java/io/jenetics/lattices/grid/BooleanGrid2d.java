@@ -0,0 +1,252 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid;
+
+import static io.jenetics.lattices.grid.Structures.checkSameExtent;
+
+import io.jenetics.lattices.grid.array.Array;
+import io.jenetics.lattices.grid.array.BitArray;
+import io.jenetics.lattices.grid.lattice.Lattice2d;
+import io.jenetics.lattices.structure.Extent2d;
+import io.jenetics.lattices.structure.Projection2d;
+import io.jenetics.lattices.structure.Structure2d;
+
+/**
+ * Generic class for 2-d grids holding {@code boolean} elements. The
+ * {@link #DENSE} grids are stored in a bit-packed {@link BitArray}, which
+ * needs one bit per grid cell. The following example shows how to create
+ * such a grid.
+ *
+ * <pre>{@code
+ * final var grid = new BooleanGrid2d(
+ *     new Structure2d(new Extent2d(50, 100)),
+ *     BitArray.ofSize(50*100)
+ * );
+ * }</pre>
+ *
+ * The logical bulk operations, like {@link #and(Lattice2d.OfBoolean)} or
+ * {@link #cardinality()}, are performed <em>word-wise</em>, 64 cells at a
+ * time, if the grids are backed by a {@link BitArray} and have the default,
+ * row-major structure. For all other grids, including views, the operations
+ * are performed cell by cell.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public record BooleanGrid2d(Structure2d structure, Array.OfBoolean array)
+    implements Lattice2d.OfBoolean<Array.OfBoolean>, Grid2d<Array.OfBoolean, BooleanGrid2d>
+{
+
+    /**
+     * Factory for creating <em>dense</em>, bit-packed grid instances.
+     *
+     * @see BitArray
+     */
+    public static final Grid2d.Factory<BooleanGrid2d> DENSE =
+        extent -> new BooleanGrid2d(
+            new Structure2d(extent),
+            BitArray.ofSize(extent.cells())
+        );
+
+    /**
+     * Create a new grid view from the given lattice.
+     *
+     * @param lattice the underlying lattice data
+     */
+    public BooleanGrid2d(Lattice2d<? extends Array.OfBoolean> lattice) {
+        this(lattice.structure(), lattice.array());
+    }
+
+    @Override
+    public BooleanGrid2d create(Structure2d structure, Array.OfBoolean array) {
+        return new BooleanGrid2d(structure, array);
+    }
+
+    /**
+     * Return a 1-d projection from this 2-d grid. The returned 1-d grid is
+     * a view onto this grid {@link #array()}.
+     *
+     * @param projection the projection to apply
+     * @return a 1-d projection from this 2-d grid
+     */
+    public BooleanGrid1d project(Projection2d projection) {
+        return new BooleanGrid1d(projection.apply(structure()), array());
+    }
+
+    /**
+     * Performs the logical <em>and</em>,
+     * {@code this[r, c] = this[r, c] & other[r, c]}.
+     *
+     * @param other the second operand
+     * @throws IllegalArgumentException if {@code !extent().equals(other.extent())}
+     */
+    public void and(Lattice2d.OfBoolean<?> other) {
+        checkSameExtent(extent(), other.extent());
+        final var a = Bits.words(this);
+        final var b = Bits.words(other);
+        if (a != null && b != null) {
+            a.and(b);
+        } else {
+            assign(other, (x, y) -> x & y);
+        }
+    }
+
+    /**
+     * Performs the logical <em>or</em>,
+     * {@code this[r, c] = this[r, c] | other[r, c]}.
+     *
+     * @param other the second operand
+     * @throws IllegalArgumentException if {@code !extent().equals(other.extent())}
+     */
+    public void or(Lattice2d.OfBoolean<?> other) {
+        checkSameExtent(extent(), other.extent());
+        final var a = Bits.words(this);
+        final var b = Bits.words(other);
+        if (a != null && b != null) {
+            a.or(b);
+        } else {
+            assign(other, (x, y) -> x | y);
+        }
+    }
+
+    /**
+     * Performs the logical <em>xor</em>,
+     * {@code this[r, c] = this[r, c] ^ other[r, c]}.
+     *
+     * @param other the second operand
+     * @throws IllegalArgumentException if {@code !extent().equals(other.extent())}
+     */
+    public void xor(Lattice2d.OfBoolean<?> other) {
+        checkSameExtent(extent(), other.extent());
+        final var a = Bits.words(this);
+        final var b = Bits.words(other);
+        if (a != null && b != null) {
+            a.xor(b);
+        } else {
+            assign(other, (x, y) -> x ^ y);
+        }
+    }
+
+    /**
+     * Clears all cells which are set in the {@code other} grid,
+     * {@code this[r, c] = this[r, c] & !other[r, c]}.
+     *
+     * @param other the second operand
+     * @throws IllegalArgumentException if {@code !extent().equals(other.extent())}
+     */
+    public void andNot(Lattice2d.OfBoolean<?> other) {
+        checkSameExtent(extent(), other.extent());
+        final var a = Bits.words(this);
+        final var b = Bits.words(other);
+        if (a != null && b != null) {
+            a.andNot(b);
+        } else {
+            assign(other, (x, y) -> x & !y);
+        }
+    }
+
+    /**
+     * Inverts all cells of this grid.
+     */
+    public void not() {
+        final var a = Bits.words(this);
+        if (a != null) {
+            a.not();
+        } else {
+            assign(x -> !x);
+        }
+    }
+
+    /**
+     * Return the number of grid cells which are {@code true}.
+     *
+     * @return the number of {@code true} cells
+     */
+    public int cardinality() {
+        final var a = Bits.words(this);
+        if (a != null) {
+            return a.cardinality();
+        }
+
+        int count = 0;
+        for (int r = rows(); --r >= 0;) {
+            for (int c = cols(); --c >= 0;) {
+                if (get(r, c)) {
+                    ++count;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Shifts the cells of this grid, in row-major order, by the given
+     * {@code distance}. A positive distance moves the cells towards higher
+     * indexes and a distance of {@code k*cols()} shifts the grid by {@code k}
+     * whole rows. Cells which are shifted out of the grid are discarded and
+     * the vacated cells are set to {@code false}.
+     *
+     * @param distance the shift distance, in cells
+     */
+    public void shift(int distance) {
+        final var a = Bits.words(this);
+        if (a != null) {
+            a.shift(distance);
+        } else {
+            final var source = copy();
+            final int cols = cols();
+            final long cells = extent().elements();
+            forEach((r, c) -> {
+                final long i = (long)r*cols + c - distance;
+                set(r, c, i >= 0 && i < cells && source.get((int)(i/cols), (int)(i%cols)));
+            });
+        }
+    }
+
+    /**
+     * Return a 2-d grid with the given input {@code values}. It is assumed
+     * that the values are given in row-major order. The following example shows
+     * how to create a 2x3 grid.
+     * <pre>{@code
+     * final var grid = BooleanGrid2d.of(
+     *     new Extent2d(2, 3),
+     *     true,  false, true,
+     *     false, true,  false
+     * );
+     * }</pre>
+     *
+     * @implSpec
+     * The given input data is copied into a bit-packed {@link BitArray}.
+     *
+     * @param extent the extent of the given values
+     * @param values the grid values
+     * @return a new grid with the given input data
+     * @throws IllegalArgumentException if the desired extent of the grid
+     *         requires fewer elements than given
+     */
+    public static BooleanGrid2d of(Extent2d extent, boolean... values) {
+        return new BooleanGrid2d(
+            new Structure2d(extent),
+            BitArray.of(values)
+        );
+    }
+
+}
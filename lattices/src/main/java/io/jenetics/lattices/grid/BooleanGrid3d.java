@@ -0,0 +1,255 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid;
+
+import static io.jenetics.lattices.grid.Structures.checkSameExtent;
+
+import io.jenetics.lattices.grid.array.Array;
+import io.jenetics.lattices.grid.array.BitArray;
+import io.jenetics.lattices.grid.lattice.Lattice3d;
+import io.jenetics.lattices.structure.Extent3d;
+import io.jenetics.lattices.structure.Projection3d;
+import io.jenetics.lattices.structure.Structure3d;
+
+/**
+ * Generic class for 3-d grids holding {@code boolean} elements. The
+ * {@link #DENSE} grids are stored in a bit-packed {@link BitArray}, which
+ * needs one bit per grid cell. The following example shows how to create
+ * such a grid.
+ *
+ * <pre>{@code
+ * final var grid = new BooleanGrid3d(
+ *     new Structure3d(new Extent3d(3, 50, 100)),
+ *     BitArray.ofSize(3*50*100)
+ * );
+ * }</pre>
+ *
+ * The logical bulk operations, like {@link #and(Lattice3d.OfBoolean)} or
+ * {@link #cardinality()}, are performed <em>word-wise</em>, 64 cells at a
+ * time, if the grids are backed by a {@link BitArray} and have the default,
+ * slice-major structure. For all other grids, including views, the operations
+ * are performed cell by cell.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public record BooleanGrid3d(Structure3d structure, Array.OfBoolean array)
+    implements Lattice3d.OfBoolean<Array.OfBoolean>, Grid3d<Array.OfBoolean, BooleanGrid3d>
+{
+
+    /**
+     * Factory for creating <em>dense</em>, bit-packed grid instances.
+     *
+     * @see BitArray
+     */
+    public static final Grid3d.Factory<BooleanGrid3d> DENSE =
+        extent -> new BooleanGrid3d(
+            new Structure3d(extent),
+            BitArray.ofSize(extent.cells())
+        );
+
+    /**
+     * Create a new grid view from the given lattice.
+     *
+     * @param lattice the underlying lattice data
+     */
+    public BooleanGrid3d(Lattice3d<? extends Array.OfBoolean> lattice) {
+        this(lattice.structure(), lattice.array());
+    }
+
+    @Override
+    public BooleanGrid3d create(Structure3d structure, Array.OfBoolean array) {
+        return new BooleanGrid3d(structure, array);
+    }
+
+    /**
+     * Return a 2-d projection from this 3-d grid. The returned 2-d grid is
+     * a view onto this grid {@link #array()}.
+     *
+     * @param projection the projection to apply
+     * @return a 2-d projection from this 3-d grid
+     */
+    public BooleanGrid2d project(Projection3d projection) {
+        return new BooleanGrid2d(projection.apply(structure()), array());
+    }
+
+    /**
+     * Performs the logical <em>and</em>,
+     * {@code this[s, r, c] = this[s, r, c] & other[s, r, c]}.
+     *
+     * @param other the second operand
+     * @throws IllegalArgumentException if {@code !extent().equals(other.extent())}
+     */
+    public void and(Lattice3d.OfBoolean<?> other) {
+        checkSameExtent(extent(), other.extent());
+        final var a = Bits.words(this);
+        final var b = Bits.words(other);
+        if (a != null && b != null) {
+            a.and(b);
+        } else {
+            assign(other, (x, y) -> x & y);
+        }
+    }
+
+    /**
+     * Performs the logical <em>or</em>,
+     * {@code this[s, r, c] = this[s, r, c] | other[s, r, c]}.
+     *
+     * @param other the second operand
+     * @throws IllegalArgumentException if {@code !extent().equals(other.extent())}
+     */
+    public void or(Lattice3d.OfBoolean<?> other) {
+        checkSameExtent(extent(), other.extent());
+        final var a = Bits.words(this);
+        final var b = Bits.words(other);
+        if (a != null && b != null) {
+            a.or(b);
+        } else {
+            assign(other, (x, y) -> x | y);
+        }
+    }
+
+    /**
+     * Performs the logical <em>xor</em>,
+     * {@code this[s, r, c] = this[s, r, c] ^ other[s, r, c]}.
+     *
+     * @param other the second operand
+     * @throws IllegalArgumentException if {@code !extent().equals(other.extent())}
+     */
+    public void xor(Lattice3d.OfBoolean<?> other) {
+        checkSameExtent(extent(), other.extent());
+        final var a = Bits.words(this);
+        final var b = Bits.words(other);
+        if (a != null && b != null) {
+            a.xor(b);
+        } else {
+            assign(other, (x, y) -> x ^ y);
+        }
+    }
+
+    /**
+     * Clears all cells which are set in the {@code other} grid,
+     * {@code this[s, r, c] = this[s, r, c] & !other[s, r, c]}.
+     *
+     * @param other the second operand
+     * @throws IllegalArgumentException if {@code !extent().equals(other.extent())}
+     */
+    public void andNot(Lattice3d.OfBoolean<?> other) {
+        checkSameExtent(extent(), other.extent());
+        final var a = Bits.words(this);
+        final var b = Bits.words(other);
+        if (a != null && b != null) {
+            a.andNot(b);
+        } else {
+            assign(other, (x, y) -> x & !y);
+        }
+    }
+
+    /**
+     * Inverts all cells of this grid.
+     */
+    public void not() {
+        final var a = Bits.words(this);
+        if (a != null) {
+            a.not();
+        } else {
+            assign(x -> !x);
+        }
+    }
+
+    /**
+     * Return the number of grid cells which are {@code true}.
+     *
+     * @return the number of {@code true} cells
+     */
+    public int cardinality() {
+        final var a = Bits.words(this);
+        if (a != null) {
+            return a.cardinality();
+        }
+
+        int count = 0;
+        for (int s = slices(); --s >= 0;) {
+            for (int r = rows(); --r >= 0;) {
+                for (int c = cols(); --c >= 0;) {
+                    if (get(s, r, c)) {
+                        ++count;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Shifts the cells of this grid, in slice-major order, by the given
+     * {@code distance}. A positive distance moves the cells towards higher
+     * indexes and a distance of {@code k*rows()*cols()} shifts the grid by
+     * {@code k} whole slices. Cells which are shifted out of the grid are
+     * discarded and the vacated cells are set to {@code false}.
+     *
+     * @param distance the shift distance, in cells
+     */
+    public void shift(int distance) {
+        final var a = Bits.words(this);
+        if (a != null) {
+            a.shift(distance);
+        } else {
+            final var source = copy();
+            final int rows = rows();
+            final int cols = cols();
+            final long cells = extent().elements();
+            forEach((s, r, c) -> {
+                final long i = ((long)s*rows + r)*cols + c - distance;
+                set(
+                    s, r, c,
+                    i >= 0 && i < cells &&
+                        source.get(
+                            (int)(i/((long)rows*cols)),
+                            (int)(i/cols%rows),
+                            (int)(i%cols)
+                        )
+                );
+            });
+        }
+    }
+
+    /**
+     * Return a 3-d grid with the given input {@code values}. It is assumed
+     * that the values are given in slice-major order.
+     *
+     * @implSpec
+     * The given input data is copied into a bit-packed {@link BitArray}.
+     *
+     * @param extent the extent of the given values
+     * @param values the grid values
+     * @return a new grid with the given input data
+     * @throws IllegalArgumentException if the desired extent of the grid
+     *         requires fewer elements than given
+     */
+    public static BooleanGrid3d of(Extent3d extent, boolean... values) {
+        return new BooleanGrid3d(
+            new Structure3d(extent),
+            BitArray.of(values)
+        );
+    }
+
+}
@@ -21,6 +21,8 @@ package io.jenetics.lattices.grid;
 
 import io.jenetics.lattices.grid.array.Array;
 import io.jenetics.lattices.grid.array.DenseDoubleArray;
+import io.jenetics.lattices.grid.array.OffHeapDoubleArray;
+import io.jenetics.lattices.grid.array.SparseDoubleArray;
 import io.jenetics.lattices.grid.lattice.Lattice1d;
 import io.jenetics.lattices.structure.Extent1d;
 import io.jenetics.lattices.structure.Structure1d;
@@ -56,6 +58,31 @@ public record DoubleGrid1d(Structure1d structure, Array.OfDouble array)
             DenseDoubleArray.ofSize(extent.cells())
         );
 
+    /**
+     * Factory for creating <em>sparse</em> grid instances. Only the non-zero
+     * grid cells are stored.
+     *
+     * @see SparseDoubleArray
+     */
+    public static final Grid1d.Factory<DoubleGrid1d> SPARSE =
+        extent -> new DoubleGrid1d(
+            new Structure1d(extent),
+            SparseDoubleArray.ofSize(extent.cells())
+        );
+
+    /**
+     * Factory for creating <em>off-heap</em> grid instances. The grid cells
+     * are stored outside the Java heap and the memory can be released by
+     * closing the {@link OffHeapDoubleArray} of the created grid.
+     *
+     * @see OffHeapDoubleArray
+     */
+    public static final Grid1d.Factory<DoubleGrid1d> OFF_HEAP =
+        extent -> new DoubleGrid1d(
+            new Structure1d(extent),
+            OffHeapDoubleArray.ofSize(extent.cells())
+        );
+
     /**
      * Create a new grid view from the given lattice.
      *
@@ -21,6 +21,8 @@ package io.jenetics.lattices.grid;
 
 import io.jenetics.lattices.grid.array.Array;
 import io.jenetics.lattices.grid.array.DenseDoubleArray;
+import io.jenetics.lattices.grid.array.OffHeapDoubleArray;
+import io.jenetics.lattices.grid.array.SparseDoubleArray;
 import io.jenetics.lattices.grid.lattice.Lattice3d;
 import io.jenetics.lattices.structure.Extent3d;
 import io.jenetics.lattices.structure.Projection3d;
@@ -57,6 +59,31 @@ public record DoubleGrid3d(Structure3d structure, Array.OfDouble array)
             DenseDoubleArray.ofSize(extent.cells())
         );
 
+    /**
+     * Factory for creating <em>sparse</em> grid instances. Only the non-zero
+     * grid cells are stored.
+     *
+     * @see SparseDoubleArray
+     */
+    public static final Grid3d.Factory<DoubleGrid3d> SPARSE =
+        extent -> new DoubleGrid3d(
+            new Structure3d(extent),
+            SparseDoubleArray.ofSize(extent.cells())
+        );
+
+    /**
+     * Factory for creating <em>off-heap</em> grid instances. The grid cells
+     * are stored outside the Java heap and the memory can be released by
+     * closing the {@link OffHeapDoubleArray} of the created grid.
+     *
+     * @see OffHeapDoubleArray
+     */
+    public static final Grid3d.Factory<DoubleGrid3d> OFF_HEAP =
+        extent -> new DoubleGrid3d(
+            new Structure3d(extent),
+            OffHeapDoubleArray.ofSize(extent.cells())
+        );
+
     /**
      * Create a new grid view from the given lattice.
      *
@@ -0,0 +1,92 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid;
+
+import io.jenetics.lattices.grid.array.Array;
+import io.jenetics.lattices.grid.array.DenseFloatArray;
+import io.jenetics.lattices.grid.lattice.Lattice3d;
+import io.jenetics.lattices.structure.Extent3d;
+import io.jenetics.lattices.structure.Projection3d;
+import io.jenetics.lattices.structure.Structure3d;
+
+/**
+ * Generic class for 3-d grids holding {@code float} elements. The
+ * {@code FloatGrid3d} is <em>just</em> a 3-d view onto a 1-d Java
+ * {@code float[]} array. The following example shows how to create such a grid
+ * view from a given {@code float[]} array.
+ *
+ * <pre>{@code
+ * final var values = new float[3*50*100];
+ * final var grid = new FloatGrid3d(
+ *     new Structure3d(new Extent3d(3, 50, 100)),
+ *     new DenseFloatArray(values)
+ * );
+ * }</pre>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public record FloatGrid3d(Structure3d structure, Array.OfFloat array)
+    implements Lattice3d.OfFloat<Array.OfFloat>, Grid3d<Array.OfFloat, FloatGrid3d>
+{
+
+    /**
+     * Factory for creating <em>dense</em> grid instances.
+     */
+    public static final Grid3d.Factory<FloatGrid3d> DENSE =
+        extent -> new FloatGrid3d(
+            new Structure3d(extent),
+            DenseFloatArray.ofSize(extent.cells())
+        );
+
+    /**
+     * Create a new grid view from the given lattice.
+     *
+     * @param lattice the underlying lattice data
+     */
+    public FloatGrid3d(Lattice3d<? extends Array.OfFloat> lattice) {
+        this(lattice.structure(), lattice.array());
+    }
+
+    @Override
+    public FloatGrid3d create(Structure3d structure, Array.OfFloat array) {
+        return new FloatGrid3d(structure, array);
+    }
+
+    /**
+     * Return a 2-d projection from this 3-d grid. The returned 2-d grid is
+     * a view onto this grid {@link #array()}.
+     *
+     * @param projection the projection to apply
+     * @return a 2-d projection from this 3-d grid
+     */
+    public FloatGrid2d project(Projection3d projection) {
+        return new FloatGrid2d(projection.apply(structure()), array());
+    }
+
+    public static FloatGrid3d of(Extent3d extent, float... values) {
+        return new FloatGrid3d(
+            new Structure3d(extent),
+            new DenseFloatArray(values)
+        );
+    }
+
+}
@@ -84,11 +84,17 @@ public interface Grid3d<A extends Array<A>, G extends Grid3d<A, G>>
     }
 
     /**
-     * Return a copy of {@code this} grid.
+     * Return a copy of {@code this} grid. If the grid has the default
+     * structure, the underlying array is copied as one block; otherwise the
+     * grid elements are assigned to a new grid with the default structure.
      *
      * @return a copy of {@code this} grid
      */
     default G copy() {
+        if (structure().equals(new Structure3d(extent()))) {
+            return create(structure(), array().copy(0, extent().cells()));
+        }
+
         final var copy = like();
         copy.assign(self());
         return copy;
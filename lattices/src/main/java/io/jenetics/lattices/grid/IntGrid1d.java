@@ -21,6 +21,8 @@ package io.jenetics.lattices.grid;
 
 import io.jenetics.lattices.grid.array.Array;
 import io.jenetics.lattices.grid.array.DenseIntArray;
+import io.jenetics.lattices.grid.array.OffHeapIntArray;
+import io.jenetics.lattices.grid.array.SparseIntArray;
 import io.jenetics.lattices.grid.lattice.Lattice1d;
 import io.jenetics.lattices.structure.Extent1d;
 import io.jenetics.lattices.structure.Structure1d;
@@ -56,6 +58,31 @@ public record IntGrid1d(Structure1d structure, Array.OfInt array)
             DenseIntArray.ofSize(extent.cells())
         );
 
+    /**
+     * Factory for creating <em>sparse</em> grid instances. Only the non-zero
+     * grid cells are stored.
+     *
+     * @see SparseIntArray
+     */
+    public static final Grid1d.Factory<IntGrid1d> SPARSE =
+        extent -> new IntGrid1d(
+            new Structure1d(extent),
+            SparseIntArray.ofSize(extent.cells())
+        );
+
+    /**
+     * Factory for creating <em>off-heap</em> grid instances. The grid cells
+     * are stored outside the Java heap and the memory can be released by
+     * closing the {@link OffHeapIntArray} of the created grid.
+     *
+     * @see OffHeapIntArray
+     */
+    public static final Grid1d.Factory<IntGrid1d> OFF_HEAP =
+        extent -> new IntGrid1d(
+            new Structure1d(extent),
+            OffHeapIntArray.ofSize(extent.cells())
+        );
+
     /**
      * Create a new grid view from the given lattice.
      *
@@ -21,6 +21,8 @@ package io.jenetics.lattices.grid;
 
 import io.jenetics.lattices.grid.array.Array;
 import io.jenetics.lattices.grid.array.DenseIntArray;
+import io.jenetics.lattices.grid.array.OffHeapIntArray;
+import io.jenetics.lattices.grid.array.SparseIntArray;
 import io.jenetics.lattices.grid.lattice.Lattice2d;
 import io.jenetics.lattices.structure.Extent2d;
 import io.jenetics.lattices.structure.Projection2d;
@@ -57,6 +59,31 @@ public record IntGrid2d(Structure2d structure, Array.OfInt array)
             DenseIntArray.ofSize(extent.cells())
         );
 
+    /**
+     * Factory for creating <em>sparse</em> grid instances. Only the non-zero
+     * grid cells are stored.
+     *
+     * @see SparseIntArray
+     */
+    public static final Grid2d.Factory<IntGrid2d> SPARSE =
+        extent -> new IntGrid2d(
+            new Structure2d(extent),
+            SparseIntArray.ofSize(extent.cells())
+        );
+
+    /**
+     * Factory for creating <em>off-heap</em> grid instances. The grid cells
+     * are stored outside the Java heap and the memory can be released by
+     * closing the {@link OffHeapIntArray} of the created grid.
+     *
+     * @see OffHeapIntArray
+     */
+    public static final Grid2d.Factory<IntGrid2d> OFF_HEAP =
+        extent -> new IntGrid2d(
+            new Structure2d(extent),
+            OffHeapIntArray.ofSize(extent.cells())
+        );
+
     /**
      * Create a new grid view from the given lattice.
      *
@@ -21,6 +21,8 @@ package io.jenetics.lattices.grid;
 
 import io.jenetics.lattices.grid.array.Array;
 import io.jenetics.lattices.grid.array.DenseIntArray;
+import io.jenetics.lattices.grid.array.OffHeapIntArray;
+import io.jenetics.lattices.grid.array.SparseIntArray;
 import io.jenetics.lattices.grid.lattice.Lattice3d;
 import io.jenetics.lattices.structure.Extent3d;
 import io.jenetics.lattices.structure.Projection3d;
@@ -57,6 +59,31 @@ public record IntGrid3d(Structure3d structure, Array.OfInt array)
             DenseIntArray.ofSize(extent.cells())
         );
 
+    /**
+     * Factory for creating <em>sparse</em> grid instances. Only the non-zero
+     * grid cells are stored.
+     *
+     * @see SparseIntArray
+     */
+    public static final Grid3d.Factory<IntGrid3d> SPARSE =
+        extent -> new IntGrid3d(
+            new Structure3d(extent),
+            SparseIntArray.ofSize(extent.cells())
+        );
+
+    /**
+     * Factory for creating <em>off-heap</em> grid instances. The grid cells
+     * are stored outside the Java heap and the memory can be released by
+     * closing the {@link OffHeapIntArray} of the created grid.
+     *
+     * @see OffHeapIntArray
+     */
+    public static final Grid3d.Factory<IntGrid3d> OFF_HEAP =
+        extent -> new IntGrid3d(
+            new Structure3d(extent),
+            OffHeapIntArray.ofSize(extent.cells())
+        );
+
     /**
      * Create a new grid view from the given lattice.
      *
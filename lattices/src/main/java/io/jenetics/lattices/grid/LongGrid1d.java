@@ -21,6 +21,8 @@ package io.jenetics.lattices.grid;
 
 import io.jenetics.lattices.grid.array.Array;
 import io.jenetics.lattices.grid.array.DenseLongArray;
+import io.jenetics.lattices.grid.array.OffHeapLongArray;
+import io.jenetics.lattices.grid.array.SparseLongArray;
 import io.jenetics.lattices.grid.lattice.Lattice1d;
 import io.jenetics.lattices.structure.Extent1d;
 import io.jenetics.lattices.structure.Structure1d;
@@ -57,6 +59,31 @@ public record LongGrid1d(Structure1d structure, Array.OfLong array)
             new DenseLongArray(new long[extent.elements()])
         );
 
+    /**
+     * Factory for creating <em>sparse</em> grid instances. Only the non-zero
+     * grid cells are stored.
+     *
+     * @see SparseLongArray
+     */
+    public static final Grid1d.Factory<LongGrid1d> SPARSE =
+        extent -> new LongGrid1d(
+            new Structure1d(extent),
+            SparseLongArray.ofSize(extent.cells())
+        );
+
+    /**
+     * Factory for creating <em>off-heap</em> grid instances. The grid cells
+     * are stored outside the Java heap and the memory can be released by
+     * closing the {@link OffHeapLongArray} of the created grid.
+     *
+     * @see OffHeapLongArray
+     */
+    public static final Grid1d.Factory<LongGrid1d> OFF_HEAP =
+        extent -> new LongGrid1d(
+            new Structure1d(extent),
+            OffHeapLongArray.ofSize(extent.cells())
+        );
+
     /**
      * Create a new grid view from the given lattice.
      *
@@ -21,6 +21,8 @@ package io.jenetics.lattices.grid;
 
 import io.jenetics.lattices.grid.array.Array;
 import io.jenetics.lattices.grid.array.DenseLongArray;
+import io.jenetics.lattices.grid.array.OffHeapLongArray;
+import io.jenetics.lattices.grid.array.SparseLongArray;
 import io.jenetics.lattices.grid.lattice.Lattice3d;
 import io.jenetics.lattices.structure.Extent3d;
 import io.jenetics.lattices.structure.Projection3d;
@@ -58,6 +60,31 @@ public record LongGrid3d(Structure3d structure, Array.OfLong array)
             DenseLongArray.ofSize(extent.cells())
         );
 
+    /**
+     * Factory for creating <em>sparse</em> grid instances. Only the non-zero
+     * grid cells are stored.
+     *
+     * @see SparseLongArray
+     */
+    public static final Grid3d.Factory<LongGrid3d> SPARSE =
+        extent -> new LongGrid3d(
+            new Structure3d(extent),
+            SparseLongArray.ofSize(extent.cells())
+        );
+
+    /**
+     * Factory for creating <em>off-heap</em> grid instances. The grid cells
+     * are stored outside the Java heap and the memory can be released by
+     * closing the {@link OffHeapLongArray} of the created grid.
+     *
+     * @see OffHeapLongArray
+     */
+    public static final Grid3d.Factory<LongGrid3d> OFF_HEAP =
+        extent -> new LongGrid3d(
+            new Structure3d(extent),
+            OffHeapLongArray.ofSize(extent.cells())
+        );
+
     /**
      * Create a new grid view from the given lattice.
      *
@@ -21,6 +21,7 @@ package io.jenetics.lattices.grid;
 
 import io.jenetics.lattices.grid.array.Array;
 import io.jenetics.lattices.grid.array.DenseObjectArray;
+import io.jenetics.lattices.grid.array.SparseObjectArray;
 import io.jenetics.lattices.grid.lattice.Lattice1d;
 import io.jenetics.lattices.structure.Structure1d;
 
@@ -70,4 +71,20 @@ public record ObjectGrid1d<T>(Structure1d structure, Array.OfObject<T> array)
         );
     }
 
+    /**
+     * Return a factory for creating sparse 1-d object grids. Only the
+     * non-null grid cells are stored.
+     *
+     * @see SparseObjectArray
+     *
+     * @param <T> the grid element type
+     * @return the sparse object factory
+     */
+    public static <T> Grid1d.Factory<ObjectGrid1d<T>> sparse() {
+        return extent -> new ObjectGrid1d<T>(
+            new Structure1d(extent),
+            SparseObjectArray.ofSize(extent.cells())
+        );
+    }
+
 }
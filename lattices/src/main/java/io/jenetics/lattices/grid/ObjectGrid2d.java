@@ -21,6 +21,7 @@ package io.jenetics.lattices.grid;
 
 import io.jenetics.lattices.grid.array.Array;
 import io.jenetics.lattices.grid.array.DenseObjectArray;
+import io.jenetics.lattices.grid.array.SparseObjectArray;
 import io.jenetics.lattices.grid.lattice.Lattice2d;
 import io.jenetics.lattices.structure.Projection2d;
 import io.jenetics.lattices.structure.Structure2d;
@@ -109,4 +110,20 @@ public record ObjectGrid2d<T>(Structure2d structure, Array.OfObject<T> array)
         );
     }
 
+    /**
+     * Return a factory for creating sparse 2-d object grids. Only the
+     * non-null grid cells are stored.
+     *
+     * @see SparseObjectArray
+     *
+     * @param <T> the grid element type
+     * @return the sparse object factory
+     */
+    public static <T> Grid2d.Factory<ObjectGrid2d<T>> sparse() {
+        return extent -> new ObjectGrid2d<T>(
+            new Structure2d(extent),
+            SparseObjectArray.ofSize(extent.cells())
+        );
+    }
+
 }
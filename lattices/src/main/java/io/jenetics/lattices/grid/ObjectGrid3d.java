@@ -23,6 +23,7 @@ import java.util.Objects;
 
 import io.jenetics.lattices.grid.array.Array;
 import io.jenetics.lattices.grid.array.DenseObjectArray;
+import io.jenetics.lattices.grid.array.SparseObjectArray;
 import io.jenetics.lattices.grid.lattice.Lattice3d;
 import io.jenetics.lattices.structure.Projection3d;
 import io.jenetics.lattices.structure.Structure3d;
@@ -91,4 +92,20 @@ public record ObjectGrid3d<T>(Structure3d structure, Array.OfObject<T> array)
         );
     }
 
+    /**
+     * Return a factory for creating sparse 3-d object grids. Only the
+     * non-null grid cells are stored.
+     *
+     * @see SparseObjectArray
+     *
+     * @param <T> the grid element type
+     * @return the sparse object factory
+     */
+    public static <T> Grid3d.Factory<ObjectGrid3d<T>> sparse() {
+        return extent -> new ObjectGrid3d<T>(
+            new Structure3d(extent),
+            SparseObjectArray.ofSize(extent.cells())
+        );
+    }
+
 }
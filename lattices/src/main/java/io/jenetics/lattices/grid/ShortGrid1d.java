@@ -0,0 +1,90 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid;
+
+import io.jenetics.lattices.grid.array.Array;
+import io.jenetics.lattices.grid.array.DenseShortArray;
+import io.jenetics.lattices.grid.lattice.Lattice1d;
+import io.jenetics.lattices.structure.Extent1d;
+import io.jenetics.lattices.structure.Structure1d;
+
+/**
+ * Generic class for 1-d grids holding {@code short} elements. The
+ * {@code ShortGrid1d} is <em>just</em> a view onto a 1-d Java {@code short[]}
+ * array. The following example shows how to create such a grid view from a given
+ * {@code short[]} array.
+ *
+ * <pre>{@code
+ * final var values = new short[100];
+ * final var grid = new ShortGrid1d(
+ *     new Structure1d(new Extent1d(100)),
+ *     new DenseShortArray(values)
+ * );
+ * }</pre>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public record ShortGrid1d(Structure1d structure, Array.OfShort array)
+    implements Lattice1d.OfShort<Array.OfShort>, Grid1d<Array.OfShort, ShortGrid1d>
+{
+
+    /**
+     * Factory for creating <em>dense</em> grid instances.
+     */
+    public static final Grid1d.Factory<ShortGrid1d> DENSE =
+        extent -> new ShortGrid1d(
+            new Structure1d(extent),
+            DenseShortArray.ofSize(extent.cells())
+        );
+
+    /**
+     * Create a new grid view from the given lattice.
+     *
+     * @param lattice the underlying lattice data
+     */
+    public ShortGrid1d(Lattice1d<? extends Array.OfShort> lattice) {
+        this(lattice.structure(), lattice.array());
+    }
+
+    @Override
+    public ShortGrid1d create(Structure1d structure, Array.OfShort array) {
+        return new ShortGrid1d(structure, array);
+    }
+
+    /**
+     * Return a 1-d grid view of the given input {@code values}.
+     *
+     * @implSpec
+     * The given input data is <b>not</b> copied, the returned object is a
+     * <em>view</em> onto the given input data.
+     *
+     * @param values the returned grid
+     * @return a grid view of the given input data
+     */
+    public static ShortGrid1d of(short... values) {
+        return new ShortGrid1d(
+            new Structure1d(new Extent1d(values.length)),
+            new DenseShortArray(values)
+        );
+    }
+
+}
@@ -123,6 +123,16 @@ public interface Array<A extends Array<A>> extends BaseArray, Self<A> {
     interface OfDouble extends BaseArray.OfDouble, Array<OfDouble> {
     }
 
+    /**
+     * Definition of an array with {@code float} values.
+     *
+     * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+     * @since 3.0
+     * @version 3.0
+     */
+    interface OfFloat extends BaseArray.OfFloat, Array<OfFloat> {
+    }
+
     /**
      * Definition of an array with {@code int} values.
      *
@@ -143,6 +153,36 @@ public interface Array<A extends Array<A>> extends BaseArray, Self<A> {
     interface OfLong extends BaseArray.OfLong, Array<OfLong> {
     }
 
+    /**
+     * Definition of an array with {@code byte} values.
+     *
+     * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+     * @since 3.0
+     * @version 3.0
+     */
+    interface OfByte extends BaseArray.OfByte, Array<OfByte> {
+    }
+
+    /**
+     * Definition of an array with {@code short} values.
+     *
+     * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+     * @since 3.0
+     * @version 3.0
+     */
+    interface OfShort extends BaseArray.OfShort, Array<OfShort> {
+    }
+
+    /**
+     * Definition of an array with {@code boolean} values.
+     *
+     * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+     * @since 3.0
+     * @version 3.0
+     */
+    interface OfBoolean extends BaseArray.OfBoolean, Array<OfBoolean> {
+    }
+
     /**
      * Definition of an array with {@code Object} values.
      *
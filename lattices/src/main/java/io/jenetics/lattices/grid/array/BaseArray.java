@@ -37,6 +37,22 @@ public interface BaseArray {
      */
     int length();
 
+    /**
+     * Tests whether {@code this} array can be written concurrently, by
+     * different threads at disjoint indexes. This is the case for arrays
+     * where every element occupies its own memory location, like the
+     * <em>dense</em>, off-heap and memory-mapped arrays. Arrays backed by
+     * shared structures, like hash tables or bit-words, must only be written
+     * by one thread at a time. The default implementation returns
+     * {@code false}.
+     *
+     * @return {@code true} if {@code this} array can be written concurrently
+     *         at disjoint indexes, {@code false} otherwise
+     */
+    default boolean isConcurrentWritable() {
+        return false;
+    }
+
     /**
      * Definition of an array with {@code double} values.
      *
@@ -62,6 +78,31 @@ public interface BaseArray {
         void set(int index, double value);
     }
 
+    /**
+     * Definition of an array with {@code float} values.
+     *
+     * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+     * @since 3.0
+     * @version 3.0
+     */
+    interface OfFloat extends BaseArray {
+        /**
+         * Return the array value at the given {@code index}.
+         *
+         * @param index the array index of the returned element
+         * @return the element at the given {@code index}
+         */
+        float get(int index);
+
+        /**
+         * Set the given {@code value} at the given {@code index}.
+         *
+         * @param index the array index of the new value
+         * @param value the value to be set at the given index
+         */
+        void set(int index, float value);
+    }
+
     /**
      * Definition of an array with {@code int} values.
      *
@@ -112,6 +153,81 @@ public interface BaseArray {
         void set(int index, long value);
     }
 
+    /**
+     * Definition of an array with {@code byte} values.
+     *
+     * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+     * @since 3.0
+     * @version 3.0
+     */
+    interface OfByte extends BaseArray {
+        /**
+         * Return the array value at the given {@code index}.
+         *
+         * @param index the array index of the returned element
+         * @return the element at the given {@code index}
+         */
+        byte get(int index);
+
+        /**
+         * Set the given {@code value} at the given {@code index}.
+         *
+         * @param index the array index of the new value
+         * @param value the value to be set at the given index
+         */
+        void set(int index, byte value);
+    }
+
+    /**
+     * Definition of an array with {@code short} values.
+     *
+     * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+     * @since 3.0
+     * @version 3.0
+     */
+    interface OfShort extends BaseArray {
+        /**
+         * Return the array value at the given {@code index}.
+         *
+         * @param index the array index of the returned element
+         * @return the element at the given {@code index}
+         */
+        short get(int index);
+
+        /**
+         * Set the given {@code value} at the given {@code index}.
+         *
+         * @param index the array index of the new value
+         * @param value the value to be set at the given index
+         */
+        void set(int index, short value);
+    }
+
+    /**
+     * Definition of an array with {@code boolean} values.
+     *
+     * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+     * @since 3.0
+     * @version 3.0
+     */
+    interface OfBoolean extends BaseArray {
+        /**
+         * Return the array value at the given {@code index}.
+         *
+         * @param index the array index of the returned element
+         * @return the element at the given {@code index}
+         */
+        boolean get(int index);
+
+        /**
+         * Set the given {@code value} at the given {@code index}.
+         *
+         * @param index the array index of the new value
+         * @param value the value to be set at the given index
+         */
+        void set(int index, boolean value);
+    }
+
     /**
      * Definition of an array with {@code T} objects.
      *
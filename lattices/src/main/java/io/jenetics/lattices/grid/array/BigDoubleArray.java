@@ -0,0 +1,109 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.array;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Implementation of a <em>big</em> array of {@code double} values, which can
+ * hold more than {@link Integer#MAX_VALUE} elements. The elements are stored
+ * in {@code double[]} chunks of 2<sup>27</sup> elements each, which keeps the
+ * single allocations small enough for the Java heap.
+ * <pre>{@code
+ * // A 50,000 x 50,000 grid with 2.5 billion elements.
+ * final var grid = BigDoubleGrid2d.DENSE.create(50_000, 50_000);
+ * }</pre>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public final class BigDoubleArray implements BigArray.OfDouble {
+
+    private static final int SEGMENT_SHIFT = 27;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final long length;
+    private final double[][] segments;
+
+    private BigDoubleArray(long length) {
+        if (length < 0 || length > ((long)Integer.MAX_VALUE << SEGMENT_SHIFT)) {
+            throw new IllegalArgumentException(
+                "Array length is out of bounds: " + length
+            );
+        }
+
+        this.length = length;
+        segments = new double[(int)((length + SEGMENT_MASK) >>> SEGMENT_SHIFT)][];
+        for (int i = 0; i < segments.length; ++i) {
+            final long start = (long)i << SEGMENT_SHIFT;
+            segments[i] = new double[(int)Math.min(SEGMENT_SIZE, length - start)];
+        }
+    }
+
+    @Override
+    public double get(long index) {
+        Objects.checkIndex(index, length);
+        return segments[(int)(index >>> SEGMENT_SHIFT)][(int)index & SEGMENT_MASK];
+    }
+
+    @Override
+    public void set(long index, double value) {
+        Objects.checkIndex(index, length);
+        segments[(int)(index >>> SEGMENT_SHIFT)][(int)index & SEGMENT_MASK] = value;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Set all array elements to the given {@code value}.
+     *
+     * @param value the new value of all elements
+     */
+    public void fill(double value) {
+        for (var segment : segments) {
+            Arrays.fill(segment, value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BigDoubleArray[length=%d]".formatted(length);
+    }
+
+    /**
+     * Create a new big array with the given {@code length}. All elements are
+     * initialized with zero.
+     *
+     * @param length the array length
+     * @return a new big array with the given {@code length}
+     * @throws IllegalArgumentException if the given {@code length} is negative
+     *         or too big
+     */
+    public static BigDoubleArray ofSize(long length) {
+        return new BigDoubleArray(length);
+    }
+
+}
@@ -0,0 +1,313 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.array;
+
+import static java.util.Objects.checkFromIndexSize;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Implementation of a <em>bit-packed</em> array of {@code boolean} values.
+ * Each element occupies a single bit of the underlying {@code long[]} array,
+ * with element {@code i} stored in bit {@code i%64} of word {@code i/64}.
+ * <p>
+ * Besides the element access, the array offers <em>word-level</em> bulk
+ * operations, which process 64 elements per step. Bits of the last word,
+ * beyond the array {@link #length()}, are always kept zero.
+ *
+ * @param words the underlying words of the bit array
+ * @param length the number of bits of the array
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public record BitArray(long[] words, int length) implements Array.OfBoolean {
+
+    private static final int ADDRESS_BITS = 6;
+    private static final int WORD_SIZE = 1 << ADDRESS_BITS;
+
+    /**
+     * Create a new bit array with the given words.
+     *
+     * @param words the underlying words of the bit array
+     * @param length the number of bits of the array
+     * @throws IllegalArgumentException if the given {@code length} is negative
+     *         or exceeds the number of available bits
+     */
+    public BitArray {
+        requireNonNull(words);
+        if (length < 0 || words(length) > words.length) {
+            throw new IllegalArgumentException(
+                "Invalid bit array length for %d words: %d."
+                    .formatted(words.length, length)
+            );
+        }
+    }
+
+    private static int words(int length) {
+        return (length + WORD_SIZE - 1) >>> ADDRESS_BITS;
+    }
+
+    private long tailMask() {
+        final int bits = length & (WORD_SIZE - 1);
+        return bits == 0 ? -1L : (1L << bits) - 1;
+    }
+
+    private int wordCount() {
+        return words(length);
+    }
+
+    @Override
+    public boolean get(int index) {
+        checkIndex(index);
+        return (words[index >>> ADDRESS_BITS] & (1L << index)) != 0;
+    }
+
+    @Override
+    public void set(int index, boolean value) {
+        checkIndex(index);
+        if (value) {
+            words[index >>> ADDRESS_BITS] |= 1L << index;
+        } else {
+            words[index >>> ADDRESS_BITS] &= ~(1L << index);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(
+                "Index %d out of bounds for length %d.".formatted(index, length)
+            );
+        }
+    }
+
+    /**
+     * Sets all bits of the array to the given {@code value}.
+     *
+     * @param value the value of all bits
+     */
+    public void fill(boolean value) {
+        final int n = wordCount();
+        Arrays.fill(words, 0, n, value ? -1L : 0L);
+        if (value && n > 0) {
+            words[n - 1] &= tailMask();
+        }
+    }
+
+    /**
+     * Return the number of bits which are set to {@code true}.
+     *
+     * @return the number of {@code true} bits
+     */
+    public int cardinality() {
+        int count = 0;
+        for (int i = wordCount(); --i >= 0;) {
+            count += Long.bitCount(words[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Performs the logical <em>and</em>, {@code this = this & other}.
+     *
+     * @param other the second operand
+     * @throws IllegalArgumentException if the arrays have different lengths
+     */
+    public void and(BitArray other) {
+        checkSameLength(other);
+        for (int i = wordCount(); --i >= 0;) {
+            words[i] &= other.words[i];
+        }
+    }
+
+    /**
+     * Performs the logical <em>or</em>, {@code this = this | other}.
+     *
+     * @param other the second operand
+     * @throws IllegalArgumentException if the arrays have different lengths
+     */
+    public void or(BitArray other) {
+        checkSameLength(other);
+        for (int i = wordCount(); --i >= 0;) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    /**
+     * Performs the logical <em>xor</em>, {@code this = this ^ other}.
+     *
+     * @param other the second operand
+     * @throws IllegalArgumentException if the arrays have different lengths
+     */
+    public void xor(BitArray other) {
+        checkSameLength(other);
+        for (int i = wordCount(); --i >= 0;) {
+            words[i] ^= other.words[i];
+        }
+    }
+
+    /**
+     * Clears all bits which are set in the {@code other} array,
+     * {@code this = this & ~other}.
+     *
+     * @param other the second operand
+     * @throws IllegalArgumentException if the arrays have different lengths
+     */
+    public void andNot(BitArray other) {
+        checkSameLength(other);
+        for (int i = wordCount(); --i >= 0;) {
+            words[i] &= ~other.words[i];
+        }
+    }
+
+    /**
+     * Inverts all bits of this array.
+     */
+    public void not() {
+        final int n = wordCount();
+        for (int i = n; --i >= 0;) {
+            words[i] = ~words[i];
+        }
+        if (n > 0) {
+            words[n - 1] &= tailMask();
+        }
+    }
+
+    /**
+     * Shifts the bits of the array by the given {@code distance}. A positive
+     * distance moves the element at index {@code i} to index
+     * {@code i + distance}, a negative distance to lower indexes. Bits which
+     * are shifted out of the array are discarded and the vacated positions are
+     * set to {@code false}.
+     *
+     * @param distance the shift distance
+     */
+    public void shift(int distance) {
+        final int n = wordCount();
+        if (distance == 0 || n == 0) {
+            return;
+        }
+        if (Math.abs((long)distance) >= length) {
+            Arrays.fill(words, 0, n, 0L);
+            return;
+        }
+
+        final int wordShift = Math.abs(distance) >>> ADDRESS_BITS;
+        final int bitShift = Math.abs(distance) & (WORD_SIZE - 1);
+        if (distance > 0) {
+            for (int i = n; --i >= wordShift;) {
+                final int j = i - wordShift;
+                long word = words[j] << bitShift;
+                if (bitShift != 0 && j > 0) {
+                    word |= words[j - 1] >>> (WORD_SIZE - bitShift);
+                }
+                words[i] = word;
+            }
+            Arrays.fill(words, 0, wordShift, 0L);
+            words[n - 1] &= tailMask();
+        } else {
+            for (int i = 0; i < n - wordShift; ++i) {
+                final int j = i + wordShift;
+                long word = words[j] >>> bitShift;
+                if (bitShift != 0 && j + 1 < n) {
+                    word |= words[j + 1] << (WORD_SIZE - bitShift);
+                }
+                words[i] = word;
+            }
+            Arrays.fill(words, n - wordShift, n, 0L);
+        }
+    }
+
+    private void checkSameLength(BitArray other) {
+        if (length != other.length) {
+            throw new IllegalArgumentException(
+                "Incompatible bit array length: %d != %d."
+                    .formatted(length, other.length)
+            );
+        }
+    }
+
+    @Override
+    public BitArray copy() {
+        return new BitArray(Arrays.copyOf(words, wordCount()), length);
+    }
+
+    @Override
+    public BitArray copy(int from, int length) {
+        checkFromIndexSize(from, length, this.length);
+
+        final var result = ofSize(length);
+        final int offset = from >>> ADDRESS_BITS;
+        final int shift = from & (WORD_SIZE - 1);
+        for (int i = 0, n = result.wordCount(); i < n; ++i) {
+            long word = words[offset + i] >>> shift;
+            if (shift != 0 && offset + i + 1 < wordCount()) {
+                word |= words[offset + i + 1] << (WORD_SIZE - shift);
+            }
+            result.words[i] = word;
+        }
+        if (result.wordCount() > 0) {
+            result.words[result.wordCount() - 1] &= result.tailMask();
+        }
+        return result;
+    }
+
+    @Override
+    public BitArray like(int length) {
+        return ofSize(length);
+    }
+
+    @Override
+    public String toString() {
+        return IntStream.range(0, length())
+            .mapToObj(i -> get(i) ? "1" : "0")
+            .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    /**
+     * Create a new bit array with the given {@code length}. All bits are
+     * initialized with {@code false}.
+     *
+     * @param length the length of the created array
+     * @return a new bit array with the given {@code length}
+     */
+    public static BitArray ofSize(int length) {
+        return new BitArray(new long[words(length)], length);
+    }
+
+    /**
+     * Create a new bit array from the given {@code values}.
+     *
+     * @param values the bit values
+     * @return a new bit array with the given values
+     */
+    public static BitArray of(boolean... values) {
+        final var result = ofSize(values.length);
+        for (int i = 0; i < values.length; ++i) {
+            result.set(i, values[i]);
+        }
+        return result;
+    }
+
+}
@@ -25,7 +25,6 @@ import static java.util.Objects.requireNonNull;
 import java.util.Arrays;
 import java.util.stream.Collectors;
 import java.util.stream.DoubleStream;
-import java.util.stream.IntStream;
 
 /**
  * Implementation of a <em>dense</em> array of {@code double} values. This is
@@ -94,6 +93,11 @@ public record DenseDoubleArray(double[] elements, int from, int length)
         return length;
     }
 
+    @Override
+    public boolean isConcurrentWritable() {
+        return true;
+    }
+
     @Override
     public DenseDoubleArray copy() {
         final var elems = Arrays.copyOfRange(elements, from, from + length);
@@ -120,8 +124,7 @@ public record DenseDoubleArray(double[] elements, int from, int length)
      * @return a double stream from the given array
      */
     public DoubleStream stream() {
-        return IntStream.range(0, length())
-            .mapToDouble(this::get);
+        return Arrays.stream(elements, from, from + length);
     }
 
     @Override
@@ -0,0 +1,138 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.array;
+
+import static java.util.Objects.checkFromIndexSize;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Implementation of a <em>dense</em> array of {@code float} values. This is
+ * <em>just</em> a wrapper around the underlying {@code float[]} array and no
+ * values are copied.
+ *
+ * @param elements the underlying {@code float} element values
+ * @param from the index of the first array element (inclusively)
+ * @param length the length of the sub-array
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public record DenseFloatArray(float[] elements, int from, int length)
+    implements Array.OfFloat, Array.Dense<float[], DenseFloatArray>
+{
+
+    /**
+     * Create a new <em>dense</em> float array with the given values
+     *
+     * @param elements the underlying {@code float} element values
+     * @param from the index of the first array element (inclusively)
+     * @param length the length of the sub-array
+     * @throws IndexOutOfBoundsException if the given {@code from} value and
+     *         {@code length} is out of bounds
+     */
+    public DenseFloatArray {
+        requireNonNull(elements);
+        checkFromIndexSize(from, length, elements.length);
+    }
+
+    /**
+     * Create a new <em>dense</em> float array with the given values
+     *
+     * @param elements the underlying {@code float} element values
+     * @param from the index of the first array element (inclusively)
+     * @throws IndexOutOfBoundsException if the given {@code from} value is out
+     *         of bounds
+     */
+    public DenseFloatArray(float[] elements, int from) {
+        this(elements, from, elements.length - from);
+    }
+
+    /**
+     * Create a new <em>dense</em> array of {@code float} values.
+     *
+     * @param elements the underlying {@code float} element values
+     */
+    public DenseFloatArray(float... elements) {
+        this(elements, 0, elements.length);
+    }
+
+    @Override
+    public float get(int index) {
+        return elements[index + from];
+    }
+
+    @Override
+    public void set(int index, float value) {
+        elements[index + from] = value;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public boolean isConcurrentWritable() {
+        return true;
+    }
+
+    @Override
+    public DenseFloatArray copy() {
+        final var elems = Arrays.copyOfRange(elements, from, from + length);
+        return new DenseFloatArray(elems);
+    }
+
+    @Override
+    public DenseFloatArray copy(int from, int length) {
+        final var array = Arrays.copyOfRange(
+            elements,
+            from + this.from, from + this.from + length
+        );
+        return new DenseFloatArray(array);
+    }
+
+    @Override
+    public DenseFloatArray like(final int length) {
+        return ofSize(length);
+    }
+
+    @Override
+    public String toString() {
+        return IntStream.range(0, length())
+            .mapToObj(i -> Float.toString(get(i)))
+            .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    /**
+     * Create a new dense {@code float} array with the given {@code length}.
+     *
+     * @param length the length of the created array
+     * @return a new dense {@code float} array with the given {@code length}
+     */
+    public static DenseFloatArray ofSize(int length) {
+        return new DenseFloatArray(new float[length]);
+    }
+
+}
@@ -91,6 +91,11 @@ public record DenseIntArray(int[] elements, int from, int length)
         return length;
     }
 
+    @Override
+    public boolean isConcurrentWritable() {
+        return true;
+    }
+
     @Override
     public DenseIntArray copy() {
         final var elems = Arrays.copyOfRange(elements, from, from + length);
@@ -117,8 +122,7 @@ public record DenseIntArray(int[] elements, int from, int length)
      * @return an int stream from the given array
      */
     public IntStream stream() {
-        return IntStream.range(0, length())
-            .map(this::get);
+        return Arrays.stream(elements, from, from + length);
     }
 
     @Override
@@ -5,7 +5,6 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
 /**
@@ -73,6 +72,11 @@ public record DenseLongArray(long[] elements, int from, int length)
         return length;
     }
 
+    @Override
+    public boolean isConcurrentWritable() {
+        return true;
+    }
+
     @Override
     public DenseLongArray copy() {
         final var elems = Arrays.copyOfRange(elements, from, from + length);
@@ -99,8 +103,7 @@ public record DenseLongArray(long[] elements, int from, int length)
      * @return an {@code long} stream from the given array
      */
     public LongStream stream() {
-        return IntStream.range(0, length())
-            .mapToLong(this::get);
+        return Arrays.stream(elements, from, from + length);
     }
 
     @Override
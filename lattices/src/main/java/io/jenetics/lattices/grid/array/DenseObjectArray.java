@@ -90,6 +90,11 @@ public record DenseObjectArray<T>(T[] elements, int from, int length)
         return length;
     }
 
+    @Override
+    public boolean isConcurrentWritable() {
+        return true;
+    }
+
     @Override
     public DenseObjectArray<T> copy() {
         final var elems = Arrays.copyOfRange(elements, from, from + length);
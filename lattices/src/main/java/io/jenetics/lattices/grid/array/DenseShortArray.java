@@ -0,0 +1,138 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.array;
+
+import static java.util.Objects.checkFromIndexSize;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Implementation of a <em>dense</em> array of {@code short} values. This is
+ * <em>just</em> a wrapper around the underlying {@code short[]} array and no
+ * values are copied.
+ *
+ * @param elements the underlying {@code short} element values
+ * @param from the index of the first array element (inclusively)
+ * @param length the length of the sub-array
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public record DenseShortArray(short[] elements, int from, int length)
+    implements Array.OfShort, Array.Dense<short[], DenseShortArray>
+{
+
+    /**
+     * Create a new <em>dense</em> short array with the given values
+     *
+     * @param elements the underlying {@code short} element values
+     * @param from the index of the first array element (inclusively)
+     * @param length the length of the sub-array
+     * @throws IndexOutOfBoundsException if the given {@code from} value and
+     *         {@code length} is out of bounds
+     */
+    public DenseShortArray {
+        requireNonNull(elements);
+        checkFromIndexSize(from, length, elements.length);
+    }
+
+    /**
+     * Create a new <em>dense</em> short array with the given values
+     *
+     * @param elements the underlying {@code short} element values
+     * @param from the index of the first array element (inclusively)
+     * @throws IndexOutOfBoundsException if the given {@code from} value is out
+     *         of bounds
+     */
+    public DenseShortArray(short[] elements, int from) {
+        this(elements, from, elements.length - from);
+    }
+
+    /**
+     * Create a new <em>dense</em> array of {@code short} values.
+     *
+     * @param elements the underlying {@code short} element values
+     */
+    public DenseShortArray(short... elements) {
+        this(elements, 0, elements.length);
+    }
+
+    @Override
+    public short get(int index) {
+        return elements[index + from];
+    }
+
+    @Override
+    public void set(int index, short value) {
+        elements[index + from] = value;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public boolean isConcurrentWritable() {
+        return true;
+    }
+
+    @Override
+    public DenseShortArray copy() {
+        final var elems = Arrays.copyOfRange(elements, from, from + length);
+        return new DenseShortArray(elems);
+    }
+
+    @Override
+    public DenseShortArray copy(int from, int length) {
+        final var array = Arrays.copyOfRange(
+            elements,
+            from + this.from, from + this.from + length
+        );
+        return new DenseShortArray(array);
+    }
+
+    @Override
+    public DenseShortArray like(final int length) {
+        return ofSize(length);
+    }
+
+    @Override
+    public String toString() {
+        return IntStream.range(0, length())
+            .mapToObj(i -> Short.toString(get(i)))
+            .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    /**
+     * Create a new dense {@code short} array with the given {@code length}.
+     *
+     * @param length the length of the created array
+     * @return a new dense {@code short} array with the given {@code length}
+     */
+    public static DenseShortArray ofSize(int length) {
+        return new DenseShortArray(new short[length]);
+    }
+
+}
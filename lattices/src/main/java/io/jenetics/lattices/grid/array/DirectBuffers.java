@@ -0,0 +1,121 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.array;
+
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Helper methods for allocating and releasing the <em>direct</em> byte
+ * buffers of the off-heap arrays. A single buffer can't hold more than
+ * {@link Integer#MAX_VALUE} bytes, therefore the array elements are split
+ * into segments of {@link #SEGMENT_SIZE} elements. The buffers are released
+ * with {@code sun.misc.Unsafe.invokeCleaner}, which is exported by the
+ * {@code jdk.unsupported} module.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+final class DirectBuffers {
+
+    static final int SEGMENT_SHIFT = 27;
+    static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    // The 'Unsafe.invokeCleaner' method and its receiver, if available.
+    private static final Object UNSAFE;
+    private static final Method CLEANER;
+    static {
+        Object unsafe = null;
+        Method cleaner = null;
+        try {
+            final var type = Class.forName("sun.misc.Unsafe");
+            final var field = type.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            cleaner = type.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException ignore) {
+            // The buffers are released by the garbage collector.
+        }
+        UNSAFE = unsafe;
+        CLEANER = cleaner;
+    }
+
+    private DirectBuffers() {
+    }
+
+    /**
+     * Allocates the direct buffers, with native byte order, for an array with
+     * the given {@code length}.
+     *
+     * @param length the number of array elements
+     * @param bytes the number of bytes of one array element
+     * @return the allocated buffer segments
+     * @throws IllegalArgumentException if the {@code length} is negative
+     */
+    static ByteBuffer[] allocate(int length, int bytes) {
+        if (length < 0) {
+            throw new IllegalArgumentException(
+                "Array length must not be negative: " + length
+            );
+        }
+
+        final int count = (int)(((long)length + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        final var buffers = new ByteBuffer[count];
+        try {
+            for (int i = 0; i < count; ++i) {
+                final long size = Math.min(
+                    SEGMENT_SIZE,
+                    length - ((long)i << SEGMENT_SHIFT)
+                );
+                buffers[i] = ByteBuffer
+                    .allocateDirect((int)size*bytes)
+                    .order(ByteOrder.nativeOrder());
+            }
+        } catch (OutOfMemoryError e) {
+            free(buffers);
+            throw e;
+        }
+
+        return buffers;
+    }
+
+    /**
+     * Releases the memory of the given buffers immediately, if the running
+     * JVM supports it. Otherwise, the memory is released when the buffers
+     * become unreachable. The buffers must not be accessed afterwards.
+     *
+     * @param buffers the buffers to release
+     */
+    static void free(ByteBuffer[] buffers) {
+        for (var buffer : buffers) {
+            if (buffer != null && CLEANER != null) {
+                try {
+                    CLEANER.invoke(UNSAFE, buffer);
+                } catch (ReflectiveOperationException ignore) {
+                    // Released by the garbage collector.
+                }
+            }
+        }
+    }
+
+}
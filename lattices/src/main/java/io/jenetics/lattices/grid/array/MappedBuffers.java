@@ -0,0 +1,121 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.array;
+
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.lattices.grid.array.DirectBuffers.SEGMENT_MASK;
+import static io.jenetics.lattices.grid.array.DirectBuffers.SEGMENT_SHIFT;
+import static io.jenetics.lattices.grid.array.DirectBuffers.SEGMENT_SIZE;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Helper methods for mapping files into memory, for the memory-mapped arrays.
+ * A single mapping can't be larger than {@link Integer#MAX_VALUE} bytes,
+ * therefore the file is mapped in segments of
+ * {@link DirectBuffers#SEGMENT_SIZE} elements.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+final class MappedBuffers {
+    private MappedBuffers() {
+    }
+
+    /**
+     * Maps the given file region into memory. If the file is mapped in
+     * {@link MapMode#READ_WRITE} mode, the file is created or extended, if
+     * necessary.
+     *
+     * @param path the file to map
+     * @param mode the mapping mode
+     * @param position the byte position of the first array element
+     * @param length the number of array elements
+     * @param bytes the number of bytes of one array element
+     * @return the mapped buffer segments
+     * @throws IOException if the file can't be mapped
+     * @throws IllegalArgumentException if the {@code position} or
+     *         {@code length} is negative, or if the file is too small for a
+     *         read-only mapping
+     */
+    static MappedByteBuffer[] map(
+        Path path,
+        MapMode mode,
+        long position,
+        int length,
+        int bytes
+    ) throws IOException {
+        requireNonNull(path);
+        requireNonNull(mode);
+        if (position < 0 || length < 0) {
+            throw new IllegalArgumentException(
+                "Position and length must not be negative: %d, %d."
+                    .formatted(position, length)
+            );
+        }
+
+        final boolean writable = mode == MapMode.READ_WRITE;
+        final var options = writable
+            ? new StandardOpenOption[] {
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE
+            }
+            : new StandardOpenOption[] { StandardOpenOption.READ };
+
+        try (var channel = FileChannel.open(path, options)) {
+            final long end = position + (long)length*bytes;
+            if (!writable && channel.size() < end) {
+                throw new IllegalArgumentException(
+                    "File '%s' is too small: %d < %d bytes."
+                        .formatted(path, channel.size(), end)
+                );
+            }
+
+            final int count = (int)(((long)length + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+            final var buffers = new MappedByteBuffer[count];
+            for (int i = 0; i < count; ++i) {
+                final long start = (long)i << SEGMENT_SHIFT;
+                final long size = Math.min(SEGMENT_SIZE, length - start);
+
+                buffers[i] = channel.map(mode, position + start*bytes, size*bytes);
+            }
+            return buffers;
+        }
+    }
+
+    /**
+     * Converts the byte order of the given buffers.
+     */
+    static void order(MappedByteBuffer[] buffers, ByteOrder order) {
+        requireNonNull(order);
+        for (var buffer : buffers) {
+            buffer.order(order);
+        }
+    }
+
+}
@@ -0,0 +1,252 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.array;
+
+import static java.util.Objects.checkFromIndexSize;
+import static java.util.Objects.checkIndex;
+import static io.jenetics.lattices.grid.array.DirectBuffers.SEGMENT_MASK;
+import static io.jenetics.lattices.grid.array.DirectBuffers.SEGMENT_SHIFT;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Implementation of a <em>memory-mapped</em> array of {@code long} values.
+ * The elements are read from, and written to, a file which is mapped into
+ * memory. Only the accessed pages of the file are loaded by the operating
+ * system, which allows to work with files larger than the available memory.
+ * Files larger than 2 GB are mapped in multiple segments. The array works
+ * with every structure, and the views and projections of grids created with
+ * it are zero-copy views onto the mapped file.
+ * <pre>{@code
+ * try (var array = MappedLongArray.map(path, MapMode.READ_ONLY)) {
+ *     final var cube = new LongGrid3d(
+ *         new Structure3d(new Extent3d(100, 2_000, 2_000)),
+ *         array
+ *     );
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @apiNote
+ * Writing to an array mapped in {@link MapMode#READ_ONLY} mode throws a
+ * {@link java.nio.ReadOnlyBufferException}. Changes of an array mapped in
+ * {@link MapMode#PRIVATE} mode are not written back to the file. Closing the
+ * array is not synchronized with the element access. The {@link #close()}
+ * method must only be called after all threads finished accessing the array.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public final class MappedLongArray implements Array.OfLong, Closeable {
+
+    private final int length;
+    private final MappedByteBuffer[] buffers;
+    private final LongBuffer[] segments;
+    private boolean closed = false;
+
+    private MappedLongArray(int length, MappedByteBuffer[] buffers) {
+        this.length = length;
+        this.buffers = buffers;
+        segments = new LongBuffer[buffers.length];
+        for (int i = 0; i < buffers.length; ++i) {
+            segments[i] = buffers[i].asLongBuffer();
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Array has been closed.");
+        }
+    }
+
+    @Override
+    public long get(int index) {
+        checkIndex(index, length);
+        checkOpen();
+        return segments[index >>> SEGMENT_SHIFT].get(index & SEGMENT_MASK);
+    }
+
+    @Override
+    public void set(int index, long value) {
+        checkIndex(index, length);
+        checkOpen();
+        segments[index >>> SEGMENT_SHIFT].put(index & SEGMENT_MASK, value);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public boolean isConcurrentWritable() {
+        return true;
+    }
+
+    /**
+     * Return a copy of the given array range. The copy is a
+     * {@link DenseLongArray}, stored on the heap.
+     *
+     * @param from the start index of the copied range
+     * @param length the number of copied elements
+     * @return a heap copy of the given array range
+     */
+    @Override
+    public DenseLongArray copy(int from, int length) {
+        checkFromIndexSize(from, length, this.length);
+        checkOpen();
+
+        final var elements = new long[length];
+        int i = 0;
+        while (i < length) {
+            final int index = from + i;
+            final int offset = index & SEGMENT_MASK;
+            final var segment = segments[index >>> SEGMENT_SHIFT];
+            final int n = Math.min(length - i, segment.limit() - offset);
+
+            segment.get(offset, elements, i, n);
+            i += n;
+        }
+        return new DenseLongArray(elements);
+    }
+
+    @Override
+    public DenseLongArray like(int length) {
+        return DenseLongArray.ofSize(length);
+    }
+
+    /**
+     * Writes the changes of this array back to the file. This method has no
+     * effect for arrays which are not mapped in {@link MapMode#READ_WRITE}
+     * mode.
+     */
+    public void force() {
+        checkOpen();
+        for (var buffer : buffers) {
+            if (!buffer.isReadOnly()) {
+                buffer.force();
+            }
+        }
+    }
+
+    /**
+     * Unmaps the file of this array. Changes of a {@link MapMode#READ_WRITE}
+     * array are written back to the file before. Accessing the array after it
+     * has been closed throws an {@link IllegalStateException}. The file is
+     * unmapped even if writing back the changes fails. Closing an already
+     * closed array has no effect.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            try {
+                force();
+            } finally {
+                closed = true;
+                DirectBuffers.free(buffers);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MappedLongArray[length=%d%s]"
+            .formatted(length, closed ? ", closed" : "");
+    }
+
+    /**
+     * Maps the given file region into memory.
+     *
+     * @param path the file to map
+     * @param mode the mapping mode
+     * @param position the byte position of the first array element
+     * @param length the number of array elements
+     * @param order the byte order of the array elements in the file
+     * @return a new memory-mapped array
+     * @throws IOException if the file can't be mapped
+     * @throws IllegalArgumentException if the {@code position} or
+     *         {@code length} is negative, or if the file is too small for a
+     *         read-only mapping
+     */
+    public static MappedLongArray map(
+        Path path,
+        MapMode mode,
+        long position,
+        int length,
+        ByteOrder order
+    )
+        throws IOException
+    {
+        final var buffers = MappedBuffers
+            .map(path, mode, position, length, Long.BYTES);
+        MappedBuffers.order(buffers, order);
+        return new MappedLongArray(length, buffers);
+    }
+
+    /**
+     * Maps the whole given file into memory. The file elements are expected
+     * to be stored in native byte order.
+     *
+     * @param path the file to map
+     * @param mode the mapping mode
+     * @return a new memory-mapped array
+     * @throws IOException if the file can't be mapped
+     * @throws IllegalArgumentException if the file contains more than
+     *         {@link Integer#MAX_VALUE} elements
+     */
+    public static MappedLongArray map(Path path, MapMode mode)
+        throws IOException
+    {
+        final long length = Files.size(path)/Long.BYTES;
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                "File '%s' contains too many elements: %d."
+                    .formatted(path, length)
+            );
+        }
+        return map(path, mode, 0, (int)length, ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Creates (or extends) the given file, with the size of the given number
+     * of elements, and maps it into memory in {@link MapMode#READ_WRITE}
+     * mode. The elements are stored in native byte order.
+     *
+     * @param path the file to create
+     * @param length the number of array elements
+     * @return a new memory-mapped array
+     * @throws IOException if the file can't be created or mapped
+     * @throws IllegalArgumentException if the {@code length} is negative
+     */
+    public static MappedLongArray create(Path path, int length)
+        throws IOException
+    {
+        return map(path, MapMode.READ_WRITE, 0, length, ByteOrder.nativeOrder());
+    }
+
+}
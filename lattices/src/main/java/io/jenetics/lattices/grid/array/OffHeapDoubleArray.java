@@ -0,0 +1,174 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.array;
+
+import static java.util.Objects.checkFromIndexSize;
+import static java.util.Objects.checkIndex;
+import static io.jenetics.lattices.grid.array.DirectBuffers.SEGMENT_MASK;
+import static io.jenetics.lattices.grid.array.DirectBuffers.SEGMENT_SHIFT;
+import static io.jenetics.lattices.grid.array.DirectBuffers.SEGMENT_SIZE;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+
+/**
+ * Implementation of an <em>off-heap</em> array of {@code double} values. The
+ * elements are stored in <em>direct</em> byte buffers, outside the Java heap.
+ * They don't count against the {@code -Xmx} limit and are not copied by the
+ * garbage collector. The memory is released by calling {@link #close()}, or
+ * when the array becomes unreachable.
+ * <pre>{@code
+ * try (var array = OffHeapDoubleArray.ofSize(50_000*40_000)) {
+ *     final var grid = new DoubleGrid2d(
+ *         new Structure2d(new Extent2d(50_000, 40_000)),
+ *         array
+ *     );
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @apiNote
+ * Different elements of the array can be read and written concurrently, but
+ * closing the array is not synchronized with the element access. The
+ * {@link #close()} method must only be called after all threads finished
+ * accessing the array, e.g. after joining them. Otherwise, a concurrent
+ * access may not see the closed state and read or write the released memory.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public final class OffHeapDoubleArray implements Array.OfDouble, Closeable {
+
+    private final int length;
+    private final ByteBuffer[] buffers;
+    private final DoubleBuffer[] segments;
+    private boolean closed = false;
+
+    /**
+     * Create a new off-heap array with the given {@code length}. All elements
+     * are initialized with zero.
+     *
+     * @param length the length of the array
+     * @throws IllegalArgumentException if the {@code length} is negative
+     * @throws OutOfMemoryError if the direct memory can't be allocated
+     */
+    public OffHeapDoubleArray(int length) {
+        this.length = length;
+        buffers = DirectBuffers.allocate(length, Double.BYTES);
+        segments = new DoubleBuffer[buffers.length];
+        for (int i = 0; i < buffers.length; ++i) {
+            segments[i] = buffers[i].asDoubleBuffer();
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Array has been closed.");
+        }
+    }
+
+    @Override
+    public double get(int index) {
+        checkIndex(index, length);
+        checkOpen();
+        return segments[index >>> SEGMENT_SHIFT].get(index & SEGMENT_MASK);
+    }
+
+    @Override
+    public void set(int index, double value) {
+        checkIndex(index, length);
+        checkOpen();
+        segments[index >>> SEGMENT_SHIFT].put(index & SEGMENT_MASK, value);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public boolean isConcurrentWritable() {
+        return true;
+    }
+
+    @Override
+    public OffHeapDoubleArray copy(int from, int length) {
+        checkFromIndexSize(from, length, this.length);
+        checkOpen();
+
+        final var array = new OffHeapDoubleArray(length);
+        int i = 0;
+        while (i < length) {
+            final int src = from + i;
+            final int srcOffset = src & SEGMENT_MASK;
+            final int destOffset = i & SEGMENT_MASK;
+            final int n = Math.min(
+                length - i,
+                SEGMENT_SIZE - Math.max(srcOffset, destOffset)
+            );
+
+            array.segments[i >>> SEGMENT_SHIFT].put(
+                destOffset, segments[src >>> SEGMENT_SHIFT], srcOffset, n
+            );
+            i += n;
+        }
+        return array;
+    }
+
+    @Override
+    public OffHeapDoubleArray like(int length) {
+        return ofSize(length);
+    }
+
+    /**
+     * Releases the off-heap memory of this array. Accessing the array after
+     * it has been closed throws an {@link IllegalStateException}. Closing an
+     * already closed array has no effect.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            DirectBuffers.free(buffers);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapDoubleArray[length=%d%s]"
+            .formatted(length, closed ? ", closed" : "");
+    }
+
+    /**
+     * Create a new off-heap {@code double} array with the given
+     * {@code length}.
+     *
+     * @param length the length of the created array
+     * @return a new off-heap {@code double} array with the given {@code length}
+     * @throws IllegalArgumentException if the {@code length} is negative
+     * @throws OutOfMemoryError if the direct memory can't be allocated
+     */
+    public static OffHeapDoubleArray ofSize(int length) {
+        return new OffHeapDoubleArray(length);
+    }
+
+}
@@ -0,0 +1,236 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.array;
+
+import static java.util.Objects.checkFromIndexSize;
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+import io.jenetics.lattices.grid.function.IntDoubleConsumer;
+
+/**
+ * Implementation of a <em>sparse</em> array of {@code double} values. Only the
+ * non-zero elements are stored, in an open-addressing hash table with linear
+ * probing. Reading and writing an element takes expected constant time and
+ * the memory consumption is proportional to the number of stored elements,
+ * not to the array {@link #length()}. Setting an element to zero removes it
+ * from the table.
+ * <pre>{@code
+ * final var grid = new DoubleGrid2d(
+ *     new Structure2d(new Extent2d(10_000, 10_000)),
+ *     SparseDoubleArray.ofSize(10_000*10_000)
+ * );
+ * }</pre>
+ *
+ * @apiNote
+ * This class is not thread-safe. Concurrent writes, or a write concurrent to
+ * a read, must be synchronized externally.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public final class SparseDoubleArray implements Array.OfDouble {
+
+    // Marks a free slot of the hash table.
+    private static final int FREE = -1;
+    private static final int MIN_CAPACITY = 16;
+
+    private final int length;
+
+    private int[] keys;
+    private double[] values;
+    private int size;
+
+    /**
+     * Create a new, empty sparse array with the given {@code length}.
+     *
+     * @param length the length of the array
+     * @throws IllegalArgumentException if the {@code length} is negative
+     */
+    public SparseDoubleArray(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException(
+                "Array length must not be negative: " + length
+            );
+        }
+        this.length = length;
+        allocate(MIN_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        Arrays.fill(keys, FREE);
+        values = new double[capacity];
+    }
+
+    // Fibonacci hashing of the array index.
+    private int home(int key) {
+        final int hash = key*0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (keys.length - 1);
+    }
+
+    // Return the slot of the given key or the free slot where it belongs to.
+    private int slot(int key) {
+        final int mask = keys.length - 1;
+        int slot = home(key);
+        while (keys[slot] != FREE && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    @Override
+    public double get(int index) {
+        checkIndex(index, length);
+        final int slot = slot(index);
+        return keys[slot] == FREE ? 0.0 : values[slot];
+    }
+
+    @Override
+    public void set(int index, double value) {
+        checkIndex(index, length);
+        final int slot = slot(index);
+        if (keys[slot] != FREE) {
+            if (value != 0) {
+                values[slot] = value;
+            } else {
+                remove(slot);
+            }
+        } else if (value != 0) {
+            keys[slot] = index;
+            values[slot] = value;
+            if (++size > keys.length/4*3) {
+                rehash(keys.length*2);
+            }
+        }
+    }
+
+    // Backward shift deletion, which keeps the probe sequences intact.
+    private void remove(int slot) {
+        final int mask = keys.length - 1;
+        int i = slot;
+        int j = slot;
+        while (true) {
+            j = (j + 1) & mask;
+            if (keys[j] == FREE) {
+                break;
+            }
+            final int k = home(keys[j]);
+            final boolean stays = i <= j
+                ? i < k && k <= j
+                : i < k || k <= j;
+
+            if (!stays) {
+                keys[i] = keys[j];
+                values[i] = values[j];
+                i = j;
+            }
+        }
+        keys[i] = FREE;
+        values[i] = 0;
+        --size;
+    }
+
+    private void rehash(int capacity) {
+        final int[] oldKeys = keys;
+        final double[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; ++i) {
+            if (oldKeys[i] != FREE) {
+                final int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Return the number of stored, non-zero elements.
+     *
+     * @return the number of stored elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Performs the given {@code action} for every stored, non-zero element.
+     * The consumer is called with {@code (index, value)} and the elements are
+     * visited in no particular order. The costs of this method are
+     * proportional to the number of stored elements, and not to the
+     * {@link #length()} of the array.
+     *
+     * @param action the action to perform
+     */
+    public void forEach(IntDoubleConsumer action) {
+        requireNonNull(action);
+        final int[] keys = this.keys;
+        final double[] values = this.values;
+        for (int i = 0; i < keys.length; ++i) {
+            if (keys[i] != FREE) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    @Override
+    public SparseDoubleArray copy(int from, int length) {
+        checkFromIndexSize(from, length, this.length);
+
+        final var array = new SparseDoubleArray(length);
+        forEach((i, v) -> {
+            if (i >= from && i < from + length) {
+                array.set(i - from, v);
+            }
+        });
+        return array;
+    }
+
+    @Override
+    public SparseDoubleArray like(int length) {
+        return ofSize(length);
+    }
+
+    @Override
+    public String toString() {
+        return "SparseDoubleArray[length=%d, size=%d]".formatted(length, size);
+    }
+
+    /**
+     * Create a new, empty sparse {@code double} array with the given
+     * {@code length}.
+     *
+     * @param length the length of the created array
+     * @return a new sparse {@code double} array with the given {@code length}
+     * @throws IllegalArgumentException if the {@code length} is negative
+     */
+    public static SparseDoubleArray ofSize(int length) {
+        return new SparseDoubleArray(length);
+    }
+
+}
@@ -0,0 +1,240 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.array;
+
+import static java.util.Objects.checkFromIndexSize;
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+import io.jenetics.lattices.grid.function.IntObjectConsumer;
+
+/**
+ * Implementation of a <em>sparse</em> array of object values. Only the
+ * non-null elements are stored, in an open-addressing hash table with linear
+ * probing. Reading and writing an element takes expected constant time and
+ * the memory consumption is proportional to the number of stored elements,
+ * not to the array {@link #length()}. Setting an element to {@code null}
+ * removes it from the table.
+ * <pre>{@code
+ * final var grid = new ObjectGrid2d<String>(
+ *     new Structure2d(new Extent2d(10_000, 10_000)),
+ *     SparseObjectArray.ofSize(10_000*10_000)
+ * );
+ * }</pre>
+ *
+ * @apiNote
+ * This class is not thread-safe. Concurrent writes, or a write concurrent to
+ * a read, must be synchronized externally.
+ *
+ * @param <T> the array element type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public final class SparseObjectArray<T> implements Array.OfObject<T> {
+
+    // Marks a free slot of the hash table.
+    private static final int FREE = -1;
+    private static final int MIN_CAPACITY = 16;
+
+    private final int length;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+
+    /**
+     * Create a new, empty sparse array with the given {@code length}.
+     *
+     * @param length the length of the array
+     * @throws IllegalArgumentException if the {@code length} is negative
+     */
+    public SparseObjectArray(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException(
+                "Array length must not be negative: " + length
+            );
+        }
+        this.length = length;
+        allocate(MIN_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        Arrays.fill(keys, FREE);
+        values = new Object[capacity];
+    }
+
+    // Fibonacci hashing of the array index.
+    private int home(int key) {
+        final int hash = key*0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (keys.length - 1);
+    }
+
+    // Return the slot of the given key or the free slot where it belongs to.
+    private int slot(int key) {
+        final int mask = keys.length - 1;
+        int slot = home(key);
+        while (keys[slot] != FREE && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index, length);
+        final int slot = slot(index);
+        return (T)values[slot];
+    }
+
+    @Override
+    public void set(int index, T value) {
+        checkIndex(index, length);
+        final int slot = slot(index);
+        if (keys[slot] != FREE) {
+            if (value != null) {
+                values[slot] = value;
+            } else {
+                remove(slot);
+            }
+        } else if (value != null) {
+            keys[slot] = index;
+            values[slot] = value;
+            if (++size > keys.length/4*3) {
+                rehash(keys.length*2);
+            }
+        }
+    }
+
+    // Backward shift deletion, which keeps the probe sequences intact.
+    private void remove(int slot) {
+        final int mask = keys.length - 1;
+        int i = slot;
+        int j = slot;
+        while (true) {
+            j = (j + 1) & mask;
+            if (keys[j] == FREE) {
+                break;
+            }
+            final int k = home(keys[j]);
+            final boolean stays = i <= j
+                ? i < k && k <= j
+                : i < k || k <= j;
+
+            if (!stays) {
+                keys[i] = keys[j];
+                values[i] = values[j];
+                i = j;
+            }
+        }
+        keys[i] = FREE;
+        values[i] = null;
+        --size;
+    }
+
+    private void rehash(int capacity) {
+        final int[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; ++i) {
+            if (oldKeys[i] != FREE) {
+                final int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Return the number of stored, non-null elements.
+     *
+     * @return the number of stored elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Performs the given {@code action} for every stored, non-null element.
+     * The consumer is called with {@code (index, value)} and the elements are
+     * visited in no particular order. The costs of this method are
+     * proportional to the number of stored elements, and not to the
+     * {@link #length()} of the array.
+     *
+     * @param action the action to perform
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(IntObjectConsumer<? super T> action) {
+        requireNonNull(action);
+        final int[] keys = this.keys;
+        final Object[] values = this.values;
+        for (int i = 0; i < keys.length; ++i) {
+            if (keys[i] != FREE) {
+                action.accept(keys[i], (T)values[i]);
+            }
+        }
+    }
+
+    @Override
+    public SparseObjectArray<T> copy(int from, int length) {
+        checkFromIndexSize(from, length, this.length);
+
+        final var array = new SparseObjectArray<T>(length);
+        forEach((i, v) -> {
+            if (i >= from && i < from + length) {
+                array.set(i - from, v);
+            }
+        });
+        return array;
+    }
+
+    @Override
+    public SparseObjectArray<T> like(int length) {
+        return ofSize(length);
+    }
+
+    @Override
+    public String toString() {
+        return "SparseObjectArray[length=%d, size=%d]".formatted(length, size);
+    }
+
+    /**
+     * Create a new, empty sparse object array with the given {@code length}.
+     *
+     * @param length the length of the created array
+     * @param <T> the array element type
+     * @return a new sparse object array with the given {@code length}
+     * @throws IllegalArgumentException if the {@code length} is negative
+     */
+    public static <T> SparseObjectArray<T> ofSize(int length) {
+        return new SparseObjectArray<>(length);
+    }
+
+}
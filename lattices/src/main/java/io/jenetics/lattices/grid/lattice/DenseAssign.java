@@ -0,0 +1,202 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.lattice;
+
+import io.jenetics.lattices.grid.array.Array;
+
+/**
+ * Bulk copy of lattice elements, which are stored in <em>dense</em> arrays.
+ * If the source and the target lattice store their elements in Java arrays
+ * of the same type and the rows of both lattices are contiguous, the
+ * elements are copied with {@link Array.Dense#assign(Array.Dense, int, int, int)},
+ * row by row, slice by slice or as one single block.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+final class DenseAssign {
+    private DenseAssign() {
+    }
+
+    /**
+     * Copies the elements of the {@code source} lattice into the
+     * {@code target} lattice, if both lattices allow a bulk copy. Both
+     * lattices are required to have the same extent.
+     *
+     * @param target the target lattice
+     * @param source the source lattice
+     * @return {@code true} if the elements has been copied, {@code false}
+     *         if the lattices must be copied element-wise
+     */
+    static boolean assign(Lattice1d<?> target, Lattice1d<?> source) {
+        if (!compatible(target.array(), source.array())) {
+            return false;
+        }
+
+        final var tl = target.structure().layout();
+        final var sl = source.structure().layout();
+        if (tl.stride().value() != 1 || sl.stride().value() != 1) {
+            return false;
+        }
+
+        final int elements = target.extent().elements();
+        if (elements > 0) {
+            arraycopy(
+                target.array(), tl.offset(0),
+                source.array(), sl.offset(0),
+                elements
+            );
+        }
+        return true;
+    }
+
+    /**
+     * Copies the elements of the {@code source} lattice into the
+     * {@code target} lattice, if both lattices allow a bulk copy. Both
+     * lattices are required to have the same extent.
+     *
+     * @param target the target lattice
+     * @param source the source lattice
+     * @return {@code true} if the elements has been copied, {@code false}
+     *         if the lattices must be copied element-wise
+     */
+    static boolean assign(Lattice2d<?> target, Lattice2d<?> source) {
+        if (!compatible(target.array(), source.array())) {
+            return false;
+        }
+
+        final var tl = target.structure().layout();
+        final var sl = source.structure().layout();
+        if (tl.stride().col() != 1 || sl.stride().col() != 1) {
+            return false;
+        }
+
+        final int rows = target.rows();
+        final int cols = target.cols();
+        if (rows == 0 || cols == 0) {
+            return true;
+        }
+
+        if (tl.stride().row() == cols && sl.stride().row() == cols) {
+            arraycopy(
+                target.array(), tl.offset(0, 0),
+                source.array(), sl.offset(0, 0),
+                rows*cols
+            );
+        } else {
+            for (int r = 0; r < rows; ++r) {
+                arraycopy(
+                    target.array(), tl.offset(r, 0),
+                    source.array(), sl.offset(r, 0),
+                    cols
+                );
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies the elements of the {@code source} lattice into the
+     * {@code target} lattice, if both lattices allow a bulk copy. Both
+     * lattices are required to have the same extent.
+     *
+     * @param target the target lattice
+     * @param source the source lattice
+     * @return {@code true} if the elements has been copied, {@code false}
+     *         if the lattices must be copied element-wise
+     */
+    static boolean assign(Lattice3d<?> target, Lattice3d<?> source) {
+        if (!compatible(target.array(), source.array())) {
+            return false;
+        }
+
+        final var tl = target.structure().layout();
+        final var sl = source.structure().layout();
+        if (tl.stride().col() != 1 || sl.stride().col() != 1) {
+            return false;
+        }
+
+        final int slices = target.slices();
+        final int rows = target.rows();
+        final int cols = target.cols();
+        if (slices == 0 || rows == 0 || cols == 0) {
+            return true;
+        }
+
+        final boolean slicesContiguous =
+            tl.stride().row() == cols && sl.stride().row() == cols;
+
+        if (slicesContiguous &&
+            tl.stride().slice() == rows*cols &&
+            sl.stride().slice() == rows*cols)
+        {
+            arraycopy(
+                target.array(), tl.offset(0, 0, 0),
+                source.array(), sl.offset(0, 0, 0),
+                slices*rows*cols
+            );
+        } else if (slicesContiguous) {
+            for (int s = 0; s < slices; ++s) {
+                arraycopy(
+                    target.array(), tl.offset(s, 0, 0),
+                    source.array(), sl.offset(s, 0, 0),
+                    rows*cols
+                );
+            }
+        } else {
+            for (int s = 0; s < slices; ++s) {
+                for (int r = 0; r < rows; ++r) {
+                    arraycopy(
+                        target.array(), tl.offset(s, r, 0),
+                        source.array(), sl.offset(s, r, 0),
+                        cols
+                    );
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tests whether the elements of the given arrays can be copied with
+     * {@link System#arraycopy(Object, int, Object, int, int)}. Arrays, which
+     * share the same Java array, are copied element-wise, which keeps the
+     * result of overlapping views unchanged.
+     */
+    private static boolean compatible(Object target, Object source) {
+        return target instanceof Array.Dense<?, ?> t &&
+            source instanceof Array.Dense<?, ?> s &&
+            t.elements() != s.elements() &&
+            t.elements().getClass() == s.elements().getClass();
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static void arraycopy(
+        Object target,
+        int targetPos,
+        Object source,
+        int sourcePos,
+        int length
+    ) {
+        ((Array.Dense)target).assign((Array.Dense)source, sourcePos, targetPos, length);
+    }
+
+}
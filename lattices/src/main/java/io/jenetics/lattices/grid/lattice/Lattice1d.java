@@ -36,8 +36,16 @@ import java.util.function.IntUnaryOperator;
 import java.util.function.LongBinaryOperator;
 import java.util.function.LongUnaryOperator;
 import java.util.function.UnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 import io.jenetics.lattices.grid.array.BaseArray;
+import io.jenetics.lattices.grid.function.BooleanBinaryOperator;
+import io.jenetics.lattices.grid.function.BooleanUnaryOperator;
+import io.jenetics.lattices.grid.function.FloatBinaryOperator;
+import io.jenetics.lattices.grid.function.FloatUnaryOperator;
 import io.jenetics.lattices.structure.Extent1d;
 import io.jenetics.lattices.structure.Structure1d;
 
@@ -123,9 +131,16 @@ public interface Lattice1d<A extends BaseArray> extends Structure1dOps {
                 return;
             }
             checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
 
-            final var layout = source.structure().layout();
-            forEach((i) -> set(i, source.array().get(layout.offset(i))));
+            final var array = array();
+            final var values = source.array();
+            Offsets.forEach(
+                structure(), source.structure(),
+                (i, j) -> array.set(i, values.get(j))
+            );
         }
 
         /**
@@ -144,7 +159,8 @@ public interface Lattice1d<A extends BaseArray> extends Structure1dOps {
          * @param value the value to be filled into the cells
          */
         default void assign(double value) {
-            forEach(i -> set(i, value));
+            final var array = array();
+            Offsets.forEach(structure(), i -> array.set(i, value));
         }
 
         /**
@@ -157,7 +173,12 @@ public interface Lattice1d<A extends BaseArray> extends Structure1dOps {
          */
         default void assign(DoubleUnaryOperator f) {
             requireNonNull(f);
-            forEach(i -> set(i, f.applyAsDouble(get(i))));
+
+            final var array = array();
+            Offsets.forEach(
+                structure(),
+                i -> array.set(i, f.applyAsDouble(array.get(i)))
+            );
         }
 
         /**
@@ -171,8 +192,15 @@ public interface Lattice1d<A extends BaseArray> extends Structure1dOps {
          * @param f the combiner function
          */
         default void assign(OfDouble<?> a, DoubleBinaryOperator f) {
+            requireNonNull(f);
             checkSameExtent(extent(), a.extent());
-            forEach(i -> set(i, f.applyAsDouble(get(i), a.get(i))));
+
+            final var array = array();
+            final var values = a.array();
+            Offsets.forEach(
+                structure(), a.structure(),
+                (i, j) -> array.set(i, f.applyAsDouble(array.get(i), values.get(j)))
+            );
         }
 
         /**
@@ -182,6 +210,205 @@ public interface Lattice1d<A extends BaseArray> extends Structure1dOps {
          */
         default void swap(final OfDouble<?> other) {
             checkSameExtent(extent(), other.extent());
+
+            final var array = array();
+            final var values = other.array();
+            Offsets.forEach(structure(), other.structure(), (i, j) -> {
+                final var tmp = array.get(i);
+                array.set(i, values.get(j));
+                values.set(j, tmp);
+            });
+        }
+
+        /**
+         * Applies a function to each cell and aggregates the results.
+         * Returns a value {@code v} such that {@code v == a(size())} where
+         * {@code a(i) == reducer( a(i - 1), f(get(i)) )} and terminators are
+         * {@code a(1) == f(get(0))}.
+         *
+         * @param reducer an aggregation function taking as first argument the
+         *        current aggregation and as second argument the transformed current
+         *        cell value
+         * @param f a function transforming the current cell value
+         * @return the aggregated measure or {@link OptionalDouble#empty()} if
+         *         {@code size() == 0}
+         */
+        default OptionalDouble
+        reduce(DoubleBinaryOperator reducer, DoubleUnaryOperator f) {
+            requireNonNull(reducer);
+            requireNonNull(f);
+
+            if (extent().elements() == 0) {
+                return OptionalDouble.empty();
+            }
+
+            final var layout = structure().layout();
+            final var array = array();
+            final int stride = layout.stride().value();
+
+            int o = layout.offset(extent().elements() - 1);
+            double a = f.applyAsDouble(array.get(o));
+            for (int i = extent().elements() - 1; --i >= 0;) {
+                o -= stride;
+                a = reducer.applyAsDouble(a, f.applyAsDouble(array.get(o)));
+            }
+
+            return OptionalDouble.of(a);
+        }
+
+        /**
+         * Checks whether the given matrices have the same dimension and contains
+         * the same values.
+         *
+         * @param other the second matrix to compare
+         * @return {@code true} if the two given matrices are equal, {@code false}
+         *         otherwise
+         */
+        default boolean equals(OfDouble<?> other) {
+            if (!extent().equals(other.extent())) {
+                return false;
+            }
+
+            final var array = array();
+            final var values = other.array();
+            return Offsets.allMatch(
+                structure(), other.structure(),
+                (i, j) -> Double.compare(array.get(i), values.get(j)) == 0
+            );
+        }
+
+        /**
+         * Return a sequential stream of the lattice elements, in index order.
+         * The elements are read directly from the underlying array, without
+         * copying, and views and projections of the lattice are respected.
+         * A {@link DoubleStream#parallel() parallel} stream splits the lattice
+         * along its elements.
+         *
+         * @return a stream of the lattice elements
+         */
+        default DoubleStream stream() {
+            return StreamSupport.doubleStream(
+                new LatticeSpliterator.Doubles(
+                    LatticeSpliterator.Shape.of(structure()),
+                    array()
+                ),
+                false
+            );
+        }
+
+    }
+
+    /**
+     * This interface <em>structures</em> the elements into a 1-dimensional lattice.
+     *
+     * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+     * @since 3.0
+     * @version 3.0
+     */
+    interface OfFloat<A extends BaseArray.OfFloat> extends Lattice1d<A> {
+
+        /**
+         * Returns the matrix cell value at coordinate {@code index}.
+         *
+         * @param index the index of the cell
+         * @return the value of the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         *         bounds
+         */
+        default float get(int index) {
+            return array().get(structure().layout().offset(index));
+        }
+
+        /**
+         * Sets the matrix cell at coordinate {@code index} to the specified
+         * {@code value}.
+         *
+         * @param index the index of the cell
+         * @param value  the value to be filled into the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         *         bounds
+         */
+        default void set(int index, float value) {
+            array().set(structure().layout().offset(index), value);
+        }
+
+        /**
+         * Replaces all cell values of the receiver with the values of another
+         * matrix. Both matrices must have the same number of rows and columns.
+         *
+         * @param source the source lattice to copy from (maybe identical to the
+         *        receiver).
+         * @throws IllegalArgumentException if {@code !extent().equals(source.extent())}
+         */
+        @Override
+        default void assign(Lattice1d<? extends A> source) {
+            requireNonNull(source);
+            if (source == this) {
+                return;
+            }
+            checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
+
+            final var layout = source.structure().layout();
+            forEach((i) -> set(i, source.array().get(layout.offset(i))));
+        }
+
+        /**
+         * Sets all cells to the state specified by {@code values}.
+         *
+         * @param values the values to be filled into the cells
+         */
+        default void assign(float[] values) {
+            checkSameExtent(extent(), new Extent1d(values.length));
+            forEach(i -> set(i, values[i]));
+        }
+
+        /**
+         * Sets all cells to the state specified by {@code values}.
+         *
+         * @param value the value to be filled into the cells
+         */
+        default void assign(float value) {
+            forEach(i -> set(i, value));
+        }
+
+        /**
+         * Assigns the result of a function to each cell.
+         * <pre>{@code
+         * this[i] = f(this[i])
+         * }</pre>
+         *
+         * @param f a function object taking as argument the current cell's value.
+         */
+        default void assign(FloatUnaryOperator f) {
+            requireNonNull(f);
+            forEach(i -> set(i, f.applyAsFloat(get(i))));
+        }
+
+        /**
+         * Updates this grid with the values of {@code a} which are transformed by
+         * the given function {@code f}.
+         * <pre>{@code
+         * this[i] = f(this[i], a[i])
+         * }</pre>
+         *
+         * @param a the grid used for the update
+         * @param f the combiner function
+         */
+        default void assign(OfFloat<?> a, FloatBinaryOperator f) {
+            checkSameExtent(extent(), a.extent());
+            forEach(i -> set(i, f.applyAsFloat(get(i), a.get(i))));
+        }
+
+        /**
+         * Swaps each element {@code this[i]} with {@code other[i]}.
+         *
+         * @throws IllegalArgumentException if {@code size() != other.size()}.
+         */
+        default void swap(final OfFloat<?> other) {
+            checkSameExtent(extent(), other.extent());
             forEach(i -> {
                 final var tmp = get(i);
                 set(i, other.get(i));
@@ -199,11 +426,12 @@ public interface Lattice1d<A extends BaseArray> extends Structure1dOps {
          *        current aggregation and as second argument the transformed current
          *        cell value
          * @param f a function transforming the current cell value
-         * @return the aggregated measure or {@link OptionalDouble#empty()} if
+         * @return the aggregated measure, widened to {@code double}, or
+         *         {@link OptionalDouble#empty()} if
          *         {@code size() == 0}
          */
         default OptionalDouble
-        reduce(DoubleBinaryOperator reducer, DoubleUnaryOperator f) {
+        reduce(FloatBinaryOperator reducer, FloatUnaryOperator f) {
             requireNonNull(reducer);
             requireNonNull(f);
 
@@ -211,9 +439,9 @@ public interface Lattice1d<A extends BaseArray> extends Structure1dOps {
                 return OptionalDouble.empty();
             }
 
-            double a = f.applyAsDouble(get(extent().elements() - 1));
+            float a = f.applyAsFloat(get(extent().elements() - 1));
             for (int i = extent().elements() - 1; --i >= 0;) {
-                a = reducer.applyAsDouble(a, f.applyAsDouble(get(i)));
+                a = reducer.applyAsFloat(a, f.applyAsFloat(get(i)));
             }
 
             return OptionalDouble.of(a);
@@ -227,9 +455,9 @@ public interface Lattice1d<A extends BaseArray> extends Structure1dOps {
          * @return {@code true} if the two given matrices are equal, {@code false}
          *         otherwise
          */
-        default boolean equals(OfDouble<?> other) {
+        default boolean equals(OfFloat<?> other) {
             return extent().equals(other.extent()) &&
-                allMatch(i -> Double.compare(get(i), other.get(i)) == 0);
+                allMatch(i -> Float.compare(get(i), other.get(i)) == 0);
         }
 
     }
@@ -283,6 +511,9 @@ public interface Lattice1d<A extends BaseArray> extends Structure1dOps {
                 return;
             }
             checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
 
             final var layout = source.structure().layout();
             forEach((i) -> set(i, source.array().get(layout.offset(i))));
@@ -391,6 +622,25 @@ public interface Lattice1d<A extends BaseArray> extends Structure1dOps {
                 allMatch(i -> get(i) == other.get(i));
         }
 
+        /**
+         * Return a sequential stream of the lattice elements, in index order.
+         * The elements are read directly from the underlying array, without
+         * copying, and views and projections of the lattice are respected.
+         * A {@link IntStream#parallel() parallel} stream splits the lattice
+         * along its elements.
+         *
+         * @return a stream of the lattice elements
+         */
+        default IntStream stream() {
+            return StreamSupport.intStream(
+                new LatticeSpliterator.Ints(
+                    LatticeSpliterator.Shape.of(structure()),
+                    array()
+                ),
+                false
+            );
+        }
+
     }
 
     /**
@@ -442,6 +692,9 @@ public interface Lattice1d<A extends BaseArray> extends Structure1dOps {
                 return;
             }
             checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
 
             final var layout = source.structure().layout();
             forEach((i) -> set(i, source.array().get(layout.offset(i))));
@@ -550,16 +803,38 @@ public interface Lattice1d<A extends BaseArray> extends Structure1dOps {
                 allMatch(i -> get(i) == other.get(i));
         }
 
+        /**
+         * Return a sequential stream of the lattice elements, in index order.
+         * The elements are read directly from the underlying array, without
+         * copying, and views and projections of the lattice are respected.
+         * A {@link LongStream#parallel() parallel} stream splits the lattice
+         * along its elements.
+         *
+         * @return a stream of the lattice elements
+         */
+        default LongStream stream() {
+            return StreamSupport.longStream(
+                new LatticeSpliterator.Longs(
+                    LatticeSpliterator.Shape.of(structure()),
+                    array()
+                ),
+                false
+            );
+        }
+
     }
 
     /**
      * This interface <em>structures</em> the elements into a 1-dimensional lattice.
+     * <p>
+     * The element functions operate on {@code int} values, which are
+     * narrowed to {@code byte} when stored.
      *
      * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
      * @since 3.0
      * @version 3.0
      */
-    interface OfObject<T, A extends BaseArray.OfObject<T>> extends Lattice1d<A> {
+    interface OfByte<A extends BaseArray.OfByte> extends Lattice1d<A> {
 
         /**
          * Returns the matrix cell value at coordinate {@code index}.
@@ -569,7 +844,7 @@ public interface Lattice1d<A extends BaseArray> extends Structure1dOps {
          * @throws IndexOutOfBoundsException if the given coordinates are out of
          *         bounds
          */
-        default T get(int index) {
+        default byte get(int index) {
             return array().get(structure().layout().offset(index));
         }
 
@@ -582,7 +857,7 @@ public interface Lattice1d<A extends BaseArray> extends Structure1dOps {
          * @throws IndexOutOfBoundsException if the given coordinates are out of
          *         bounds
          */
-        default void set(int index, T value) {
+        default void set(int index, byte value) {
             array().set(structure().layout().offset(index), value);
         }
 
@@ -590,9 +865,9 @@ public interface Lattice1d<A extends BaseArray> extends Structure1dOps {
          * Replaces all cell values of the receiver with the values of another
          * matrix. Both matrices must have the same number of rows and columns.
          *
-         * @param source the source lattice to copy from (maybe identical to the
+         * @param source the source matrix to copy from (maybe identical to the
          *        receiver).
-         * @throws IllegalArgumentException if {@code !extent().equals(source.extent())}
+         * @throws IllegalArgumentException if {@code !extent().equals(other.extent())}
          */
         @Override
         default void assign(Lattice1d<? extends A> source) {
@@ -601,6 +876,469 @@ public interface Lattice1d<A extends BaseArray> extends Structure1dOps {
                 return;
             }
             checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
+
+            final var layout = source.structure().layout();
+            forEach((i) -> set(i, source.array().get(layout.offset(i))));
+        }
+
+        /**
+         * Sets all cells to the state specified by {@code values}.
+         *
+         * @param values the values to be filled into the cells
+         */
+        default void assign(byte[] values) {
+            checkSameExtent(extent(), new Extent1d(values.length));
+            forEach(i -> set(i, values[i]));
+        }
+
+        /**
+         * Sets all cells to the state specified by {@code values}.
+         *
+         * @param value the value to be filled into the cells
+         */
+        default void assign(byte value) {
+            forEach(i -> set(i, value));
+        }
+
+        /**
+         * Assigns the result of a function to each cell.
+         * <pre>{@code
+         * this[i] = f(this[i])
+         * }</pre>
+         *
+         * @param f a function object taking as argument the current cell's value.
+         */
+        default void assign(IntUnaryOperator f) {
+            requireNonNull(f);
+            forEach(i -> set(i, (byte)f.applyAsInt(get(i))));
+        }
+
+        /**
+         * Updates this grid with the values of {@code a} which are transformed by
+         * the given function {@code f}.
+         * <pre>{@code
+         * this[i] = f(this[i], a[i])
+         * }</pre>
+         *
+         * @param a the grid used for the update
+         * @param f the combiner function
+         */
+        default void assign(OfByte<?> a, IntBinaryOperator f) {
+            checkSameExtent(extent(), a.extent());
+            forEach(i -> set(i, (byte)f.applyAsInt(get(i), a.get(i))));
+        }
+
+        /**
+         * Swaps each element {@code this[i]} with {@code other[i]}.
+         *
+         * @throws IllegalArgumentException if {@code size() != other.size()}.
+         */
+        default void swap(final OfByte<?> other) {
+            checkSameExtent(extent(), other.extent());
+            forEach(i -> {
+                final var tmp = get(i);
+                set(i, other.get(i));
+                other.set(i, tmp);
+            });
+        }
+
+        /**
+         * Applies a function to each cell and aggregates the results.
+         * Returns a value {@code v} such that {@code v == a(size())} where
+         * {@code a(i) == reducer( a(i - 1), f(get(i)) )} and terminators are
+         * {@code a(1) == f(get(0))}.
+         *
+         * @param reducer an aggregation function taking as first argument the
+         *        current aggregation and as second argument the transformed current
+         *        cell value
+         * @param f a function transforming the current cell value
+         * @return the aggregated measure or {@link OptionalDouble#empty()} if
+         *         {@code size() == 0}
+         */
+        default OptionalInt reduce(IntBinaryOperator reducer, IntUnaryOperator f) {
+            requireNonNull(reducer);
+            requireNonNull(f);
+
+            if (extent().elements() == 0) {
+                return OptionalInt.empty();
+            }
+
+            int a = f.applyAsInt(get(extent().elements() - 1));
+            for (int i = extent().elements() - 1; --i >= 0;) {
+                a = reducer.applyAsInt(a, f.applyAsInt(get(i)));
+            }
+
+            return OptionalInt.of(a);
+        }
+
+        /**
+         * Checks whether the given matrices have the same dimension and contains
+         * the same values.
+         *
+         * @param other the second matrix to compare
+         * @return {@code true} if the two given matrices are equal, {@code false}
+         *         otherwise
+         */
+        default boolean equals(OfByte<?> other) {
+            return extent().equals(other.extent()) &&
+                allMatch(i -> get(i) == other.get(i));
+        }
+
+    }
+
+    /**
+     * This interface <em>structures</em> the elements into a 1-dimensional lattice.
+     * <p>
+     * The element functions operate on {@code int} values, which are
+     * narrowed to {@code short} when stored.
+     *
+     * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+     * @since 3.0
+     * @version 3.0
+     */
+    interface OfShort<A extends BaseArray.OfShort> extends Lattice1d<A> {
+
+        /**
+         * Returns the matrix cell value at coordinate {@code index}.
+         *
+         * @param index the index of the cell
+         * @return the value of the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         *         bounds
+         */
+        default short get(int index) {
+            return array().get(structure().layout().offset(index));
+        }
+
+        /**
+         * Sets the matrix cell at coordinate {@code index} to the specified
+         * {@code value}.
+         *
+         * @param index the index of the cell
+         * @param value  the value to be filled into the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         *         bounds
+         */
+        default void set(int index, short value) {
+            array().set(structure().layout().offset(index), value);
+        }
+
+        /**
+         * Replaces all cell values of the receiver with the values of another
+         * matrix. Both matrices must have the same number of rows and columns.
+         *
+         * @param source the source matrix to copy from (maybe identical to the
+         *        receiver).
+         * @throws IllegalArgumentException if {@code !extent().equals(other.extent())}
+         */
+        @Override
+        default void assign(Lattice1d<? extends A> source) {
+            requireNonNull(source);
+            if (source == this) {
+                return;
+            }
+            checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
+
+            final var layout = source.structure().layout();
+            forEach((i) -> set(i, source.array().get(layout.offset(i))));
+        }
+
+        /**
+         * Sets all cells to the state specified by {@code values}.
+         *
+         * @param values the values to be filled into the cells
+         */
+        default void assign(short[] values) {
+            checkSameExtent(extent(), new Extent1d(values.length));
+            forEach(i -> set(i, values[i]));
+        }
+
+        /**
+         * Sets all cells to the state specified by {@code values}.
+         *
+         * @param value the value to be filled into the cells
+         */
+        default void assign(short value) {
+            forEach(i -> set(i, value));
+        }
+
+        /**
+         * Assigns the result of a function to each cell.
+         * <pre>{@code
+         * this[i] = f(this[i])
+         * }</pre>
+         *
+         * @param f a function object taking as argument the current cell's value.
+         */
+        default void assign(IntUnaryOperator f) {
+            requireNonNull(f);
+            forEach(i -> set(i, (short)f.applyAsInt(get(i))));
+        }
+
+        /**
+         * Updates this grid with the values of {@code a} which are transformed by
+         * the given function {@code f}.
+         * <pre>{@code
+         * this[i] = f(this[i], a[i])
+         * }</pre>
+         *
+         * @param a the grid used for the update
+         * @param f the combiner function
+         */
+        default void assign(OfShort<?> a, IntBinaryOperator f) {
+            checkSameExtent(extent(), a.extent());
+            forEach(i -> set(i, (short)f.applyAsInt(get(i), a.get(i))));
+        }
+
+        /**
+         * Swaps each element {@code this[i]} with {@code other[i]}.
+         *
+         * @throws IllegalArgumentException if {@code size() != other.size()}.
+         */
+        default void swap(final OfShort<?> other) {
+            checkSameExtent(extent(), other.extent());
+            forEach(i -> {
+                final var tmp = get(i);
+                set(i, other.get(i));
+                other.set(i, tmp);
+            });
+        }
+
+        /**
+         * Applies a function to each cell and aggregates the results.
+         * Returns a value {@code v} such that {@code v == a(size())} where
+         * {@code a(i) == reducer( a(i - 1), f(get(i)) )} and terminators are
+         * {@code a(1) == f(get(0))}.
+         *
+         * @param reducer an aggregation function taking as first argument the
+         *        current aggregation and as second argument the transformed current
+         *        cell value
+         * @param f a function transforming the current cell value
+         * @return the aggregated measure or {@link OptionalDouble#empty()} if
+         *         {@code size() == 0}
+         */
+        default OptionalInt reduce(IntBinaryOperator reducer, IntUnaryOperator f) {
+            requireNonNull(reducer);
+            requireNonNull(f);
+
+            if (extent().elements() == 0) {
+                return OptionalInt.empty();
+            }
+
+            int a = f.applyAsInt(get(extent().elements() - 1));
+            for (int i = extent().elements() - 1; --i >= 0;) {
+                a = reducer.applyAsInt(a, f.applyAsInt(get(i)));
+            }
+
+            return OptionalInt.of(a);
+        }
+
+        /**
+         * Checks whether the given matrices have the same dimension and contains
+         * the same values.
+         *
+         * @param other the second matrix to compare
+         * @return {@code true} if the two given matrices are equal, {@code false}
+         *         otherwise
+         */
+        default boolean equals(OfShort<?> other) {
+            return extent().equals(other.extent()) &&
+                allMatch(i -> get(i) == other.get(i));
+        }
+
+    }
+
+    /**
+     * This interface <em>structures</em> the elements into a 1-dimensional lattice.
+     *
+     * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+     * @since 3.0
+     * @version 3.0
+     */
+    interface OfBoolean<A extends BaseArray.OfBoolean> extends Lattice1d<A> {
+
+        /**
+         * Returns the matrix cell value at coordinate {@code index}.
+         *
+         * @param index the index of the cell
+         * @return the value of the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         *         bounds
+         */
+        default boolean get(int index) {
+            return array().get(structure().layout().offset(index));
+        }
+
+        /**
+         * Sets the matrix cell at coordinate {@code index} to the specified
+         * {@code value}.
+         *
+         * @param index the index of the cell
+         * @param value  the value to be filled into the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         *         bounds
+         */
+        default void set(int index, boolean value) {
+            array().set(structure().layout().offset(index), value);
+        }
+
+        /**
+         * Replaces all cell values of the receiver with the values of another
+         * matrix. Both matrices must have the same number of rows and columns.
+         *
+         * @param source the source matrix to copy from (maybe identical to the
+         *        receiver).
+         * @throws IllegalArgumentException if {@code !extent().equals(other.extent())}
+         */
+        @Override
+        default void assign(Lattice1d<? extends A> source) {
+            requireNonNull(source);
+            if (source == this) {
+                return;
+            }
+            checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
+
+            final var layout = source.structure().layout();
+            forEach((i) -> set(i, source.array().get(layout.offset(i))));
+        }
+
+        /**
+         * Sets all cells to the state specified by {@code values}.
+         *
+         * @param values the values to be filled into the cells
+         */
+        default void assign(boolean[] values) {
+            checkSameExtent(extent(), new Extent1d(values.length));
+            forEach(i -> set(i, values[i]));
+        }
+
+        /**
+         * Sets all cells to the state specified by {@code values}.
+         *
+         * @param value the value to be filled into the cells
+         */
+        default void assign(boolean value) {
+            forEach(i -> set(i, value));
+        }
+
+        /**
+         * Assigns the result of a function to each cell.
+         * <pre>{@code
+         * this[i] = f(this[i])
+         * }</pre>
+         *
+         * @param f a function object taking as argument the current cell's value.
+         */
+        default void assign(BooleanUnaryOperator f) {
+            requireNonNull(f);
+            forEach(i -> set(i, f.applyAsBoolean(get(i))));
+        }
+
+        /**
+         * Updates this grid with the values of {@code a} which are transformed by
+         * the given function {@code f}.
+         * <pre>{@code
+         * this[i] = f(this[i], a[i])
+         * }</pre>
+         *
+         * @param a the grid used for the update
+         * @param f the combiner function
+         */
+        default void assign(OfBoolean<?> a, BooleanBinaryOperator f) {
+            checkSameExtent(extent(), a.extent());
+            forEach(i -> set(i, f.applyAsBoolean(get(i), a.get(i))));
+        }
+
+        /**
+         * Swaps each element {@code this[i]} with {@code other[i]}.
+         *
+         * @throws IllegalArgumentException if {@code size() != other.size()}.
+         */
+        default void swap(final OfBoolean<?> other) {
+            checkSameExtent(extent(), other.extent());
+            forEach(i -> {
+                final var tmp = get(i);
+                set(i, other.get(i));
+                other.set(i, tmp);
+            });
+        }
+
+        /**
+         * Checks whether the given matrices have the same dimension and contains
+         * the same values.
+         *
+         * @param other the second matrix to compare
+         * @return {@code true} if the two given matrices are equal, {@code false}
+         *         otherwise
+         */
+        default boolean equals(OfBoolean<?> other) {
+            return extent().equals(other.extent()) &&
+                allMatch(i -> get(i) == other.get(i));
+        }
+
+    }
+
+    /**
+     * This interface <em>structures</em> the elements into a 1-dimensional lattice.
+     *
+     * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+     * @since 3.0
+     * @version 3.0
+     */
+    interface OfObject<T, A extends BaseArray.OfObject<T>> extends Lattice1d<A> {
+
+        /**
+         * Returns the matrix cell value at coordinate {@code index}.
+         *
+         * @param index the index of the cell
+         * @return the value of the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         *         bounds
+         */
+        default T get(int index) {
+            return array().get(structure().layout().offset(index));
+        }
+
+        /**
+         * Sets the matrix cell at coordinate {@code index} to the specified
+         * {@code value}.
+         *
+         * @param index the index of the cell
+         * @param value  the value to be filled into the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         *         bounds
+         */
+        default void set(int index, T value) {
+            array().set(structure().layout().offset(index), value);
+        }
+
+        /**
+         * Replaces all cell values of the receiver with the values of another
+         * matrix. Both matrices must have the same number of rows and columns.
+         *
+         * @param source the source lattice to copy from (maybe identical to the
+         *        receiver).
+         * @throws IllegalArgumentException if {@code !extent().equals(source.extent())}
+         */
+        @Override
+        default void assign(Lattice1d<? extends A> source) {
+            requireNonNull(source);
+            if (source == this) {
+                return;
+            }
+            checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
 
             final var layout = source.structure().layout();
             forEach((i) -> set(i, source.array().get(layout.offset(i))));
@@ -745,14 +1483,14 @@ public interface Lattice1d<A extends BaseArray> extends Structure1dOps {
     /**
      * Factory interface for creating 1-d grids.
      *
-     * @param <L> the lattice type created by the factory
+     * @param <L> the lattice (grid) type created by the factory
      *
      * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
      * @since 3.0
      * @version 3.0
      */
     @FunctionalInterface
-    interface Factory<L extends Lattice1d<?>> {
+    interface Factory<L> {
 
         /**
          * Create a new matrix with the given {@code dimension} and default
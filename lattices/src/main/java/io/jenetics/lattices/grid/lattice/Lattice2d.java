@@ -27,6 +27,7 @@ import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BinaryOperator;
 import java.util.function.DoubleBinaryOperator;
 import java.util.function.DoubleUnaryOperator;
@@ -36,9 +37,18 @@ import java.util.function.IntUnaryOperator;
 import java.util.function.LongBinaryOperator;
 import java.util.function.LongUnaryOperator;
 import java.util.function.UnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 import io.jenetics.lattices.grid.array.BaseArray;
+import io.jenetics.lattices.grid.function.BooleanBinaryOperator;
+import io.jenetics.lattices.grid.function.BooleanUnaryOperator;
+import io.jenetics.lattices.grid.function.FloatBinaryOperator;
+import io.jenetics.lattices.grid.function.FloatUnaryOperator;
 import io.jenetics.lattices.structure.Extent2d;
+import io.jenetics.lattices.structure.Range2d;
 import io.jenetics.lattices.structure.Structure2d;
 
 /**
@@ -78,6 +88,59 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
      */
     void assign(Lattice2d<? extends A> source);
 
+    /**
+     * Return the pool for the parallel execution of an element-wise operation
+     * of the lattices {@code a} and {@code b}, or {@code null} if the
+     * operation must be executed sequentially.
+     *
+     * @see ParallelScope
+     */
+    private static ForkJoinPool poolOf(Lattice2d<?> a, Lattice2d<?> b) {
+        return ParallelScope.pool(a.extent().elements(), a.array(), b.array());
+    }
+
+    /**
+     * Return the pool for the parallel execution of an element-wise operation
+     * of the lattice {@code a}, or {@code null} if the operation must be
+     * executed sequentially.
+     *
+     * @see ParallelScope
+     */
+    private static ForkJoinPool poolOf(Lattice2d<?> a) {
+        return ParallelScope.pool(a.extent().elements(), a.array());
+    }
+
+    /**
+     * Return the loop for the element-wise operations of the lattices
+     * {@code a} and {@code b}. Within a {@link ParallelScope}, the loop is
+     * executed in parallel, if possible. If both lattices are views of the
+     * same array, the positions are visited in row-major order. Overlapping
+     * views then give the same result as before the layout-aware loops.
+     * Otherwise, the loop follows the layouts of the lattices.
+     */
+    private static Loop2d loopOf(Lattice2d<?> a, Lattice2d<?> b) {
+        final var pool = poolOf(a, b);
+        if (pool != null) {
+            return Loop2d.parallel(new Range2d(a.extent()), pool);
+        }
+
+        return a.array() == b.array()
+            ? Loop2d.of(a.extent())
+            : Loop2d.of(a.structure(), b.structure());
+    }
+
+    /**
+     * Return the loop for the element-wise operations of the lattice
+     * {@code a}. Within a {@link ParallelScope}, the loop is executed in
+     * parallel, if possible.
+     */
+    private static Loop2d loopOf(Lattice2d<?> a) {
+        final var pool = poolOf(a);
+        return pool != null
+            ? Loop2d.parallel(new Range2d(a.extent()), pool)
+            : a.loop();
+    }
+
 
     /**
      * This interface <em>structures</em> the elements into a 2-dimensional lattice.
@@ -130,9 +193,17 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
                 return;
             }
             checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
 
-            final var layout = source.structure().layout();
-            forEach((r, c) -> set(r, c, source.array().get(layout.offset(r, c))));
+            final var array = array();
+            final var values = source.array();
+            Offsets.forEach(
+                structure(), source.structure(), array == values,
+                poolOf(this, source),
+                (i, j) -> array.set(i, values.get(j))
+            );
         }
 
         /**
@@ -177,7 +248,8 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
          * @param source the value to be filled into the cells
          */
         default void assign(double source) {
-            forEach((r, c) -> set(r, c, source));
+            final var array = array();
+            Offsets.forEach(structure(), poolOf(this), i -> array.set(i, source));
         }
 
         /**
@@ -194,7 +266,13 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
             requireNonNull(f);
             checkSameExtent(extent(), y.extent());
 
-            forEach((r, c) -> set(r, c, f.applyAsDouble(get(r, c), y.get(r, c))));
+            final var array = array();
+            final var values = y.array();
+            Offsets.forEach(
+                structure(), y.structure(), array == values,
+                poolOf(this, y),
+                (i, j) -> array.set(i, f.applyAsDouble(array.get(i), values.get(j)))
+            );
         }
 
         /**
@@ -205,7 +283,12 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
          */
         default void assign(DoubleUnaryOperator f) {
             requireNonNull(f);
-            forEach((r, c) -> set(r, c, f.applyAsDouble(get(r, c))));
+
+            final var array = array();
+            Offsets.forEach(
+                structure(), poolOf(this),
+                i -> array.set(i, f.applyAsDouble(array.get(i)))
+            );
         }
 
         /**
@@ -216,11 +299,17 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
         default void swap(OfDouble<?> other) {
             checkSameExtent(extent(), other.extent());
 
-            forEach((r, c) -> {
-                final var tmp = get(r, c);
-                set(r, c, other.get(r, c));
-                other.set(r, c, tmp);
-            });
+            final var array = array();
+            final var values = other.array();
+            Offsets.forEach(
+                structure(), other.structure(), array == values,
+                poolOf(this, other),
+                (i, j) -> {
+                    final var tmp = array.get(i);
+                    array.set(i, values.get(j));
+                    values.set(j, tmp);
+                }
+            );
         }
 
         /**
@@ -254,11 +343,20 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
                 return OptionalDouble.empty();
             }
 
-            double a = f.applyAsDouble(get(rows() - 1, cols() - 1));
+            final var layout = structure().layout();
+            final var array = array();
+            final int rs = layout.stride().row();
+            final int cs = layout.stride().col();
+            final int base = layout.offset(0, 0);
+
+            double a = f.applyAsDouble(
+                array.get(base + (rows() - 1)*rs + (cols() - 1)*cs)
+            );
             int d = 1;
             for (int r = rows(); --r >= 0;) {
+                final int ro = base + r*rs;
                 for (int c = cols() - d; --c >= 0;) {
-                    a = reducer.applyAsDouble(a, f.applyAsDouble(get(r, c)));
+                    a = reducer.applyAsDouble(a, f.applyAsDouble(array.get(ro + c*cs)));
                 }
                 d = 0;
             }
@@ -274,8 +372,245 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
          *         otherwise
          */
         default boolean equals(OfDouble<?> other) {
+            if (!extent().equals(other.extent())) {
+                return false;
+            }
+
+            final var array = array();
+            final var values = other.array();
+            return Offsets.allMatch(
+                structure(), other.structure(), array == values,
+                poolOf(this, other),
+                (i, j) -> Double.compare(array.get(i), values.get(j)) == 0
+            );
+        }
+
+        /**
+         * Return a sequential stream of the lattice elements, in row-major order.
+         * The elements are read directly from the underlying array, without
+         * copying, and views and projections of the lattice are respected.
+         * A {@link DoubleStream#parallel() parallel} stream splits the lattice
+         * along its rows.
+         *
+         * @return a stream of the lattice elements
+         */
+        default DoubleStream stream() {
+            return StreamSupport.doubleStream(
+                new LatticeSpliterator.Doubles(
+                    LatticeSpliterator.Shape.of(structure()),
+                    array()
+                ),
+                false
+            );
+        }
+
+    }
+
+    /**
+     * This interface <em>structures</em> the elements into a 2-dimensional lattice.
+     *
+     * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+     * @since 3.0
+     * @version 3.0
+     */
+    interface OfFloat<A extends BaseArray.OfFloat> extends Lattice2d<A> {
+
+        /**
+         * Returns the grid cell value at coordinate {@code [row, col]}.
+         *
+         * @param row the index of the row-coordinate
+         * @param col the index of the column-coordinate
+         * @return the value of the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         *         bounds
+         */
+        default float get(int row, int col) {
+            return array().get(structure().layout().offset(row, col));
+        }
+
+        /**
+         * Sets the grid cell at coordinate {@code [row, col]} to the specified
+         * {@code value}.
+         *
+         * @param row the index of the row-coordinate
+         * @param col the index of the column-coordinate
+         * @param value  the value to be filled into the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         *         bounds
+         */
+        default void set(int row, int col, float value) {
+            array().set(structure().layout().offset(row, col), value);
+        }
+
+        /**
+         * Replaces all cell values of the receiver with the values of another
+         * matrix. Both matrices must have the same number of rows and columns.
+         *
+         * @param source the source lattice to copy from (maybe identical to the
+         *        receiver).
+         * @throws IllegalArgumentException if {@code !extent().equals(source.extent())}
+         */
+        @Override
+        default void assign(Lattice2d<? extends A> source) {
+            requireNonNull(source);
+            if (source == this) {
+                return;
+            }
+            checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
+
+            final var layout = source.structure().layout();
+            loopOf(this, source)
+                .forEach((r, c) -> set(r, c, source.array().get(layout.offset(r, c))));
+        }
+
+        /**
+         * Sets all cells to the state specified by given {@code source}. The
+         * {@code values} are required to have the form {@code source[row][column]}
+         * and have exactly the same number of rows and columns as the receiver.
+         *
+         * @implNote
+         * The {@code source} are copied and subsequent chances to the {@code source}
+         * are not reflected in the matrix, and vice-versa
+         *
+         * @param source the values to be filled into the cells.
+         * @throws IllegalArgumentException if {@code !extent().equals(source.extent())}
+         */
+        default void assign(float[][] source) {
+            if (source.length != rows()) {
+                throw new IllegalArgumentException(
+                    "Values must have the same number of rows: " +
+                        source.length + " != " + rows()
+                );
+            }
+
+            for (int r = rows(); --r >= 0;) {
+                final var row = source[r];
+
+                if (row.length != cols()) {
+                    throw new IllegalArgumentException(
+                        "Values must have the same number of columns: " +
+                            row.length + " != " + cols()
+                    );
+                }
+
+                for (int c = cols(); --c >= 0;) {
+                    set(r, c, row[c]);
+                }
+            }
+        }
+
+        /**
+         * Sets all cells to the state specified by the {@code source}.
+         *
+         * @param source the value to be filled into the cells
+         */
+        default void assign(float source) {
+            loopOf(this).forEach((r, c) -> set(r, c, source));
+        }
+
+        /**
+         * Assigns the result of a function to each cell {@code x[row, col] =
+         * f(x[row, col], y[row, col])}.
+         *
+         * @param y the secondary matrix to operate on.
+         * @param f a function object taking as first argument the current cell's
+         *          value of {@code this}, and as second argument the current cell's
+         *          value of {@code y}
+         * @throws IllegalArgumentException if {@code !extent().equals(y.extent())}
+         */
+        default void assign(OfFloat<?> y, FloatBinaryOperator f) {
+            requireNonNull(f);
+            checkSameExtent(extent(), y.extent());
+
+            loopOf(this, y)
+                .forEach((r, c) -> set(r, c, f.applyAsFloat(get(r, c), y.get(r, c))));
+        }
+
+        /**
+         * Assigns the result of a function to each cell
+         * {@code x[row, col] = f(x[row, col])}.
+         *
+         * @param f a function object taking as argument the current cell's value.
+         */
+        default void assign(FloatUnaryOperator f) {
+            requireNonNull(f);
+            loopOf(this).forEach((r, c) -> set(r, c, f.applyAsFloat(get(r, c))));
+        }
+
+        /**
+         * Swaps each element {@code this[i, j]} with {@code other[i, j]}.
+         *
+         * @throws IllegalArgumentException if {@code extent() != other.extent()}.
+         */
+        default void swap(OfFloat<?> other) {
+            checkSameExtent(extent(), other.extent());
+
+            loopOf(this, other)
+                .forEach((r, c) -> {
+                    final var tmp = get(r, c);
+                    set(r, c, other.get(r, c));
+                    other.set(r, c, tmp);
+                });
+        }
+
+        /**
+         * Applies a function to each cell and aggregates the results. Returns a
+         * value <em>v</em> such that <em>v==a(size())</em> where
+         * <em>a(i) == reduce(a(i - 1), f(get(row, col)))</em> and terminators are
+         * <em>a(1) == f(get(0,0))</em>.
+         * <p><b>Example:</b></p>
+         * <pre>
+         * 2 x 2 matrix
+         * 0 1
+         * 2 3
+         *
+         * // Sum(x[row, col]*x[row, col])
+         * matrix.aggregate(Float::sum, a -> a*a) --> 14
+         * </pre>
+         *
+         * @param reducer an aggregation function taking as first argument the
+         *        current aggregation and as second argument the transformed current
+         *        cell value
+         * @param f a function transforming the current cell value
+         * @return the aggregated measure, widened to {@code double}, or
+         *         {@link OptionalDouble#empty()} if
+         *         {@code size() == 0}
+         */
+        default OptionalDouble
+        reduce(FloatBinaryOperator reducer, FloatUnaryOperator f) {
+            requireNonNull(reducer);
+            requireNonNull(f);
+
+            if (extent().elements() == 0) {
+                return OptionalDouble.empty();
+            }
+
+            float a = f.applyAsFloat(get(rows() - 1, cols() - 1));
+            int d = 1;
+            for (int r = rows(); --r >= 0;) {
+                for (int c = cols() - d; --c >= 0;) {
+                    a = reducer.applyAsFloat(a, f.applyAsFloat(get(r, c)));
+                }
+                d = 0;
+            }
+            return OptionalDouble.of(a);
+        }
+
+        /**
+         * Checks whether the given matrices have the same dimension and contains
+         * the same values.
+         *
+         * @param other the second matrix to compare
+         * @return {@code true} if the two given matrices are equal, {@code false}
+         *         otherwise
+         */
+        default boolean equals(OfFloat<?> other) {
             return extent().equals(other.extent()) &&
-                allMatch((r, c) -> Double.compare(get(r, c), other.get(r, c)) == 0);
+                loopOf(this, other)
+                    .allMatch((r, c) -> Float.compare(get(r, c), other.get(r, c)) == 0);
         }
 
     }
@@ -330,9 +665,13 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
                 return;
             }
             checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
 
             final var layout = source.structure().layout();
-            forEach((r, c) -> set(r, c, source.array().get(layout.offset(r, c))));
+            loopOf(this, source)
+                .forEach((r, c) -> set(r, c, source.array().get(layout.offset(r, c))));
         }
 
         /**
@@ -377,7 +716,7 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
          * @param source the value to be filled into the cells
          */
         default void assign(int source) {
-            forEach((r, c) -> set(r, c, source));
+            loopOf(this).forEach((r, c) -> set(r, c, source));
         }
 
         /**
@@ -394,7 +733,8 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
             requireNonNull(f);
             checkSameExtent(extent(), y.extent());
 
-            forEach((r, c) -> set(r, c, f.applyAsInt(get(r, c), y.get(r, c))));
+            loopOf(this, y)
+                .forEach((r, c) -> set(r, c, f.applyAsInt(get(r, c), y.get(r, c))));
         }
 
         /**
@@ -405,7 +745,7 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
          */
         default void assign(IntUnaryOperator f) {
             requireNonNull(f);
-            forEach((r, c) -> set(r, c, f.applyAsInt(get(r, c))));
+            loopOf(this).forEach((r, c) -> set(r, c, f.applyAsInt(get(r, c))));
         }
 
         /**
@@ -416,11 +756,12 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
         default void swap(OfInt<?> other) {
             checkSameExtent(extent(), other.extent());
 
-            forEach((r, c) -> {
-                final var tmp = get(r, c);
-                set(r, c, other.get(r, c));
-                other.set(r, c, tmp);
-            });
+            loopOf(this, other)
+                .forEach((r, c) -> {
+                    final var tmp = get(r, c);
+                    set(r, c, other.get(r, c));
+                    other.set(r, c, tmp);
+                });
         }
 
         /**
@@ -474,7 +815,27 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
          */
         default boolean equals(OfInt<?> other) {
             return extent().equals(other.extent()) &&
-                allMatch((r, c) -> get(r, c) == other.get(r, c));
+                loopOf(this, other)
+                    .allMatch((r, c) -> get(r, c) == other.get(r, c));
+        }
+
+        /**
+         * Return a sequential stream of the lattice elements, in row-major order.
+         * The elements are read directly from the underlying array, without
+         * copying, and views and projections of the lattice are respected.
+         * A {@link IntStream#parallel() parallel} stream splits the lattice
+         * along its rows.
+         *
+         * @return a stream of the lattice elements
+         */
+        default IntStream stream() {
+            return StreamSupport.intStream(
+                new LatticeSpliterator.Ints(
+                    LatticeSpliterator.Shape.of(structure()),
+                    array()
+                ),
+                false
+            );
         }
 
     }
@@ -529,9 +890,13 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
                 return;
             }
             checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
 
             final var layout = source.structure().layout();
-            forEach((r, c) -> set(r, c, source.array().get(layout.offset(r, c))));
+            loopOf(this, source)
+                .forEach((r, c) -> set(r, c, source.array().get(layout.offset(r, c))));
         }
 
         /**
@@ -576,7 +941,7 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
          * @param source the value to be filled into the cells
          */
         default void assign(long source) {
-            forEach((r, c) -> set(r, c, source));
+            loopOf(this).forEach((r, c) -> set(r, c, source));
         }
 
         /**
@@ -593,7 +958,8 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
             requireNonNull(f);
             checkSameExtent(extent(), y.extent());
 
-            forEach((r, c) -> set(r, c, f.applyAsLong(get(r, c), y.get(r, c))));
+            loopOf(this, y)
+                .forEach((r, c) -> set(r, c, f.applyAsLong(get(r, c), y.get(r, c))));
         }
 
         /**
@@ -604,7 +970,7 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
          */
         default void assign(LongUnaryOperator f) {
             requireNonNull(f);
-            forEach((r, c) -> set(r, c, f.applyAsLong(get(r, c))));
+            loopOf(this).forEach((r, c) -> set(r, c, f.applyAsLong(get(r, c))));
         }
 
         /**
@@ -615,11 +981,12 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
         default void swap(OfLong<?> other) {
             checkSameExtent(extent(), other.extent());
 
-            forEach((r, c) -> {
-                final var tmp = get(r, c);
-                set(r, c, other.get(r, c));
-                other.set(r, c, tmp);
-            });
+            loopOf(this, other)
+                .forEach((r, c) -> {
+                    final var tmp = get(r, c);
+                    set(r, c, other.get(r, c));
+                    other.set(r, c, tmp);
+                });
         }
 
         /**
@@ -673,19 +1040,42 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
          */
         default boolean equals(OfLong<?> other) {
             return extent().equals(other.extent()) &&
-                allMatch((r, c) -> get(r, c) == other.get(r, c));
+                loopOf(this, other)
+                    .allMatch((r, c) -> get(r, c) == other.get(r, c));
+        }
+
+        /**
+         * Return a sequential stream of the lattice elements, in row-major order.
+         * The elements are read directly from the underlying array, without
+         * copying, and views and projections of the lattice are respected.
+         * A {@link LongStream#parallel() parallel} stream splits the lattice
+         * along its rows.
+         *
+         * @return a stream of the lattice elements
+         */
+        default LongStream stream() {
+            return StreamSupport.longStream(
+                new LatticeSpliterator.Longs(
+                    LatticeSpliterator.Shape.of(structure()),
+                    array()
+                ),
+                false
+            );
         }
 
     }
 
     /**
      * This interface <em>structures</em> the elements into a 2-dimensional lattice.
+     * <p>
+     * The element functions operate on {@code int} values, which are
+     * narrowed to {@code byte} when stored.
      *
      * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
      * @since 3.0
      * @version 3.0
      */
-    interface OfObject<T, A extends BaseArray.OfObject<T>> extends Lattice2d<A> {
+    interface OfByte<A extends BaseArray.OfByte> extends Lattice2d<A> {
 
         /**
          * Returns the grid cell value at coordinate {@code [row, col]}.
@@ -696,7 +1086,7 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
          * @throws IndexOutOfBoundsException if the given coordinates are out of
          *         bounds
          */
-        default T get(int row, int col) {
+        default byte get(int row, int col) {
             return array().get(structure().layout().offset(row, col));
         }
 
@@ -710,7 +1100,7 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
          * @throws IndexOutOfBoundsException if the given coordinates are out of
          *         bounds
          */
-        default void set(int row, int col, T value) {
+        default void set(int row, int col, byte value) {
             array().set(structure().layout().offset(row, col), value);
         }
 
@@ -728,9 +1118,593 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
                 return;
             }
             checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
+
+            final var layout = source.structure().layout();
+            loopOf(this, source)
+                .forEach((r, c) -> set(r, c, source.array().get(layout.offset(r, c))));
+        }
+
+        /**
+         * Sets all cells to the state specified by given {@code source}. The
+         * {@code values} are required to have the form {@code source[row][column]}
+         * and have exactly the same number of rows and columns as the receiver.
+         *
+         * @implNote
+         * The {@code source} are copied and subsequent chances to the {@code source}
+         * are not reflected in the matrix, and vice-versa
+         *
+         * @param source the values to be filled into the cells.
+         * @throws IllegalArgumentException if {@code !extent().equals(source.extent())}
+         */
+        default void assign(byte[][] source) {
+            if (source.length != rows()) {
+                throw new IllegalArgumentException(
+                    "Values must have the same number of rows: " +
+                        source.length + " != " + rows()
+                );
+            }
+
+            for (int r = rows(); --r >= 0;) {
+                final var row = source[r];
+
+                if (row.length != cols()) {
+                    throw new IllegalArgumentException(
+                        "Values must have the same number of columns: " +
+                            row.length + " != " + cols()
+                    );
+                }
+
+                for (int c = cols(); --c >= 0;) {
+                    set(r, c, row[c]);
+                }
+            }
+        }
+
+        /**
+         * Sets all cells to the state specified by the {@code source}.
+         *
+         * @param source the value to be filled into the cells
+         */
+        default void assign(byte source) {
+            loopOf(this).forEach((r, c) -> set(r, c, source));
+        }
+
+        /**
+         * Assigns the result of a function to each cell {@code x[row, col] =
+         * f(x[row, col], y[row, col])}.
+         *
+         * @param y the secondary matrix to operate on.
+         * @param f a function object taking as first argument the current cell's
+         *          value of {@code this}, and as second argument the current cell's
+         *          value of {@code y}
+         * @throws IllegalArgumentException if {@code !extent().equals(y.extent())}
+         */
+        default void assign(OfByte<?> y, IntBinaryOperator f) {
+            requireNonNull(f);
+            checkSameExtent(extent(), y.extent());
+
+            loopOf(this, y)
+                .forEach((r, c) -> set(r, c, (byte)f.applyAsInt(get(r, c), y.get(r, c))));
+        }
+
+        /**
+         * Assigns the result of a function to each cell
+         * {@code x[row, col] = f(x[row, col])}.
+         *
+         * @param f a function object taking as argument the current cell's value.
+         */
+        default void assign(IntUnaryOperator f) {
+            requireNonNull(f);
+            loopOf(this).forEach((r, c) -> set(r, c, (byte)f.applyAsInt(get(r, c))));
+        }
+
+        /**
+         * Swaps each element {@code this[i, j]} with {@code other[i, j]}.
+         *
+         * @throws IllegalArgumentException if {@code extent() != other.extent()}.
+         */
+        default void swap(OfByte<?> other) {
+            checkSameExtent(extent(), other.extent());
+
+            loopOf(this, other)
+                .forEach((r, c) -> {
+                    final var tmp = get(r, c);
+                    set(r, c, other.get(r, c));
+                    other.set(r, c, tmp);
+                });
+        }
+
+        /**
+         * Applies a function to each cell and aggregates the results. Returns a
+         * value <em>v</em> such that <em>v==a(size())</em> where
+         * <em>a(i) == reduce(a(i - 1), f(get(row, col)))</em> and terminators are
+         * <em>a(1) == f(get(0,0))</em>.
+         * <p><b>Example:</b></p>
+         * <pre>
+         * 2 x 2 matrix
+         * 0 1
+         * 2 3
+         *
+         * // Sum(x[row, col]*x[row, col])
+         * matrix.aggregate(Double::sum, a -> a*a) --> 14
+         * </pre>
+         *
+         * @param reducer an aggregation function taking as first argument the
+         *        current aggregation and as second argument the transformed current
+         *        cell value
+         * @param f a function transforming the current cell value
+         * @return the aggregated measure or {@link OptionalDouble#empty()} if
+         *         {@code size() == 0}
+         */
+        default OptionalInt reduce(IntBinaryOperator reducer, IntUnaryOperator f) {
+            requireNonNull(reducer);
+            requireNonNull(f);
+
+            if (extent().elements() == 0) {
+                return OptionalInt.empty();
+            }
+
+            int a = f.applyAsInt(get(rows() - 1, cols() - 1));
+            int d = 1;
+            for (int r = rows(); --r >= 0;) {
+                for (int c = cols() - d; --c >= 0;) {
+                    a = reducer.applyAsInt(a, f.applyAsInt(get(r, c)));
+                }
+                d = 0;
+            }
+            return OptionalInt.of(a);
+        }
+
+        /**
+         * Checks whether the given matrices have the same dimension and contains
+         * the same values.
+         *
+         * @param other the second matrix to compare
+         * @return {@code true} if the two given matrices are equal, {@code false}
+         *         otherwise
+         */
+        default boolean equals(OfByte<?> other) {
+            return extent().equals(other.extent()) &&
+                loopOf(this, other)
+                    .allMatch((r, c) -> get(r, c) == other.get(r, c));
+        }
+
+    }
+
+    /**
+     * This interface <em>structures</em> the elements into a 2-dimensional lattice.
+     * <p>
+     * The element functions operate on {@code int} values, which are
+     * narrowed to {@code short} when stored.
+     *
+     * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+     * @since 3.0
+     * @version 3.0
+     */
+    interface OfShort<A extends BaseArray.OfShort> extends Lattice2d<A> {
+
+        /**
+         * Returns the grid cell value at coordinate {@code [row, col]}.
+         *
+         * @param row the index of the row-coordinate
+         * @param col the index of the column-coordinate
+         * @return the value of the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         *         bounds
+         */
+        default short get(int row, int col) {
+            return array().get(structure().layout().offset(row, col));
+        }
+
+        /**
+         * Sets the grid cell at coordinate {@code [row, col]} to the specified
+         * {@code value}.
+         *
+         * @param row the index of the row-coordinate
+         * @param col the index of the column-coordinate
+         * @param value  the value to be filled into the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         *         bounds
+         */
+        default void set(int row, int col, short value) {
+            array().set(structure().layout().offset(row, col), value);
+        }
+
+        /**
+         * Replaces all cell values of the receiver with the values of another
+         * matrix. Both matrices must have the same number of rows and columns.
+         *
+         * @param source the source lattice to copy from (maybe identical to the
+         *        receiver).
+         * @throws IllegalArgumentException if {@code !extent().equals(source.extent())}
+         */
+        default void assign(Lattice2d<? extends A> source) {
+            requireNonNull(source);
+            if (source == this) {
+                return;
+            }
+            checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
+
+            final var layout = source.structure().layout();
+            loopOf(this, source)
+                .forEach((r, c) -> set(r, c, source.array().get(layout.offset(r, c))));
+        }
+
+        /**
+         * Sets all cells to the state specified by given {@code source}. The
+         * {@code values} are required to have the form {@code source[row][column]}
+         * and have exactly the same number of rows and columns as the receiver.
+         *
+         * @implNote
+         * The {@code source} are copied and subsequent chances to the {@code source}
+         * are not reflected in the matrix, and vice-versa
+         *
+         * @param source the values to be filled into the cells.
+         * @throws IllegalArgumentException if {@code !extent().equals(source.extent())}
+         */
+        default void assign(short[][] source) {
+            if (source.length != rows()) {
+                throw new IllegalArgumentException(
+                    "Values must have the same number of rows: " +
+                        source.length + " != " + rows()
+                );
+            }
+
+            for (int r = rows(); --r >= 0;) {
+                final var row = source[r];
+
+                if (row.length != cols()) {
+                    throw new IllegalArgumentException(
+                        "Values must have the same number of columns: " +
+                            row.length + " != " + cols()
+                    );
+                }
+
+                for (int c = cols(); --c >= 0;) {
+                    set(r, c, row[c]);
+                }
+            }
+        }
+
+        /**
+         * Sets all cells to the state specified by the {@code source}.
+         *
+         * @param source the value to be filled into the cells
+         */
+        default void assign(short source) {
+            loopOf(this).forEach((r, c) -> set(r, c, source));
+        }
+
+        /**
+         * Assigns the result of a function to each cell {@code x[row, col] =
+         * f(x[row, col], y[row, col])}.
+         *
+         * @param y the secondary matrix to operate on.
+         * @param f a function object taking as first argument the current cell's
+         *          value of {@code this}, and as second argument the current cell's
+         *          value of {@code y}
+         * @throws IllegalArgumentException if {@code !extent().equals(y.extent())}
+         */
+        default void assign(OfShort<?> y, IntBinaryOperator f) {
+            requireNonNull(f);
+            checkSameExtent(extent(), y.extent());
+
+            loopOf(this, y)
+                .forEach((r, c) -> set(r, c, (short)f.applyAsInt(get(r, c), y.get(r, c))));
+        }
+
+        /**
+         * Assigns the result of a function to each cell
+         * {@code x[row, col] = f(x[row, col])}.
+         *
+         * @param f a function object taking as argument the current cell's value.
+         */
+        default void assign(IntUnaryOperator f) {
+            requireNonNull(f);
+            loopOf(this).forEach((r, c) -> set(r, c, (short)f.applyAsInt(get(r, c))));
+        }
+
+        /**
+         * Swaps each element {@code this[i, j]} with {@code other[i, j]}.
+         *
+         * @throws IllegalArgumentException if {@code extent() != other.extent()}.
+         */
+        default void swap(OfShort<?> other) {
+            checkSameExtent(extent(), other.extent());
+
+            loopOf(this, other)
+                .forEach((r, c) -> {
+                    final var tmp = get(r, c);
+                    set(r, c, other.get(r, c));
+                    other.set(r, c, tmp);
+                });
+        }
+
+        /**
+         * Applies a function to each cell and aggregates the results. Returns a
+         * value <em>v</em> such that <em>v==a(size())</em> where
+         * <em>a(i) == reduce(a(i - 1), f(get(row, col)))</em> and terminators are
+         * <em>a(1) == f(get(0,0))</em>.
+         * <p><b>Example:</b></p>
+         * <pre>
+         * 2 x 2 matrix
+         * 0 1
+         * 2 3
+         *
+         * // Sum(x[row, col]*x[row, col])
+         * matrix.aggregate(Double::sum, a -> a*a) --> 14
+         * </pre>
+         *
+         * @param reducer an aggregation function taking as first argument the
+         *        current aggregation and as second argument the transformed current
+         *        cell value
+         * @param f a function transforming the current cell value
+         * @return the aggregated measure or {@link OptionalDouble#empty()} if
+         *         {@code size() == 0}
+         */
+        default OptionalInt reduce(IntBinaryOperator reducer, IntUnaryOperator f) {
+            requireNonNull(reducer);
+            requireNonNull(f);
+
+            if (extent().elements() == 0) {
+                return OptionalInt.empty();
+            }
+
+            int a = f.applyAsInt(get(rows() - 1, cols() - 1));
+            int d = 1;
+            for (int r = rows(); --r >= 0;) {
+                for (int c = cols() - d; --c >= 0;) {
+                    a = reducer.applyAsInt(a, f.applyAsInt(get(r, c)));
+                }
+                d = 0;
+            }
+            return OptionalInt.of(a);
+        }
+
+        /**
+         * Checks whether the given matrices have the same dimension and contains
+         * the same values.
+         *
+         * @param other the second matrix to compare
+         * @return {@code true} if the two given matrices are equal, {@code false}
+         *         otherwise
+         */
+        default boolean equals(OfShort<?> other) {
+            return extent().equals(other.extent()) &&
+                loopOf(this, other)
+                    .allMatch((r, c) -> get(r, c) == other.get(r, c));
+        }
+
+    }
+
+    /**
+     * This interface <em>structures</em> the elements into a 2-dimensional lattice.
+     *
+     * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+     * @since 3.0
+     * @version 3.0
+     */
+    interface OfBoolean<A extends BaseArray.OfBoolean> extends Lattice2d<A> {
+
+        /**
+         * Returns the grid cell value at coordinate {@code [row, col]}.
+         *
+         * @param row the index of the row-coordinate
+         * @param col the index of the column-coordinate
+         * @return the value of the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         *         bounds
+         */
+        default boolean get(int row, int col) {
+            return array().get(structure().layout().offset(row, col));
+        }
+
+        /**
+         * Sets the grid cell at coordinate {@code [row, col]} to the specified
+         * {@code value}.
+         *
+         * @param row the index of the row-coordinate
+         * @param col the index of the column-coordinate
+         * @param value  the value to be filled into the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         *         bounds
+         */
+        default void set(int row, int col, boolean value) {
+            array().set(structure().layout().offset(row, col), value);
+        }
+
+        /**
+         * Replaces all cell values of the receiver with the values of another
+         * matrix. Both matrices must have the same number of rows and columns.
+         *
+         * @param source the source lattice to copy from (maybe identical to the
+         *        receiver).
+         * @throws IllegalArgumentException if {@code !extent().equals(source.extent())}
+         */
+        default void assign(Lattice2d<? extends A> source) {
+            requireNonNull(source);
+            if (source == this) {
+                return;
+            }
+            checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
+
+            final var layout = source.structure().layout();
+            loopOf(this, source)
+                .forEach((r, c) -> set(r, c, source.array().get(layout.offset(r, c))));
+        }
+
+        /**
+         * Sets all cells to the state specified by given {@code source}. The
+         * {@code values} are required to have the form {@code source[row][column]}
+         * and have exactly the same number of rows and columns as the receiver.
+         *
+         * @implNote
+         * The {@code source} are copied and subsequent chances to the {@code source}
+         * are not reflected in the matrix, and vice-versa
+         *
+         * @param source the values to be filled into the cells.
+         * @throws IllegalArgumentException if {@code !extent().equals(source.extent())}
+         */
+        default void assign(boolean[][] source) {
+            if (source.length != rows()) {
+                throw new IllegalArgumentException(
+                    "Values must have the same number of rows: " +
+                        source.length + " != " + rows()
+                );
+            }
+
+            for (int r = rows(); --r >= 0;) {
+                final var row = source[r];
+
+                if (row.length != cols()) {
+                    throw new IllegalArgumentException(
+                        "Values must have the same number of columns: " +
+                            row.length + " != " + cols()
+                    );
+                }
+
+                for (int c = cols(); --c >= 0;) {
+                    set(r, c, row[c]);
+                }
+            }
+        }
+
+        /**
+         * Sets all cells to the state specified by the {@code source}.
+         *
+         * @param source the value to be filled into the cells
+         */
+        default void assign(boolean source) {
+            loopOf(this).forEach((r, c) -> set(r, c, source));
+        }
+
+        /**
+         * Assigns the result of a function to each cell {@code x[row, col] =
+         * f(x[row, col], y[row, col])}.
+         *
+         * @param y the secondary matrix to operate on.
+         * @param f a function object taking as first argument the current cell's
+         *          value of {@code this}, and as second argument the current cell's
+         *          value of {@code y}
+         * @throws IllegalArgumentException if {@code !extent().equals(y.extent())}
+         */
+        default void assign(OfBoolean<?> y, BooleanBinaryOperator f) {
+            requireNonNull(f);
+            checkSameExtent(extent(), y.extent());
+
+            loopOf(this, y)
+                .forEach((r, c) -> set(r, c, f.applyAsBoolean(get(r, c), y.get(r, c))));
+        }
+
+        /**
+         * Assigns the result of a function to each cell
+         * {@code x[row, col] = f(x[row, col])}.
+         *
+         * @param f a function object taking as argument the current cell's value.
+         */
+        default void assign(BooleanUnaryOperator f) {
+            requireNonNull(f);
+            loopOf(this).forEach((r, c) -> set(r, c, f.applyAsBoolean(get(r, c))));
+        }
+
+        /**
+         * Swaps each element {@code this[i, j]} with {@code other[i, j]}.
+         *
+         * @throws IllegalArgumentException if {@code extent() != other.extent()}.
+         */
+        default void swap(OfBoolean<?> other) {
+            checkSameExtent(extent(), other.extent());
+
+            loopOf(this, other)
+                .forEach((r, c) -> {
+                    final var tmp = get(r, c);
+                    set(r, c, other.get(r, c));
+                    other.set(r, c, tmp);
+                });
+        }
+
+        /**
+         * Checks whether the given matrices have the same dimension and contains
+         * the same values.
+         *
+         * @param other the second matrix to compare
+         * @return {@code true} if the two given matrices are equal, {@code false}
+         *         otherwise
+         */
+        default boolean equals(OfBoolean<?> other) {
+            return extent().equals(other.extent()) &&
+                loopOf(this, other)
+                    .allMatch((r, c) -> get(r, c) == other.get(r, c));
+        }
+
+    }
+
+    /**
+     * This interface <em>structures</em> the elements into a 2-dimensional lattice.
+     *
+     * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+     * @since 3.0
+     * @version 3.0
+     */
+    interface OfObject<T, A extends BaseArray.OfObject<T>> extends Lattice2d<A> {
+
+        /**
+         * Returns the grid cell value at coordinate {@code [row, col]}.
+         *
+         * @param row the index of the row-coordinate
+         * @param col the index of the column-coordinate
+         * @return the value of the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         *         bounds
+         */
+        default T get(int row, int col) {
+            return array().get(structure().layout().offset(row, col));
+        }
+
+        /**
+         * Sets the grid cell at coordinate {@code [row, col]} to the specified
+         * {@code value}.
+         *
+         * @param row the index of the row-coordinate
+         * @param col the index of the column-coordinate
+         * @param value  the value to be filled into the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         *         bounds
+         */
+        default void set(int row, int col, T value) {
+            array().set(structure().layout().offset(row, col), value);
+        }
+
+        /**
+         * Replaces all cell values of the receiver with the values of another
+         * matrix. Both matrices must have the same number of rows and columns.
+         *
+         * @param source the source lattice to copy from (maybe identical to the
+         *        receiver).
+         * @throws IllegalArgumentException if {@code !extent().equals(source.extent())}
+         */
+        default void assign(Lattice2d<? extends A> source) {
+            requireNonNull(source);
+            if (source == this) {
+                return;
+            }
+            checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
 
             final var layout = source.structure().layout();
-            forEach((r, c) -> set(r, c, source.array().get(layout.offset(r, c))));
+            loopOf(this, source)
+                .forEach((r, c) -> set(r, c, source.array().get(layout.offset(r, c))));
         }
 
         /**
@@ -775,7 +1749,7 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
          * @param source the value to be filled into the cells
          */
         default void assign(T source) {
-            forEach((r, c) -> set(r, c, source));
+            loopOf(this).forEach((r, c) -> set(r, c, source));
         }
 
         /**
@@ -792,7 +1766,8 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
             requireNonNull(f);
             checkSameExtent(extent(), y.extent());
 
-            forEach((r, c) -> set(r, c, f.apply(get(r, c), y.get(r, c))));
+            loopOf(this, y)
+                .forEach((r, c) -> set(r, c, f.apply(get(r, c), y.get(r, c))));
         }
 
         /**
@@ -823,7 +1798,8 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
             Function<? super A, ? extends T> f
         ) {
             checkSameExtent(extent(), a.extent());
-            forEach((r, c) -> set(r, c, f.apply(a.get(r, c))));
+            loopOf(this, a)
+                .forEach((r, c) -> set(r, c, f.apply(a.get(r, c))));
         }
 
         /**
@@ -834,7 +1810,7 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
          */
         default void assign(UnaryOperator<T> f) {
             requireNonNull(f);
-            forEach((r, c) -> set(r, c, f.apply(get(r, c))));
+            loopOf(this).forEach((r, c) -> set(r, c, f.apply(get(r, c))));
         }
 
         /**
@@ -845,11 +1821,12 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
         default void swap(OfObject<T, ?> other) {
             checkSameExtent(extent(), other.extent());
 
-            forEach((r, c) -> {
-                final var tmp = get(r, c);
-                set(r, c, other.get(r, c));
-                other.set(r, c, tmp);
-            });
+            loopOf(this, other)
+                .forEach((r, c) -> {
+                    final var tmp = get(r, c);
+                    set(r, c, other.get(r, c));
+                    other.set(r, c, tmp);
+                });
         }
 
         /**
@@ -903,7 +1880,8 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
          */
         default boolean equals(OfObject<?, ?> other) {
             return extent().equals(other.extent()) &&
-                allMatch((r, c) -> Objects.equals(get(r, c), other.get(r, c)));
+                loopOf(this, other)
+                    .allMatch((r, c) -> Objects.equals(get(r, c), other.get(r, c)));
         }
 
     }
@@ -911,14 +1889,14 @@ public interface Lattice2d<A extends BaseArray> extends Structure2dOps {
     /**
      * Factory interface for creating 2-d grids.
      *
-     * @param <L> the lattice type created by the factory
+     * @param <L> the lattice (grid) type created by the factory
      *
      * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
      * @since 3.0
      * @version 3.0
      */
     @FunctionalInterface
-    interface Factory<L extends Lattice2d<?>> {
+    interface Factory<L> {
 
         /**
          * Create a new matrix with the given {@code dimension} and default
@@ -27,6 +27,7 @@ import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BinaryOperator;
 import java.util.function.DoubleBinaryOperator;
 import java.util.function.DoubleUnaryOperator;
@@ -36,9 +37,18 @@ import java.util.function.IntUnaryOperator;
 import java.util.function.LongBinaryOperator;
 import java.util.function.LongUnaryOperator;
 import java.util.function.UnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 import io.jenetics.lattices.grid.array.BaseArray;
+import io.jenetics.lattices.grid.function.BooleanBinaryOperator;
+import io.jenetics.lattices.grid.function.BooleanUnaryOperator;
+import io.jenetics.lattices.grid.function.FloatBinaryOperator;
+import io.jenetics.lattices.grid.function.FloatUnaryOperator;
 import io.jenetics.lattices.structure.Extent3d;
+import io.jenetics.lattices.structure.Range3d;
 import io.jenetics.lattices.structure.Structure3d;
 
 /**
@@ -74,6 +84,59 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
      */
     void assign(Lattice3d<? extends A> source);
 
+    /**
+     * Return the pool for the parallel execution of an element-wise operation
+     * of the lattices {@code a} and {@code b}, or {@code null} if the
+     * operation must be executed sequentially.
+     *
+     * @see ParallelScope
+     */
+    private static ForkJoinPool poolOf(Lattice3d<?> a, Lattice3d<?> b) {
+        return ParallelScope.pool(a.extent().elements(), a.array(), b.array());
+    }
+
+    /**
+     * Return the pool for the parallel execution of an element-wise operation
+     * of the lattice {@code a}, or {@code null} if the operation must be
+     * executed sequentially.
+     *
+     * @see ParallelScope
+     */
+    private static ForkJoinPool poolOf(Lattice3d<?> a) {
+        return ParallelScope.pool(a.extent().elements(), a.array());
+    }
+
+    /**
+     * Return the loop for the element-wise operations of the lattices
+     * {@code a} and {@code b}. Within a {@link ParallelScope}, the loop is
+     * executed in parallel, if possible. If both lattices are views of the
+     * same array, the positions are visited in row-major order. Overlapping
+     * views then give the same result as before the layout-aware loops.
+     * Otherwise, the loop follows the layouts of the lattices.
+     */
+    private static Loop3d loopOf(Lattice3d<?> a, Lattice3d<?> b) {
+        final var pool = poolOf(a, b);
+        if (pool != null) {
+            return Loop3d.parallel(new Range3d(a.extent()), pool);
+        }
+
+        return a.array() == b.array()
+            ? Loop3d.of(a.extent())
+            : Loop3d.of(a.structure(), b.structure());
+    }
+
+    /**
+     * Return the loop for the element-wise operations of the lattice
+     * {@code a}. Within a {@link ParallelScope}, the loop is executed in
+     * parallel, if possible.
+     */
+    private static Loop3d loopOf(Lattice3d<?> a) {
+        final var pool = poolOf(a);
+        return pool != null
+            ? Loop3d.parallel(new Range3d(a.extent()), pool)
+            : a.loop();
+    }
+
     /**
      * This interface <em>structures</em> the elements into a 3-dimensional lattice.
      *
@@ -128,9 +191,17 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
                 return;
             }
             checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
 
-            final var layout = source.structure().layout();
-            forEach((s, r, c) -> set(s, r, c, source.array().get(layout.offset(s, r, c))));
+            final var array = array();
+            final var values = source.array();
+            Offsets.forEach(
+                structure(), source.structure(), array == values,
+                poolOf(this, source),
+                (i, j) -> array.set(i, values.get(j))
+            );
         }
 
         /**
@@ -184,7 +255,8 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
          * @param value the value to be filled into the cells
          */
         default void assign(double value) {
-            forEach((s, r, c) -> set(s, r, c, value));
+            final var array = array();
+            Offsets.forEach(structure(), poolOf(this), i -> array.set(i, value));
         }
 
         /**
@@ -201,8 +273,12 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
             requireNonNull(f);
             checkSameExtent(extent(), y.extent());
 
-            forEach((s, r, c) ->
-                set(s, r, c, f.applyAsDouble(get(s, r, c), y.get(s, r, c)))
+            final var array = array();
+            final var values = y.array();
+            Offsets.forEach(
+                structure(), y.structure(), array == values,
+                poolOf(this, y),
+                (i, j) -> array.set(i, f.applyAsDouble(array.get(i), values.get(j)))
             );
         }
 
@@ -214,7 +290,12 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
          */
         default void assign(DoubleUnaryOperator f) {
             requireNonNull(f);
-            forEach((s, r, c) -> set(s, r, c, f.applyAsDouble(get(s, r, c))));
+
+            final var array = array();
+            Offsets.forEach(
+                structure(), poolOf(this),
+                i -> array.set(i, f.applyAsDouble(array.get(i)))
+            );
         }
 
         /**
@@ -225,11 +306,17 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
         default void swap(OfDouble<?> other) {
             checkSameExtent(extent(), other.extent());
 
-            forEach((s, r, c) -> {
-                final var tmp = get(s, r, c);
-                set(s, r, c, other.get(s, r, c));
-                other.set(s, r, c, tmp);
-            });
+            final var array = array();
+            final var values = other.array();
+            Offsets.forEach(
+                structure(), other.structure(), array == values,
+                poolOf(this, other),
+                (i, j) -> {
+                    final var tmp = array.get(i);
+                    array.set(i, values.get(j));
+                    values.set(j, tmp);
+                }
+            );
         }
 
         /**
@@ -264,12 +351,22 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
                 return OptionalDouble.empty();
             }
 
-            double a = f.applyAsDouble(get(slices() - 1, rows() - 1, cols() - 1));
+            final var layout = structure().layout();
+            final var array = array();
+            final int ss = layout.stride().slice();
+            final int rs = layout.stride().row();
+            final int cs = layout.stride().col();
+            final int base = layout.offset(0, 0, 0);
+
+            double a = f.applyAsDouble(
+                array.get(base + (slices() - 1)*ss + (rows() - 1)*rs + (cols() - 1)*cs)
+            );
             int d = 1;
             for (int s = slices(); --s >= 0;) {
                 for (int r = rows(); --r >= 0;) {
+                    final int ro = base + s*ss + r*rs;
                     for (int c = cols() - d; --c >= 0;) {
-                        a = reducer.applyAsDouble(a, f.applyAsDouble(get(s, r, c)));
+                        a = reducer.applyAsDouble(a, f.applyAsDouble(array.get(ro + c*cs)));
                     }
                     d = 0;
                 }
@@ -286,8 +383,262 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
          * otherwise
          */
         default boolean equals(OfDouble<?> other) {
+            if (!extent().equals(other.extent())) {
+                return false;
+            }
+
+            final var array = array();
+            final var values = other.array();
+            return Offsets.allMatch(
+                structure(), other.structure(), array == values,
+                poolOf(this, other),
+                (i, j) -> Double.compare(array.get(i), values.get(j)) == 0
+            );
+        }
+
+        /**
+         * Return a sequential stream of the lattice elements, in slice-major order.
+         * The elements are read directly from the underlying array, without
+         * copying, and views and projections of the lattice are respected.
+         * A {@link DoubleStream#parallel() parallel} stream splits the lattice
+         * along its slices.
+         *
+         * @return a stream of the lattice elements
+         */
+        default DoubleStream stream() {
+            return StreamSupport.doubleStream(
+                new LatticeSpliterator.Doubles(
+                    LatticeSpliterator.Shape.of(structure()),
+                    array()
+                ),
+                false
+            );
+        }
+
+    }
+
+    /**
+     * This interface <em>structures</em> the elements into a 3-dimensional lattice.
+     *
+     * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+     * @since 3.0
+     * @version 3.0
+     */
+    interface OfFloat<A extends BaseArray.OfFloat> extends Lattice3d<A> {
+
+        /**
+         * Returns the matrix cell value at coordinate {@code [row, col]}.
+         *
+         * @param slice the index of the slice-coordinate
+         * @param row the index of the row-coordinate
+         * @param col the index of the column-coordinate
+         * @return the value of the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         * bounds
+         */
+        default float get(int slice, int row, int col) {
+            return array().get(structure().layout().offset(slice, row, col));
+        }
+
+        /**
+         * Sets the matrix cell at coordinate {@code [row, col]} to the specified
+         * {@code value}.
+         *
+         * @param slice the index of the slice-coordinate
+         * @param row the index of the row-coordinate
+         * @param col the index of the column-coordinate
+         * @param value the value to be filled into the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         * bounds
+         */
+        default void set(int slice, int row, int col, float value) {
+            array().set(structure().layout().offset(slice, row, col), value);
+        }
+
+        /**
+         * Replaces all cell values of the receiver with the values of another
+         * matrix. Both matrices must have the same number of rows and columns.
+         *
+         * @param source the source matrix to copy from (maybe identical to the
+         *        receiver).
+         * @throws IllegalArgumentException if
+         *         {@code !extent().equals(other.extent())}
+         */
+        @Override
+        default void assign(Lattice3d<? extends A> source) {
+            requireNonNull(source);
+            if (source == this) {
+                return;
+            }
+            checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
+
+            final var layout = source.structure().layout();
+            loopOf(this, source)
+                .forEach((s, r, c) -> set(s, r, c, source.array().get(layout.offset(s, r, c))));
+        }
+
+        /**
+         * Sets all cells to the state specified by given {@code values}. The
+         * {@code values} are required to have the form {@code values[row][column]}
+         * and have exactly the same number of rows and columns as the receiver.
+         *
+         * @param values the values to be filled into the cells.
+         * @throws IllegalArgumentException if {@code extent() != other.extent()}
+         *
+         * @implNote
+         * The {@code values} are copied and subsequent chances to the {@code values}
+         * are not reflected in the matrix, and vice-versa
+         */
+        default void assign(float[][][] values) {
+            if (values.length != slices()) {
+                throw new IllegalArgumentException(
+                    "Values must have the same number of slices: " +
+                        values.length + " != " + slices()
+                );
+            }
+
+            for (int s = slices(); --s >= 0;) {
+                final var slice = values[s];
+                if (slice.length != rows()) {
+                    throw new IllegalArgumentException(
+                        "Values must have the same number of rows: " +
+                            slice.length + " != " + rows()
+                    );
+                }
+
+                for (int r = rows(); --r >= 0;) {
+                    final var row = slice[r];
+                    if (row.length != cols()) {
+                        throw new IllegalArgumentException(
+                            "Values must have the same number of columns: " +
+                                row.length + " != " + cols()
+                        );
+                    }
+
+                    for (int c = cols(); --c >= 0;) {
+                        set(s, r, c, row[c]);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Sets all cells to the state specified by {@code values}.
+         *
+         * @param value the value to be filled into the cells
+         */
+        default void assign(float value) {
+            loopOf(this).forEach((s, r, c) -> set(s, r, c, value));
+        }
+
+        /**
+         * Assigns the result of a function to each cell
+         * {@code x[slice, row, col] = f(x[slice, row, col], y[slice, row, col])}.
+         *
+         * @param y the secondary matrix to operate on.
+         * @param f a function object taking as first argument the current cell's
+         * value of {@code this}, and as second argument the current cell's value of
+         * {@code y}
+         * @throws IllegalArgumentException if {@code extent() != y.extent()}
+         */
+        default void assign(OfFloat<?> y, FloatBinaryOperator f) {
+            requireNonNull(f);
+            checkSameExtent(extent(), y.extent());
+
+            loopOf(this, y)
+                .forEach((s, r, c) ->
+                set(s, r, c, f.applyAsFloat(get(s, r, c), y.get(s, r, c)))
+            );
+        }
+
+        /**
+         * Assigns the result of a function to each cell
+         * {@code x[slice, row, col] = f(x[slice, row, col])}.
+         *
+         * @param f a function object taking as argument the current cell's value.
+         */
+        default void assign(FloatUnaryOperator f) {
+            requireNonNull(f);
+            loopOf(this).forEach((s, r, c) -> set(s, r, c, f.applyAsFloat(get(s, r, c))));
+        }
+
+        /**
+         * Swaps each element {@code this[i, j]} with {@code other[i, j]}.
+         *
+         * @throws IllegalArgumentException if {@code extent() != other.extent()}.
+         */
+        default void swap(OfFloat<?> other) {
+            checkSameExtent(extent(), other.extent());
+
+            loopOf(this, other)
+                .forEach((s, r, c) -> {
+                    final var tmp = get(s, r, c);
+                    set(s, r, c, other.get(s, r, c));
+                    other.set(s, r, c, tmp);
+                });
+        }
+
+        /**
+         * Applies a function to each cell and aggregates the results. Returns a
+         * value <em>v</em> such that <em>v==a(size())</em> where
+         * <em>a(i) == reduce(a(i - 1), f(get(slice, row, col)))</em> and
+         * terminators are
+         * <em>a(1) == f(get(0, 0, 0))</em>.
+         * <p><b>Example:</b></p>
+         * <pre>
+         * 2 x 2 matrix
+         * 0 1
+         * 2 3
+         *
+         * // Sum(x[slice, row, col]*x[slice, row, col])
+         * matrix.aggregate(Float::sum, a -> a*a) --> 14
+         * </pre>
+         *
+         * @param reducer an aggregation function taking as first argument the
+         * current aggregation and as second argument the transformed current cell
+         * value
+         * @param f a function transforming the current cell value
+         * @return the aggregated measure, widened to {@code double}, or
+         *         {@link OptionalDouble#empty()} if
+         *         {@code size() == 0}
+         */
+        default OptionalDouble
+        reduce(FloatBinaryOperator reducer, FloatUnaryOperator f) {
+            requireNonNull(reducer);
+            requireNonNull(f);
+
+            if (extent().elements() == 0) {
+                return OptionalDouble.empty();
+            }
+
+            float a = f.applyAsFloat(get(slices() - 1, rows() - 1, cols() - 1));
+            int d = 1;
+            for (int s = slices(); --s >= 0;) {
+                for (int r = rows(); --r >= 0;) {
+                    for (int c = cols() - d; --c >= 0;) {
+                        a = reducer.applyAsFloat(a, f.applyAsFloat(get(s, r, c)));
+                    }
+                    d = 0;
+                }
+            }
+            return OptionalDouble.of(a);
+        }
+
+        /**
+         * Checks whether the given matrices have the same dimension and contains
+         * the same values.
+         *
+         * @param other the second matrix to compare
+         * @return {@code true} if the two given matrices are equal, {@code false}
+         * otherwise
+         */
+        default boolean equals(OfFloat<?> other) {
             return extent().equals(other.extent()) &&
-                allMatch((s, r, c) -> Double.compare(get(s, r, c), other.get(s, r, c)) == 0);
+                loopOf(this, other)
+                    .allMatch((s, r, c) -> Float.compare(get(s, r, c), other.get(s, r, c)) == 0);
         }
 
     }
@@ -346,9 +697,13 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
                 return;
             }
             checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
 
             final var layout = source.structure().layout();
-            forEach((s, r, c) -> set(s, r, c, source.array().get(layout.offset(s, r, c))));
+            loopOf(this, source)
+                .forEach((s, r, c) -> set(s, r, c, source.array().get(layout.offset(s, r, c))));
         }
 
         /**
@@ -402,7 +757,7 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
          * @param value the value to be filled into the cells
          */
         default void assign(int value) {
-            forEach((s, r, c) -> set(s, r, c, value));
+            loopOf(this).forEach((s, r, c) -> set(s, r, c, value));
         }
 
         /**
@@ -419,7 +774,8 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
             requireNonNull(f);
             checkSameExtent(extent(), y.extent());
 
-            forEach((s, r, c) ->
+            loopOf(this, y)
+                .forEach((s, r, c) ->
                 set(s, r, c, f.applyAsInt(get(s, r, c), y.get(s, r, c)))
             );
         }
@@ -432,7 +788,7 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
          */
         default void assign(IntUnaryOperator f) {
             requireNonNull(f);
-            forEach((s, r, c) -> set(s, r, c, f.applyAsInt(get(s, r, c))));
+            loopOf(this).forEach((s, r, c) -> set(s, r, c, f.applyAsInt(get(s, r, c))));
         }
 
         /**
@@ -443,11 +799,12 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
         default void swap(OfInt<?> other) {
             checkSameExtent(extent(), other.extent());
 
-            forEach((s, r, c) -> {
-                final var tmp = get(s, r, c);
-                set(s, r, c, other.get(s, r, c));
-                other.set(s, r, c, tmp);
-            });
+            loopOf(this, other)
+                .forEach((s, r, c) -> {
+                    final var tmp = get(s, r, c);
+                    set(s, r, c, other.get(s, r, c));
+                    other.set(s, r, c, tmp);
+                });
         }
 
         /**
@@ -504,7 +861,27 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
          */
         default boolean equals(OfInt<?> other) {
             return extent().equals(other.extent()) &&
-                allMatch((s, r, c) -> get(s, r, c) == other.get(s, r, c));
+                loopOf(this, other)
+                    .allMatch((s, r, c) -> get(s, r, c) == other.get(s, r, c));
+        }
+
+        /**
+         * Return a sequential stream of the lattice elements, in slice-major order.
+         * The elements are read directly from the underlying array, without
+         * copying, and views and projections of the lattice are respected.
+         * A {@link IntStream#parallel() parallel} stream splits the lattice
+         * along its slices.
+         *
+         * @return a stream of the lattice elements
+         */
+        default IntStream stream() {
+            return StreamSupport.intStream(
+                new LatticeSpliterator.Ints(
+                    LatticeSpliterator.Shape.of(structure()),
+                    array()
+                ),
+                false
+            );
         }
 
     }
@@ -563,9 +940,13 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
                 return;
             }
             checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
 
             final var layout = source.structure().layout();
-            forEach((s, r, c) -> set(s, r, c, source.array().get(layout.offset(s, r, c))));
+            loopOf(this, source)
+                .forEach((s, r, c) -> set(s, r, c, source.array().get(layout.offset(s, r, c))));
         }
 
         /**
@@ -619,7 +1000,7 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
          * @param value the value to be filled into the cells
          */
         default void assign(long value) {
-            forEach((s, r, c) -> set(s, r, c, value));
+            loopOf(this).forEach((s, r, c) -> set(s, r, c, value));
         }
 
         /**
@@ -636,7 +1017,8 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
             requireNonNull(f);
             checkSameExtent(extent(), y.extent());
 
-            forEach((s, r, c) ->
+            loopOf(this, y)
+                .forEach((s, r, c) ->
                 set(s, r, c, f.applyAsLong(get(s, r, c), y.get(s, r, c)))
             );
         }
@@ -649,7 +1031,7 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
          */
         default void assign(LongUnaryOperator f) {
             requireNonNull(f);
-            forEach((s, r, c) -> set(s, r, c, f.applyAsLong(get(s, r, c))));
+            loopOf(this).forEach((s, r, c) -> set(s, r, c, f.applyAsLong(get(s, r, c))));
         }
 
         /**
@@ -660,11 +1042,12 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
         default void swap(OfLong<?> other) {
             checkSameExtent(extent(), other.extent());
 
-            forEach((s, r, c) -> {
-                final var tmp = get(s, r, c);
-                set(s, r, c, other.get(s, r, c));
-                other.set(s, r, c, tmp);
-            });
+            loopOf(this, other)
+                .forEach((s, r, c) -> {
+                    final var tmp = get(s, r, c);
+                    set(s, r, c, other.get(s, r, c));
+                    other.set(s, r, c, tmp);
+                });
         }
 
         /**
@@ -721,19 +1104,42 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
          */
         default boolean equals(OfLong<?> other) {
             return extent().equals(other.extent()) &&
-                allMatch((s, r, c) -> get(s, r, c) == other.get(s, r, c));
+                loopOf(this, other)
+                    .allMatch((s, r, c) -> get(s, r, c) == other.get(s, r, c));
+        }
+
+        /**
+         * Return a sequential stream of the lattice elements, in slice-major order.
+         * The elements are read directly from the underlying array, without
+         * copying, and views and projections of the lattice are respected.
+         * A {@link LongStream#parallel() parallel} stream splits the lattice
+         * along its slices.
+         *
+         * @return a stream of the lattice elements
+         */
+        default LongStream stream() {
+            return StreamSupport.longStream(
+                new LatticeSpliterator.Longs(
+                    LatticeSpliterator.Shape.of(structure()),
+                    array()
+                ),
+                false
+            );
         }
 
     }
 
     /**
      * This interface <em>structures</em> the elements into a 3-dimensional lattice.
+     * <p>
+     * The element functions operate on {@code int} values, which are
+     * narrowed to {@code byte} when stored.
      *
      * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
      * @since 3.0
      * @version 3.0
      */
-    interface OfObject<T, A extends BaseArray.OfObject<T>> extends Lattice3d<A> {
+    interface OfByte<A extends BaseArray.OfByte> extends Lattice3d<A> {
 
         /**
          * Returns the matrix cell value at coordinate {@code [slice, row, col]}.
@@ -745,7 +1151,7 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
          * @throws IndexOutOfBoundsException if the given coordinates are out of
          * bounds
          */
-        default T get(int slice, int row, int col) {
+        default byte get(int slice, int row, int col) {
             return array().get(structure().layout().offset(slice, row, col));
         }
 
@@ -760,7 +1166,7 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
          * @throws IndexOutOfBoundsException if the given coordinates are out of
          * bounds
          */
-        default void set(int slice, int row, int col, T value) {
+        default void set(int slice, int row, int col, byte value) {
             array().set(structure().layout().offset(slice, row, col), value);
         }
 
@@ -780,9 +1186,644 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
                 return;
             }
             checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
+
+            final var layout = source.structure().layout();
+            loopOf(this, source)
+                .forEach((s, r, c) -> set(s, r, c, source.array().get(layout.offset(s, r, c))));
+        }
+
+        /**
+         * Sets all cells to the state specified by given {@code values}. The
+         * {@code values} are required to have the form {@code values[row][column]}
+         * and have exactly the same number of rows and columns as the receiver.
+         *
+         * @param values the values to be filled into the cells.
+         * @throws IllegalArgumentException if {@code extent() != other.extent()}
+         *
+         * @implNote
+         * The {@code values} are copied and subsequent chances to the {@code values}
+         * are not reflected in the matrix, and vice-versa
+         */
+        default void assign(byte[][][] values) {
+            if (values.length != slices()) {
+                throw new IllegalArgumentException(
+                    "Values must have the same number of slices: " +
+                        values.length + " != " + slices()
+                );
+            }
+
+            for (int s = slices(); --s >= 0;) {
+                final var slice = values[s];
+                if (slice.length != rows()) {
+                    throw new IllegalArgumentException(
+                        "Values must have the same number of rows: " +
+                            slice.length + " != " + rows()
+                    );
+                }
+
+                for (int r = rows(); --r >= 0;) {
+                    final var row = slice[r];
+                    if (row.length != cols()) {
+                        throw new IllegalArgumentException(
+                            "Values must have the same number of columns: " +
+                                row.length + " != " + cols()
+                        );
+                    }
+
+                    for (int c = cols(); --c >= 0;) {
+                        set(s, r, c, row[c]);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Sets all cells to the state specified by {@code values}.
+         *
+         * @param value the value to be filled into the cells
+         */
+        default void assign(byte value) {
+            loopOf(this).forEach((s, r, c) -> set(s, r, c, value));
+        }
+
+        /**
+         * Assigns the result of a function to each cell
+         * {@code x[slice, row, col] = f(x[slice, row, col], y[slice, row, col])}.
+         *
+         * @param y the secondary matrix to operate on.
+         * @param f a function object taking as first argument the current cell's
+         * value of {@code this}, and as second argument the current cell's value of
+         * {@code y}
+         * @throws IllegalArgumentException if {@code extent() != y.extent()}
+         */
+        default void assign(OfByte<?> y, IntBinaryOperator f) {
+            requireNonNull(f);
+            checkSameExtent(extent(), y.extent());
+
+            loopOf(this, y)
+                .forEach((s, r, c) ->
+                set(s, r, c, (byte)f.applyAsInt(get(s, r, c), y.get(s, r, c)))
+            );
+        }
+
+        /**
+         * Assigns the result of a function to each cell
+         * {@code x[slice, row, col] = f(x[slice, row, col])}.
+         *
+         * @param f a function object taking as argument the current cell's value.
+         */
+        default void assign(IntUnaryOperator f) {
+            requireNonNull(f);
+            loopOf(this).forEach((s, r, c) -> set(s, r, c, (byte)f.applyAsInt(get(s, r, c))));
+        }
+
+        /**
+         * Swaps each element {@code this[i, j]} with {@code other[i, j]}.
+         *
+         * @throws IllegalArgumentException if {@code extent() != other.extent()}.
+         */
+        default void swap(OfByte<?> other) {
+            checkSameExtent(extent(), other.extent());
+
+            loopOf(this, other)
+                .forEach((s, r, c) -> {
+                    final var tmp = get(s, r, c);
+                    set(s, r, c, other.get(s, r, c));
+                    other.set(s, r, c, tmp);
+                });
+        }
+
+        /**
+         * Applies a function to each cell and aggregates the results. Returns a
+         * value <em>v</em> such that <em>v==a(size())</em> where
+         * <em>a(i) == reduce(a(i - 1), f(get(slice, row, col)))</em> and
+         * terminators are
+         * <em>a(1) == f(get(0, 0, 0))</em>.
+         * <p><b>Example:</b></p>
+         * <pre>
+         * 2 x 2 matrix
+         * 0 1
+         * 2 3
+         *
+         * // Sum(x[slice, row, col]*x[slice, row, col])
+         * matrix.aggregate(Double::sum, a -> a*a) --> 14
+         * </pre>
+         *
+         * @param reducer an aggregation function taking as first argument the
+         * current aggregation and as second argument the transformed current cell
+         * value
+         * @param f a function transforming the current cell value
+         * @return the aggregated measure or {@link OptionalDouble#empty()} if
+         *         {@code size() == 0}
+         */
+        default OptionalInt reduce(IntBinaryOperator reducer, IntUnaryOperator f) {
+            requireNonNull(reducer);
+            requireNonNull(f);
+
+            if (extent().elements() == 0) {
+                return OptionalInt.empty();
+            }
+
+            int a = f.applyAsInt(get(slices() - 1, rows() - 1, cols() - 1));
+            int d = 1;
+            for (int s = slices(); --s >= 0;) {
+                for (int r = rows(); --r >= 0;) {
+                    for (int c = cols() - d; --c >= 0;) {
+                        a = reducer.applyAsInt(a, f.applyAsInt(get(s, r, c)));
+                    }
+                    d = 0;
+                }
+            }
+            return OptionalInt.of(a);
+        }
+
+        /**
+         * Checks whether the given matrices have the same dimension and contains
+         * the same values.
+         *
+         * @param other the second matrix to compare
+         * @return {@code true} if the two given matrices are equal, {@code false}
+         * otherwise
+         */
+        default boolean equals(OfByte<?> other) {
+            return extent().equals(other.extent()) &&
+                loopOf(this, other)
+                    .allMatch((s, r, c) -> get(s, r, c) == other.get(s, r, c));
+        }
+
+    }
+
+    /**
+     * This interface <em>structures</em> the elements into a 3-dimensional lattice.
+     * <p>
+     * The element functions operate on {@code int} values, which are
+     * narrowed to {@code short} when stored.
+     *
+     * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+     * @since 3.0
+     * @version 3.0
+     */
+    interface OfShort<A extends BaseArray.OfShort> extends Lattice3d<A> {
+
+        /**
+         * Returns the matrix cell value at coordinate {@code [slice, row, col]}.
+         *
+         * @param slice the index of the slice-coordinate
+         * @param row the index of the row-coordinate
+         * @param col the index of the column-coordinate
+         * @return the value of the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         * bounds
+         */
+        default short get(int slice, int row, int col) {
+            return array().get(structure().layout().offset(slice, row, col));
+        }
+
+        /**
+         * Sets the matrix cell at coordinate {@code [slice, row, col]} to the specified
+         * {@code value}.
+         *
+         * @param slice the index of the slice-coordinate
+         * @param row the index of the row-coordinate
+         * @param col the index of the column-coordinate
+         * @param value the value to be filled into the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         * bounds
+         */
+        default void set(int slice, int row, int col, short value) {
+            array().set(structure().layout().offset(slice, row, col), value);
+        }
+
+        /**
+         * Replaces all cell values of the receiver with the values of another
+         * matrix. Both matrices must have the same number of rows and columns.
+         *
+         * @param source the source matrix to copy from (maybe identical to the
+         *        receiver).
+         * @throws IllegalArgumentException if
+         *         {@code !extent().equals(other.extent())}
+         */
+        @Override
+        default void assign(Lattice3d<? extends A> source) {
+            requireNonNull(source);
+            if (source == this) {
+                return;
+            }
+            checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
+
+            final var layout = source.structure().layout();
+            loopOf(this, source)
+                .forEach((s, r, c) -> set(s, r, c, source.array().get(layout.offset(s, r, c))));
+        }
+
+        /**
+         * Sets all cells to the state specified by given {@code values}. The
+         * {@code values} are required to have the form {@code values[row][column]}
+         * and have exactly the same number of rows and columns as the receiver.
+         *
+         * @param values the values to be filled into the cells.
+         * @throws IllegalArgumentException if {@code extent() != other.extent()}
+         *
+         * @implNote
+         * The {@code values} are copied and subsequent chances to the {@code values}
+         * are not reflected in the matrix, and vice-versa
+         */
+        default void assign(short[][][] values) {
+            if (values.length != slices()) {
+                throw new IllegalArgumentException(
+                    "Values must have the same number of slices: " +
+                        values.length + " != " + slices()
+                );
+            }
+
+            for (int s = slices(); --s >= 0;) {
+                final var slice = values[s];
+                if (slice.length != rows()) {
+                    throw new IllegalArgumentException(
+                        "Values must have the same number of rows: " +
+                            slice.length + " != " + rows()
+                    );
+                }
+
+                for (int r = rows(); --r >= 0;) {
+                    final var row = slice[r];
+                    if (row.length != cols()) {
+                        throw new IllegalArgumentException(
+                            "Values must have the same number of columns: " +
+                                row.length + " != " + cols()
+                        );
+                    }
+
+                    for (int c = cols(); --c >= 0;) {
+                        set(s, r, c, row[c]);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Sets all cells to the state specified by {@code values}.
+         *
+         * @param value the value to be filled into the cells
+         */
+        default void assign(short value) {
+            loopOf(this).forEach((s, r, c) -> set(s, r, c, value));
+        }
+
+        /**
+         * Assigns the result of a function to each cell
+         * {@code x[slice, row, col] = f(x[slice, row, col], y[slice, row, col])}.
+         *
+         * @param y the secondary matrix to operate on.
+         * @param f a function object taking as first argument the current cell's
+         * value of {@code this}, and as second argument the current cell's value of
+         * {@code y}
+         * @throws IllegalArgumentException if {@code extent() != y.extent()}
+         */
+        default void assign(OfShort<?> y, IntBinaryOperator f) {
+            requireNonNull(f);
+            checkSameExtent(extent(), y.extent());
+
+            loopOf(this, y)
+                .forEach((s, r, c) ->
+                set(s, r, c, (short)f.applyAsInt(get(s, r, c), y.get(s, r, c)))
+            );
+        }
+
+        /**
+         * Assigns the result of a function to each cell
+         * {@code x[slice, row, col] = f(x[slice, row, col])}.
+         *
+         * @param f a function object taking as argument the current cell's value.
+         */
+        default void assign(IntUnaryOperator f) {
+            requireNonNull(f);
+            loopOf(this).forEach((s, r, c) -> set(s, r, c, (short)f.applyAsInt(get(s, r, c))));
+        }
+
+        /**
+         * Swaps each element {@code this[i, j]} with {@code other[i, j]}.
+         *
+         * @throws IllegalArgumentException if {@code extent() != other.extent()}.
+         */
+        default void swap(OfShort<?> other) {
+            checkSameExtent(extent(), other.extent());
+
+            loopOf(this, other)
+                .forEach((s, r, c) -> {
+                    final var tmp = get(s, r, c);
+                    set(s, r, c, other.get(s, r, c));
+                    other.set(s, r, c, tmp);
+                });
+        }
+
+        /**
+         * Applies a function to each cell and aggregates the results. Returns a
+         * value <em>v</em> such that <em>v==a(size())</em> where
+         * <em>a(i) == reduce(a(i - 1), f(get(slice, row, col)))</em> and
+         * terminators are
+         * <em>a(1) == f(get(0, 0, 0))</em>.
+         * <p><b>Example:</b></p>
+         * <pre>
+         * 2 x 2 matrix
+         * 0 1
+         * 2 3
+         *
+         * // Sum(x[slice, row, col]*x[slice, row, col])
+         * matrix.aggregate(Double::sum, a -> a*a) --> 14
+         * </pre>
+         *
+         * @param reducer an aggregation function taking as first argument the
+         * current aggregation and as second argument the transformed current cell
+         * value
+         * @param f a function transforming the current cell value
+         * @return the aggregated measure or {@link OptionalDouble#empty()} if
+         *         {@code size() == 0}
+         */
+        default OptionalInt reduce(IntBinaryOperator reducer, IntUnaryOperator f) {
+            requireNonNull(reducer);
+            requireNonNull(f);
+
+            if (extent().elements() == 0) {
+                return OptionalInt.empty();
+            }
+
+            int a = f.applyAsInt(get(slices() - 1, rows() - 1, cols() - 1));
+            int d = 1;
+            for (int s = slices(); --s >= 0;) {
+                for (int r = rows(); --r >= 0;) {
+                    for (int c = cols() - d; --c >= 0;) {
+                        a = reducer.applyAsInt(a, f.applyAsInt(get(s, r, c)));
+                    }
+                    d = 0;
+                }
+            }
+            return OptionalInt.of(a);
+        }
+
+        /**
+         * Checks whether the given matrices have the same dimension and contains
+         * the same values.
+         *
+         * @param other the second matrix to compare
+         * @return {@code true} if the two given matrices are equal, {@code false}
+         * otherwise
+         */
+        default boolean equals(OfShort<?> other) {
+            return extent().equals(other.extent()) &&
+                loopOf(this, other)
+                    .allMatch((s, r, c) -> get(s, r, c) == other.get(s, r, c));
+        }
+
+    }
+
+    /**
+     * This interface <em>structures</em> the elements into a 3-dimensional lattice.
+     *
+     * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+     * @since 3.0
+     * @version 3.0
+     */
+    interface OfBoolean<A extends BaseArray.OfBoolean> extends Lattice3d<A> {
+
+        /**
+         * Returns the matrix cell value at coordinate {@code [slice, row, col]}.
+         *
+         * @param slice the index of the slice-coordinate
+         * @param row the index of the row-coordinate
+         * @param col the index of the column-coordinate
+         * @return the value of the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         * bounds
+         */
+        default boolean get(int slice, int row, int col) {
+            return array().get(structure().layout().offset(slice, row, col));
+        }
+
+        /**
+         * Sets the matrix cell at coordinate {@code [slice, row, col]} to the specified
+         * {@code value}.
+         *
+         * @param slice the index of the slice-coordinate
+         * @param row the index of the row-coordinate
+         * @param col the index of the column-coordinate
+         * @param value the value to be filled into the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         * bounds
+         */
+        default void set(int slice, int row, int col, boolean value) {
+            array().set(structure().layout().offset(slice, row, col), value);
+        }
+
+        /**
+         * Replaces all cell values of the receiver with the values of another
+         * matrix. Both matrices must have the same number of rows and columns.
+         *
+         * @param source the source matrix to copy from (maybe identical to the
+         *        receiver).
+         * @throws IllegalArgumentException if
+         *         {@code !extent().equals(other.extent())}
+         */
+        @Override
+        default void assign(Lattice3d<? extends A> source) {
+            requireNonNull(source);
+            if (source == this) {
+                return;
+            }
+            checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
+
+            final var layout = source.structure().layout();
+            loopOf(this, source)
+                .forEach((s, r, c) -> set(s, r, c, source.array().get(layout.offset(s, r, c))));
+        }
+
+        /**
+         * Sets all cells to the state specified by given {@code values}. The
+         * {@code values} are required to have the form {@code values[row][column]}
+         * and have exactly the same number of rows and columns as the receiver.
+         *
+         * @param values the values to be filled into the cells.
+         * @throws IllegalArgumentException if {@code extent() != other.extent()}
+         *
+         * @implNote
+         * The {@code values} are copied and subsequent chances to the {@code values}
+         * are not reflected in the matrix, and vice-versa
+         */
+        default void assign(boolean[][][] values) {
+            if (values.length != slices()) {
+                throw new IllegalArgumentException(
+                    "Values must have the same number of slices: " +
+                        values.length + " != " + slices()
+                );
+            }
+
+            for (int s = slices(); --s >= 0;) {
+                final var slice = values[s];
+                if (slice.length != rows()) {
+                    throw new IllegalArgumentException(
+                        "Values must have the same number of rows: " +
+                            slice.length + " != " + rows()
+                    );
+                }
+
+                for (int r = rows(); --r >= 0;) {
+                    final var row = slice[r];
+                    if (row.length != cols()) {
+                        throw new IllegalArgumentException(
+                            "Values must have the same number of columns: " +
+                                row.length + " != " + cols()
+                        );
+                    }
+
+                    for (int c = cols(); --c >= 0;) {
+                        set(s, r, c, row[c]);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Sets all cells to the state specified by {@code values}.
+         *
+         * @param value the value to be filled into the cells
+         */
+        default void assign(boolean value) {
+            loopOf(this).forEach((s, r, c) -> set(s, r, c, value));
+        }
+
+        /**
+         * Assigns the result of a function to each cell
+         * {@code x[slice, row, col] = f(x[slice, row, col], y[slice, row, col])}.
+         *
+         * @param y the secondary matrix to operate on.
+         * @param f a function object taking as first argument the current cell's
+         * value of {@code this}, and as second argument the current cell's value of
+         * {@code y}
+         * @throws IllegalArgumentException if {@code extent() != y.extent()}
+         */
+        default void assign(OfBoolean<?> y, BooleanBinaryOperator f) {
+            requireNonNull(f);
+            checkSameExtent(extent(), y.extent());
+
+            loopOf(this, y)
+                .forEach((s, r, c) ->
+                set(s, r, c, f.applyAsBoolean(get(s, r, c), y.get(s, r, c)))
+            );
+        }
+
+        /**
+         * Assigns the result of a function to each cell
+         * {@code x[slice, row, col] = f(x[slice, row, col])}.
+         *
+         * @param f a function object taking as argument the current cell's value.
+         */
+        default void assign(BooleanUnaryOperator f) {
+            requireNonNull(f);
+            loopOf(this).forEach((s, r, c) -> set(s, r, c, f.applyAsBoolean(get(s, r, c))));
+        }
+
+        /**
+         * Swaps each element {@code this[i, j]} with {@code other[i, j]}.
+         *
+         * @throws IllegalArgumentException if {@code extent() != other.extent()}.
+         */
+        default void swap(OfBoolean<?> other) {
+            checkSameExtent(extent(), other.extent());
+
+            loopOf(this, other)
+                .forEach((s, r, c) -> {
+                    final var tmp = get(s, r, c);
+                    set(s, r, c, other.get(s, r, c));
+                    other.set(s, r, c, tmp);
+                });
+        }
+
+        /**
+         * Checks whether the given matrices have the same dimension and contains
+         * the same values.
+         *
+         * @param other the second matrix to compare
+         * @return {@code true} if the two given matrices are equal, {@code false}
+         * otherwise
+         */
+        default boolean equals(OfBoolean<?> other) {
+            return extent().equals(other.extent()) &&
+                loopOf(this, other)
+                    .allMatch((s, r, c) -> get(s, r, c) == other.get(s, r, c));
+        }
+
+    }
+
+    /**
+     * This interface <em>structures</em> the elements into a 3-dimensional lattice.
+     *
+     * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+     * @since 3.0
+     * @version 3.0
+     */
+    interface OfObject<T, A extends BaseArray.OfObject<T>> extends Lattice3d<A> {
+
+        /**
+         * Returns the matrix cell value at coordinate {@code [slice, row, col]}.
+         *
+         * @param slice the index of the slice-coordinate
+         * @param row the index of the row-coordinate
+         * @param col the index of the column-coordinate
+         * @return the value of the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         * bounds
+         */
+        default T get(int slice, int row, int col) {
+            return array().get(structure().layout().offset(slice, row, col));
+        }
+
+        /**
+         * Sets the matrix cell at coordinate {@code [slice, row, col]} to the specified
+         * {@code value}.
+         *
+         * @param slice the index of the slice-coordinate
+         * @param row the index of the row-coordinate
+         * @param col the index of the column-coordinate
+         * @param value the value to be filled into the specified cell
+         * @throws IndexOutOfBoundsException if the given coordinates are out of
+         * bounds
+         */
+        default void set(int slice, int row, int col, T value) {
+            array().set(structure().layout().offset(slice, row, col), value);
+        }
+
+        /**
+         * Replaces all cell values of the receiver with the values of another
+         * matrix. Both matrices must have the same number of rows and columns.
+         *
+         * @param source the source matrix to copy from (maybe identical to the
+         *        receiver).
+         * @throws IllegalArgumentException if
+         *         {@code !extent().equals(other.extent())}
+         */
+        @Override
+        default void assign(Lattice3d<? extends A> source) {
+            requireNonNull(source);
+            if (source == this) {
+                return;
+            }
+            checkSameExtent(extent(), source.extent());
+            if (DenseAssign.assign(this, source)) {
+                return;
+            }
 
             final var layout = source.structure().layout();
-            forEach((s, r, c) -> set(s, r, c, source.array().get(layout.offset(s, r, c))));
+            loopOf(this, source)
+                .forEach((s, r, c) -> set(s, r, c, source.array().get(layout.offset(s, r, c))));
         }
 
         /**
@@ -836,7 +1877,7 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
          * @param value the value to be filled into the cells
          */
         default void assign(T value) {
-            forEach((s, r, c) -> set(s, r, c, value));
+            loopOf(this).forEach((s, r, c) -> set(s, r, c, value));
         }
 
         /**
@@ -853,7 +1894,8 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
             requireNonNull(f);
             checkSameExtent(extent(), y.extent());
 
-            forEach((s, r, c) ->
+            loopOf(this, y)
+                .forEach((s, r, c) ->
                 set(s, r, c, f.apply(get(s, r, c), y.get(s, r, c)))
             );
         }
@@ -886,7 +1928,8 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
             Function<? super A, ? extends T> f
         ) {
             checkSameExtent(extent(), a.extent());
-            forEach((s, r, c) -> set(s, r, c, f.apply(a.get(s, r, c))));
+            loopOf(this, a)
+                .forEach((s, r, c) -> set(s, r, c, f.apply(a.get(s, r, c))));
         }
 
         /**
@@ -897,7 +1940,7 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
          */
         default void assign(UnaryOperator<T> f) {
             requireNonNull(f);
-            forEach((s, r, c) -> set(s, r, c, f.apply(get(s, r, c))));
+            loopOf(this).forEach((s, r, c) -> set(s, r, c, f.apply(get(s, r, c))));
         }
 
         /**
@@ -908,11 +1951,12 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
         default void swap(OfObject<T, ?> other) {
             checkSameExtent(extent(), other.extent());
 
-            forEach((s, r, c) -> {
-                final var tmp = get(s, r, c);
-                set(s, r, c, other.get(s, r, c));
-                other.set(s, r, c, tmp);
-            });
+            loopOf(this, other)
+                .forEach((s, r, c) -> {
+                    final var tmp = get(s, r, c);
+                    set(s, r, c, other.get(s, r, c));
+                    other.set(s, r, c, tmp);
+                });
         }
 
         /**
@@ -969,7 +2013,8 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
          */
         default boolean equals(OfObject<?, ?> other) {
             return extent().equals(other.extent()) &&
-                allMatch((s, r, c) -> Objects.equals(get(s, r, c), other.get(s, r, c)));
+                loopOf(this, other)
+                    .allMatch((s, r, c) -> Objects.equals(get(s, r, c), other.get(s, r, c)));
         }
 
     }
@@ -977,14 +2022,14 @@ public interface Lattice3d<A extends BaseArray> extends Structure3dOps {
     /**
      * Factory interface for creating 3-d grids.
      *
-     * @param <L> the lattice type created by the factory
+     * @param <L> the lattice (grid) type created by the factory
      *
      * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
      * @since 3.0
      * @version 3.0
      */
     @FunctionalInterface
-    interface Factory<L extends Lattice3d<?>> {
+    interface Factory<L> {
 
         /**
          * Create a new matrix with the given {@code dimension} and default
@@ -0,0 +1,351 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.lattice;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+import io.jenetics.lattices.grid.array.BaseArray;
+import io.jenetics.lattices.structure.Structure1d;
+import io.jenetics.lattices.structure.Structure2d;
+import io.jenetics.lattices.structure.Structure3d;
+
+/**
+ * Base class of the primitive spliterators over the elements of a lattice.
+ * The elements are visited in lattice order (forward, row-major and
+ * slice-major) and are read directly from the underlying array, via the
+ * offsets of the lattice structure. Views and projections of a lattice are
+ * therefore streamed without copying. The spliterators split along the
+ * outermost dimension of the structure and report exact sizes.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+abstract class LatticeSpliterator {
+
+    /**
+     * The spliterator characteristics.
+     */
+    static final int CHARACTERISTICS =
+        Spliterator.SIZED |
+        Spliterator.SUBSIZED |
+        Spliterator.ORDERED;
+
+    /**
+     * The structure of a lattice, normalized to three dimensions. The
+     * dimensions are given from the outermost to the innermost one, by its
+     * size and its array stride.
+     *
+     * @param start the array offset of the first element
+     */
+    record Shape(
+        int start,
+        int n0, int s0,
+        int n1, int s1,
+        int n2, int s2
+    ) {
+        int size() {
+            return n0*n1*n2;
+        }
+
+        static Shape of(Structure1d structure) {
+            final var layout = structure.layout();
+            return new Shape(
+                layout.offset(0),
+                structure.extent().elements(), layout.stride().value(),
+                1, 0,
+                1, 0
+            );
+        }
+
+        static Shape of(Structure2d structure) {
+            final var layout = structure.layout();
+            return new Shape(
+                layout.offset(0, 0),
+                structure.extent().rows(), layout.stride().row(),
+                1, 0,
+                structure.extent().cols(), layout.stride().col()
+            );
+        }
+
+        static Shape of(Structure3d structure) {
+            final var layout = structure.layout();
+            return new Shape(
+                layout.offset(0, 0, 0),
+                structure.extent().slices(), layout.stride().slice(),
+                structure.extent().rows(), layout.stride().row(),
+                structure.extent().cols(), layout.stride().col()
+            );
+        }
+    }
+
+    final Shape shape;
+
+    // The (linear) index of the next element and the index after the last
+    // element of this spliterator.
+    int index;
+    final int fence;
+
+    LatticeSpliterator(Shape shape, int index, int fence) {
+        this.shape = requireNonNull(shape);
+        this.index = index;
+        this.fence = fence;
+    }
+
+    /**
+     * Return the index where {@code this} spliterator is split. The split
+     * index lies on the boundary of the outermost dimension.
+     *
+     * @return the split index, or {@code -1} if {@code this} spliterator
+     *         can't be split
+     */
+    final int split() {
+        final int block = shape.n1*shape.n2;
+        if (block == 0) {
+            return -1;
+        }
+
+        final int lo = index/block + (index%block == 0 ? 0 : 1);
+        final int hi = fence/block;
+        final int mid = (lo + hi) >>> 1;
+        return mid > lo ? mid*block : -1;
+    }
+
+    /**
+     * Return the array offset of the next element and advances the index.
+     *
+     * @return the array offset of the next element, or {@code -1} if no
+     *         element remains
+     */
+    final int nextOffset() {
+        if (index >= fence) {
+            return -1;
+        }
+
+        final int block = shape.n1*shape.n2;
+        final int i0 = index/block;
+        final int i = index - i0*block;
+        final int i1 = i/shape.n2;
+        final int i2 = i - i1*shape.n2;
+        ++index;
+
+        return shape.start + i0*shape.s0 + i1*shape.s1 + i2*shape.s2;
+    }
+
+    /**
+     * Performs the given {@code action} for the array offsets of all
+     * remaining elements. The offsets are incremented by the strides and
+     * only computed once per innermost run.
+     *
+     * @param action the action called with the array offsets
+     */
+    final void forEachOffset(IntConsumer action) {
+        int i = index;
+        final int end = fence;
+        if (i >= end) {
+            return;
+        }
+        index = end;
+
+        final int block = shape.n1*shape.n2;
+        int i0 = i/block;
+        int i1 = (i - i0*block)/shape.n2;
+        int i2 = i - i0*block - i1*shape.n2;
+        int offset = shape.start + i0*shape.s0 + i1*shape.s1;
+
+        while (i < end) {
+            final int n = Math.min(shape.n2 - i2, end - i);
+            for (int k = 0, o = offset + i2*shape.s2; k < n; ++k, o += shape.s2) {
+                action.accept(o);
+            }
+            i += n;
+            i2 = 0;
+
+            if (++i1 < shape.n1) {
+                offset += shape.s1;
+            } else {
+                i1 = 0;
+                ++i0;
+                offset = shape.start + i0*shape.s0;
+            }
+        }
+    }
+
+    public final long estimateSize() {
+        return fence - index;
+    }
+
+    public final int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    /**
+     * Spliterator over the elements of a {@code double} lattice.
+     */
+    static final class Doubles
+        extends LatticeSpliterator
+        implements Spliterator.OfDouble
+    {
+        private final BaseArray.OfDouble array;
+
+        private Doubles(Shape shape, BaseArray.OfDouble array, int index, int fence) {
+            super(shape, index, fence);
+            this.array = requireNonNull(array);
+        }
+
+        Doubles(Shape shape, BaseArray.OfDouble array) {
+            this(shape, array, 0, shape.size());
+        }
+
+        @Override
+        public Doubles trySplit() {
+            final int mid = split();
+            if (mid < 0) {
+                return null;
+            }
+
+            final var prefix = new Doubles(shape, array, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            requireNonNull(action);
+
+            final int offset = nextOffset();
+            if (offset < 0) {
+                return false;
+            }
+            action.accept(array.get(offset));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            requireNonNull(action);
+            forEachOffset(offset -> action.accept(array.get(offset)));
+        }
+    }
+
+    /**
+     * Spliterator over the elements of an {@code int} lattice.
+     */
+    static final class Ints
+        extends LatticeSpliterator
+        implements Spliterator.OfInt
+    {
+        private final BaseArray.OfInt array;
+
+        private Ints(Shape shape, BaseArray.OfInt array, int index, int fence) {
+            super(shape, index, fence);
+            this.array = requireNonNull(array);
+        }
+
+        Ints(Shape shape, BaseArray.OfInt array) {
+            this(shape, array, 0, shape.size());
+        }
+
+        @Override
+        public Ints trySplit() {
+            final int mid = split();
+            if (mid < 0) {
+                return null;
+            }
+
+            final var prefix = new Ints(shape, array, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            requireNonNull(action);
+
+            final int offset = nextOffset();
+            if (offset < 0) {
+                return false;
+            }
+            action.accept(array.get(offset));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            requireNonNull(action);
+            forEachOffset(offset -> action.accept(array.get(offset)));
+        }
+    }
+
+    /**
+     * Spliterator over the elements of a {@code long} lattice.
+     */
+    static final class Longs
+        extends LatticeSpliterator
+        implements Spliterator.OfLong
+    {
+        private final BaseArray.OfLong array;
+
+        private Longs(Shape shape, BaseArray.OfLong array, int index, int fence) {
+            super(shape, index, fence);
+            this.array = requireNonNull(array);
+        }
+
+        Longs(Shape shape, BaseArray.OfLong array) {
+            this(shape, array, 0, shape.size());
+        }
+
+        @Override
+        public Longs trySplit() {
+            final int mid = split();
+            if (mid < 0) {
+                return null;
+            }
+
+            final var prefix = new Longs(shape, array, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            requireNonNull(action);
+
+            final int offset = nextOffset();
+            if (offset < 0) {
+                return false;
+            }
+            action.accept(array.get(offset));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            requireNonNull(action);
+            forEachOffset(offset -> action.accept(array.get(offset)));
+        }
+    }
+
+}
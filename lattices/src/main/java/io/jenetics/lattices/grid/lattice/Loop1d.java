@@ -21,6 +21,7 @@ package io.jenetics.lattices.grid.lattice;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.IntConsumer;
 import java.util.function.IntPredicate;
 
@@ -104,4 +105,35 @@ public interface Loop1d {
         return of(new Range1d(extent));
     }
 
+    /**
+     * Return a <em>parallel</em> loop implementation with the given
+     * {@code range}, which is executed on the given fork/join {@code pool}.
+     * The range is split recursively and the positions are visited in no
+     * particular order. The actions and predicates, given to the returned
+     * loop, are called concurrently and must be safe to be called for
+     * different positions at the same time. This is the case for setting
+     * the elements of a <em>dense</em> array, but not for the bit-packed or
+     * sparse arrays.
+     *
+     * @param range the loop range
+     * @param pool the pool, which executes the loop
+     * @return a parallel loop for the given {@code range}
+     */
+    static Loop1d parallel(Range1d range, ForkJoinPool pool) {
+        return new Loop1dParallel(range, pool, Loop1dParallel.DEFAULT_GRAIN);
+    }
+
+    /**
+     * Return a <em>parallel</em> loop implementation with the given
+     * {@code range}, which is executed on the {@link ForkJoinPool#commonPool()}.
+     *
+     * @see #parallel(Range1d, ForkJoinPool)
+     *
+     * @param range the loop range
+     * @return a parallel loop for the given {@code range}
+     */
+    static Loop1d parallel(Range1d range) {
+        return parallel(range, ForkJoinPool.commonPool());
+    }
+
 }
@@ -0,0 +1,184 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.lattice;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+import io.jenetics.lattices.structure.Extent1d;
+import io.jenetics.lattices.structure.Index1d;
+import io.jenetics.lattices.structure.Range1d;
+
+/**
+ * Parallel loop implementation. The range is split recursively into halves,
+ * until the parts contain at most {@code grain} positions. The parts are
+ * then iterated forward, on the given fork/join {@code pool}. The match operations stop all workers, once
+ * the result is known.
+ *
+ * @param range the range which defines the boundaries of the loop
+ * @param pool the pool which executes the loop
+ * @param grain the maximal number of positions, which are iterated
+ *        sequentially
+ */
+record Loop1dParallel(Range1d range, ForkJoinPool pool, int grain)
+    implements Loop1d
+{
+
+    /**
+     * The default number of positions, which are iterated sequentially.
+     */
+    static final int DEFAULT_GRAIN = 1 << 12;
+
+    Loop1dParallel {
+        requireNonNull(range);
+        requireNonNull(pool);
+        if (grain < 1) {
+            throw new IllegalArgumentException(
+                "Grain must be positive: " + grain
+            );
+        }
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        requireNonNull(action);
+
+        if (range.extent().elements() <= grain) {
+            new Loop1dForward(range).forEach(action);
+        } else {
+            pool.invoke(new ForEach(range, grain, action));
+        }
+    }
+
+    @Override
+    public boolean anyMatch(IntPredicate predicate) {
+        requireNonNull(predicate);
+
+        if (range.extent().elements() <= grain) {
+            return new Loop1dForward(range).anyMatch(predicate);
+        }
+
+        final var found = new AtomicBoolean(false);
+        pool.invoke(new Match(range, grain, predicate, found));
+        return found.get();
+    }
+
+    @Override
+    public boolean allMatch(IntPredicate predicate) {
+        requireNonNull(predicate);
+        return !anyMatch(i -> !predicate.test(i));
+    }
+
+    @Override
+    public boolean nonMatch(IntPredicate predicate) {
+        return !anyMatch(predicate);
+    }
+
+    private static Range1d[] split(Range1d range) {
+        final var start = range.start();
+        final int elements = range.extent().elements() >>> 1;
+        return new Range1d[] {
+            new Range1d(start, new Extent1d(elements)),
+            new Range1d(
+                new Index1d(start.value() + elements),
+                new Extent1d(range.extent().elements() - elements)
+            )
+        };
+    }
+
+    private static final class ForEach extends RecursiveAction {
+        private static final long serialVersionUID = 1;
+
+        private final transient Range1d range;
+        private final int grain;
+        private final transient IntConsumer action;
+
+        ForEach(Range1d range, int grain, IntConsumer action) {
+            this.range = range;
+            this.grain = grain;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (range.extent().elements() <= grain) {
+                new Loop1dForward(range).forEach(action);
+            } else {
+                final var parts = split(range);
+                invokeAll(
+                    new ForEach(parts[0], grain, action),
+                    new ForEach(parts[1], grain, action)
+                );
+            }
+        }
+    }
+
+    private static final class Match extends RecursiveAction {
+        private static final long serialVersionUID = 1;
+
+        private final transient Range1d range;
+        private final int grain;
+        private final transient IntPredicate predicate;
+        private final transient AtomicBoolean found;
+
+        Match(
+            Range1d range,
+            int grain,
+            IntPredicate predicate,
+            AtomicBoolean found
+        ) {
+            this.range = range;
+            this.grain = grain;
+            this.predicate = predicate;
+            this.found = found;
+        }
+
+        @Override
+        protected void compute() {
+            if (found.get()) {
+                return;
+            }
+
+            if (range.extent().elements() <= grain) {
+                for (int i = range.start().value(),
+                     n = range.start().value() + range.extent().elements();
+                     i < n && !found.get(); ++i)
+                {
+                    if (predicate.test(i)) {
+                        found.set(true);
+                        return;
+                    }
+                }
+            } else {
+                final var parts = split(range);
+                invokeAll(
+                    new Match(parts[0], grain, predicate, found),
+                    new Match(parts[1], grain, predicate, found)
+                );
+            }
+        }
+    }
+
+}
@@ -21,10 +21,14 @@ package io.jenetics.lattices.grid.lattice;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.concurrent.ForkJoinPool;
+
 import io.jenetics.lattices.grid.function.Int2Consumer;
 import io.jenetics.lattices.grid.function.Int2Predicate;
 import io.jenetics.lattices.structure.Extent2d;
 import io.jenetics.lattices.structure.Range2d;
+import io.jenetics.lattices.structure.Stride2d;
+import io.jenetics.lattices.structure.Structure2d;
 
 /**
  * Looping strategies for 2-d structures.
@@ -103,4 +107,105 @@ public interface Loop2d {
         return of(new Range2d(extent));
     }
 
+    /**
+     * Return a loop implementation with the given {@code range}, which is
+     * <em>cache friendly</em> for the given {@code stride} of the looped
+     * structure. The innermost loop walks the dimension with the smallest
+     * stride. For transposed views, this is the row dimension, and the
+     * positions are visited in column-major order.
+     *
+     * @param range the loop range
+     * @param stride the stride of the looped structure
+     * @return a loop for the given {@code range}, which follows the
+     *         {@code stride} of the structure
+     */
+    static Loop2d of(Range2d range, Stride2d stride) {
+        requireNonNull(range);
+        return stride.row() < stride.col()
+            ? new Loop2dColFirst(range)
+            : new Loop2dRowFirst(range);
+    }
+
+    /**
+     * Return a loop implementation for the common positions of the two
+     * given structures, which are processed together, like in the
+     * element-wise operations between two lattices. If both structures
+     * prefer the same loop order, the loop follows the strides of the
+     * structures. Otherwise, a {@link #tiled(Range2d) tiled} loop is
+     * returned, which doesn't walk one of the structures against its
+     * strides over the whole range.
+     *
+     * @param a the first structure, which defines the loop range
+     * @param b the second structure
+     * @return a loop for the given structures
+     */
+    static Loop2d of(Structure2d a, Structure2d b) {
+        final var range = new Range2d(a.extent());
+        final var as = a.layout().stride();
+        final var bs = b.layout().stride();
+        return (as.row() < as.col()) == (bs.row() < bs.col())
+            ? of(range, as)
+            : tiled(range);
+    }
+
+    /**
+     * Return a <em>tiled</em> loop implementation with the given
+     * {@code range}. The range is divided into tiles of
+     * {@code tile x tile} positions, which are visited one after another.
+     *
+     * @param range the loop range
+     * @param tile the tile size
+     * @return a tiled loop for the given {@code range}
+     * @throws IllegalArgumentException if the {@code tile} size is smaller
+     *         than one
+     */
+    static Loop2d tiled(Range2d range, int tile) {
+        return new Loop2dTiled(range, tile);
+    }
+
+    /**
+     * Return a <em>tiled</em> loop implementation with the given
+     * {@code range}. The tile size is chosen, that the tiles of two
+     * {@code double} lattices fit into the L1 cache.
+     *
+     * @see #tiled(Range2d, int)
+     *
+     * @param range the loop range
+     * @return a tiled loop for the given {@code range}
+     */
+    static Loop2d tiled(Range2d range) {
+        return tiled(range, Loop2dTiled.DEFAULT_TILE);
+    }
+
+    /**
+     * Return a <em>parallel</em> loop implementation with the given
+     * {@code range}, which is executed on the given fork/join {@code pool}.
+     * The range is split recursively and the positions are visited in no
+     * particular order. The actions and predicates, given to the returned
+     * loop, are called concurrently and must be safe to be called for
+     * different positions at the same time. This is the case for setting
+     * the elements of a <em>dense</em> array, but not for the bit-packed or
+     * sparse arrays.
+     *
+     * @param range the loop range
+     * @param pool the pool, which executes the loop
+     * @return a parallel loop for the given {@code range}
+     */
+    static Loop2d parallel(Range2d range, ForkJoinPool pool) {
+        return new Loop2dParallel(range, pool, Loop2dParallel.DEFAULT_GRAIN);
+    }
+
+    /**
+     * Return a <em>parallel</em> loop implementation with the given
+     * {@code range}, which is executed on the {@link ForkJoinPool#commonPool()}.
+     *
+     * @see #parallel(Range2d, ForkJoinPool)
+     *
+     * @param range the loop range
+     * @return a parallel loop for the given {@code range}
+     */
+    static Loop2d parallel(Range2d range) {
+        return parallel(range, ForkJoinPool.commonPool());
+    }
+
 }
@@ -0,0 +1,203 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.lattice;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.jenetics.lattices.grid.function.Int2Consumer;
+import io.jenetics.lattices.grid.function.Int2Predicate;
+import io.jenetics.lattices.structure.Extent2d;
+import io.jenetics.lattices.structure.Index2d;
+import io.jenetics.lattices.structure.Range2d;
+
+/**
+ * Parallel loop implementation. The range is split recursively, along its
+ * rows and then along its columns, until the parts contain at most
+ * {@code grain} positions. The parts are then iterated row-major, on the
+ * given fork/join {@code pool}. The match operations stop all workers, once
+ * the result is known.
+ *
+ * @param range the range which defines the boundaries of the loop
+ * @param pool the pool which executes the loop
+ * @param grain the maximal number of positions, which are iterated
+ *        sequentially
+ */
+record Loop2dParallel(Range2d range, ForkJoinPool pool, int grain)
+    implements Loop2d
+{
+
+    /**
+     * The default number of positions, which are iterated sequentially.
+     */
+    static final int DEFAULT_GRAIN = 1 << 12;
+
+    Loop2dParallel {
+        requireNonNull(range);
+        requireNonNull(pool);
+        if (grain < 1) {
+            throw new IllegalArgumentException(
+                "Grain must be positive: " + grain
+            );
+        }
+    }
+
+    @Override
+    public void forEach(Int2Consumer action) {
+        requireNonNull(action);
+
+        if (range.extent().elements() <= grain) {
+            new Loop2dRowFirst(range).forEach(action);
+        } else {
+            pool.invoke(new ForEach(range, grain, action));
+        }
+    }
+
+    @Override
+    public boolean anyMatch(Int2Predicate predicate) {
+        requireNonNull(predicate);
+
+        if (range.extent().elements() <= grain) {
+            return new Loop2dRowFirst(range).anyMatch(predicate);
+        }
+
+        final var found = new AtomicBoolean(false);
+        pool.invoke(new Match(range, grain, predicate, found));
+        return found.get();
+    }
+
+    @Override
+    public boolean allMatch(Int2Predicate predicate) {
+        requireNonNull(predicate);
+        return !anyMatch((r, c) -> !predicate.test(r, c));
+    }
+
+    @Override
+    public boolean nonMatch(Int2Predicate predicate) {
+        return !anyMatch(predicate);
+    }
+
+    private static Range2d[] split(Range2d range) {
+        final var start = range.start();
+        final var extent = range.extent();
+
+        if (extent.rows() > 1) {
+            final int rows = extent.rows() >>> 1;
+            return new Range2d[] {
+                new Range2d(start, new Extent2d(rows, extent.cols())),
+                new Range2d(
+                    new Index2d(start.row() + rows, start.col()),
+                    new Extent2d(extent.rows() - rows, extent.cols())
+                )
+            };
+        } else {
+            final int cols = extent.cols() >>> 1;
+            return new Range2d[] {
+                new Range2d(start, new Extent2d(extent.rows(), cols)),
+                new Range2d(
+                    new Index2d(start.row(), start.col() + cols),
+                    new Extent2d(extent.rows(), extent.cols() - cols)
+                )
+            };
+        }
+    }
+
+    private static final class ForEach extends RecursiveAction {
+        private static final long serialVersionUID = 1;
+
+        private final transient Range2d range;
+        private final int grain;
+        private final transient Int2Consumer action;
+
+        ForEach(Range2d range, int grain, Int2Consumer action) {
+            this.range = range;
+            this.grain = grain;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (range.extent().elements() <= grain) {
+                new Loop2dRowFirst(range).forEach(action);
+            } else {
+                final var parts = split(range);
+                invokeAll(
+                    new ForEach(parts[0], grain, action),
+                    new ForEach(parts[1], grain, action)
+                );
+            }
+        }
+    }
+
+    private static final class Match extends RecursiveAction {
+        private static final long serialVersionUID = 1;
+
+        private final transient Range2d range;
+        private final int grain;
+        private final transient Int2Predicate predicate;
+        private final transient AtomicBoolean found;
+
+        Match(
+            Range2d range,
+            int grain,
+            Int2Predicate predicate,
+            AtomicBoolean found
+        ) {
+            this.range = range;
+            this.grain = grain;
+            this.predicate = predicate;
+            this.found = found;
+        }
+
+        @Override
+        protected void compute() {
+            if (found.get()) {
+                return;
+            }
+
+            if (range.extent().elements() <= grain) {
+                for (int r = range.start().row(),
+                     h = range.start().row() + range.extent().rows();
+                     r < h && !found.get(); ++r)
+                {
+                    for (int c = range.start().col(),
+                         w = range.start().col() + range.extent().cols();
+                         c < w; ++c)
+                    {
+                        if (predicate.test(r, c)) {
+                            found.set(true);
+                            return;
+                        }
+                    }
+                }
+            } else {
+                final var parts = split(range);
+                invokeAll(
+                    new Match(parts[0], grain, predicate, found),
+                    new Match(parts[1], grain, predicate, found)
+                );
+            }
+        }
+    }
+
+}
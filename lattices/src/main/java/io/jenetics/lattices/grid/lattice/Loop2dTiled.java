@@ -0,0 +1,117 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.lattice;
+
+import static java.util.Objects.requireNonNull;
+
+import io.jenetics.lattices.grid.function.Int2Consumer;
+import io.jenetics.lattices.grid.function.Int2Predicate;
+import io.jenetics.lattices.structure.Range2d;
+
+/**
+ * Tiled loop implementation. The range is divided into square tiles of
+ * {@code tile x tile} positions, which are visited row-major. The positions
+ * of a tile are again visited row-major. The loop keeps the working set
+ * small, if two lattices with different layouts are looped together.
+ *
+ * @param range the range which defines the boundaries of the loop
+ * @param tile the number of rows and columns of one tile
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+record Loop2dTiled(Range2d range, int tile) implements Loop2d {
+
+    /**
+     * The default tile size. A tile of {@code double} values has a size of
+     * 8 KB and the tiles of two lattices fit into the L1 cache.
+     */
+    static final int DEFAULT_TILE = 32;
+
+    Loop2dTiled {
+        requireNonNull(range);
+        if (tile < 1) {
+            throw new IllegalArgumentException(
+                "Tile size must be positive: " + tile
+            );
+        }
+    }
+
+    @Override
+    public void forEach(Int2Consumer action) {
+        requireNonNull(action);
+
+        final int rs = range.start().row();
+        final int cs = range.start().col();
+        final int h = rs + range.extent().rows();
+        final int w = cs + range.extent().cols();
+
+        for (int r0 = rs, r1; r0 < h; r0 = r1) {
+            r1 = r0 + Math.min(tile, h - r0);
+            for (int c0 = cs, c1; c0 < w; c0 = c1) {
+                c1 = c0 + Math.min(tile, w - c0);
+                for (int r = r0; r < r1; ++r) {
+                    for (int c = c0; c < c1; ++c) {
+                        action.accept(r, c);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean anyMatch(Int2Predicate predicate) {
+        requireNonNull(predicate);
+
+        final int rs = range.start().row();
+        final int cs = range.start().col();
+        final int h = rs + range.extent().rows();
+        final int w = cs + range.extent().cols();
+
+        for (int r0 = rs, r1; r0 < h; r0 = r1) {
+            r1 = r0 + Math.min(tile, h - r0);
+            for (int c0 = cs, c1; c0 < w; c0 = c1) {
+                c1 = c0 + Math.min(tile, w - c0);
+                for (int r = r0; r < r1; ++r) {
+                    for (int c = c0; c < c1; ++c) {
+                        if (predicate.test(r, c)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean allMatch(Int2Predicate predicate) {
+        requireNonNull(predicate);
+        return !anyMatch((r, c) -> !predicate.test(r, c));
+    }
+
+    @Override
+    public boolean nonMatch(Int2Predicate predicate) {
+        return !anyMatch(predicate);
+    }
+
+}
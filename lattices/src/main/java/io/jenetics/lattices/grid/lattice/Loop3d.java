@@ -21,10 +21,15 @@ package io.jenetics.lattices.grid.lattice;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
 import io.jenetics.lattices.grid.function.Int3Consumer;
 import io.jenetics.lattices.grid.function.Int3Predicate;
 import io.jenetics.lattices.structure.Extent3d;
 import io.jenetics.lattices.structure.Range3d;
+import io.jenetics.lattices.structure.Stride3d;
+import io.jenetics.lattices.structure.Structure3d;
 
 /**
  * Looping strategies for 3-d structures.
@@ -103,4 +108,106 @@ public interface Loop3d {
         return of(new Range3d(extent));
     }
 
+    /**
+     * Return a loop implementation with the given {@code range}, which is
+     * <em>cache friendly</em> for the given {@code stride} of the looped
+     * structure. The loop axes are ordered from the largest to the smallest
+     * stride, so that the innermost loop walks the dimension with the
+     * smallest stride.
+     *
+     * @param range the loop range
+     * @param stride the stride of the looped structure
+     * @return a loop for the given {@code range}, which follows the
+     *         {@code stride} of the structure
+     */
+    static Loop3d of(Range3d range, Stride3d stride) {
+        requireNonNull(range);
+        final int[] axes = Loop3dOrdered.axes(stride);
+        return axes[0] == 0 && axes[1] == 1
+            ? new Loop3dSliceFirst(range)
+            : new Loop3dOrdered(range, axes);
+    }
+
+    /**
+     * Return a loop implementation for the common positions of the two
+     * given structures, which are processed together, like in the
+     * element-wise operations between two lattices. If both structures
+     * prefer the same loop order, the loop follows the strides of the
+     * structures. Otherwise, a {@link #tiled(Range3d) tiled} loop is
+     * returned, which doesn't walk one of the structures against its
+     * strides over the whole range.
+     *
+     * @param a the first structure, which defines the loop range
+     * @param b the second structure
+     * @return a loop for the given structures
+     */
+    static Loop3d of(Structure3d a, Structure3d b) {
+        final var range = new Range3d(a.extent());
+        final var as = a.layout().stride();
+        final var bs = b.layout().stride();
+        return Arrays.equals(Loop3dOrdered.axes(as), Loop3dOrdered.axes(bs))
+            ? of(range, as)
+            : tiled(range);
+    }
+
+    /**
+     * Return a <em>tiled</em> loop implementation with the given
+     * {@code range}. The range is divided into tiles of
+     * {@code tile x tile x tile} positions, which are visited one after another.
+     *
+     * @param range the loop range
+     * @param tile the tile size
+     * @return a tiled loop for the given {@code range}
+     * @throws IllegalArgumentException if the {@code tile} size is smaller
+     *         than one
+     */
+    static Loop3d tiled(Range3d range, int tile) {
+        return new Loop3dTiled(range, tile);
+    }
+
+    /**
+     * Return a <em>tiled</em> loop implementation with the given
+     * {@code range}. The tile size is chosen, that the tiles of two
+     * {@code double} lattices fit into the L1 cache.
+     *
+     * @see #tiled(Range3d, int)
+     *
+     * @param range the loop range
+     * @return a tiled loop for the given {@code range}
+     */
+    static Loop3d tiled(Range3d range) {
+        return tiled(range, Loop3dTiled.DEFAULT_TILE);
+    }
+
+    /**
+     * Return a <em>parallel</em> loop implementation with the given
+     * {@code range}, which is executed on the given fork/join {@code pool}.
+     * The range is split recursively and the positions are visited in no
+     * particular order. The actions and predicates, given to the returned
+     * loop, are called concurrently and must be safe to be called for
+     * different positions at the same time. This is the case for setting
+     * the elements of a <em>dense</em> array, but not for the bit-packed or
+     * sparse arrays.
+     *
+     * @param range the loop range
+     * @param pool the pool, which executes the loop
+     * @return a parallel loop for the given {@code range}
+     */
+    static Loop3d parallel(Range3d range, ForkJoinPool pool) {
+        return new Loop3dParallel(range, pool, Loop3dParallel.DEFAULT_GRAIN);
+    }
+
+    /**
+     * Return a <em>parallel</em> loop implementation with the given
+     * {@code range}, which is executed on the {@link ForkJoinPool#commonPool()}.
+     *
+     * @see #parallel(Range3d, ForkJoinPool)
+     *
+     * @param range the loop range
+     * @return a parallel loop for the given {@code range}
+     */
+    static Loop3d parallel(Range3d range) {
+        return parallel(range, ForkJoinPool.commonPool());
+    }
+
 }
@@ -0,0 +1,152 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.lattice;
+
+import static java.util.Objects.requireNonNull;
+
+import io.jenetics.lattices.grid.function.Int3Consumer;
+import io.jenetics.lattices.grid.function.Int3Predicate;
+import io.jenetics.lattices.structure.Range3d;
+import io.jenetics.lattices.structure.Stride3d;
+
+/**
+ * Loop implementation with a free axis order. The axes are numbered
+ * {@code 0} (slice), {@code 1} (row) and {@code 2} (column) and are iterated
+ * forward, from the {@code outer} to the {@code inner} axis.
+ *
+ * @param range the range which defines the boundaries of the loop
+ * @param outer the outermost loop axis
+ * @param middle the middle loop axis
+ * @param inner the innermost loop axis
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+record Loop3dOrdered(Range3d range, int outer, int middle, int inner)
+    implements Loop3d
+{
+
+    Loop3dOrdered {
+        requireNonNull(range);
+        if (outer == middle || outer == inner || middle == inner ||
+            outer < 0 || outer > 2 ||
+            middle < 0 || middle > 2 ||
+            inner < 0 || inner > 2)
+        {
+            throw new IllegalArgumentException(
+                "Invalid loop axes: [%d, %d, %d].".formatted(outer, middle, inner)
+            );
+        }
+    }
+
+    Loop3dOrdered(Range3d range, int[] axes) {
+        this(range, axes[0], axes[1], axes[2]);
+    }
+
+    @Override
+    public void forEach(Int3Consumer action) {
+        requireNonNull(action);
+
+        final int[] start = start();
+        final int[] end = end(start);
+        final int[] i = new int[3];
+
+        for (i[outer] = start[outer]; i[outer] < end[outer]; ++i[outer]) {
+            for (i[middle] = start[middle]; i[middle] < end[middle]; ++i[middle]) {
+                for (i[inner] = start[inner]; i[inner] < end[inner]; ++i[inner]) {
+                    action.accept(i[0], i[1], i[2]);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean anyMatch(Int3Predicate predicate) {
+        requireNonNull(predicate);
+
+        final int[] start = start();
+        final int[] end = end(start);
+        final int[] i = new int[3];
+
+        for (i[outer] = start[outer]; i[outer] < end[outer]; ++i[outer]) {
+            for (i[middle] = start[middle]; i[middle] < end[middle]; ++i[middle]) {
+                for (i[inner] = start[inner]; i[inner] < end[inner]; ++i[inner]) {
+                    if (predicate.test(i[0], i[1], i[2])) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean allMatch(Int3Predicate predicate) {
+        requireNonNull(predicate);
+        return !anyMatch((s, r, c) -> !predicate.test(s, r, c));
+    }
+
+    @Override
+    public boolean nonMatch(Int3Predicate predicate) {
+        return !anyMatch(predicate);
+    }
+
+    private int[] start() {
+        return new int[] {
+            range.start().slice(),
+            range.start().row(),
+            range.start().col()
+        };
+    }
+
+    private int[] end(final int[] start) {
+        return new int[] {
+            start[0] + range.extent().slices(),
+            start[1] + range.extent().rows(),
+            start[2] + range.extent().cols()
+        };
+    }
+
+    /**
+     * Return the loop axes for the given {@code stride}, ordered from the
+     * largest to the smallest stride. Axes with equal strides keep the
+     * default slice-row-column order.
+     *
+     * @param stride the stride of the looped structure
+     * @return the loop axes, from the outermost to the innermost loop
+     */
+    static int[] axes(Stride3d stride) {
+        final int[] strides = { stride.slice(), stride.row(), stride.col() };
+        final int[] axes = { 0, 1, 2 };
+
+        for (int i = 1; i < axes.length; ++i) {
+            for (int j = i; j > 0 && strides[axes[j - 1]] < strides[axes[j]]; --j) {
+                final int temp = axes[j];
+                axes[j] = axes[j - 1];
+                axes[j - 1] = temp;
+            }
+        }
+
+        return axes;
+    }
+
+}
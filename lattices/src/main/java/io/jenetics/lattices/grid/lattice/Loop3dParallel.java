@@ -0,0 +1,226 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.lattice;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.jenetics.lattices.grid.function.Int3Consumer;
+import io.jenetics.lattices.grid.function.Int3Predicate;
+import io.jenetics.lattices.structure.Extent3d;
+import io.jenetics.lattices.structure.Index3d;
+import io.jenetics.lattices.structure.Range3d;
+
+/**
+ * Parallel loop implementation. The range is split recursively, along its
+ * slices, rows and then along its columns, until the parts contain at most
+ * {@code grain} positions. The parts are then iterated slice-major, on the
+ * given fork/join {@code pool}. The match operations stop all workers, once
+ * the result is known.
+ *
+ * @param range the range which defines the boundaries of the loop
+ * @param pool the pool which executes the loop
+ * @param grain the maximal number of positions, which are iterated
+ *        sequentially
+ */
+record Loop3dParallel(Range3d range, ForkJoinPool pool, int grain)
+    implements Loop3d
+{
+
+    /**
+     * The default number of positions, which are iterated sequentially.
+     */
+    static final int DEFAULT_GRAIN = 1 << 12;
+
+    Loop3dParallel {
+        requireNonNull(range);
+        requireNonNull(pool);
+        if (grain < 1) {
+            throw new IllegalArgumentException(
+                "Grain must be positive: " + grain
+            );
+        }
+    }
+
+    @Override
+    public void forEach(Int3Consumer action) {
+        requireNonNull(action);
+
+        if (range.extent().elements() <= grain) {
+            new Loop3dSliceFirst(range).forEach(action);
+        } else {
+            pool.invoke(new ForEach(range, grain, action));
+        }
+    }
+
+    @Override
+    public boolean anyMatch(Int3Predicate predicate) {
+        requireNonNull(predicate);
+
+        if (range.extent().elements() <= grain) {
+            return new Loop3dSliceFirst(range).anyMatch(predicate);
+        }
+
+        final var found = new AtomicBoolean(false);
+        pool.invoke(new Match(range, grain, predicate, found));
+        return found.get();
+    }
+
+    @Override
+    public boolean allMatch(Int3Predicate predicate) {
+        requireNonNull(predicate);
+        return !anyMatch((s, r, c) -> !predicate.test(s, r, c));
+    }
+
+    @Override
+    public boolean nonMatch(Int3Predicate predicate) {
+        return !anyMatch(predicate);
+    }
+
+    private static Range3d[] split(Range3d range) {
+        final var start = range.start();
+        final var extent = range.extent();
+
+        if (extent.slices() > 1) {
+            final int slices = extent.slices() >>> 1;
+            return new Range3d[] {
+                new Range3d(
+                    start,
+                    new Extent3d(slices, extent.rows(), extent.cols())
+                ),
+                new Range3d(
+                    new Index3d(start.slice() + slices, start.row(), start.col()),
+                    new Extent3d(extent.slices() - slices, extent.rows(), extent.cols())
+                )
+            };
+        } else if (extent.rows() > 1) {
+            final int rows = extent.rows() >>> 1;
+            return new Range3d[] {
+                new Range3d(
+                    start,
+                    new Extent3d(extent.slices(), rows, extent.cols())
+                ),
+                new Range3d(
+                    new Index3d(start.slice(), start.row() + rows, start.col()),
+                    new Extent3d(extent.slices(), extent.rows() - rows, extent.cols())
+                )
+            };
+        } else {
+            final int cols = extent.cols() >>> 1;
+            return new Range3d[] {
+                new Range3d(
+                    start,
+                    new Extent3d(extent.slices(), extent.rows(), cols)
+                ),
+                new Range3d(
+                    new Index3d(start.slice(), start.row(), start.col() + cols),
+                    new Extent3d(extent.slices(), extent.rows(), extent.cols() - cols)
+                )
+            };
+        }
+    }
+
+    private static final class ForEach extends RecursiveAction {
+        private static final long serialVersionUID = 1;
+
+        private final transient Range3d range;
+        private final int grain;
+        private final transient Int3Consumer action;
+
+        ForEach(Range3d range, int grain, Int3Consumer action) {
+            this.range = range;
+            this.grain = grain;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (range.extent().elements() <= grain) {
+                new Loop3dSliceFirst(range).forEach(action);
+            } else {
+                final var parts = split(range);
+                invokeAll(
+                    new ForEach(parts[0], grain, action),
+                    new ForEach(parts[1], grain, action)
+                );
+            }
+        }
+    }
+
+    private static final class Match extends RecursiveAction {
+        private static final long serialVersionUID = 1;
+
+        private final transient Range3d range;
+        private final int grain;
+        private final transient Int3Predicate predicate;
+        private final transient AtomicBoolean found;
+
+        Match(
+            Range3d range,
+            int grain,
+            Int3Predicate predicate,
+            AtomicBoolean found
+        ) {
+            this.range = range;
+            this.grain = grain;
+            this.predicate = predicate;
+            this.found = found;
+        }
+
+        @Override
+        protected void compute() {
+            if (found.get()) {
+                return;
+            }
+
+            if (range.extent().elements() <= grain) {
+                for (int s = range.start().slice(),
+                     d = range.start().slice() + range.extent().slices();
+                     s < d && !found.get(); ++s)
+                {
+                    for (int r = range.start().row(),
+                         h = range.start().row() + range.extent().rows();
+                         r < h && !found.get(); ++r)
+                    {
+                        for (int c = range.start().col(),
+                             w = range.start().col() + range.extent().cols();
+                             c < w; ++c)
+                        {
+                            if (predicate.test(s, r, c)) {
+                                found.set(true);
+                                return;
+                            }
+                        }
+                    }
+                }
+            } else {
+                final var parts = split(range);
+                invokeAll(
+                    new Match(parts[0], grain, predicate, found),
+                    new Match(parts[1], grain, predicate, found)
+                );
+            }
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.lattice;
+
+import static java.util.Objects.requireNonNull;
+
+import io.jenetics.lattices.grid.function.Int3Consumer;
+import io.jenetics.lattices.grid.function.Int3Predicate;
+import io.jenetics.lattices.structure.Range3d;
+
+/**
+ * Tiled loop implementation. The range is divided into cubic tiles of
+ * {@code tile x tile x tile} positions, which are visited slice-major. The
+ * positions of a tile are again visited slice-major. The loop keeps the
+ * working set small, if two lattices with different layouts are looped
+ * together.
+ *
+ * @param range the range which defines the boundaries of the loop
+ * @param tile the number of slices, rows and columns of one tile
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+record Loop3dTiled(Range3d range, int tile) implements Loop3d {
+
+    /**
+     * The default tile size. A tile of {@code double} values has a size of
+     * 4 KB and the tiles of two lattices fit into the L1 cache.
+     */
+    static final int DEFAULT_TILE = 8;
+
+    Loop3dTiled {
+        requireNonNull(range);
+        if (tile < 1) {
+            throw new IllegalArgumentException(
+                "Tile size must be positive: " + tile
+            );
+        }
+    }
+
+    @Override
+    public void forEach(Int3Consumer action) {
+        requireNonNull(action);
+
+        final int ss = range.start().slice();
+        final int rs = range.start().row();
+        final int cs = range.start().col();
+        final int d = ss + range.extent().slices();
+        final int h = rs + range.extent().rows();
+        final int w = cs + range.extent().cols();
+
+        for (int s0 = ss, s1; s0 < d; s0 = s1) {
+            s1 = s0 + Math.min(tile, d - s0);
+            for (int r0 = rs, r1; r0 < h; r0 = r1) {
+                r1 = r0 + Math.min(tile, h - r0);
+                for (int c0 = cs, c1; c0 < w; c0 = c1) {
+                    c1 = c0 + Math.min(tile, w - c0);
+                    for (int s = s0; s < s1; ++s) {
+                        for (int r = r0; r < r1; ++r) {
+                            for (int c = c0; c < c1; ++c) {
+                                action.accept(s, r, c);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean anyMatch(Int3Predicate predicate) {
+        requireNonNull(predicate);
+
+        final int ss = range.start().slice();
+        final int rs = range.start().row();
+        final int cs = range.start().col();
+        final int d = ss + range.extent().slices();
+        final int h = rs + range.extent().rows();
+        final int w = cs + range.extent().cols();
+
+        for (int s0 = ss, s1; s0 < d; s0 = s1) {
+            s1 = s0 + Math.min(tile, d - s0);
+            for (int r0 = rs, r1; r0 < h; r0 = r1) {
+                r1 = r0 + Math.min(tile, h - r0);
+                for (int c0 = cs, c1; c0 < w; c0 = c1) {
+                    c1 = c0 + Math.min(tile, w - c0);
+                    for (int s = s0; s < s1; ++s) {
+                        for (int r = r0; r < r1; ++r) {
+                            for (int c = c0; c < c1; ++c) {
+                                if (predicate.test(s, r, c)) {
+                                    return true;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean allMatch(Int3Predicate predicate) {
+        requireNonNull(predicate);
+        return !anyMatch((s, r, c) -> !predicate.test(s, r, c));
+    }
+
+    @Override
+    public boolean nonMatch(Int3Predicate predicate) {
+        return !anyMatch(predicate);
+    }
+
+}
@@ -38,6 +38,25 @@ public interface Loopable1d extends Loop1d {
      */
     Loop1d loop();
 
+    /**
+     * Return a <em>parallel</em> looping strategy, which visits the same
+     * positions as the {@link #loop()}, but executes the actions
+     * concurrently and in no particular order. The actions and predicates
+     * must be safe to be called for different positions at the same time.
+     * The default implementation returns the sequential {@link #loop()}.
+     * <pre>{@code
+     * final var grid = DoubleGrid1d.DENSE.create(...);
+     * grid.parallel().forEach(i -> grid.set(i, f(i)));
+     * }</pre>
+     *
+     * @see Loop1d#parallel(io.jenetics.lattices.structure.Range1d)
+     *
+     * @return a parallel looping strategy
+     */
+    default Loop1d parallel() {
+        return loop();
+    }
+
     @Override
     default void forEach(IntConsumer action) {
         loop().forEach(action);
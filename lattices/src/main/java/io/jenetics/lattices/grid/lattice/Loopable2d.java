@@ -38,6 +38,40 @@ public interface Loopable2d extends Loop2d {
      */
     Loop2d loop();
 
+    /**
+     * Return a <em>parallel</em> looping strategy, which visits the same
+     * positions as the {@link #loop()}, but executes the actions
+     * concurrently and in no particular order. The actions and predicates
+     * must be safe to be called for different positions at the same time.
+     * The default implementation returns the sequential {@link #loop()}.
+     * <pre>{@code
+     * final var grid = DoubleGrid2d.DENSE.create(...);
+     * grid.parallel().forEach((r, c) -> grid.set(r, c, f(r, c)));
+     * }</pre>
+     *
+     * @see Loop2d#parallel(io.jenetics.lattices.structure.Range2d)
+     *
+     * @return a parallel looping strategy
+     */
+    default Loop2d parallel() {
+        return loop();
+    }
+
+    /**
+     * Return a <em>tiled</em> looping strategy, which visits the same
+     * positions as the {@link #loop()}, but tile by tile. This keeps the
+     * working set small, if {@code this} structure is looped together with
+     * a structure of a different layout. The default implementation returns
+     * the {@link #loop()}.
+     *
+     * @see Loop2d#tiled(io.jenetics.lattices.structure.Range2d)
+     *
+     * @return a tiled looping strategy
+     */
+    default Loop2d tiled() {
+        return loop();
+    }
+
     @Override
     default void forEach(Int2Consumer action) {
         loop().forEach(action);
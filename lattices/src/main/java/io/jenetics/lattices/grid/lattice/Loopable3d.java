@@ -38,6 +38,40 @@ public interface Loopable3d extends Loop3d {
      */
     Loop3d loop();
 
+    /**
+     * Return a <em>parallel</em> looping strategy, which visits the same
+     * positions as the {@link #loop()}, but executes the actions
+     * concurrently and in no particular order. The actions and predicates
+     * must be safe to be called for different positions at the same time.
+     * The default implementation returns the sequential {@link #loop()}.
+     * <pre>{@code
+     * final var grid = DoubleGrid3d.DENSE.create(...);
+     * grid.parallel().forEach((s, r, c) -> grid.set(s, r, c, f(s, r, c)));
+     * }</pre>
+     *
+     * @see Loop3d#parallel(io.jenetics.lattices.structure.Range3d)
+     *
+     * @return a parallel looping strategy
+     */
+    default Loop3d parallel() {
+        return loop();
+    }
+
+    /**
+     * Return a <em>tiled</em> looping strategy, which visits the same
+     * positions as the {@link #loop()}, but tile by tile. This keeps the
+     * working set small, if {@code this} structure is looped together with
+     * a structure of a different layout. The default implementation returns
+     * the {@link #loop()}.
+     *
+     * @see Loop3d#tiled(io.jenetics.lattices.structure.Range3d)
+     *
+     * @return a tiled looping strategy
+     */
+    default Loop3d tiled() {
+        return loop();
+    }
+
     @Override
     default void forEach(Int3Consumer action) {
         loop().forEach(action);
@@ -0,0 +1,576 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.lattice;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+
+import io.jenetics.lattices.grid.function.Int2Consumer;
+import io.jenetics.lattices.grid.function.Int2Predicate;
+import io.jenetics.lattices.structure.Structure1d;
+import io.jenetics.lattices.structure.Structure2d;
+import io.jenetics.lattices.structure.Structure3d;
+
+/**
+ * Loops over the <em>array offsets</em> of lattice structures. Instead of
+ * the lattice coordinates, the visitors are called with the array offsets,
+ * which are computed once for the first element and then incremented by the
+ * strides of the structure layout. The offsets are visited in the order of
+ * the default loops: the innermost loop walks the dimension with the
+ * smallest stride of the (first) structure. If two structures with
+ * different loop orders are visited together, the offsets are visited in
+ * tiles, like the {@link Loop2d#tiled(io.jenetics.lattices.structure.Range2d)}
+ * loop. If the two structures are views of the same array, the offsets are
+ * visited in row-major order. Overlapping views then give the same result
+ * as the element-wise loop over the lattice coordinates.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+final class Offsets {
+    private Offsets() {
+    }
+
+    /**
+     * Performs the given {@code action} for each array offset of the given
+     * {@code structure}.
+     *
+     * @param structure the lattice structure
+     * @param action the action called with the array offsets
+     */
+    static void forEach(Structure1d structure, IntConsumer action) {
+        final int n = structure.extent().elements();
+        if (n == 0) {
+            return;
+        }
+
+        final var layout = structure.layout();
+        final int stride = layout.stride().value();
+        for (int i = 0, o = layout.offset(0); i < n; ++i, o += stride) {
+            action.accept(o);
+        }
+    }
+
+    /**
+     * Performs the given {@code action} for each pair of array offsets of the
+     * given structures, which must have the same extent.
+     *
+     * @param a the first lattice structure
+     * @param b the second lattice structure
+     * @param action the action called with the array offsets of {@code a}
+     *        and {@code b}
+     */
+    static void forEach(Structure1d a, Structure1d b, Int2Consumer action) {
+        final int n = a.extent().elements();
+        if (n == 0) {
+            return;
+        }
+
+        final int as = a.layout().stride().value();
+        final int bs = b.layout().stride().value();
+        for (int i = 0, ao = a.layout().offset(0), bo = b.layout().offset(0);
+             i < n; ++i, ao += as, bo += bs)
+        {
+            action.accept(ao, bo);
+        }
+    }
+
+    /**
+     * Tests whether all pairs of array offsets of the given structures match
+     * the given {@code predicate}. The structures must have the same extent.
+     *
+     * @param a the first lattice structure
+     * @param b the second lattice structure
+     * @param predicate the predicate called with the array offsets of
+     *        {@code a} and {@code b}
+     * @return {@code true} if all offset pairs match the predicate
+     */
+    static boolean allMatch(Structure1d a, Structure1d b, Int2Predicate predicate) {
+        final int n = a.extent().elements();
+        if (n == 0) {
+            return true;
+        }
+
+        final int as = a.layout().stride().value();
+        final int bs = b.layout().stride().value();
+        for (int i = 0, ao = a.layout().offset(0), bo = b.layout().offset(0);
+             i < n; ++i, ao += as, bo += bs)
+        {
+            if (!predicate.test(ao, bo)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Performs the given {@code action} for each array offset of the given
+     * {@code structure}.
+     *
+     * @param structure the lattice structure
+     * @param pool the pool, which executes the loop in parallel, or
+     *        {@code null} for a sequential execution
+     * @param action the action called with the array offsets
+     */
+    static void forEach(
+        Structure2d structure,
+        ForkJoinPool pool,
+        IntConsumer action
+    ) {
+        final var loop = new Loop2(structure, structure, false);
+        if (loop.isEmpty()) {
+            return;
+        }
+
+        run(pool, loop.outer, loop.inner, (from, to) -> {
+            for (int i = from, ao = loop.a + from*loop.aos; i < to; ++i, ao += loop.aos) {
+                for (int j = 0, o = ao; j < loop.inner; ++j, o += loop.ais) {
+                    action.accept(o);
+                }
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Performs the given {@code action} for each pair of array offsets of the
+     * given structures, which must have the same extent.
+     *
+     * @param a the first lattice structure
+     * @param b the second lattice structure
+     * @param shared whether both structures are views of the same array
+     * @param pool the pool, which executes the loop in parallel, or
+     *        {@code null} for a sequential execution
+     * @param action the action called with the array offsets of {@code a}
+     *        and {@code b}
+     */
+    static void forEach(
+        Structure2d a,
+        Structure2d b,
+        boolean shared,
+        ForkJoinPool pool,
+        Int2Consumer action
+    ) {
+        final var loop = new Loop2(a, b, shared);
+        if (loop.isEmpty()) {
+            return;
+        }
+
+        run(pool, loop.outer, loop.inner, (from, to) -> {
+            loop.forEach(from, to, action);
+            return true;
+        });
+    }
+
+    /**
+     * Tests whether all pairs of array offsets of the given structures match
+     * the given {@code predicate}. The structures must have the same extent.
+     *
+     * @param a the first lattice structure
+     * @param b the second lattice structure
+     * @param shared whether both structures are views of the same array
+     * @param pool the pool, which executes the loop in parallel, or
+     *        {@code null} for a sequential execution
+     * @param predicate the predicate called with the array offsets of
+     *        {@code a} and {@code b}
+     * @return {@code true} if all offset pairs match the predicate
+     */
+    static boolean allMatch(
+        Structure2d a,
+        Structure2d b,
+        boolean shared,
+        ForkJoinPool pool,
+        Int2Predicate predicate
+    ) {
+        final var loop = new Loop2(a, b, shared);
+        if (loop.isEmpty()) {
+            return true;
+        }
+
+        return run(pool, loop.outer, loop.inner, (from, to) ->
+            loop.allMatch(from, to, predicate)
+        );
+    }
+
+    /**
+     * Performs the given {@code action} for each array offset of the given
+     * {@code structure}.
+     *
+     * @param structure the lattice structure
+     * @param pool the pool, which executes the loop in parallel, or
+     *        {@code null} for a sequential execution
+     * @param action the action called with the array offsets
+     */
+    static void forEach(
+        Structure3d structure,
+        ForkJoinPool pool,
+        IntConsumer action
+    ) {
+        final var loop = new Loop3(structure, structure, false);
+        if (loop.isEmpty()) {
+            return;
+        }
+
+        run(pool, loop.outer, (long)loop.middle*loop.inner, (from, to) -> {
+            for (int i = from, ao = loop.a + from*loop.aos; i < to; ++i, ao += loop.aos) {
+                for (int j = 0, am = ao; j < loop.middle; ++j, am += loop.ams) {
+                    for (int k = 0, o = am; k < loop.inner; ++k, o += loop.ais) {
+                        action.accept(o);
+                    }
+                }
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Performs the given {@code action} for each pair of array offsets of the
+     * given structures, which must have the same extent.
+     *
+     * @param a the first lattice structure
+     * @param b the second lattice structure
+     * @param shared whether both structures are views of the same array
+     * @param pool the pool, which executes the loop in parallel, or
+     *        {@code null} for a sequential execution
+     * @param action the action called with the array offsets of {@code a}
+     *        and {@code b}
+     */
+    static void forEach(
+        Structure3d a,
+        Structure3d b,
+        boolean shared,
+        ForkJoinPool pool,
+        Int2Consumer action
+    ) {
+        final var loop = new Loop3(a, b, shared);
+        if (loop.isEmpty()) {
+            return;
+        }
+
+        run(pool, loop.outer, (long)loop.middle*loop.inner, (from, to) -> {
+            loop.forEach(from, to, action);
+            return true;
+        });
+    }
+
+    /**
+     * Tests whether all pairs of array offsets of the given structures match
+     * the given {@code predicate}. The structures must have the same extent.
+     *
+     * @param a the first lattice structure
+     * @param b the second lattice structure
+     * @param shared whether both structures are views of the same array
+     * @param pool the pool, which executes the loop in parallel, or
+     *        {@code null} for a sequential execution
+     * @param predicate the predicate called with the array offsets of
+     *        {@code a} and {@code b}
+     * @return {@code true} if all offset pairs match the predicate
+     */
+    static boolean allMatch(
+        Structure3d a,
+        Structure3d b,
+        boolean shared,
+        ForkJoinPool pool,
+        Int2Predicate predicate
+    ) {
+        final var loop = new Loop3(a, b, shared);
+        if (loop.isEmpty()) {
+            return true;
+        }
+
+        return run(pool, loop.outer, (long)loop.middle*loop.inner, (from, to) ->
+            loop.allMatch(from, to, predicate)
+        );
+    }
+
+    /**
+     * Visits the indexes {@code [0, outer)} of the outer loop. If a
+     * {@code pool} is given, the outer indexes are split into parts, which
+     * contain at least {@link Loop2dParallel#DEFAULT_GRAIN} offsets, and the
+     * parts are visited in parallel.
+     *
+     * @param pool the pool, which executes the loop in parallel, or
+     *        {@code null} for a sequential execution
+     * @param outer the number of outer indexes
+     * @param size the number of offsets of one outer index
+     * @param part the visitor of the outer index range {@code [from, to)}
+     * @return {@code false} if one of the visited parts returned
+     *         {@code false}, {@code true} otherwise
+     */
+    private static boolean run(ForkJoinPool pool, int outer, long size, Part part) {
+        if (pool == null || outer < 2) {
+            return part.visit(0, outer);
+        }
+
+        final int grain = (int)Math.max(1, Loop2dParallel.DEFAULT_GRAIN/size);
+        final var failed = new AtomicBoolean(false);
+        pool.invoke(new Visit(0, outer, grain, part, failed));
+        return !failed.get();
+    }
+
+    /**
+     * Visitor of the outer index range {@code [from, to)}.
+     */
+    @FunctionalInterface
+    private interface Part {
+        boolean visit(int from, int to);
+    }
+
+    private static final class Visit extends RecursiveAction {
+        private static final long serialVersionUID = 1;
+
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final transient Part part;
+        private final transient AtomicBoolean failed;
+
+        Visit(int from, int to, int grain, Part part, AtomicBoolean failed) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.part = part;
+            this.failed = failed;
+        }
+
+        @Override
+        protected void compute() {
+            if (failed.get()) {
+                return;
+            }
+
+            if (to - from <= grain) {
+                if (!part.visit(from, to)) {
+                    failed.set(true);
+                }
+            } else {
+                final int mid = (from + to) >>> 1;
+                invokeAll(
+                    new Visit(from, mid, grain, part, failed),
+                    new Visit(mid, to, grain, part, failed)
+                );
+            }
+        }
+    }
+
+    /**
+     * The loop bounds and strides of two 2-d structures. The dimensions are
+     * ordered by the strides of the first structure, from the outer to the
+     * inner loop. If the second structure prefers a different loop order,
+     * the offsets are visited in tiles. Structures of a shared array are
+     * visited in row-major order.
+     */
+    private static final class Loop2 {
+        final int outer, inner, tile;
+        final int a, aos, ais;
+        final int b, bos, bis;
+
+        Loop2(Structure2d a, Structure2d b, boolean shared) {
+            final var as = a.layout().stride();
+            final var bs = b.layout().stride();
+            final boolean colMajor = !shared && as.row() < as.col();
+
+            outer = colMajor ? a.extent().cols() : a.extent().rows();
+            inner = colMajor ? a.extent().rows() : a.extent().cols();
+            tile = shared || colMajor == bs.row() < bs.col()
+                ? Math.max(outer, inner)
+                : Loop2dTiled.DEFAULT_TILE;
+            this.a = a.layout().offset(0, 0);
+            aos = colMajor ? as.col() : as.row();
+            ais = colMajor ? as.row() : as.col();
+            this.b = b.layout().offset(0, 0);
+            bos = colMajor ? bs.col() : bs.row();
+            bis = colMajor ? bs.row() : bs.col();
+        }
+
+        boolean isEmpty() {
+            return outer == 0 || inner == 0;
+        }
+
+        void forEach(int from, int to, Int2Consumer action) {
+            for (int i0 = from, i1; i0 < to; i0 = i1) {
+                i1 = i0 + Math.min(tile, to - i0);
+                for (int j0 = 0, j1; j0 < inner; j0 = j1) {
+                    j1 = j0 + Math.min(tile, inner - j0);
+                    forEach(i0, i1, j0, j1, action);
+                }
+            }
+        }
+
+        boolean allMatch(int from, int to, Int2Predicate predicate) {
+            for (int i0 = from, i1; i0 < to; i0 = i1) {
+                i1 = i0 + Math.min(tile, to - i0);
+                for (int j0 = 0, j1; j0 < inner; j0 = j1) {
+                    j1 = j0 + Math.min(tile, inner - j0);
+                    if (!allMatch(i0, i1, j0, j1, predicate)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        void forEach(int i0, int i1, int j0, int j1, Int2Consumer action) {
+            for (int i = i0, ao = a + i0*aos + j0*ais, bo = b + i0*bos + j0*bis;
+                 i < i1; ++i, ao += aos, bo += bos)
+            {
+                for (int j = j0, ai = ao, bi = bo; j < j1; ++j, ai += ais, bi += bis) {
+                    action.accept(ai, bi);
+                }
+            }
+        }
+
+        boolean allMatch(int i0, int i1, int j0, int j1, Int2Predicate predicate) {
+            for (int i = i0, ao = a + i0*aos + j0*ais, bo = b + i0*bos + j0*bis;
+                 i < i1; ++i, ao += aos, bo += bos)
+            {
+                for (int j = j0, ai = ao, bi = bo; j < j1; ++j, ai += ais, bi += bis) {
+                    if (!predicate.test(ai, bi)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The loop bounds and strides of two 3-d structures. The dimensions are
+     * ordered by the strides of the first structure, from the outer to the
+     * inner loop. If the second structure prefers a different loop order,
+     * the offsets are visited in tiles. Structures of a shared array are
+     * visited in row-major order.
+     */
+    private static final class Loop3 {
+        final int outer, middle, inner, tile;
+        final int a, aos, ams, ais;
+        final int b, bos, bms, bis;
+
+        Loop3(Structure3d a, Structure3d b, boolean shared) {
+            final int[] axes = shared
+                ? new int[] { 0, 1, 2 }
+                : Loop3dOrdered.axes(a.layout().stride());
+            final int[] extent = {
+                a.extent().slices(), a.extent().rows(), a.extent().cols()
+            };
+            final int[] as = strides(a);
+            final int[] bs = strides(b);
+
+            outer = extent[axes[0]];
+            middle = extent[axes[1]];
+            inner = extent[axes[2]];
+            tile = shared || Arrays.equals(axes, Loop3dOrdered.axes(b.layout().stride()))
+                ? Math.max(outer, Math.max(middle, inner))
+                : Loop3dTiled.DEFAULT_TILE;
+            this.a = a.layout().offset(0, 0, 0);
+            aos = as[axes[0]];
+            ams = as[axes[1]];
+            ais = as[axes[2]];
+            this.b = b.layout().offset(0, 0, 0);
+            bos = bs[axes[0]];
+            bms = bs[axes[1]];
+            bis = bs[axes[2]];
+        }
+
+        private static int[] strides(Structure3d structure) {
+            final var stride = structure.layout().stride();
+            return new int[] { stride.slice(), stride.row(), stride.col() };
+        }
+
+        boolean isEmpty() {
+            return outer == 0 || middle == 0 || inner == 0;
+        }
+
+        void forEach(int from, int to, Int2Consumer action) {
+            for (int i0 = from, i1; i0 < to; i0 = i1) {
+                i1 = i0 + Math.min(tile, to - i0);
+                for (int j0 = 0, j1; j0 < middle; j0 = j1) {
+                    j1 = j0 + Math.min(tile, middle - j0);
+                    for (int k0 = 0, k1; k0 < inner; k0 = k1) {
+                        k1 = k0 + Math.min(tile, inner - k0);
+                        forEach(i0, i1, j0, j1, k0, k1, action);
+                    }
+                }
+            }
+        }
+
+        boolean allMatch(int from, int to, Int2Predicate predicate) {
+            for (int i0 = from, i1; i0 < to; i0 = i1) {
+                i1 = i0 + Math.min(tile, to - i0);
+                for (int j0 = 0, j1; j0 < middle; j0 = j1) {
+                    j1 = j0 + Math.min(tile, middle - j0);
+                    for (int k0 = 0, k1; k0 < inner; k0 = k1) {
+                        k1 = k0 + Math.min(tile, inner - k0);
+                        if (!allMatch(i0, i1, j0, j1, k0, k1, predicate)) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            return true;
+        }
+
+        void forEach(
+            int i0, int i1,
+            int j0, int j1,
+            int k0, int k1,
+            Int2Consumer action
+        ) {
+            for (int i = i0,
+                 ao = a + i0*aos + j0*ams + k0*ais,
+                 bo = b + i0*bos + j0*bms + k0*bis;
+                 i < i1; ++i, ao += aos, bo += bos)
+            {
+                for (int j = j0, am = ao, bm = bo; j < j1; ++j, am += ams, bm += bms) {
+                    for (int k = k0, ai = am, bi = bm; k < k1; ++k, ai += ais, bi += bis) {
+                        action.accept(ai, bi);
+                    }
+                }
+            }
+        }
+
+        boolean allMatch(
+            int i0, int i1,
+            int j0, int j1,
+            int k0, int k1,
+            Int2Predicate predicate
+        ) {
+            for (int i = i0,
+                 ao = a + i0*aos + j0*ams + k0*ais,
+                 bo = b + i0*bos + j0*bms + k0*bis;
+                 i < i1; ++i, ao += aos, bo += bos)
+            {
+                for (int j = j0, am = ao, bm = bo; j < j1; ++j, am += ams, bm += bms) {
+                    for (int k = k0, ai = am, bi = bm; k < k1; ++k, ai += ais, bi += bis) {
+                        if (!predicate.test(ai, bi)) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.lattice;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import io.jenetics.lattices.grid.array.BaseArray;
+
+/**
+ * Opens a <em>scope</em>, in which the element-wise operations of the 2-d
+ * and 3-d lattices are executed in parallel. Outside such a scope, the
+ * lattice operations are always executed sequentially. Within the scope,
+ * the {@code assign}, {@code swap} and {@code equals} operations of a
+ * lattice are executed on the given fork/join pool, if
+ * <ul>
+ *     <li>the lattice contains enough elements,</li>
+ *     <li>all involved arrays are
+ *     {@link BaseArray#isConcurrentWritable() concurrent writable} and</li>
+ *     <li>the involved lattices are not views of the same array.</li>
+ * </ul>
+ * Otherwise, the operations fall back to the sequential execution. The
+ * functions given to the operations are called concurrently and must be
+ * safe to be called for different elements at the same time. The
+ * operations, which are executed by the pool threads, are executed
+ * sequentially.
+ * <pre>{@code
+ * final var a = DoubleGrid2d.DENSE.create(1000, 1000);
+ * final var b = DoubleGrid2d.DENSE.create(1000, 1000);
+ *
+ * ParallelScope.using(ForkJoinPool.commonPool(), () -> {
+ *     a.assign(b);
+ *     a.assign(Math::sqrt);
+ * });
+ * }</pre>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public final class ParallelScope {
+
+    // Holds the pool of the current scope, if any.
+    private static final ThreadLocal<ForkJoinPool> POOL = new ThreadLocal<>();
+
+    private ParallelScope() {
+    }
+
+    /**
+     * Executes the given {@code task} within a parallel scope, which uses
+     * the given fork/join {@code pool}.
+     *
+     * @param pool the pool, which executes the lattice operations
+     * @param task the task, which is executed within the parallel scope
+     * @throws NullPointerException if one of the arguments is {@code null}
+     */
+    public static void using(ForkJoinPool pool, Runnable task) {
+        requireNonNull(task);
+        with(pool, () -> { task.run(); return null; });
+    }
+
+    /**
+     * Executes the given {@code supplier} within a parallel scope, which uses
+     * the given fork/join {@code pool}.
+     *
+     * @param pool the pool, which executes the lattice operations
+     * @param supplier the supplier, which is executed within the parallel
+     *        scope
+     * @return the supplier result
+     * @param <T> the type of the supplier result
+     * @throws NullPointerException if one of the arguments is {@code null}
+     */
+    public static <T> T with(ForkJoinPool pool, Supplier<? extends T> supplier) {
+        requireNonNull(pool);
+        requireNonNull(supplier);
+
+        final var parent = POOL.get();
+        POOL.set(pool);
+        try {
+            return supplier.get();
+        } finally {
+            if (parent != null) {
+                POOL.set(parent);
+            } else {
+                POOL.remove();
+            }
+        }
+    }
+
+    /**
+     * Return the pool of the current scope, if an operation on the given
+     * number of {@code elements}, which accesses the given {@code arrays},
+     * can be executed in parallel, and {@code null} otherwise.
+     *
+     * @param elements the number of elements of the operation
+     * @param arrays the arrays accessed by the operation
+     * @return the pool for executing the operation in parallel, or
+     *         {@code null} if the operation must be executed sequentially
+     */
+    static ForkJoinPool pool(long elements, BaseArray... arrays) {
+        final var pool = POOL.get();
+        if (pool == null ||
+            pool.getParallelism() < 2 ||
+            elements <= Loop2dParallel.DEFAULT_GRAIN)
+        {
+            return null;
+        }
+
+        for (int i = 0; i < arrays.length; ++i) {
+            if (!arrays[i].isConcurrentWritable()) {
+                return null;
+            }
+            for (int j = 0; j < i; ++j) {
+                if (arrays[i] == arrays[j]) {
+                    return null;
+                }
+            }
+        }
+        return pool;
+    }
+
+}
@@ -41,4 +41,15 @@ interface Structure1dOps extends Structured1d, Loopable1d {
         return Loop1d.of(new Range1d(extent()));
     }
 
+    /**
+     * Return the parallel looping strategy of this structural, which is
+     * executed on the {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     *
+     * @return the parallel looping strategy of this structural
+     */
+    @Override
+    default Loop1d parallel() {
+        return Loop1d.parallel(new Range1d(extent()));
+    }
+
 }
@@ -32,13 +32,36 @@ interface Structure2dOps extends Structured2d, Loopable2d {
 
     /**
      * Return the default looping strategy of this structural, which can be
-     * overridden by the implementation, if desired.
+     * overridden by the implementation, if desired. The loop order follows
+     * the layout strides of the structure, with the smallest stride in the
+     * innermost loop.
      *
      * @return the looping strategy of this structural
      */
     @Override
     default Loop2d loop() {
-        return Loop2d.of(new Range2d(extent()));
+        return Loop2d.of(new Range2d(extent()), structure().layout().stride());
+    }
+
+    /**
+     * Return the parallel looping strategy of this structural, which is
+     * executed on the {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     *
+     * @return the parallel looping strategy of this structural
+     */
+    @Override
+    default Loop2d parallel() {
+        return Loop2d.parallel(new Range2d(extent()));
+    }
+
+    /**
+     * Return the tiled looping strategy of this structural.
+     *
+     * @return the tiled looping strategy of this structural
+     */
+    @Override
+    default Loop2d tiled() {
+        return Loop2d.tiled(new Range2d(extent()));
     }
 
 }
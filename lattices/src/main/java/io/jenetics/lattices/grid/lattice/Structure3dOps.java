@@ -32,13 +32,36 @@ interface Structure3dOps extends Structured3d, Loopable3d {
 
     /**
      * Return the default looping strategy of this structural, which can be
-     * overridden by the implementation, if desired.
+     * overridden by the implementation, if desired. The loop order follows
+     * the layout strides of the structure, with the smallest stride in the
+     * innermost loop.
      *
      * @return the looping strategy of this structural
      */
     @Override
     default Loop3d loop() {
-        return Loop3d.of(new Range3d(extent()));
+        return Loop3d.of(new Range3d(extent()), structure().layout().stride());
+    }
+
+    /**
+     * Return the parallel looping strategy of this structural, which is
+     * executed on the {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     *
+     * @return the parallel looping strategy of this structural
+     */
+    @Override
+    default Loop3d parallel() {
+        return Loop3d.parallel(new Range3d(extent()));
+    }
+
+    /**
+     * Return the tiled looping strategy of this structural.
+     *
+     * @return the tiled looping strategy of this structural
+     */
+    @Override
+    default Loop3d tiled() {
+        return Loop3d.tiled(new Range3d(extent()));
     }
 
 }
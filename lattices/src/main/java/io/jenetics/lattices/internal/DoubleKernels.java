@@ -0,0 +1,136 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.internal;
+
+/**
+ * Low level kernels for dense {@code double[]} arrays with unit stride. The
+ * kernel implementation is chosen at runtime. If the
+ * {@code jdk.incubator.vector} module is available, the operations are
+ * performed with SIMD instructions, otherwise the scalar fallback is used.
+ * <pre>
+ *     $ java --add-modules jdk.incubator.vector ...
+ * </pre>
+ * The vectorized kernels may change the summation order, which can lead to
+ * slightly different rounding, compared to the scalar kernels.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public interface DoubleKernels {
+
+    /**
+     * The number of rows of the {@link #gemm(int, double, double[], int, double[], int, double[], int, int, int)}
+     * micro-kernel.
+     */
+    int MR = 4;
+
+    /**
+     * The number of columns of the {@link #gemm(int, double, double[], int, double[], int, double[], int, int, int)}
+     * micro-kernel.
+     */
+    int NR = 4;
+
+    /**
+     * Returns the dot product {@code Sum(x[i]*y[i])}.
+     *
+     * @param x the first vector
+     * @param xOffset the start offset of the first vector
+     * @param y the second vector
+     * @param yOffset the start offset of the second vector
+     * @param length the number of elements
+     * @return the dot product of the two vectors
+     */
+    double dot(double[] x, int xOffset, double[] y, int yOffset, int length);
+
+    /**
+     * Combined vector scaling {@code y[i] = y[i] + alpha*x[i]}.
+     *
+     * @param alpha the scale factor
+     * @param x the source vector
+     * @param xOffset the start offset of the source vector
+     * @param y the target vector
+     * @param yOffset the start offset of the target vector
+     * @param length the number of elements
+     */
+    void axpy(
+        double alpha,
+        double[] x, int xOffset,
+        double[] y, int yOffset,
+        int length
+    );
+
+    /**
+     * Vector scaling {@code x[i] = alpha*x[i]}.
+     *
+     * @param alpha the scale factor
+     * @param x the vector to scale
+     * @param offset the start offset of the vector
+     * @param length the number of elements
+     */
+    void scal(double alpha, double[] x, int offset, int length);
+
+    /**
+     * The {@code MR x NR} matrix multiplication micro-kernel, which computes
+     * {@code C += alpha*A x B}. {@code A} is a packed micro-panel with
+     * {@code k} columns of {@code MR} elements and {@code B} is a packed
+     * micro-panel with {@code k} rows of {@code NR} elements.
+     *
+     * @param k the size of the inner dimension
+     * @param alpha the scale factor
+     * @param A the packed {@code A} micro-panel
+     * @param aOffset the start offset of the {@code A} micro-panel
+     * @param B the packed {@code B} micro-panel
+     * @param bOffset the start offset of the {@code B} micro-panel
+     * @param C the result array
+     * @param cOffset the offset of the upper left result element
+     * @param rowStride the row stride of the result
+     * @param colStride the column stride of the result
+     */
+    void gemm(
+        int k,
+        double alpha,
+        double[] A, int aOffset,
+        double[] B, int bOffset,
+        double[] C, int cOffset,
+        int rowStride, int colStride
+    );
+
+    /**
+     * Return the kernels used by the library. These are the SIMD kernels, if
+     * the {@code jdk.incubator.vector} module is available, and the scalar
+     * kernels otherwise.
+     *
+     * @return the kernels used by the library
+     */
+    static DoubleKernels get() {
+        return Kernels.DOUBLE;
+    }
+
+    /**
+     * Return the scalar kernels, which doesn't need any additional module.
+     *
+     * @return the scalar kernels
+     */
+    static DoubleKernels scalar() {
+        return Kernels.SCALAR_DOUBLE;
+    }
+
+}
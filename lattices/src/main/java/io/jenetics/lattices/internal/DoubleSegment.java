@@ -0,0 +1,81 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import io.jenetics.lattices.grid.array.BaseArray;
+import io.jenetics.lattices.grid.array.DenseDoubleArray;
+import io.jenetics.lattices.structure.Structure1d;
+
+/**
+ * A contiguous segment of a {@code double[]} array. It is the input of the
+ * {@link DoubleKernels}.
+ *
+ * @param elements the underlying array
+ * @param offset the start offset of the segment
+ * @param length the length of the segment
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public record DoubleSegment(double[] elements, int offset, int length) {
+
+    /**
+     * Create a new array segment.
+     *
+     * @param elements the underlying array
+     * @param offset the start offset of the segment
+     * @param length the length of the segment
+     */
+    public DoubleSegment {
+        requireNonNull(elements);
+    }
+
+    /**
+     * Return the array segment of the given 1-d structure, if the array is a
+     * {@link DenseDoubleArray} and the structure has unit stride.
+     *
+     * @param structure the 1-d structure
+     * @param array the array of the structure
+     * @return the array segment, or {@link Optional#empty()} if the structure
+     *         is not contiguous
+     */
+    public static Optional<DoubleSegment> of(
+        Structure1d structure,
+        BaseArray.OfDouble array
+    ) {
+        if (array instanceof DenseDoubleArray dense &&
+            structure.layout().stride().value() == 1)
+        {
+            return Optional.of(new DoubleSegment(
+                dense.elements(),
+                dense.from() + structure.layout().offset(0),
+                structure.extent().elements()
+            ));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.internal;
+
+/**
+ * Low level kernels for dense {@code float[]} arrays. The kernel
+ * implementation is chosen at runtime. If the {@code jdk.incubator.vector}
+ * module is available, the operations are performed with SIMD instructions,
+ * otherwise the scalar fallback is used.
+ * <pre>
+ *     $ java --add-modules jdk.incubator.vector ...
+ * </pre>
+ * The micro-kernel has twice as many columns as the {@link DoubleKernels}
+ * micro-kernel, since a vector register holds twice as many {@code float}
+ * values.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public interface FloatKernels {
+
+    /**
+     * The number of rows of the {@link #gemm(int, float, float[], int, float[], int, float[], int, int, int)}
+     * micro-kernel.
+     */
+    int MR = 4;
+
+    /**
+     * The number of columns of the {@link #gemm(int, float, float[], int, float[], int, float[], int, int, int)}
+     * micro-kernel.
+     */
+    int NR = 8;
+
+    /**
+     * The {@code MR x NR} matrix multiplication micro-kernel, which computes
+     * {@code C += alpha*A x B}. {@code A} is a packed micro-panel with
+     * {@code k} columns of {@code MR} elements and {@code B} is a packed
+     * micro-panel with {@code k} rows of {@code NR} elements.
+     *
+     * @param k the size of the inner dimension
+     * @param alpha the scale factor
+     * @param A the packed {@code A} micro-panel
+     * @param aOffset the start offset of the {@code A} micro-panel
+     * @param B the packed {@code B} micro-panel
+     * @param bOffset the start offset of the {@code B} micro-panel
+     * @param C the result array
+     * @param cOffset the offset of the upper left result element
+     * @param rowStride the row stride of the result
+     * @param colStride the column stride of the result
+     */
+    void gemm(
+        int k,
+        float alpha,
+        float[] A, int aOffset,
+        float[] B, int bOffset,
+        float[] C, int cOffset,
+        int rowStride, int colStride
+    );
+
+    /**
+     * Return the kernels used by the library. These are the SIMD kernels, if
+     * the {@code jdk.incubator.vector} module is available, and the scalar
+     * kernels otherwise.
+     *
+     * @return the kernels used by the library
+     */
+    static FloatKernels get() {
+        return Kernels.FLOAT;
+    }
+
+    /**
+     * Return the scalar kernels, which doesn't need any additional module.
+     *
+     * @return the scalar kernels
+     */
+    static FloatKernels scalar() {
+        return Kernels.SCALAR_FLOAT;
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.internal;
+
+/**
+ * Loads the kernel implementations. The SIMD kernels are only loaded, if the
+ * {@code jdk.incubator.vector} module is part of the boot layer. They are
+ * compiled in a separate source set, which needs the incubator module, and
+ * are accessed via reflection only. The incubator module is intentionally not
+ * part of the module descriptor, since every compilation against it prints an
+ * <em>incubating module</em> warning. The needed read edge is added at
+ * runtime instead.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+final class Kernels {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private static final String VECTOR_DOUBLE_KERNELS =
+        "io.jenetics.lattices.internal.VectorDoubleKernels";
+
+    private static final String VECTOR_FLOAT_KERNELS =
+        "io.jenetics.lattices.internal.VectorFloatKernels";
+
+    static final DoubleKernels SCALAR_DOUBLE = new ScalarDoubleKernels();
+
+    static final DoubleKernels DOUBLE = load(VECTOR_DOUBLE_KERNELS, SCALAR_DOUBLE);
+
+    static final FloatKernels SCALAR_FLOAT = new ScalarFloatKernels();
+
+    static final FloatKernels FLOAT = load(VECTOR_FLOAT_KERNELS, SCALAR_FLOAT);
+
+    private Kernels() {
+    }
+
+    private static <T> T load(String name, T fallback) {
+        final var vector = ModuleLayer.boot().findModule(VECTOR_MODULE);
+        if (vector.isEmpty()) {
+            return fallback;
+        }
+
+        try {
+            Kernels.class.getModule().addReads(vector.get());
+            @SuppressWarnings("unchecked")
+            final var type = (Class<? extends T>)Class.forName(name);
+            return type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return fallback;
+        }
+    }
+
+}
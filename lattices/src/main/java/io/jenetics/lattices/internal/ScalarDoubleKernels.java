@@ -0,0 +1,138 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.internal;
+
+/**
+ * Scalar implementation of the {@link DoubleKernels}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+class ScalarDoubleKernels implements DoubleKernels {
+
+    @Override
+    public double dot(
+        double[] x, int xOffset,
+        double[] y, int yOffset,
+        int length
+    ) {
+        double sum = 0;
+        for (int i = 0; i < length; ++i) {
+            sum = Math.fma(x[xOffset + i], y[yOffset + i], sum);
+        }
+        return sum;
+    }
+
+    @Override
+    public void axpy(
+        double alpha,
+        double[] x, int xOffset,
+        double[] y, int yOffset,
+        int length
+    ) {
+        for (int i = 0; i < length; ++i) {
+            y[yOffset + i] = Math.fma(alpha, x[xOffset + i], y[yOffset + i]);
+        }
+    }
+
+    @Override
+    public void scal(double alpha, double[] x, int offset, int length) {
+        for (int i = offset, n = offset + length; i < n; ++i) {
+            x[i] *= alpha;
+        }
+    }
+
+    /**
+     * The accumulators are kept in local variables, which lets the JIT keep
+     * them in registers.
+     */
+    @Override
+    public void gemm(
+        int k,
+        double alpha,
+        double[] A, int aOffset,
+        double[] B, int bOffset,
+        double[] C, int cOffset,
+        int rowStride, int colStride
+    ) {
+        double c00 = 0, c01 = 0, c02 = 0, c03 = 0;
+        double c10 = 0, c11 = 0, c12 = 0, c13 = 0;
+        double c20 = 0, c21 = 0, c22 = 0, c23 = 0;
+        double c30 = 0, c31 = 0, c32 = 0, c33 = 0;
+
+        int ai = aOffset;
+        int bi = bOffset;
+        for (int l = 0; l < k; ++l) {
+            final double a0 = A[ai];
+            final double a1 = A[ai + 1];
+            final double a2 = A[ai + 2];
+            final double a3 = A[ai + 3];
+
+            final double b0 = B[bi];
+            final double b1 = B[bi + 1];
+            final double b2 = B[bi + 2];
+            final double b3 = B[bi + 3];
+
+            c00 = Math.fma(a0, b0, c00);
+            c01 = Math.fma(a0, b1, c01);
+            c02 = Math.fma(a0, b2, c02);
+            c03 = Math.fma(a0, b3, c03);
+            c10 = Math.fma(a1, b0, c10);
+            c11 = Math.fma(a1, b1, c11);
+            c12 = Math.fma(a1, b2, c12);
+            c13 = Math.fma(a1, b3, c13);
+            c20 = Math.fma(a2, b0, c20);
+            c21 = Math.fma(a2, b1, c21);
+            c22 = Math.fma(a2, b2, c22);
+            c23 = Math.fma(a2, b3, c23);
+            c30 = Math.fma(a3, b0, c30);
+            c31 = Math.fma(a3, b1, c31);
+            c32 = Math.fma(a3, b2, c32);
+            c33 = Math.fma(a3, b3, c33);
+
+            ai += MR;
+            bi += NR;
+        }
+
+        final int cs = colStride;
+        int ci = cOffset;
+        C[ci] += alpha*c00;
+        C[ci + cs] += alpha*c01;
+        C[ci + 2*cs] += alpha*c02;
+        C[ci + 3*cs] += alpha*c03;
+        ci += rowStride;
+        C[ci] += alpha*c10;
+        C[ci + cs] += alpha*c11;
+        C[ci + 2*cs] += alpha*c12;
+        C[ci + 3*cs] += alpha*c13;
+        ci += rowStride;
+        C[ci] += alpha*c20;
+        C[ci + cs] += alpha*c21;
+        C[ci + 2*cs] += alpha*c22;
+        C[ci + 3*cs] += alpha*c23;
+        ci += rowStride;
+        C[ci] += alpha*c30;
+        C[ci + cs] += alpha*c31;
+        C[ci + 2*cs] += alpha*c32;
+        C[ci + 3*cs] += alpha*c33;
+    }
+
+}
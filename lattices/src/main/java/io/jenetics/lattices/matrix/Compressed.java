@@ -0,0 +1,629 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.concurrent.RecursiveAction;
+
+import io.jenetics.lattices.grid.function.Int2DoubleConsumer;
+import io.jenetics.lattices.grid.function.IntDoubleConsumer;
+import io.jenetics.lattices.grid.lattice.Lattice2d;
+
+/**
+ * The storage of a <em>compressed</em> sparse matrix, used by the CSR and the
+ * CSC matrix implementations. The non-zero elements of a <em>major</em> index
+ * (a row for CSR and a column for CSC) are stored, ordered by its
+ * <em>minor</em> index, in the range {@code [pointers[major], pointers[major + 1])}
+ * of the {@code indices} and {@code values} arrays.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+final class Compressed {
+
+    // Number of tasks created for every thread of the pool.
+    private static final int TASKS_PER_THREAD = 4;
+
+    final int majors;
+    final int minors;
+    final int[] pointers;
+    int[] indices;
+    double[] values;
+
+    private Compressed(
+        int majors,
+        int minors,
+        int[] pointers,
+        int[] indices,
+        double[] values
+    ) {
+        this.majors = majors;
+        this.minors = minors;
+        this.pointers = pointers;
+        this.indices = indices;
+        this.values = values;
+    }
+
+    /**
+     * Create an empty storage object with the given dimensions.
+     */
+    static Compressed of(int majors, int minors) {
+        checkDimension(majors, minors);
+        return new Compressed(
+            majors, minors,
+            new int[majors + 1],
+            new int[0],
+            new double[0]
+        );
+    }
+
+    /**
+     * Create a new storage object from the given compressed arrays. The
+     * arrays are copied.
+     */
+    static Compressed of(
+        int majors,
+        int minors,
+        int[] pointers,
+        int[] indices,
+        double[] values
+    ) {
+        checkDimension(majors, minors);
+        if (pointers.length != majors + 1 || pointers[0] != 0) {
+            throw new IllegalArgumentException(
+                "Pointers must have length %d and start with 0."
+                    .formatted(majors + 1)
+            );
+        }
+        final int nnz = pointers[majors];
+        if (indices.length < nnz || values.length < nnz) {
+            throw new IllegalArgumentException(
+                "Expected at least %d indices and values, but got %d and %d."
+                    .formatted(nnz, indices.length, values.length)
+            );
+        }
+        for (int m = 0; m < majors; ++m) {
+            if (pointers[m] > pointers[m + 1]) {
+                throw new IllegalArgumentException(
+                    "Pointers must not decrease: %d > %d at index %d."
+                        .formatted(pointers[m], pointers[m + 1], m)
+                );
+            }
+            for (int p = pointers[m]; p < pointers[m + 1]; ++p) {
+                if (indices[p] < 0 || indices[p] >= minors ||
+                    (p > pointers[m] && indices[p - 1] >= indices[p]))
+                {
+                    throw new IllegalArgumentException(
+                        "Indices must be ascending and in range [0, %d): %d."
+                            .formatted(minors, indices[p])
+                    );
+                }
+            }
+        }
+
+        return new Compressed(
+            majors, minors,
+            pointers.clone(),
+            Arrays.copyOf(indices, nnz),
+            Arrays.copyOf(values, nnz)
+        );
+    }
+
+    /**
+     * Create a new storage object from the given <em>triplets</em>
+     * {@code (major[k], minor[k], values[k])}, in arbitrary order. The values
+     * of duplicate entries are summed up. Entries, which are zero after the
+     * summation, are not stored.
+     */
+    static Compressed ofTriplets(
+        int majors,
+        int minors,
+        int[] major,
+        int[] minor,
+        double[] values
+    ) {
+        checkDimension(majors, minors);
+        final int n = values.length;
+        if (major.length != n || minor.length != n) {
+            throw new IllegalArgumentException(
+                "Triplet arrays must have the same length: %d, %d, %d."
+                    .formatted(major.length, minor.length, n)
+            );
+        }
+        for (int k = 0; k < n; ++k) {
+            if (major[k] < 0 || major[k] >= majors ||
+                minor[k] < 0 || minor[k] >= minors)
+            {
+                throw new IndexOutOfBoundsException(
+                    "Triplet index out of bounds: [%d, %d]."
+                        .formatted(major[k], minor[k])
+                );
+            }
+        }
+
+        // Bucket sort by the minor index and then stable by the major index.
+        final int[] order = new int[n];
+        final int[] next = pointers(minor, minors);
+        for (int k = 0; k < n; ++k) {
+            order[next[minor[k]]++] = k;
+        }
+
+        final int[] pointers = pointers(major, majors);
+        final int[] indices = new int[n];
+        final double[] vals = new double[n];
+        final int[] position = Arrays.copyOf(pointers, majors);
+        for (int k : order) {
+            final int p = position[major[k]]++;
+            indices[p] = minor[k];
+            vals[p] = values[k];
+        }
+
+        // Sum up the duplicates and drop the elements, which are zero.
+        int nnz = 0;
+        int start = 0;
+        for (int m = 0; m < majors; ++m) {
+            final int end = pointers[m + 1];
+            pointers[m] = nnz;
+            for (int p = start; p < end; ++p) {
+                if (nnz > pointers[m] && indices[nnz - 1] == indices[p]) {
+                    vals[nnz - 1] += vals[p];
+                } else {
+                    if (nnz > pointers[m] && vals[nnz - 1] == 0.0) {
+                        --nnz;
+                    }
+                    indices[nnz] = indices[p];
+                    vals[nnz] = vals[p];
+                    ++nnz;
+                }
+            }
+            if (nnz > pointers[m] && vals[nnz - 1] == 0.0) {
+                --nnz;
+            }
+            start = end;
+        }
+        pointers[majors] = nnz;
+
+        return new Compressed(
+            majors, minors,
+            pointers,
+            Arrays.copyOf(indices, nnz),
+            Arrays.copyOf(vals, nnz)
+        );
+    }
+
+    // Counts the indices and returns the prefix sums.
+    private static int[] pointers(int[] index, int size) {
+        final int[] pointers = new int[size + 1];
+        for (int i : index) {
+            ++pointers[i + 1];
+        }
+        for (int i = 0; i < size; ++i) {
+            pointers[i + 1] += pointers[i];
+        }
+        return pointers;
+    }
+
+    /**
+     * Create a new storage object from the non-zero elements of the given
+     * matrix.
+     *
+     * @param rowMajor {@code true} for the CSR and {@code false} for the CSC
+     *        storage
+     */
+    static Compressed of(Lattice2d.OfDouble<?> matrix, boolean rowMajor) {
+        final int majors = rowMajor ? matrix.rows() : matrix.cols();
+        final int minors = rowMajor ? matrix.cols() : matrix.rows();
+        checkDimension(majors, minors);
+
+        final int[] pointers = new int[majors + 1];
+        int[] indices = new int[16];
+        double[] values = new double[16];
+
+        int nnz = 0;
+        for (int m = 0; m < majors; ++m) {
+            for (int n = 0; n < minors; ++n) {
+                final double value = rowMajor
+                    ? matrix.get(m, n)
+                    : matrix.get(n, m);
+
+                if (value != 0) {
+                    if (nnz == indices.length) {
+                        indices = Arrays.copyOf(indices, grow(nnz));
+                        values = Arrays.copyOf(values, indices.length);
+                    }
+                    indices[nnz] = n;
+                    values[nnz] = value;
+                    ++nnz;
+                }
+            }
+            pointers[m + 1] = nnz;
+        }
+
+        return new Compressed(
+            majors, minors,
+            pointers,
+            Arrays.copyOf(indices, nnz),
+            Arrays.copyOf(values, nnz)
+        );
+    }
+
+    private static void checkDimension(int majors, int minors) {
+        if (majors < 0 || minors < 0) {
+            throw new IllegalArgumentException(
+                "Matrix dimension must not be negative: [%d, %d]."
+                    .formatted(majors, minors)
+            );
+        }
+    }
+
+    private static int grow(int capacity) {
+        final int size = capacity + Math.max(capacity >>> 1, 16);
+        if (size < 0) {
+            throw new OutOfMemoryError("Required array size too large.");
+        }
+        return size;
+    }
+
+    /**
+     * Return the number of stored elements.
+     */
+    int nonZeros() {
+        return pointers[majors];
+    }
+
+    /**
+     * Return a deep copy of {@code this} storage object.
+     */
+    Compressed copy() {
+        final int nnz = nonZeros();
+        return new Compressed(
+            majors, minors,
+            pointers.clone(),
+            Arrays.copyOf(indices, nnz),
+            Arrays.copyOf(values, nnz)
+        );
+    }
+
+    /**
+     * Return a new storage object, where the major and minor indexes are
+     * swapped. This converts a CSR storage into a CSC storage of the same
+     * matrix, and vice versa.
+     */
+    Compressed transpose() {
+        final int nnz = nonZeros();
+        final int[] pointers = new int[minors + 1];
+        for (int p = 0; p < nnz; ++p) {
+            ++pointers[indices[p] + 1];
+        }
+        for (int n = 0; n < minors; ++n) {
+            pointers[n + 1] += pointers[n];
+        }
+
+        final int[] next = Arrays.copyOf(pointers, minors);
+        final int[] indices = new int[nnz];
+        final double[] values = new double[nnz];
+        for (int m = 0; m < majors; ++m) {
+            for (int p = this.pointers[m]; p < this.pointers[m + 1]; ++p) {
+                final int q = next[this.indices[p]]++;
+                indices[q] = m;
+                values[q] = this.values[p];
+            }
+        }
+
+        return new Compressed(minors, majors, pointers, indices, values);
+    }
+
+    /* *************************************************************************
+     * Element access.
+     * ************************************************************************/
+
+    // Return the position of the element or (-(insertion point) - 1).
+    private int find(int major, int minor) {
+        if (major < 0 || major >= majors || minor < 0 || minor >= minors) {
+            throw new IndexOutOfBoundsException(
+                "Index out of bounds: [%d, %d].".formatted(major, minor)
+            );
+        }
+        return Arrays.binarySearch(
+            indices, pointers[major], pointers[major + 1], minor
+        );
+    }
+
+    double get(int major, int minor) {
+        final int p = find(major, minor);
+        return p >= 0 ? values[p] : 0.0;
+    }
+
+    /**
+     * Sets the given element. Setting a new non-zero element requires the
+     * shifting of all subsequent elements and setting an element to zero
+     * removes it from the storage.
+     */
+    void set(int major, int minor, double value) {
+        final int p = find(major, minor);
+        if (p >= 0) {
+            if (value != 0) {
+                values[p] = value;
+            } else {
+                remove(major, p);
+            }
+        } else if (value != 0) {
+            insert(major, -p - 1, minor, value);
+        }
+    }
+
+    private void insert(int major, int position, int minor, double value) {
+        final int nnz = nonZeros();
+        if (nnz == indices.length) {
+            indices = Arrays.copyOf(indices, grow(nnz));
+            values = Arrays.copyOf(values, indices.length);
+        }
+        System.arraycopy(indices, position, indices, position + 1, nnz - position);
+        System.arraycopy(values, position, values, position + 1, nnz - position);
+        indices[position] = minor;
+        values[position] = value;
+
+        for (int m = major + 1; m <= majors; ++m) {
+            ++pointers[m];
+        }
+    }
+
+    private void remove(int major, int position) {
+        final int nnz = nonZeros();
+        System.arraycopy(indices, position + 1, indices, position, nnz - position - 1);
+        System.arraycopy(values, position + 1, values, position, nnz - position - 1);
+
+        for (int m = major + 1; m <= majors; ++m) {
+            --pointers[m];
+        }
+    }
+
+    /**
+     * Performs the given {@code action} for every stored element of the
+     * given {@code major} index.
+     */
+    void forEach(int major, IntDoubleConsumer action) {
+        requireNonNull(action);
+        if (major < 0 || major >= majors) {
+            throw new IndexOutOfBoundsException(
+                "Index out of bounds [0, %d): %d.".formatted(majors, major)
+            );
+        }
+        for (int p = pointers[major]; p < pointers[major + 1]; ++p) {
+            action.accept(indices[p], values[p]);
+        }
+    }
+
+    /**
+     * Performs the given {@code action} for every stored element. The
+     * consumer is called with {@code (major, minor, value)}.
+     */
+    void forEach(Int2DoubleConsumer action) {
+        requireNonNull(action);
+        for (int m = 0; m < majors; ++m) {
+            for (int p = pointers[m]; p < pointers[m + 1]; ++p) {
+                action.accept(m, indices[p], values[p]);
+            }
+        }
+    }
+
+    /* *************************************************************************
+     * Multiplication kernels.
+     * ************************************************************************/
+
+    /**
+     * Computes {@code y[m] = alpha*Sum(A[m, n]*x[n]) + beta*y[m]}, where the
+     * sum runs over the stored elements of the major index {@code m}. This is
+     * {@code A*x} for a CSR and {@code A'*x} for a CSC storage. The major
+     * indexes are independent and are processed in parallel, if the current
+     * {@link ParallelContext} allows it.
+     */
+    void multMajor(
+        DoubleMatrix1d x,
+        DoubleMatrix1d y,
+        double alpha,
+        double beta
+    ) {
+        final var context = ParallelContext.get();
+        if (context.isParallel(nonZeros(), y.array()) && majors > 1) {
+            final int tasks = context.parallelism()*TASKS_PER_THREAD;
+            context.pool().invoke(new Task(
+                this, 0, majors, tasks,
+                (from, to) -> multMajor(x, y, alpha, beta, from, to)
+            ));
+        } else {
+            multMajor(x, y, alpha, beta, 0, majors);
+        }
+    }
+
+    private void multMajor(
+        DoubleMatrix1d x,
+        DoubleMatrix1d y,
+        double alpha,
+        double beta,
+        int from,
+        int to
+    ) {
+        for (int m = from; m < to; ++m) {
+            double s = 0;
+            for (int p = pointers[m]; p < pointers[m + 1]; ++p) {
+                s = Math.fma(values[p], x.get(indices[p]), s);
+            }
+            y.set(m, Math.fma(alpha, s, beta*y.get(m)));
+        }
+    }
+
+    /**
+     * Computes {@code y[n] = alpha*Sum(A[m, n]*x[m]) + beta*y[n]}, by
+     * scattering the stored elements of every major index. This is
+     * {@code A'*x} for a CSR and {@code A*x} for a CSC storage.
+     */
+    void multMinor(
+        DoubleMatrix1d x,
+        DoubleMatrix1d y,
+        double alpha,
+        double beta
+    ) {
+        scale(y, beta);
+        for (int m = 0; m < majors; ++m) {
+            final double a = alpha*x.get(m);
+            if (a != 0) {
+                for (int p = pointers[m]; p < pointers[m + 1]; ++p) {
+                    final int n = indices[p];
+                    y.set(n, Math.fma(values[p], a, y.get(n)));
+                }
+            }
+        }
+    }
+
+    private static void scale(DoubleMatrix1d y, double beta) {
+        if (beta == 0) {
+            y.assign(0);
+        } else if (beta != 1) {
+            y.assign(v -> v*beta);
+        }
+    }
+
+    /**
+     * Computes {@code C[m, :] = alpha*Sum(A[m, n]*B[n, :]) + beta*C[m, :]}.
+     * This is {@code A*B} for a CSR and {@code A'*B} for a CSC storage.
+     */
+    void multMajor(
+        DoubleMatrix2d B,
+        DoubleMatrix2d C,
+        double alpha,
+        double beta
+    ) {
+        final var context = ParallelContext.get();
+        final long work = (long)nonZeros()*B.cols();
+        if (context.isParallel(work, C.array()) && majors > 1) {
+            final int tasks = context.parallelism()*TASKS_PER_THREAD;
+            context.pool().invoke(new Task(
+                this, 0, majors, tasks,
+                (from, to) -> multMajor(B, C, alpha, beta, from, to)
+            ));
+        } else {
+            multMajor(B, C, alpha, beta, 0, majors);
+        }
+    }
+
+    private void multMajor(
+        DoubleMatrix2d B,
+        DoubleMatrix2d C,
+        double alpha,
+        double beta,
+        int from,
+        int to
+    ) {
+        final int cols = B.cols();
+        for (int m = from; m < to; ++m) {
+            final var c = C.rowAt(m);
+            scale(c, beta);
+            for (int p = pointers[m]; p < pointers[m + 1]; ++p) {
+                final double a = alpha*values[p];
+                final var b = B.rowAt(indices[p]);
+                for (int j = 0; j < cols; ++j) {
+                    c.set(j, Math.fma(a, b.get(j), c.get(j)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes {@code C[n, :] = alpha*Sum(A[m, n]*B[m, :]) + beta*C[n, :]}.
+     * This is {@code A'*B} for a CSR and {@code A*B} for a CSC storage.
+     */
+    void multMinor(
+        DoubleMatrix2d B,
+        DoubleMatrix2d C,
+        double alpha,
+        double beta
+    ) {
+        if (beta == 0) {
+            C.assign(0);
+        } else if (beta != 1) {
+            C.assign(v -> v*beta);
+        }
+
+        final int cols = B.cols();
+        for (int m = 0; m < majors; ++m) {
+            final var b = B.rowAt(m);
+            for (int p = pointers[m]; p < pointers[m + 1]; ++p) {
+                final double a = alpha*values[p];
+                final var c = C.rowAt(indices[p]);
+                for (int j = 0; j < cols; ++j) {
+                    c.set(j, Math.fma(a, b.get(j), c.get(j)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Splits the major index range into tasks with roughly the same number of
+     * stored elements.
+     */
+    private static final class Task extends RecursiveAction {
+        private static final long serialVersionUID = 1;
+
+        @FunctionalInterface
+        interface Range {
+            void run(int from, int to);
+        }
+
+        private final transient Compressed storage;
+        private final int from;
+        private final int to;
+        private final int tasks;
+        private final transient Range range;
+
+        Task(Compressed storage, int from, int to, int tasks, Range range) {
+            this.storage = storage;
+            this.from = from;
+            this.to = to;
+            this.tasks = tasks;
+            this.range = range;
+        }
+
+        @Override
+        protected void compute() {
+            if (tasks <= 1 || to - from < 2) {
+                range.run(from, to);
+            } else {
+                // Split at the median of the stored elements.
+                final int[] pointers = storage.pointers;
+                final int middle = pointers[from] +
+                    (pointers[to] - pointers[from])/2;
+
+                int split = Arrays.binarySearch(pointers, from, to, middle);
+                split = split < 0 ? -split - 1 : split;
+                split = Math.max(from + 1, Math.min(to - 1, split));
+
+                invokeAll(
+                    new Task(storage, from, split, tasks/2, range),
+                    new Task(storage, split, to, tasks - tasks/2, range)
+                );
+            }
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix;
+
+import static java.util.Objects.checkIndex;
+
+import io.jenetics.lattices.grid.array.Array;
+import io.jenetics.lattices.grid.array.DenseDoubleArray;
+
+/**
+ * Array view of a compressed sparse matrix, which maps the row-major offsets
+ * of the default {@link io.jenetics.lattices.structure.Structure2d} to the
+ * stored elements. It allows to use sparse matrices wherever a lattice is
+ * expected. Copies of this array are dense.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+record CompressedDoubleArray(Compressed storage, boolean rowMajor)
+    implements Array.OfDouble
+{
+
+    private int cols() {
+        return rowMajor ? storage.minors : storage.majors;
+    }
+
+    @Override
+    public double get(int index) {
+        checkIndex(index, length());
+        final int row = index/cols();
+        final int col = index%cols();
+        return rowMajor ? storage.get(row, col) : storage.get(col, row);
+    }
+
+    @Override
+    public void set(int index, double value) {
+        checkIndex(index, length());
+        final int row = index/cols();
+        final int col = index%cols();
+        if (rowMajor) {
+            storage.set(row, col, value);
+        } else {
+            storage.set(col, row, value);
+        }
+    }
+
+    @Override
+    public int length() {
+        return Math.multiplyExact(storage.majors, storage.minors);
+    }
+
+    @Override
+    public DenseDoubleArray copy(int from, int length) {
+        final var array = DenseDoubleArray.ofSize(length);
+        for (int i = 0; i < length; ++i) {
+            array.set(i, get(from + i));
+        }
+        return array;
+    }
+
+    @Override
+    public DenseDoubleArray like(int length) {
+        return DenseDoubleArray.ofSize(length);
+    }
+
+}
@@ -0,0 +1,428 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix;
+
+import static java.util.Objects.requireNonNull;
+
+import io.jenetics.lattices.grid.array.Array;
+import io.jenetics.lattices.grid.function.Int2DoubleConsumer;
+import io.jenetics.lattices.grid.function.IntDoubleConsumer;
+import io.jenetics.lattices.grid.lattice.Lattice2d;
+import io.jenetics.lattices.structure.Extent2d;
+import io.jenetics.lattices.structure.Structure2d;
+
+/**
+ * Sparse 2-d matrix of {@code double} elements in the <em>compressed sparse
+ * row</em> (CSR) format. The non-zero elements of every row are stored,
+ * ordered by their column index, in one contiguous range. This makes the
+ * iteration over the non-zero elements of a row and the matrix-vector
+ * multiplication {@code A*x} cheap. Use the {@link CscDoubleMatrix2d} if
+ * column access and {@code A'*x} are the dominating operations.
+ * <pre>{@code
+ * final var A = CsrDoubleMatrix2d.ofTriplets(
+ *     3, 3,
+ *     new int[] {0, 1, 2, 0},
+ *     new int[] {0, 1, 2, 2},
+ *     new double[] {4, 5, 6, 1}
+ * );
+ * final DoubleMatrix1d y = A.mult(x, null);
+ * }</pre>
+ *
+ * The matrix implements the {@link Lattice2d.OfDouble} interface and can be
+ * used wherever a lattice is expected. For example, {@code new DoubleMatrix2d(A)}
+ * creates a <em>view</em> of {@code A}, which shares its storage. No element
+ * is copied, but every element access of the view costs a division and a
+ * modulo operation, for splitting the array index, and a binary search within
+ * the row. Use {@link #toDense()} for creating a dense copy. Setting a new
+ * non-zero element shifts all subsequent elements and should be avoided for
+ * large matrices. Build the matrix from triplets instead.
+ *
+ * @apiNote
+ * The lattice view of this matrix ({@link #structure()}, {@link #extent()}
+ * and {@link #array()}) requires {@code rows*cols <= Integer.MAX_VALUE}. The
+ * sparse operations work for every matrix dimension.
+ *
+ * @see CscDoubleMatrix2d
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public final class CsrDoubleMatrix2d implements Lattice2d.OfDouble<Array.OfDouble> {
+
+    private final Compressed storage;
+
+    CsrDoubleMatrix2d(Compressed storage) {
+        this.storage = requireNonNull(storage);
+    }
+
+    @Override
+    public Structure2d structure() {
+        return new Structure2d(new Extent2d(rows(), cols()));
+    }
+
+    @Override
+    public Array.OfDouble array() {
+        return new CompressedDoubleArray(storage, true);
+    }
+
+    @Override
+    public int rows() {
+        return storage.majors;
+    }
+
+    @Override
+    public int cols() {
+        return storage.minors;
+    }
+
+    @Override
+    public double get(int row, int col) {
+        return storage.get(row, col);
+    }
+
+    @Override
+    public void set(int row, int col, double value) {
+        storage.set(row, col, value);
+    }
+
+    /**
+     * Return the number of stored (non-zero) elements.
+     *
+     * @return the number of stored elements
+     */
+    public int nonZeros() {
+        return storage.nonZeros();
+    }
+
+    /**
+     * Performs the given {@code action} for the non-zero elements of the given
+     * {@code row}, in ascending column order. The consumer is called with
+     * {@code (col, value)}.
+     *
+     * @param row the row index
+     * @param action the action to perform
+     * @throws IndexOutOfBoundsException if the {@code row} is out of bounds
+     */
+    public void forEachNonZero(int row, IntDoubleConsumer action) {
+        storage.forEach(row, action);
+    }
+
+    /**
+     * Performs the given {@code action} for all non-zero elements, row by row.
+     * The consumer is called with {@code (row, col, value)}.
+     *
+     * @param action the action to perform
+     */
+    public void forEachNonZero(Int2DoubleConsumer action) {
+        storage.forEach(action);
+    }
+
+    /**
+     * Return a deep copy of {@code this} matrix.
+     *
+     * @return a deep copy of {@code this} matrix
+     */
+    public CsrDoubleMatrix2d copy() {
+        return new CsrDoubleMatrix2d(storage.copy());
+    }
+
+    /**
+     * Return the transposed matrix {@code A'}, in the CSC format. No elements
+     * are copied and changes of the returned matrix are reflected in
+     * {@code this} matrix, and vice versa.
+     *
+     * @return the transposed matrix view
+     */
+    public CscDoubleMatrix2d transpose() {
+        return new CscDoubleMatrix2d(storage);
+    }
+
+    /**
+     * Converts {@code this} matrix into the CSC format.
+     *
+     * @return a new CSC matrix with the same elements
+     */
+    public CscDoubleMatrix2d toCsc() {
+        return new CscDoubleMatrix2d(storage.transpose());
+    }
+
+    /**
+     * Return a dense copy of {@code this} matrix.
+     *
+     * @return a dense copy of {@code this} matrix
+     */
+    public DoubleMatrix2d toDense() {
+        final var matrix = DoubleMatrix2d.DENSE.create(rows(), cols());
+        forEachNonZero(matrix::set);
+        return matrix;
+    }
+
+    /* *************************************************************************
+     * Matrix algebra methods.
+     * ************************************************************************/
+
+    /**
+     * Linear algebraic matrix-vector multiplication
+     * <pre>{@code
+     *     z = alpha * A * y + beta*z
+     *     z[i] = alpha*Sum(A[i, j] * y[j]) + beta*z[i],
+     *           i = 0..A.rows() - 1, j = 0..y.size() - 1
+     *     where
+     *     A == this
+     * }</pre>
+     * Only the non-zero elements of {@code A} are visited. The product
+     * {@code A*y} is computed row by row, in parallel if the current
+     * {@link ParallelContext} allows it. The product {@code A'*y} scatters
+     * the rows of {@code A} into {@code z}.
+     *
+     * @implNote
+     * Matrix shape conformance is checked <em>after</em> potential
+     * transpositions.
+     *
+     * @param y the source vector.
+     * @param z the vector where results are to be stored. Set this parameter to
+     *          {@code null} to indicate that a new result vector should be
+     *          constructed.
+     * @param alpha the scaling factor of the product
+     * @param beta the scaling factor of {@code z}
+     * @param transposeA whether to multiply with the transposed matrix
+     * @return z, or a newly created result matrix
+     * @throws IllegalArgumentException if {@code A.cols() != y.size() ||
+     *         A.rows() != z.size())} or {@code y == z}
+     */
+    public DoubleMatrix1d mult(
+        DoubleMatrix1d y,
+        DoubleMatrix1d z,
+        double alpha,
+        double beta,
+        boolean transposeA
+    ) {
+        if (transposeA) {
+            return transpose().mult(y, z, alpha, beta, false);
+        }
+        if (z == null) {
+            return mult(y, DoubleMatrix1d.DENSE.create(rows()), alpha, beta, false);
+        }
+
+        if (cols() != y.extent().elements() || rows() != z.extent().elements()) {
+            throw new IllegalArgumentException(
+                "Incompatible args: [%d, %d], %s, %s."
+                    .formatted(rows(), cols(), y.extent(), z.extent())
+            );
+        }
+        if (y == z) {
+            throw new IllegalArgumentException(
+                "Vectors y and z must not be identical."
+            );
+        }
+
+        storage.multMajor(y, z, alpha, beta);
+        return z;
+    }
+
+    /**
+     * Linear algebraic matrix-vector multiplication; {@code z = A * y};
+     * Equivalent to {@code return A.mult(y, z, 1, 0, false);}
+     *
+     * @see #mult(DoubleMatrix1d, DoubleMatrix1d, double, double, boolean)
+     *
+     * @param y the source vector.
+     * @param z the vector where results are to be stored. Set this parameter to
+     *          {@code null} to indicate that a new result vector should be
+     *          constructed.
+     * @return z, or a newly created result matrix
+     */
+    public DoubleMatrix1d mult(DoubleMatrix1d y, DoubleMatrix1d z) {
+        return mult(y, z, 1, 0, false);
+    }
+
+    /**
+     * <em>Linear algebraic matrix-matrix multiplication:</em>
+     * <pre>
+     *     C = alpha * A x B + beta*C
+     *     C[i, j] = alpha*Sum(A[i, k] * B[k, j]) + beta*C[i, j], k = 0..n-1
+     * </pre>
+     * where {@code A == this} is sparse and {@code B} and {@code C} are dense.
+     *
+     * @implNote
+     * Matrix shape conformance is checked <em>after</em> potential
+     * transpositions.
+     *
+     * @param B the second source matrix.
+     * @param C the matrix where results are to be stored. Set this parameter to
+     *          {@code null} to indicate that a new result matrix should be
+     *          constructed.
+     * @param alpha the scaling factor of the product
+     * @param beta the scaling factor of {@code C}
+     * @param transposeA whether to multiply with the transposed matrix
+     * @return C, or a newly created result matrix
+     * @throws IllegalArgumentException if {@code B.rows() != A.cols()} or
+     *         {@code C.rows() != A.rows() || C.cols() != B.cols()} or
+     *         {@code B == C}
+     */
+    public DoubleMatrix2d mult(
+        DoubleMatrix2d B,
+        DoubleMatrix2d C,
+        double alpha,
+        double beta,
+        boolean transposeA
+    ) {
+        requireNonNull(B);
+
+        if (transposeA) {
+            return transpose().mult(B, C, alpha, beta, false);
+        }
+        if (C == null) {
+            return mult(B, B.like(new Extent2d(rows(), B.cols())), alpha, beta, false);
+        }
+
+        checkMult(rows(), cols(), B, C);
+        storage.multMajor(B, C, alpha, beta);
+        return C;
+    }
+
+    /**
+     * Linear algebraic matrix-matrix multiplication {@code C = A x B}, which is
+     * equivalent to {@code A.mult(B, C, 1, 0, false)}.
+     *
+     * @see #mult(DoubleMatrix2d, DoubleMatrix2d, double, double, boolean)
+     *
+     * @param B the second source matrix.
+     * @param C the matrix where results are to be stored. Set this parameter to
+     *          {@code null} to indicate that a new result matrix should be
+     *          constructed.
+     * @return C, or a newly created result matrix.
+     */
+    public DoubleMatrix2d mult(DoubleMatrix2d B, DoubleMatrix2d C) {
+        return mult(B, C, 1, 0, false);
+    }
+
+    static void checkMult(int rows, int cols, DoubleMatrix2d B, DoubleMatrix2d C) {
+        if (B.rows() != cols) {
+            throw new IllegalArgumentException(
+                "Matrix inner dimensions must be equal: [%d, %d], %s."
+                    .formatted(rows, cols, B.extent())
+            );
+        }
+        if (C.rows() != rows || C.cols() != B.cols()) {
+            throw new IllegalArgumentException(
+                "Incompatible result matrix: [%d, %d], %s, %s."
+                    .formatted(rows, cols, B.extent(), C.extent())
+            );
+        }
+        if (B == C) {
+            throw new IllegalArgumentException(
+                "Matrices B and C must not be identical."
+            );
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CsrDoubleMatrix2d[rows=%d, cols=%d, nonZeros=%d]"
+            .formatted(rows(), cols(), nonZeros());
+    }
+
+    /* *************************************************************************
+     * Static factory methods.
+     * ************************************************************************/
+
+    /**
+     * Create a new CSR matrix with the given dimension and no non-zero
+     * elements.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @return a new empty CSR matrix
+     * @throws IllegalArgumentException if one of the dimensions is negative
+     */
+    public static CsrDoubleMatrix2d of(int rows, int cols) {
+        return new CsrDoubleMatrix2d(Compressed.of(rows, cols));
+    }
+
+    /**
+     * Create a new CSR matrix from the given compressed arrays. The elements
+     * of row {@code i} are stored in the range
+     * {@code [rowPointers[i], rowPointers[i + 1])} of the {@code colIndexes}
+     * and {@code values} arrays. The given arrays are copied.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @param rowPointers the row pointers, with length {@code rows + 1}
+     * @param colIndexes the column indexes, ascending within every row
+     * @param values the element values
+     * @return a new CSR matrix
+     * @throws IllegalArgumentException if the given arrays don't describe a
+     *         valid CSR matrix
+     */
+    public static CsrDoubleMatrix2d of(
+        int rows,
+        int cols,
+        int[] rowPointers,
+        int[] colIndexes,
+        double[] values
+    ) {
+        return new CsrDoubleMatrix2d(
+            Compressed.of(rows, cols, rowPointers, colIndexes, values)
+        );
+    }
+
+    /**
+     * Create a new CSR matrix from the given <em>triplets</em>
+     * {@code A[rowIndexes[k], colIndexes[k]] = values[k]}, which may be given
+     * in arbitrary order. The values of duplicate indexes are summed up, and
+     * elements, which are zero after the summation, are not stored. The
+     * matrix is created in {@code O(rows + cols + values.length)} time.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @param rowIndexes the row indexes of the elements
+     * @param colIndexes the column indexes of the elements
+     * @param values the element values
+     * @return a new CSR matrix
+     * @throws IllegalArgumentException if the given arrays have different
+     *         lengths
+     * @throws IndexOutOfBoundsException if one of the indexes is out of bounds
+     */
+    public static CsrDoubleMatrix2d ofTriplets(
+        int rows,
+        int cols,
+        int[] rowIndexes,
+        int[] colIndexes,
+        double[] values
+    ) {
+        return new CsrDoubleMatrix2d(
+            Compressed.ofTriplets(rows, cols, rowIndexes, colIndexes, values)
+        );
+    }
+
+    /**
+     * Create a new CSR matrix from the non-zero elements of the given
+     * (dense) matrix.
+     *
+     * @param matrix the source matrix
+     * @return a new CSR matrix
+     */
+    public static CsrDoubleMatrix2d of(Lattice2d.OfDouble<?> matrix) {
+        return new CsrDoubleMatrix2d(Compressed.of(matrix, true));
+    }
+
+}
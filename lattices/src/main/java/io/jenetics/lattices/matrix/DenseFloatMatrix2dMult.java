@@ -0,0 +1,297 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix;
+
+import static java.lang.Math.min;
+
+import io.jenetics.lattices.grid.array.DenseFloatArray;
+import io.jenetics.lattices.internal.FloatKernels;
+
+/**
+ * Dense matrix-matrix multiplication, implemented in the style of the
+ * <em>GotoBLAS</em> algorithm. All three loops are blocked. The {@code k x n}
+ * blocks of {@code B} and the {@code m x k} blocks of {@code A} are packed
+ * into contiguous scratch buffers, which are then consumed by a
+ * register-blocked micro-kernel, see {@link FloatKernels}.
+ * <pre>
+ *     for jc = 0..p step NC                     (columns of B and C)
+ *         for pc = 0..n step KC                 (inner dimension)
+ *             pack B[pc:pc+KC, jc:jc+NC]        -> B_packed (L3)
+ *             for ic = 0..m step MC             (rows of A and C)
+ *                 pack A[ic:ic+MC, pc:pc+KC]    -> A_packed (L2)
+ *                 for jr = 0..NC step NR
+ *                     for ir = 0..MC step MR
+ *                         C[ir:ir+MR, jr:jr+NR] += A_packed x B_packed
+ * </pre>
+ * The packing step reads the source matrices with their strides, which
+ * makes the algorithm independent of the memory layout of {@code A} and
+ * {@code B}. Transposed views are therefore as fast as row-major matrices.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+final class DenseFloatMatrix2dMult {
+
+    private static final FloatKernels KERNELS = FloatKernels.get();
+
+    /**
+     * Number of rows of the register block (micro-kernel).
+     */
+    static final int MR = FloatKernels.MR;
+
+    /**
+     * Number of columns of the register block (micro-kernel).
+     */
+    static final int NR = FloatKernels.NR;
+
+    /**
+     * Number of rows of a packed {@code A} block. A packed block of
+     * {@code MC x KC} elements should fit into the L2 cache.
+     */
+    static final int MC = 96;
+
+    /**
+     * Size of the blocked inner dimension. A packed {@code KC x NR}
+     * micro-panel of {@code B} should fit into the L1 cache.
+     */
+    static final int KC = 384;
+
+    /**
+     * Number of columns of a packed {@code B} block. A packed block of
+     * {@code KC x NC} elements should fit into the L3 cache.
+     */
+    static final int NC = 1024;
+
+    private DenseFloatMatrix2dMult() {
+    }
+
+    static boolean isDense(
+        FloatMatrix2d A,
+        FloatMatrix2d B,
+        FloatMatrix2d C
+    ) {
+        return
+            A.array() instanceof DenseFloatArray &&
+            B.array() instanceof DenseFloatArray &&
+            C.array() instanceof DenseFloatArray;
+    }
+
+    /**
+     * Performs the matrix multiplication {@code C = alpha*A x B + beta*C}.
+     * The matrix shapes must have been checked by the caller.
+     */
+    static void denseMult(
+        FloatMatrix2d A,
+        FloatMatrix2d B,
+        FloatMatrix2d C,
+        float alpha,
+        float beta
+    ) {
+        final int m = A.rows();
+        final int n = A.cols();
+        final int p = B.cols();
+
+        final var a = new Operand(A);
+        final var b = new Operand(B);
+        final var c = new Operand(C);
+
+        scale(c, m, p, beta);
+        if (alpha == 0 || m == 0 || n == 0 || p == 0) {
+            return;
+        }
+
+        final int kc = min(KC, n);
+        final float[] A_packed = new float[roundUp(min(MC, m), MR)*kc];
+        final float[] B_packed = new float[roundUp(min(NC, p), NR)*kc];
+
+        for (int jc = 0; jc < p; jc += NC) {
+            final int nc = min(NC, p - jc);
+
+            for (int pc = 0; pc < n; pc += KC) {
+                final int kb = min(KC, n - pc);
+                packB(b, pc, jc, kb, nc, B_packed);
+
+                for (int ic = 0; ic < m; ic += MC) {
+                    final int mc = min(MC, m - ic);
+                    packA(a, ic, pc, mc, kb, A_packed);
+
+                    for (int jr = 0; jr < nc; jr += NR) {
+                        final int nr = min(NR, nc - jr);
+
+                        for (int ir = 0; ir < mc; ir += MR) {
+                            final int mr = min(MR, mc - ir);
+
+                            kernel(
+                                kb, alpha,
+                                A_packed, ir*kb,
+                                B_packed, jr*kb,
+                                c, ic + ir, jc + jr, mr, nr
+                            );
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static int roundUp(int value, int multiple) {
+        return (value + multiple - 1)/multiple*multiple;
+    }
+
+    /**
+     * Computes {@code C = beta*C}.
+     */
+    private static void scale(Operand c, int m, int p, float beta) {
+        if (beta == 1) {
+            return;
+        }
+
+        for (int i = 0; i < m; ++i) {
+            int index = c.index(i, 0);
+            for (int j = 0; j < p; ++j) {
+                c.elements()[index] *= beta;
+                index += c.colStride();
+            }
+        }
+    }
+
+    /**
+     * Packs the {@code mc x kc} block of {@code A}, starting at {@code (ic, pc)},
+     * into micro-panels of {@code MR} rows. Within a micro-panel the elements
+     * are stored column by column. Missing rows of the last micro-panel are
+     * filled with zeros.
+     */
+    private static void packA(
+        Operand a,
+        int ic, int pc,
+        int mc, int kc,
+        float[] packed
+    ) {
+        int index = 0;
+        for (int ir = 0; ir < mc; ir += MR) {
+            final int mr = min(MR, mc - ir);
+            final int base = a.index(ic + ir, pc);
+
+            for (int k = 0; k < kc; ++k) {
+                int ai = base + k*a.colStride();
+                for (int i = 0; i < mr; ++i) {
+                    packed[index + i] = a.elements()[ai];
+                    ai += a.rowStride();
+                }
+                for (int i = mr; i < MR; ++i) {
+                    packed[index + i] = 0;
+                }
+                index += MR;
+            }
+        }
+    }
+
+    /**
+     * Packs the {@code kc x nc} block of {@code B}, starting at {@code (pc, jc)},
+     * into micro-panels of {@code NR} columns. Within a micro-panel the
+     * elements are stored row by row. Missing columns of the last micro-panel
+     * are filled with zeros.
+     */
+    private static void packB(
+        Operand b,
+        int pc, int jc,
+        int kc, int nc,
+        float[] packed
+    ) {
+        int index = 0;
+        for (int jr = 0; jr < nc; jr += NR) {
+            final int nr = min(NR, nc - jr);
+            final int base = b.index(pc, jc + jr);
+
+            for (int k = 0; k < kc; ++k) {
+                int bi = base + k*b.rowStride();
+                for (int j = 0; j < nr; ++j) {
+                    packed[index + j] = b.elements()[bi];
+                    bi += b.colStride();
+                }
+                for (int j = nr; j < NR; ++j) {
+                    packed[index + j] = 0;
+                }
+                index += NR;
+            }
+        }
+    }
+
+    /**
+     * Computes {@code C[i:i+mr, j:j+nr] += alpha*A_panel x B_panel}. Edge
+     * blocks are computed into a temporary block first, of which only the
+     * valid part is written back.
+     */
+    private static void kernel(
+        int kc,
+        float alpha,
+        float[] A, int ai,
+        float[] B, int bi,
+        Operand c,
+        int i, int j,
+        int mr, int nr
+    ) {
+        if (mr == MR && nr == NR) {
+            KERNELS.gemm(
+                kc, alpha,
+                A, ai,
+                B, bi,
+                c.elements(), c.index(i, j), c.rowStride(), c.colStride()
+            );
+        } else {
+            final float[] block = new float[MR*NR];
+            KERNELS.gemm(kc, alpha, A, ai, B, bi, block, 0, NR, 1);
+
+            for (int r = 0; r < mr; ++r) {
+                int ci = c.index(i + r, j);
+                for (int s = 0; s < nr; ++s) {
+                    c.elements()[ci] += block[r*NR + s];
+                    ci += c.colStride();
+                }
+            }
+        }
+    }
+
+    /**
+     * The raw array access information of a dense matrix operand.
+     */
+    private record Operand(
+        float[] elements,
+        int base,
+        int rowStride,
+        int colStride
+    ) {
+        Operand(FloatMatrix2d matrix) {
+            this(
+                ((DenseFloatArray)matrix.array()).elements(),
+                ((DenseFloatArray)matrix.array()).from() +
+                    matrix.structure().layout().offset(0, 0),
+                matrix.structure().layout().stride().row(),
+                matrix.structure().layout().stride().col()
+            );
+        }
+
+        int index(int row, int col) {
+            return base + row*rowStride + col*colStride;
+        }
+    }
+
+}
@@ -20,6 +20,7 @@
 package io.jenetics.lattices.matrix;
 
 import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
 
 import java.util.function.DoubleUnaryOperator;
 import java.util.stream.IntStream;
@@ -27,7 +28,12 @@ import java.util.stream.IntStream;
 import io.jenetics.lattices.grid.Grid1d;
 import io.jenetics.lattices.grid.array.Array;
 import io.jenetics.lattices.grid.array.DenseDoubleArray;
+import io.jenetics.lattices.grid.array.OffHeapDoubleArray;
+import io.jenetics.lattices.grid.array.SparseDoubleArray;
+import io.jenetics.lattices.grid.function.IntDoubleConsumer;
 import io.jenetics.lattices.grid.lattice.Lattice1d;
+import io.jenetics.lattices.internal.DoubleKernels;
+import io.jenetics.lattices.internal.DoubleSegment;
 import io.jenetics.lattices.structure.Extent1d;
 import io.jenetics.lattices.structure.Structure1d;
 
@@ -57,6 +63,32 @@ public record DoubleMatrix1d(Structure1d structure, Array.OfDouble array)
             DenseDoubleArray.ofSize(extent.cells())
         );
 
+    /**
+     * Factory for creating <em>sparse</em> 1-d double matrices. Only the
+     * non-zero matrix elements are stored.
+     *
+     * @see SparseDoubleArray
+     */
+    public static final Grid1d.Factory<DoubleMatrix1d> SPARSE =
+        extent -> new DoubleMatrix1d(
+            new Structure1d(extent),
+            SparseDoubleArray.ofSize(extent.cells())
+        );
+
+    /**
+     * Factory for creating <em>off-heap</em> 1-d double matrices. The
+     * matrix elements are stored outside the Java heap and the memory can be
+     * released by closing the {@link OffHeapDoubleArray} of the created
+     * matrix.
+     *
+     * @see OffHeapDoubleArray
+     */
+    public static final Grid1d.Factory<DoubleMatrix1d> OFF_HEAP =
+        extent -> new DoubleMatrix1d(
+            new Structure1d(extent),
+            OffHeapDoubleArray.ofSize(extent.cells())
+        );
+
     /**
      * Create a new matrix view from the given lattice.
      *
@@ -91,6 +123,19 @@ public record DoubleMatrix1d(Structure1d structure, Array.OfDouble array)
         }
 
         final int to = min(min(extent().elements(), y.extent().elements()), from + length);
+        if (to <= from) {
+            return 0;
+        }
+
+        final var a = DoubleSegment.of(structure(), array());
+        final var b = DoubleSegment.of(y.structure(), y.array());
+        if (a.isPresent() && b.isPresent()) {
+            return DoubleKernels.get().dot(
+                a.get().elements(), a.get().offset() + from,
+                b.get().elements(), b.get().offset() + from,
+                to - from
+            );
+        }
 
         double sum = 0;
         for (int i = from; i < to; ++i) {
@@ -117,8 +162,14 @@ public record DoubleMatrix1d(Structure1d structure, Array.OfDouble array)
      * @return the sum of the vector elements
      */
     public double sum() {
-        return reduce(Double::sum, DoubleUnaryOperator.identity())
-            .orElse(0);
+        if (array() instanceof SparseDoubleArray) {
+            final var sum = new double[1];
+            forEachNonZero((i, v) -> sum[0] += v);
+            return sum[0];
+        } else {
+            return reduce(Double::sum, DoubleUnaryOperator.identity())
+                .orElse(0);
+        }
     }
 
     /**
@@ -129,13 +180,13 @@ public record DoubleMatrix1d(Structure1d structure, Array.OfDouble array)
     public int cardinality() {
         final var context = NumericalContext.get();
 
-        int cardinality = 0;
-        for (int i = 0; i < extent().elements(); ++i) {
-            if (context.isZero(get(i))) {
-                ++cardinality;
+        final var cardinality = new int[1];
+        forEachNonZero((i, v) -> {
+            if (context.isNotZero(v)) {
+                ++cardinality[0];
             }
-        }
-        return cardinality;
+        });
+        return cardinality[0];
     }
 
     /**
@@ -147,13 +198,48 @@ public record DoubleMatrix1d(Structure1d structure, Array.OfDouble array)
         final var context = NumericalContext.get();
 
         final var indices = IntStream.builder();
-        for (int i = 0; i < extent().elements(); ++i) {
-            if (context.isNotZero(get(i))) {
+        forEachNonZero((i, v) -> {
+            if (context.isNotZero(v)) {
                 indices.add(i);
             }
-        }
+        });
+
+        return indices.build().sorted().toArray();
+    }
 
-        return indices.build().toArray();
+    /**
+     * Performs the given {@code action} for every cell with a non-zero value.
+     * The consumer is called with {@code (index, value)}. If the matrix is
+     * backed by a {@link SparseDoubleArray}, only the stored elements are
+     * visited, in no particular order, and the costs are proportional to the
+     * number of stored elements. Otherwise, the cells are visited in
+     * ascending index order.
+     *
+     * @param action the action to perform
+     */
+    public void forEachNonZero(IntDoubleConsumer action) {
+        requireNonNull(action);
+
+        final int size = extent().elements();
+        if (array() instanceof SparseDoubleArray sparse && sparse.size() < size) {
+            final var layout = structure().layout();
+            final int start = layout.start().value() + layout.band().value();
+            final int stride = layout.stride().value();
+
+            sparse.forEach((offset, value) -> {
+                final int diff = offset - start;
+                if (diff >= 0 && diff%stride == 0 && diff/stride < size) {
+                    action.accept(diff/stride, value);
+                }
+            });
+        } else {
+            for (int i = 0; i < size; ++i) {
+                final double value = get(i);
+                if (value != 0) {
+                    action.accept(i, value);
+                }
+            }
+        }
     }
 
     /**
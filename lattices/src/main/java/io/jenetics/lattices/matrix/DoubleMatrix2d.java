@@ -20,14 +20,15 @@
 package io.jenetics.lattices.matrix;
 
 import static java.util.Objects.requireNonNull;
-import static io.jenetics.lattices.matrix.DenseDoubleMatrix2dMult.denseMult;
-import static io.jenetics.lattices.matrix.DenseDoubleMatrix2dMult.isDense;
 
 import java.util.function.DoubleUnaryOperator;
 
 import io.jenetics.lattices.grid.Grid2d;
 import io.jenetics.lattices.grid.array.Array;
 import io.jenetics.lattices.grid.array.DenseDoubleArray;
+import io.jenetics.lattices.grid.array.OffHeapDoubleArray;
+import io.jenetics.lattices.grid.array.SparseDoubleArray;
+import io.jenetics.lattices.grid.function.Int2DoubleConsumer;
 import io.jenetics.lattices.grid.lattice.Lattice2d;
 import io.jenetics.lattices.structure.Extent1d;
 import io.jenetics.lattices.structure.Extent2d;
@@ -62,6 +63,32 @@ public record DoubleMatrix2d(Structure2d structure, Array.OfDouble array)
             DenseDoubleArray.ofSize(extent.cells())
         );
 
+    /**
+     * Factory for creating <em>sparse</em> 2-d double matrices. Only the
+     * non-zero matrix elements are stored.
+     *
+     * @see SparseDoubleArray
+     */
+    public static final Grid2d.Factory<DoubleMatrix2d> SPARSE =
+        extent -> new DoubleMatrix2d(
+            new Structure2d(extent),
+            SparseDoubleArray.ofSize(extent.cells())
+        );
+
+    /**
+     * Factory for creating <em>off-heap</em> 2-d double matrices. The
+     * matrix elements are stored outside the Java heap and the memory can be
+     * released by closing the {@link OffHeapDoubleArray} of the created
+     * matrix.
+     *
+     * @see OffHeapDoubleArray
+     */
+    public static final Grid2d.Factory<DoubleMatrix2d> OFF_HEAP =
+        extent -> new DoubleMatrix2d(
+            new Structure2d(extent),
+            OffHeapDoubleArray.ofSize(extent.cells())
+        );
+
     /**
      * Create a new matrix view from the given lattice.
      *
@@ -179,10 +206,7 @@ public record DoubleMatrix2d(Structure2d structure, Array.OfDouble array)
         }
 
         for (int r = 0; r < rows(); ++r) {
-            double s = 0;
-            for (int c = 0; c < cols(); ++c) {
-                s = Math.fma(get(r, c), y.get(c), s);
-            }
+            final double s = rowAt(r).dotProduct(y);
             z.set(r, Math.fma(alpha, s, beta*z.get(r)));
         }
 
@@ -272,20 +296,7 @@ public record DoubleMatrix2d(Structure2d structure, Array.OfDouble array)
             );
         }
 
-        // If dense matrix multiplication doesn't apply, do classic variant.
-        if (isDense(this, B, C)) {
-            denseMult(this, B, C, alpha, beta);
-        } else {
-            for (int j = p; --j >= 0;) {
-                for (int i = m; --i >= 0;) {
-                    double s = 0;
-                    for (int k = n; --k >= 0;) {
-                        s = Math.fma(get(i, k), B.get(k, j), s);
-                    }
-                    C.set(i, j, Math.fma(alpha, s, beta*C.get(i, j)));
-                }
-            }
-        }
+        DoubleMatrix2dMult.mult(this, B, C, alpha, beta);
 
         return C;
     }
@@ -315,8 +326,74 @@ public record DoubleMatrix2d(Structure2d structure, Array.OfDouble array)
      * @return the sum of all cells
      */
     public double sum() {
-        return reduce(Double::sum, DoubleUnaryOperator.identity())
-            .orElse(0);
+        if (array() instanceof SparseDoubleArray) {
+            final var sum = new double[1];
+            forEachNonZero((r, c, v) -> sum[0] += v);
+            return sum[0];
+        } else {
+            return reduce(Double::sum, DoubleUnaryOperator.identity())
+                .orElse(0);
+        }
+    }
+
+    /**
+     * Performs the given {@code action} for every cell with a non-zero value.
+     * The consumer is called with {@code (row, col, value)}. If the matrix is
+     * backed by a {@link SparseDoubleArray}, only the stored elements are
+     * visited, in no particular order, and the costs are proportional to the
+     * number of stored elements. Otherwise, the cells are visited row by row.
+     *
+     * @param action the action to perform
+     */
+    public void forEachNonZero(Int2DoubleConsumer action) {
+        requireNonNull(action);
+
+        final var layout = structure().layout();
+        final int rows = rows();
+        final int cols = cols();
+        final int rowStride = layout.stride().row();
+        final int colStride = layout.stride().col();
+
+        // Only non-overlapping layouts allow to map an array offset uniquely
+        // back to the matrix index.
+        final boolean rowMajor = rowStride >= (long)colStride*cols;
+        final boolean colMajor = colStride >= (long)rowStride*rows;
+
+        if (array() instanceof SparseDoubleArray sparse &&
+            sparse.size() < extent().elements() &&
+            (rowMajor || colMajor))
+        {
+            final int start = layout.start().row() + layout.start().col() +
+                layout.band().value();
+            final int major = rowMajor ? rowStride : colStride;
+            final int minor = rowMajor ? colStride : rowStride;
+
+            sparse.forEach((offset, value) -> {
+                final int diff = offset - start;
+                if (diff >= 0) {
+                    final int i = diff/major;
+                    final int rest = diff%major;
+                    final int j = rest/minor;
+
+                    if (rest%minor == 0) {
+                        final int row = rowMajor ? i : j;
+                        final int col = rowMajor ? j : i;
+                        if (row < rows && col < cols) {
+                            action.accept(row, col, value);
+                        }
+                    }
+                }
+            });
+        } else {
+            for (int r = 0; r < rows; ++r) {
+                for (int c = 0; c < cols; ++c) {
+                    final double value = get(r, c);
+                    if (value != 0) {
+                        action.accept(r, c, value);
+                    }
+                }
+            }
+        }
     }
 
     /**
@@ -0,0 +1,185 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix;
+
+import static io.jenetics.lattices.matrix.DenseDoubleMatrix2dMult.MR;
+import static io.jenetics.lattices.matrix.DenseDoubleMatrix2dMult.NR;
+import static io.jenetics.lattices.matrix.DenseDoubleMatrix2dMult.denseMult;
+import static io.jenetics.lattices.matrix.DenseDoubleMatrix2dMult.isDense;
+
+import java.util.concurrent.RecursiveAction;
+
+import io.jenetics.lattices.structure.Extent2d;
+import io.jenetics.lattices.structure.Index2d;
+import io.jenetics.lattices.structure.Range2d;
+import io.jenetics.lattices.structure.View2d;
+
+/**
+ * Matrix-matrix multiplication, which splits the result matrix {@code C} into
+ * 2-d tiles, if the current {@link ParallelContext} allows a parallel
+ * execution and the array of {@code C} can be written concurrently. Every
+ * tile is calculated sequentially and the order of the
+ * floating point operations for a single element of {@code C} doesn't depend
+ * on the tiling. The result is therefore bit-for-bit reproducible.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+final class DoubleMatrix2dMult {
+
+    // Number of tiles created for every thread of the pool.
+    private static final int TILES_PER_THREAD = 4;
+
+    private DoubleMatrix2dMult() {
+    }
+
+    /**
+     * Performs the matrix multiplication {@code C = alpha*A x B + beta*C}.
+     * The matrix shapes must have been checked by the caller.
+     */
+    static void mult(
+        DoubleMatrix2d A,
+        DoubleMatrix2d B,
+        DoubleMatrix2d C,
+        double alpha,
+        double beta
+    ) {
+        final var context = ParallelContext.get();
+        final long work = (long)A.rows()*A.cols()*B.cols();
+
+        if (context.isParallel(work, C.array())) {
+            final int tiles = context.parallelism()*TILES_PER_THREAD;
+            context.pool().invoke(new Tile(A, B, C, alpha, beta, tiles));
+        } else {
+            sequential(A, B, C, alpha, beta);
+        }
+    }
+
+    private static void sequential(
+        DoubleMatrix2d A,
+        DoubleMatrix2d B,
+        DoubleMatrix2d C,
+        double alpha,
+        double beta
+    ) {
+        final int m = A.rows();
+        final int n = A.cols();
+        final int p = B.cols();
+
+        // If dense matrix multiplication doesn't apply, do classic variant.
+        if (isDense(A, B, C)) {
+            denseMult(A, B, C, alpha, beta);
+        } else {
+            for (int j = p; --j >= 0;) {
+                for (int i = m; --i >= 0;) {
+                    double s = 0;
+                    for (int k = n; --k >= 0;) {
+                        s = Math.fma(A.get(i, k), B.get(k, j), s);
+                    }
+                    C.set(i, j, Math.fma(alpha, s, beta*C.get(i, j)));
+                }
+            }
+        }
+    }
+
+    /**
+     * A tile of the result matrix {@code C}. The tile is split along its
+     * larger dimension, until the requested number of tiles is reached.
+     * Tile borders are aligned to the register block of the micro-kernel.
+     */
+    private static final class Tile extends RecursiveAction {
+        private static final long serialVersionUID = 1;
+
+        private final transient DoubleMatrix2d A;
+        private final transient DoubleMatrix2d B;
+        private final transient DoubleMatrix2d C;
+        private final double alpha;
+        private final double beta;
+        private final int tiles;
+
+        Tile(
+            DoubleMatrix2d A,
+            DoubleMatrix2d B,
+            DoubleMatrix2d C,
+            double alpha,
+            double beta,
+            int tiles
+        ) {
+            this.A = A;
+            this.B = B;
+            this.C = C;
+            this.alpha = alpha;
+            this.beta = beta;
+            this.tiles = tiles;
+        }
+
+        @Override
+        protected void compute() {
+            final int m = C.rows();
+            final int p = C.cols();
+
+            if (tiles <= 1 || (m < 2*MR && p < 2*NR)) {
+                sequential(A, B, C, alpha, beta);
+            } else if (m >= 2*MR && (p < 2*NR || m/MR >= p/NR)) {
+                final int split = m/MR/2*MR;
+                invokeAll(
+                    rows(0, split, tiles/2),
+                    rows(split, m - split, tiles - tiles/2)
+                );
+            } else {
+                final int split = p/NR/2*NR;
+                invokeAll(
+                    cols(0, split, tiles/2),
+                    cols(split, p - split, tiles - tiles/2)
+                );
+            }
+        }
+
+        private Tile rows(int start, int rows, int tiles) {
+            return new Tile(
+                view(A, start, 0, rows, A.cols()),
+                B,
+                view(C, start, 0, rows, C.cols()),
+                alpha, beta, tiles
+            );
+        }
+
+        private Tile cols(int start, int cols, int tiles) {
+            return new Tile(
+                A,
+                view(B, 0, start, B.rows(), cols),
+                view(C, 0, start, C.rows(), cols),
+                alpha, beta, tiles
+            );
+        }
+
+        private static DoubleMatrix2d view(
+            DoubleMatrix2d matrix,
+            int row, int col,
+            int rows, int cols
+        ) {
+            return matrix.view(View2d.of(
+                new Range2d(new Index2d(row, col), new Extent2d(rows, cols))
+            ));
+        }
+    }
+
+}
@@ -0,0 +1,272 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix;
+
+import static java.util.Objects.requireNonNull;
+
+import io.jenetics.lattices.grid.FloatGrid1d;
+import io.jenetics.lattices.grid.Grid2d;
+import io.jenetics.lattices.grid.array.Array;
+import io.jenetics.lattices.grid.array.DenseFloatArray;
+import io.jenetics.lattices.grid.lattice.Lattice2d;
+import io.jenetics.lattices.structure.Extent2d;
+import io.jenetics.lattices.structure.Projection2d;
+import io.jenetics.lattices.structure.Structure2d;
+import io.jenetics.lattices.structure.View2d;
+
+/**
+ * Generic class for 2-d matrices holding {@code float} elements. Instances
+ * of this class are usually created via a factory.
+ * <pre>{@code
+ * final FloatMatrix2d matrix5x10 = FloatMatrix2d.DENSE.create(5, 10);
+ * }</pre>
+ *
+ * @see #DENSE
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public record FloatMatrix2d(Structure2d structure, Array.OfFloat array)
+    implements Lattice2d.OfFloat<Array.OfFloat>, Grid2d<Array.OfFloat, FloatMatrix2d>
+{
+
+    /**
+     * Factory for creating <em>dense</em> 2-d float matrices.
+     */
+    public static final Grid2d.Factory<FloatMatrix2d> DENSE =
+        extent -> new FloatMatrix2d(
+            new Structure2d(extent),
+            DenseFloatArray.ofSize(extent.cells())
+        );
+
+    /**
+     * Create a new matrix view from the given lattice.
+     *
+     * @param lattice the underlying lattice data
+     */
+    public FloatMatrix2d(Lattice2d<? extends Array.OfFloat> lattice) {
+        this(lattice.structure(), lattice.array());
+    }
+
+    @Override
+    public FloatMatrix2d create(Structure2d structure, Array.OfFloat array) {
+        return new FloatMatrix2d(structure, array);
+    }
+
+    /* *************************************************************************
+     * Matrix view methods.
+     * ************************************************************************/
+
+    /**
+     * Return a <em>transposed</em> view of this matrix.
+     *
+     * @return a <em>transposed</em> view of this matrix
+     */
+    public FloatMatrix2d transpose() {
+        return view(View2d.TRANSPOSE);
+    }
+
+    /**
+     * Return a 1-d projection from this 2-d matrix. The returned 1-d matrix is
+     * a view onto this matrix {@link #array()}.
+     *
+     * @param projection the projection to apply
+     * @return a 1-d projection from this 2-d matrix
+     */
+    public FloatGrid1d project(Projection2d projection) {
+        return new FloatGrid1d(projection.apply(structure()), array());
+    }
+
+    /**
+     * Constructs and returns a <em>view</em> representing the rows of the given
+     * column. The returned view is backed by this matrix, so changes in the
+     * returned view are reflected in this matrix, and vice-versa.
+     *
+     * @see #project(Projection2d)
+     *
+     * @param index the column index.
+     * @return a new column view.
+     * @throws IndexOutOfBoundsException if {@code index < 0 || index >= cols()}
+     */
+    public FloatGrid1d colAt(int index) {
+        return project(Projection2d.col(index));
+    }
+
+    /**
+     * Constructs and returns a <em>view</em> representing the columns of the
+     * given row. The returned view is backed by this matrix, so changes in the
+     * returned view are reflected in this matrix, and vice-versa.
+     *
+     * @see #project(Projection2d)
+     *
+     * @param index the row index.
+     * @return a new row view.
+     * @throws IndexOutOfBoundsException if {@code index < 0 || index >= rows()}
+     */
+    public FloatGrid1d rowAt(int index) {
+        return project(Projection2d.row(index));
+    }
+
+    /* *************************************************************************
+     * Matrix algebra methods.
+     * ************************************************************************/
+
+    /**
+     * <em>Linear algebraic matrix-matrix multiplication:</em>
+     * <pre>
+     *     C = alpha * A x B + beta*C
+     *     C[i, j] = alpha*Sum(A[i, k] * B[k, j]) + beta*C[i, j], k = 0..n-1
+     * </pre>
+     * <em>Matrix shapes:</em>
+     * <pre>
+     *     A(m x n), B(n x p), C(m x p)
+     * </pre>
+     *
+     * @implNote
+     * Matrix shape conformance is checked <em>after</em> potential
+     * transpositions.
+     *
+     * @param B the second source matrix.
+     * @param C the matrix where results are to be stored. Set this parameter to
+     *          {@code null} to indicate that a new result matrix should be
+     *          constructed.
+     * @return C, or a newly created result matrix
+     * @throws IllegalArgumentException if {@code B.rows() != A.cols()} or
+     *         {@code C.rows() != A.rows() || C.cols() != B.cols()} or
+     *         {@code A == C || B == C}
+     */
+    public FloatMatrix2d mult(
+        FloatMatrix2d B,
+        FloatMatrix2d C,
+        float alpha,
+        float beta,
+        boolean transposeA,
+        boolean transposeB
+    ) {
+        requireNonNull(B);
+
+        if (transposeA) {
+            return transpose().mult(B, C, alpha, beta, false, transposeB);
+        }
+        if (transposeB) {
+            return mult(B.transpose(), C, alpha, beta, false, false);
+        }
+        if (C == null) {
+            return mult(B, like(new Extent2d(rows(), B.cols())), alpha, beta, false, false);
+        }
+
+        final int m = rows();
+        final int n = cols();
+        final int p = B.cols();
+
+        if (B.rows() != n) {
+            throw new IllegalArgumentException(
+                "Matrix inner dimensions must be equal:" +
+                    extent() + ", " + B.extent()
+            );
+        }
+        if (C.rows() != m || C.cols() != p) {
+            throw new IllegalArgumentException(
+                "Incompatible result matrix: " +
+                    extent() + ", " + B.extent() + ", " + C.extent()
+            );
+        }
+
+        if (this == C || B == C) {
+            throw new IllegalArgumentException(
+                "Matrices A, B or C must not be identical."
+            );
+        }
+
+        FloatMatrix2dMult.mult(this, B, C, alpha, beta);
+
+        return C;
+    }
+
+    /**
+     * Linear algebraic matrix-matrix multiplication {@code C = A x B}, which is
+     * equivalent to {@code A.mult(B, C, 1, 0, false, false)}.
+     *
+     * @see #mult(FloatMatrix2d, FloatMatrix2d, float, float, boolean, boolean)
+     *
+     * @param B the second source matrix.
+     * @param C the matrix where results are to be stored. Set this parameter to
+     *          {@code null} to indicate that a new result matrix should be
+     *          constructed.
+     * @return C, or a newly created result matrix.
+     * @throws IllegalArgumentException if {@code B.rows() != A.cols()} or
+     *         {@code C.rows() != A.rows() || C.cols() != B.cols()} or
+     *         {@code A == C || B == C}
+     */
+    public FloatMatrix2d mult(FloatMatrix2d B, FloatMatrix2d C) {
+        return mult(B, C, 1, (C == null ? 1 : 0), false, false);
+    }
+
+    /**
+     * Return the sum of all cells: {@code Sum(x[i, j])}. The sum is
+     * accumulated with {@code double} precision.
+     *
+     * @return the sum of all cells
+     */
+    public double sum() {
+        final var sum = new double[1];
+        forEach((r, c) -> sum[0] += get(r, c));
+        return sum[0];
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        return object == this ||
+            object instanceof FloatMatrix2d matrix &&
+            equals(matrix);
+    }
+
+    /**
+     * Return a 2-d matrix view of the given input {@code values}. It is assumed
+     * that the values are given in row-major order. The following example shows
+     * how to create a <em>dense</em> 3x4 matrix.
+     * <pre>{@code
+     * final var matrix = FloatMatrix2d.of(
+     *     new Extent2d(3, 4),
+     *     1, 2,  3,  4,
+     *     5, 6,  7,  8,
+     *     9, 10, 11, 12
+     * );
+     * }</pre>
+     *
+     * @implSpec
+     * The given input data is <b>not</b> copied, the returned object is a
+     * <b>view</b> onto the given input data.
+     *
+     * @param extent the extent of the given values
+     * @param values the returned matrix values
+     * @return a matrix view of the given input data
+     * @throws IllegalArgumentException if the desired extent of the matrix
+     *         requires fewer elements than given
+     */
+    public static FloatMatrix2d of(Extent2d extent, float... values) {
+        return new FloatMatrix2d(
+            new Structure2d(extent),
+            new DenseFloatArray(values)
+        );
+    }
+
+}
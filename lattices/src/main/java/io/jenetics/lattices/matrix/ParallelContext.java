@@ -0,0 +1,241 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import io.jenetics.lattices.grid.array.BaseArray;
+
+/**
+ * Encapsulates the settings for the parallel execution of matrix operations,
+ * like the matrix-matrix multiplication. An operation is executed in parallel
+ * on the {@link #pool()} of the context, if its <em>work</em>, the number of
+ * multiply-add operations, exceeds the defined {@link #threshold()}. The
+ * default context uses the {@link ForkJoinPool#commonPool()}.
+ * <p>
+ * The parallel execution doesn't change the order of the floating point
+ * operations for a single result element. The results are therefore
+ * bit-for-bit identical to the sequential execution, independent of the
+ * size of the used pool.
+ * <pre>{@code
+ * final DoubleMatrix2d A = ...;
+ * final DoubleMatrix2d B = ...;
+ *
+ * // Executes the multiplication on the given pool.
+ * // Other parts of the program are not effected.
+ * final var pool = new ForkJoinPool(16);
+ * ParallelContext.using(new ParallelContext(pool), () -> {
+ *     final DoubleMatrix2d C = A.mult(B, null);
+ * });
+ * }</pre>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public final class ParallelContext {
+
+    /**
+     * The default threshold of the parallel context. Operations with less
+     * multiply-add operations are executed sequentially.
+     */
+    public static final long DEFAULT_THRESHOLD = 1L << 18;
+
+    /**
+     * Parallel context, which executes all operations sequentially.
+     */
+    public static final ParallelContext SEQUENTIAL =
+        new ParallelContext(ForkJoinPool.commonPool(), Long.MAX_VALUE);
+
+    // Holds the current context.
+    private static final Context<ParallelContext> CONTEXT =
+        new Context<>(new ParallelContext(ForkJoinPool.commonPool()));
+
+
+    private final ForkJoinPool pool;
+    private final long threshold;
+
+    /**
+     * Create a new parallel context with the given parameters.
+     *
+     * @param pool the pool used for executing parallel operations
+     * @param threshold the minimal number of multiply-add operations, needed
+     *        for executing an operation in parallel
+     * @throws NullPointerException if the given {@code pool} is {@code null}
+     * @throws IllegalArgumentException if the given {@code threshold} is
+     *         smaller than zero
+     */
+    public ParallelContext(ForkJoinPool pool, long threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException(
+                "Threshold must not be negative: " + threshold
+            );
+        }
+
+        this.pool = requireNonNull(pool);
+        this.threshold = threshold;
+    }
+
+    /**
+     * Create a new parallel context with the given {@code pool} and the
+     * {@link #DEFAULT_THRESHOLD}.
+     *
+     * @param pool the pool used for executing parallel operations
+     * @throws NullPointerException if the given {@code pool} is {@code null}
+     */
+    public ParallelContext(ForkJoinPool pool) {
+        this(pool, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Return the pool used for executing the parallel operations.
+     *
+     * @return the pool used for executing the parallel operations
+     */
+    public ForkJoinPool pool() {
+        return pool;
+    }
+
+    /**
+     * Return the minimal number of multiply-add operations, needed for
+     * executing an operation in parallel.
+     *
+     * @return the threshold for parallel executions
+     */
+    public long threshold() {
+        return threshold;
+    }
+
+    /**
+     * Return the number of threads available for parallel executions.
+     *
+     * @return the number of threads available for parallel executions
+     */
+    public int parallelism() {
+        return threshold == Long.MAX_VALUE ? 1 : pool.getParallelism();
+    }
+
+    /**
+     * Tests whether an operation with the given amount of {@code work} is
+     * executed in parallel.
+     *
+     * @param work the number of multiply-add operations of the operation
+     * @return {@code true} if the operation is executed in parallel,
+     *         {@code false} otherwise
+     */
+    public boolean isParallel(long work) {
+        return work >= threshold && parallelism() > 1;
+    }
+
+    /**
+     * Tests whether an operation with the given amount of {@code work}, which
+     * writes its result into the given {@code target} array, is executed in
+     * parallel. This requires, additionally to {@link #isParallel(long)},
+     * that the {@code target} array can be written concurrently.
+     *
+     * @see BaseArray#isConcurrentWritable()
+     *
+     * @param work the number of multiply-add operations of the operation
+     * @param target the array the result of the operation is written to
+     * @return {@code true} if the operation is executed in parallel,
+     *         {@code false} otherwise
+     */
+    public boolean isParallel(long work, BaseArray target) {
+        return isParallel(work) && target.isConcurrentWritable();
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelContext[pool=%s, threshold=%d]".formatted(pool, threshold);
+    }
+
+    /* *************************************************************************
+     * Accessor methods.
+     * ************************************************************************/
+
+    /**
+     * Return the current parallel context.
+     *
+     * @return the current parallel context
+     */
+    public static ParallelContext get() {
+        return CONTEXT.get();
+    }
+
+    /**
+     * Set a new {@link ParallelContext} for the <em>global</em> scope.
+     *
+     * @param context the new {@link ParallelContext} for the <em>global</em>
+     *        scope
+     * @throws NullPointerException if the {@code context} object is {@code null}
+     */
+    public static void set(ParallelContext context) {
+        requireNonNull(context);
+        CONTEXT.set(context);
+    }
+
+    /**
+     * Set the context object to its default value.
+     */
+    public static void reset() {
+        CONTEXT.reset();
+    }
+
+    /**
+     * Executes the given {@code task} with the new parallel {@code context}.
+     * The parallel context effects only the task execution.
+     *
+     * @param context the parallel context used in the given {@code task}
+     * @param task the {@code task} which is executed within the <i>scope</i> of
+     *        the given parallel context
+     * @throws NullPointerException if one of the arguments is {@code null}
+     */
+    public static void using(ParallelContext context, Runnable task) {
+        requireNonNull(context);
+        requireNonNull(task);
+
+        CONTEXT.with(context, c -> { task.run(); return null; });
+    }
+
+    /**
+     * Opens a new <em>scope</em> with the given parallel context and executes
+     * the given {@code supplier}.
+     *
+     * @param context the parallel context used when executing the
+     *        {@code supplier}
+     * @param supplier the supplier to execute with the new parallel context
+     * @return the supplier result
+     * @param <T> the type of the supplier result
+     * @throws NullPointerException if one of the arguments is {@code null}
+     */
+    public static <T> T with(
+        ParallelContext context,
+        Supplier<? extends T> supplier
+    ) {
+        requireNonNull(context);
+        requireNonNull(supplier);
+
+        return CONTEXT.with(context, c -> supplier.get());
+    }
+
+}
@@ -19,9 +19,12 @@
  */
 package io.jenetics.lattices.matrix.linalg;
 
+import static java.util.Objects.requireNonNull;
 import static io.jenetics.lattices.grid.Structures.checkSameExtent;
 import static io.jenetics.lattices.grid.Structures.checkSquare;
 
+import io.jenetics.lattices.internal.DoubleKernels;
+import io.jenetics.lattices.internal.DoubleSegment;
 import io.jenetics.lattices.matrix.DoubleMatrix1d;
 import io.jenetics.lattices.matrix.DoubleMatrix2d;
 import io.jenetics.lattices.matrix.NumericalContext;
@@ -44,6 +47,43 @@ public interface Blas {
      */
     Blas DEFAULT = new Blas() {};
 
+    /**
+     * Return the process-wide BLAS implementation, which is used by
+     * {@link Algebra} and the matrix decompositions. If not set otherwise, the
+     * {@link #DEFAULT} implementation is returned.
+     *
+     * @see ParallelBlas
+     *
+     * @return the process-wide BLAS implementation
+     */
+    static Blas get() {
+        return BlasHolder.BLAS.get();
+    }
+
+    /**
+     * Set the process-wide BLAS implementation.
+     * <pre>{@code
+     * final var pool = new ForkJoinPool(16);
+     * Blas.set(new ParallelBlas(pool));
+     *
+     * // The solver now uses the given pool.
+     * final DoubleMatrix2d X = Algebra.solve(A, B);
+     * }</pre>
+     *
+     * @param blas the new process-wide BLAS implementation
+     * @throws NullPointerException if the given {@code blas} is {@code null}
+     */
+    static void set(Blas blas) {
+        BlasHolder.BLAS.set(requireNonNull(blas));
+    }
+
+    /**
+     * Set the process-wide BLAS implementation to its {@link #DEFAULT} value.
+     */
+    static void reset() {
+        BlasHolder.BLAS.set(DEFAULT);
+    }
+
     /* *************************************************************************
      * Level 1
      * ************************************************************************/
@@ -156,7 +196,17 @@ public interface Blas {
      * @param x the first vector
      */
     default void dscal(double alpha, DoubleMatrix1d x) {
-        x.assign(a -> a*alpha);
+        final var segment = DoubleSegment.of(x.structure(), x.array());
+        if (segment.isPresent()) {
+            DoubleKernels.get().scal(
+                alpha,
+                segment.get().elements(),
+                segment.get().offset(),
+                segment.get().length()
+            );
+        } else {
+            x.assign(a -> a*alpha);
+        }
     }
 
     /**
@@ -183,7 +233,20 @@ public interface Blas {
      * @throws IllegalArgumentException if {@code x.size() != y.size()}
      */
     default void daxpy(double alpha, DoubleMatrix1d x, DoubleMatrix1d y) {
-        y.assign(x, (a, b) -> Math.fma(b, alpha, a));
+        checkSameExtent(x.extent(), y.extent());
+
+        final var a = DoubleSegment.of(x.structure(), x.array());
+        final var b = DoubleSegment.of(y.structure(), y.array());
+        if (a.isPresent() && b.isPresent()) {
+            DoubleKernels.get().axpy(
+                alpha,
+                a.get().elements(), a.get().offset(),
+                b.get().elements(), b.get().offset(),
+                a.get().length()
+            );
+        } else {
+            y.assign(x, (u, v) -> Math.fma(v, alpha, u));
+        }
     }
 
     /**
@@ -307,8 +370,7 @@ public interface Blas {
         DoubleMatrix2d A
     ) {
         for (int i = 0; i < A.rows(); ++i) {
-            final var multiplier = alpha*x.get(i);
-            A.rowAt(i).assign(y, (a, b) -> Math.fma(b, multiplier, a));
+            daxpy(alpha*x.get(i), y, A.rowAt(i));
         }
     }
 
@@ -21,6 +21,9 @@ package io.jenetics.lattices.matrix.linalg;
 
 import static java.util.Objects.requireNonNull;
 import static io.jenetics.lattices.grid.Structures.checkRectangular;
+import static io.jenetics.lattices.matrix.linalg.Views.block;
+import static io.jenetics.lattices.matrix.linalg.Views.part;
+import static io.jenetics.lattices.matrix.linalg.Views.rows;
 
 import io.jenetics.lattices.matrix.DoubleMatrix1d;
 import io.jenetics.lattices.matrix.DoubleMatrix2d;
@@ -36,6 +39,9 @@ import io.jenetics.lattices.structure.Extent2d;
  */
 public final class Cholesky implements Solver {
 
+    // Number of columns of a panel of the blocked decomposition.
+    private static final int BLOCK_SIZE = 64;
+
     private final DoubleMatrix2d L;
     private final boolean symmetricPositiveDefinite;
 
@@ -83,25 +89,23 @@ public final class Cholesky implements Solver {
     @Override
     public DoubleMatrix2d solve(DoubleMatrix2d B) {
         final var X = B.copy();
+        final var blas = Blas.get();
+        final int n = L.rows();
 
-        for (int c = 0; c < B.cols(); ++c) {
-            // Solve L*Y = B;
-            for (int i = 0; i < L.rows(); ++i) {
-                double sum = B.get(i, c);
-                for (int k = i - 1; k >= 0; --k) {
-                    sum = -Math.fma(L.get(i, k), X.get(k, c), -sum);
-                }
-                X.set(i, c, sum/L.get(i, i));
+        // Solve L*Y = B;
+        for (int i = 0; i < n; ++i) {
+            if (i > 0) {
+                blas.dgemv(true, -1, rows(X, 0, i), part(L.rowAt(i), 0, i), 1, X.rowAt(i));
             }
+            blas.dscal(1.0/L.get(i, i), X.rowAt(i));
+        }
 
-            // Solve L'*X = Y;
-            for (int i = L.rows() - 1; i >= 0; --i) {
-                double sum = X.get(i, c);
-                for (int k = i + 1; k < L.rows(); ++k) {
-                    sum = -Math.fma(L.get(k, i), X.get(k, c), -sum);
-                }
-                X.set(i, c, sum/L.get(i, i));
+        // Solve L'*X = Y;
+        for (int i = n - 1; i >= 0; --i) {
+            if (i < n - 1) {
+                blas.dgemv(true, -1, rows(X, i + 1, n), part(L.colAt(i), i + 1, n), 1, X.rowAt(i));
             }
+            blas.dscal(1.0/L.get(i, i), X.rowAt(i));
         }
 
         return X;
@@ -111,6 +115,12 @@ public final class Cholesky implements Solver {
      * Performs a <em>Cholesky</em>-decomposition of the symmetric and positive
      * definite matrix {@code A}.
      *
+     * @implNote
+     * Large, square matrices are decomposed with a blocked algorithm, whose
+     * trailing updates are performed by the current {@link Blas#get()}
+     * implementation. The {@link ParallelBlas} and the {@code ParallelContext}
+     * can therefore be used for distributing the work across cores.
+     *
      * @param A the matrix to be decomposed
      * @return Structure to access {@code L} and
      *         {@code isSymmetricPositiveDefinite} flag
@@ -119,8 +129,96 @@ public final class Cholesky implements Solver {
     public static Cholesky decompose(DoubleMatrix2d A) {
         checkRectangular(A.extent());
 
+        return A.rows() == A.cols() && A.rows() > BLOCK_SIZE
+            ? blocked(A)
+            : unblocked(A);
+    }
+
+    /**
+     * Blocked, right-looking Cholesky decomposition of the square matrix
+     * {@code A}. Only the lower triangle of {@code A} is used for computing
+     * {@code L}. The algorithm computes the upper triangular factor
+     * {@code U = L'}, whose rows are contiguous for row-major matrices.
+     * <pre>
+     *     | A11 A12 |   | U11'  0  |   | U11 U12 |
+     *     |  .  A22 | = | U12'  1  | x |  0  A22'|
+     *
+     *     U11' x [U11, U12] = [A11, A12]      (panel factorization)
+     *     A22' = A22 - U12' x U12             (SYRK)
+     * </pre>
+     * The symmetric rank-k update of the trailing matrix only computes its
+     * upper triangle, one GEMM call per block row.
+     */
+    private static Cholesky blocked(DoubleMatrix2d A) {
         final var context = NumericalContext.get();
+        final var blas = Blas.get();
+
+        final int n = A.rows();
+        final var U = A.transpose().copy();
+
+        boolean isSymmetricPositiveDefinite = true;
+        for (int j = 0; j < n && isSymmetricPositiveDefinite; ++j) {
+            for (int k = 0; k < j && isSymmetricPositiveDefinite; ++k) {
+                isSymmetricPositiveDefinite =
+                    context.equals(A.get(k, j), A.get(j, k));
+            }
+        }
+
+        for (int j0 = 0; j0 < n; j0 += BLOCK_SIZE) {
+            final int j1 = Math.min(j0 + BLOCK_SIZE, n);
+
+            // Factorize the panel U[j0:j1, j0:n].
+            for (int j = j0; j < j1; ++j) {
+                final double d = U.get(j, j);
+                isSymmetricPositiveDefinite = isSymmetricPositiveDefinite &&
+                    context.isGreaterZero(d);
 
+                final double ujj = Math.sqrt(Math.max(d, 0.0));
+                U.set(j, j, ujj);
+
+                if (j + 1 < n) {
+                    final var row = part(U.rowAt(j), j + 1, n);
+                    blas.dscal(1.0/ujj, row);
+
+                    if (j + 1 < j1) {
+                        blas.dger(
+                            -1,
+                            part(U.rowAt(j), j + 1, j1),
+                            row,
+                            block(U, j + 1, j1, j + 1, n)
+                        );
+                    }
+                }
+            }
+
+            // Update the upper triangle of the trailing matrix:
+            // A22 = A22 - U12'*U12.
+            for (int i0 = j1; i0 < n; i0 += BLOCK_SIZE) {
+                final int i1 = Math.min(i0 + BLOCK_SIZE, n);
+
+                blas.dgemm(
+                    true, false,
+                    -1,
+                    block(U, j0, j1, i0, i1),
+                    block(U, j0, j1, i0, n),
+                    1,
+                    block(U, i0, i1, i0, n)
+                );
+            }
+        }
+
+        final var L = U.transpose().copy();
+        for (int j = 0; j < n; ++j) {
+            for (int k = j + 1; k < n; ++k) {
+                L.set(j, k, 0.0);
+            }
+        }
+
+        return new Cholesky(L, isSymmetricPositiveDefinite, context);
+    }
+
+    private static Cholesky unblocked(DoubleMatrix2d A) {
+        final var context = NumericalContext.get();
         final var n = A.rows();
         final var L = A.like(new Extent2d(n, n));
         var isSymmetricPositiveDefinite = A.cols() == n;
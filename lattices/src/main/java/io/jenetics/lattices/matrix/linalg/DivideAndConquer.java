@@ -0,0 +1,803 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix.linalg;
+
+import static io.jenetics.lattices.matrix.linalg.Views.block;
+import static io.jenetics.lattices.matrix.linalg.Views.cols;
+import static io.jenetics.lattices.matrix.linalg.Views.part;
+import static io.jenetics.lattices.matrix.linalg.Views.rows;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.IntStream;
+
+import io.jenetics.lattices.matrix.DoubleMatrix1d;
+import io.jenetics.lattices.matrix.DoubleMatrix2d;
+import io.jenetics.lattices.matrix.ParallelContext;
+import io.jenetics.lattices.structure.Extent2d;
+
+/**
+ * Divide-and-conquer eigen-decomposition of symmetric matrices.
+ * <p>
+ * The matrix is first reduced to tri-diagonal form {@code T = Q'*A*Q}, with a
+ * blocked Householder reduction. Most of the work of the reduction is done by
+ * rank-{@code 2k} updates of the trailing matrix, see {@link Blas#dgemm}.
+ * <p>
+ * The eigen-decomposition of {@code T} is computed with Cuppen's method. The
+ * tri-diagonal matrix is <em>torn</em> into two halves, which only differ
+ * from {@code T} by a rank-one correction.
+ * <pre>
+ *     T = | T1  0  | + rho*u*u'
+ *         | 0   T2 |
+ * </pre>
+ * The eigen-decompositions of the two halves are computed recursively, and in
+ * parallel, if the current {@link ParallelContext} allows it. The solutions
+ * of the halves are then merged, by solving the <em>secular equation</em> of
+ * the rank-one correction. The eigenvectors of the merged problem are
+ * computed with the method of Gu and Eisenstat, which keeps them
+ * numerically orthogonal. Eigenvalues which are (almost) not affected by the
+ * correction are <em>deflated</em>.
+ * <p>
+ * Finally, the eigenvectors of {@code T} are transformed back to the
+ * eigenvectors of {@code A}, by applying the Householder reflections in
+ * blocks.
+ *
+ * @see Eigenvalue
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+final class DivideAndConquer {
+
+    // Number of columns of a panel of the blocked tri-diagonalization.
+    private static final int BLOCK_SIZE = 64;
+
+    // Maximal size of a sub-problem, which is solved directly.
+    private static final int LEAF_SIZE = 32;
+
+    // Number of sub-problems created for every thread of the pool.
+    private static final int TASKS_PER_THREAD = 4;
+
+    // Maximal number of iterations for solving the secular equation.
+    private static final int MAX_ITERATIONS = 100;
+
+    private static final double EPS = Math.pow(2.0, -52.0);
+
+    // Column types of the eigenvector matrix of the merged halves.
+    private static final int UPPER = 0;
+    private static final int MIXED = 1;
+    private static final int LOWER = 2;
+
+    private DivideAndConquer() {
+    }
+
+    /**
+     * The eigenvalues and eigenvectors of a (sub-)problem. The eigenvalues
+     * are not sorted.
+     */
+    private record Eigen(double[] values, DoubleMatrix2d vectors) {
+        int size() {
+            return values.length;
+        }
+    }
+
+    /**
+     * Computes the eigen-decomposition of the given symmetric matrix
+     * {@code A}. The eigenvalues are written, in ascending order, into the
+     * given array {@code d}. The corresponding eigenvectors are returned
+     * as columns of the result matrix.
+     *
+     * @param A the symmetric matrix to decompose
+     * @param d the array of the eigenvalues
+     * @return the eigenvectors of the matrix {@code A}
+     */
+    static DoubleMatrix2d decompose(DoubleMatrix2d A, double[] d) {
+        final int n = A.rows();
+        final var blas = Blas.get();
+
+        // Tri-diagonalize. The reflectors are stored above the super-diagonal.
+        final var QT = A.copy();
+        final var diag = new double[n];
+        final var offd = new double[n];
+        final var tau = new double[n];
+        tridiagonalize(QT, diag, offd, tau, blas);
+
+        // Diagonalize.
+        final var eigen = solve(diag, offd);
+
+        // Sort eigenvalues and corresponding vectors.
+        final int[] order = order(eigen.values());
+        final var V = DoubleMatrix2d.DENSE.create(n, n);
+        for (int j = 0; j < n; ++j) {
+            d[j] = eigen.values()[order[j]];
+            V.colAt(j).assign(eigen.vectors().colAt(order[j]));
+        }
+
+        // Back-transform the eigenvectors of the tri-diagonal matrix.
+        backTransform(QT, tau, V, blas);
+        return V;
+    }
+
+    /* *************************************************************************
+     * Tri-diagonalization.
+     * ************************************************************************/
+
+    /**
+     * Reduces the symmetric matrix {@code A} to tri-diagonal form. The
+     * diagonal is written to {@code d} and the sub-diagonal to {@code e},
+     * where {@code e[k]} couples the elements {@code k} and {@code k + 1}.
+     * The Householder vectors {@code v} of the reflections
+     * {@code H = I - tau*v*v'} are stored above the super-diagonal of
+     * {@code A}. Since {@code A} is symmetric, the rows of {@code A} are
+     * reduced, instead of the columns.
+     * <p>
+     * Within a panel, the reflections are applied to the next row only.
+     * The trailing matrix is updated once per panel, with
+     * {@code A = A - V*W' - W*V'}.
+     */
+    private static void tridiagonalize(
+        DoubleMatrix2d A,
+        double[] d,
+        double[] e,
+        double[] tau,
+        Blas blas
+    ) {
+        final int n = A.rows();
+
+        for (int k0 = 0; k0 < n - 1; k0 += BLOCK_SIZE) {
+            final int k1 = Math.min(k0 + BLOCK_SIZE, n - 1);
+            final var V = A.like(new Extent2d(n, k1 - k0));
+            final var W = V.like();
+            final var tmp = A.rowAt(0).like();
+
+            for (int j = 0; j < k1 - k0; ++j) {
+                final int k = k0 + j;
+
+                // Apply the previous reflections of the panel to row k.
+                final var a = part(A.rowAt(k), k, n);
+                if (j > 0) {
+                    final var Vk = block(V, k, n, 0, j);
+                    final var Wk = block(W, k, n, 0, j);
+                    blas.dgemv(false, -1, Vk, part(W.rowAt(k), 0, j), 1, a);
+                    blas.dgemv(false, -1, Wk, part(V.rowAt(k), 0, j), 1, a);
+                }
+                d[k] = a.get(0);
+
+                // Generate the reflection, which annihilates A[k, k+2:n].
+                final var v = part(a, 1, n - k);
+                final double alpha = v.get(0);
+                final double xnorm = norm(part(v, 1, n - k - 1));
+                if (xnorm == 0.0) {
+                    tau[k] = 0.0;
+                    e[k] = alpha;
+                    continue;
+                }
+
+                final double beta = -Math.copySign(Math.hypot(alpha, xnorm), alpha);
+                tau[k] = (beta - alpha)/beta;
+                e[k] = beta;
+                blas.dscal(1.0/(alpha - beta), part(v, 1, n - k - 1));
+                v.set(0, 1);
+                part(V.colAt(j), k + 1, n).assign(v);
+
+                // w = tau*(A - V*W' - W*V')*v - (tau/2*w'*v)*v
+                final var w = part(W.colAt(j), k + 1, n);
+                final var Av = part(tmp, 0, n - k - 1);
+                symv(block(A, k + 1, n, k + 1, n), v, Av, blas);
+                w.assign(Av);
+                if (j > 0) {
+                    final var t = part(tmp, 0, j);
+                    final var Vk = block(V, k + 1, n, 0, j);
+                    final var Wk = block(W, k + 1, n, 0, j);
+                    blas.dgemv(true, 1, Wk, v, 0, t);
+                    blas.dgemv(false, -1, Vk, t, 1, w);
+                    blas.dgemv(true, 1, Vk, v, 0, t);
+                    blas.dgemv(false, -1, Wk, t, 1, w);
+                }
+                blas.dscal(tau[k], w);
+                blas.daxpy(-0.5*tau[k]*blas.ddot(w, v), v, w);
+            }
+
+            // Update the trailing matrix.
+            final var A22 = block(A, k1, n, k1, n);
+            final var V2 = rows(V, k1, n);
+            final var W2 = rows(W, k1, n);
+            blas.dgemm(false, true, -1, V2, W2, 1, A22);
+            blas.dgemm(false, true, -1, W2, V2, 1, A22);
+        }
+
+        if (n > 0) {
+            d[n - 1] = A.get(n - 1, n - 1);
+        }
+    }
+
+    /**
+     * Computes {@code y = A*x} for the symmetric matrix {@code A}, using only
+     * its lower triangle. Every row of the triangle is read only once, for
+     * computing a dot product and an axpy update.
+     */
+    private static void symv(
+        DoubleMatrix2d A,
+        DoubleMatrix1d x,
+        DoubleMatrix1d y,
+        Blas blas
+    ) {
+        y.assign(0);
+        for (int i = 0; i < A.rows(); ++i) {
+            final var row = part(A.rowAt(i), 0, i);
+            final double s = blas.ddot(row, part(x, 0, i));
+            y.set(i, y.get(i) + Math.fma(A.get(i, i), x.get(i), s));
+            blas.daxpy(x.get(i), row, part(y, 0, i));
+        }
+    }
+
+    /**
+     * Applies the reflections of the tri-diagonalization to the eigenvectors
+     * {@code V} of the tri-diagonal matrix, {@code V = H[0]*...*H[n-2]*V}.
+     * The reflections of a panel are applied at once, using the compact WY
+     * representation {@code I - Y*T*Y'}.
+     */
+    private static void backTransform(
+        DoubleMatrix2d A,
+        double[] tau,
+        DoubleMatrix2d V,
+        Blas blas
+    ) {
+        final int n = A.rows();
+        final int panels = (Math.max(n - 1, 0) + BLOCK_SIZE - 1)/BLOCK_SIZE;
+
+        for (int p = panels; --p >= 0;) {
+            final int k0 = p*BLOCK_SIZE;
+            final int k1 = Math.min(k0 + BLOCK_SIZE, n - 1);
+            final int b = k1 - k0;
+
+            // The rows of YT are the Householder vectors of the panel.
+            final var YT = block(A, k0, k1, k0 + 1, n).copy();
+            for (int j = 0; j < b; ++j) {
+                part(YT.rowAt(j), 0, j).assign(0);
+                YT.set(j, j, 1);
+            }
+
+            final var T = YT.like(new Extent2d(b, b));
+            for (int j = 0; j < b; ++j) {
+                if (j > 0) {
+                    final var t = part(T.colAt(j), 0, j);
+                    blas.dgemv(false, -tau[k0 + j], rows(YT, 0, j), YT.rowAt(j), 0, t);
+                    blas.dtrmv(true, false, false, block(T, 0, j, 0, j), t);
+                }
+                T.set(j, j, tau[k0 + j]);
+            }
+
+            final var V2 = rows(V, k0 + 1, n);
+            final var X = V2.like(new Extent2d(b, V2.cols()));
+            final var Y = X.like();
+            blas.dgemm(false, false, 1, YT, V2, 0, X);
+            blas.dgemm(false, false, 1, T, X, 0, Y);
+            blas.dgemm(true, false, -1, YT, Y, 1, V2);
+        }
+    }
+
+    /* *************************************************************************
+     * Divide and conquer.
+     * ************************************************************************/
+
+    /**
+     * Computes the eigen-decomposition of the symmetric tri-diagonal matrix,
+     * with diagonal {@code d} and off-diagonal {@code e}.
+     */
+    private static Eigen solve(double[] d, double[] e) {
+        final var context = ParallelContext.get();
+        final long work = (long)d.length*d.length*d.length;
+
+        if (context.isParallel(work)) {
+            final int tasks = context.parallelism()*TASKS_PER_THREAD;
+            return context.pool().invoke(new Subproblem(d, e, 0, d.length, tasks));
+        } else {
+            return solve(d, e, 0, d.length);
+        }
+    }
+
+    /**
+     * Solves the sub-problem {@code [start, end)} sequentially.
+     */
+    private static Eigen solve(double[] d, double[] e, int start, int end) {
+        if (end - start <= LEAF_SIZE) {
+            return leaf(d, e, start, end);
+        }
+
+        final int split = start + (end - start)/2;
+        final double rho = tear(d, e, split);
+        return merge(solve(d, e, start, split), solve(d, e, split, end), rho);
+    }
+
+    /**
+     * Tears the tri-diagonal matrix apart, between the elements
+     * {@code split - 1} and {@code split}, and returns the coupling element.
+     */
+    private static double tear(double[] d, double[] e, int split) {
+        final double rho = e[split - 1];
+        d[split - 1] -= Math.abs(rho);
+        d[split] -= Math.abs(rho);
+        return rho;
+    }
+
+    /**
+     * Solves the sub-problem {@code [start, end)} with the symmetric
+     * tri-diagonal QL algorithm.
+     */
+    private static Eigen leaf(double[] diag, double[] offd, int start, int end) {
+        final int n = end - start;
+        final var d = Arrays.copyOfRange(diag, start, end);
+        final var e = new double[n];
+        System.arraycopy(offd, start, e, 0, Math.max(n - 1, 0));
+
+        final var Z = DoubleMatrix2d.DENSE.create(n, n);
+        for (int i = 0; i < n; ++i) {
+            Z.set(i, i, 1);
+        }
+
+        double f = 0.0;
+        double tst1 = 0.0;
+        for (int l = 0; l < n; ++l) {
+
+            // Find small sub-diagonal element
+            tst1 = Math.max(tst1, Math.abs(d[l]) + Math.abs(e[l]));
+            int m = l;
+            while (m < n - 1 && Math.abs(e[m]) > EPS*tst1) {
+                ++m;
+            }
+
+            // If m == l, d[l] is an eigenvalue,
+            // otherwise, iterate.
+            if (m > l) {
+                do {
+                    // Compute implicit shift
+                    double g = d[l];
+                    double p = (d[l + 1] - g)/(2.0*e[l]);
+                    double r = Math.hypot(p, 1.0);
+                    if (p < 0) {
+                        r = -r;
+                    }
+                    d[l] = e[l]/(p + r);
+                    d[l + 1] = e[l]*(p + r);
+                    double dl1 = d[l + 1];
+                    double h = g - d[l];
+                    for (int i = l + 2; i < n; i++) {
+                        d[i] -= h;
+                    }
+                    f = f + h;
+
+                    // Implicit QL transformation.
+                    p = d[m];
+                    double c = 1.0;
+                    double c2 = c;
+                    double c3 = c;
+                    double el1 = e[l + 1];
+                    double s = 0.0;
+                    double s2 = 0.0;
+                    for (int i = m - 1; i >= l; i--) {
+                        c3 = c2;
+                        c2 = c;
+                        s2 = s;
+                        g = c*e[i];
+                        h = c*p;
+                        r = Math.hypot(p, e[i]);
+                        e[i + 1] = s*r;
+                        s = e[i]/r;
+                        c = p/r;
+                        p = c*d[i] - s*g;
+                        d[i + 1] = Math.fma(s, (Math.fma(c, g,  s*d[i])), h);
+
+                        // Accumulate transformation.
+                        for (int k = 0; k < n; ++k) {
+                            h = Z.get(k, i + 1);
+                            Z.set(k, i + 1, s*Z.get(k, i) + c*h);
+                            Z.set(k, i, c*Z.get(k, i) - s*h);
+                        }
+                    }
+                    p = -s*s2*c3*el1*e[l]/dl1;
+                    e[l] = s*p;
+                    d[l] = c*p;
+
+                    // Check for convergence.
+                } while (Math.abs(e[l]) > EPS*tst1);
+            }
+            d[l] = d[l] + f;
+            e[l] = 0.0;
+        }
+
+        return new Eigen(d, Z);
+    }
+
+    /**
+     * Merges the solutions of the two halves of a torn tri-diagonal matrix.
+     * The eigenvalues of the merged problem are the eigenvalues of the
+     * rank-one modification {@code D + rho*z*z'}, where {@code D} contains
+     * the eigenvalues of the two halves and {@code z} is built from the last
+     * row of the first and the first row of the second eigenvector matrix.
+     */
+    private static Eigen merge(Eigen left, Eigen right, double rho) {
+        final int n1 = left.size();
+        final int n = n1 + right.size();
+
+        final double[] values = new double[n];
+        System.arraycopy(left.values(), 0, values, 0, n1);
+        System.arraycopy(right.values(), 0, values, n1, n - n1);
+        final int[] order = order(values);
+
+        // Sorted eigenvalues d, the vector z and the block-diagonal matrix Q.
+        // The type of a column of Q tells, whether it is non-zero in the
+        // upper (UPPER), the lower (LOWER) or in both (MIXED) row blocks.
+        final double[] d = new double[n];
+        final double[] z = new double[n];
+        final int[] type = new int[n];
+        final var Q = DoubleMatrix2d.DENSE.create(n, n);
+        final double sign = rho < 0 ? -1 : 1;
+        for (int j = 0; j < n; ++j) {
+            final int k = order[j];
+            d[j] = values[k];
+            if (k < n1) {
+                z[j] = left.vectors().get(n1 - 1, k);
+                type[j] = UPPER;
+                part(Q.colAt(j), 0, n1).assign(left.vectors().colAt(k));
+            } else {
+                z[j] = sign*right.vectors().get(0, k - n1);
+                type[j] = LOWER;
+                part(Q.colAt(j), n1, n).assign(right.vectors().colAt(k - n1));
+            }
+        }
+
+        // Normalize z, since both halves contribute a unit vector.
+        final double r = 2*Math.abs(rho);
+        for (int j = 0; j < n; ++j) {
+            z[j] /= Math.sqrt(2);
+        }
+
+        // Deflation.
+        double dmax = 0;
+        double zmax = 0;
+        for (int j = 0; j < n; ++j) {
+            dmax = Math.max(dmax, Math.abs(d[j]));
+            zmax = Math.max(zmax, Math.abs(z[j]));
+        }
+        final double tol = 8*EPS*Math.max(dmax, zmax);
+
+        final int[] kept = new int[n];
+        final int[] deflated = new int[n];
+        int nk = 0;
+        int nd = 0;
+        int prev = -1;
+        for (int j = 0; j < n; ++j) {
+            if (r*Math.abs(z[j]) <= tol) {
+                deflated[nd++] = j;
+            } else if (prev < 0) {
+                prev = j;
+            } else {
+                final double tau = Math.hypot(z[j], z[prev]);
+                final double c = z[j]/tau;
+                final double s = -z[prev]/tau;
+
+                if (Math.abs((d[j] - d[prev])*c*s) <= tol) {
+                    // Rotate z[prev] to zero.
+                    z[j] = tau;
+                    z[prev] = 0;
+                    Blas.DEFAULT.drot(Q.colAt(prev), Q.colAt(j), c, s);
+                    if (type[prev] != type[j]) {
+                        type[j] = MIXED;
+                    }
+
+                    final double t = d[prev]*c*c + d[j]*s*s;
+                    d[j] = d[prev]*s*s + d[j]*c*c;
+                    d[prev] = t;
+                    deflated[nd++] = prev;
+                } else {
+                    kept[nk++] = prev;
+                }
+                prev = j;
+            }
+        }
+        if (prev >= 0) {
+            kept[nk++] = prev;
+        }
+
+        final var result = Q.like();
+        final double[] lambda = new double[n];
+
+        // Deflated eigenpairs are taken unchanged.
+        for (int j = 0; j < nd; ++j) {
+            lambda[nk + j] = d[deflated[j]];
+            result.colAt(nk + j).assign(Q.colAt(deflated[j]));
+        }
+
+        if (nk > 0) {
+            final double[] dk = new double[nk];
+            final double[] zk = new double[nk];
+            for (int j = 0; j < nk; ++j) {
+                dk[j] = d[kept[j]];
+                zk[j] = z[kept[j]];
+            }
+
+            final var U = secular(dk, zk, r, lambda);
+            multiply(Q, n1, kept, nk, type, U, cols(result, 0, nk));
+        }
+
+        return new Eigen(lambda, result);
+    }
+
+    /**
+     * Computes {@code C = Q[:, kept]*U}. The columns of {@code Q} are grouped
+     * by their type, which allows to skip the zero blocks of {@code Q}.
+     */
+    private static void multiply(
+        DoubleMatrix2d Q,
+        int n1,
+        int[] kept,
+        int nk,
+        int[] type,
+        DoubleMatrix2d U,
+        DoubleMatrix2d C
+    ) {
+        final int n = Q.rows();
+
+        // Permutation of the kept columns, ordered by type.
+        final int[] perm = new int[nk];
+        final int[] count = new int[3];
+        for (int t = UPPER, i = 0; t <= LOWER; ++t) {
+            for (int j = 0; j < nk; ++j) {
+                if (type[kept[j]] == t) {
+                    perm[i++] = j;
+                    ++count[t];
+                }
+            }
+        }
+        final int upper = count[UPPER] + count[MIXED];
+        final int lower = count[MIXED] + count[LOWER];
+
+        final var UP = U.like();
+        for (int j = 0; j < nk; ++j) {
+            UP.rowAt(j).assign(U.rowAt(perm[j]));
+        }
+
+        final var blas = Blas.get();
+        if (upper > 0) {
+            final var Q1 = Q.like(new Extent2d(n1, upper));
+            for (int j = 0; j < upper; ++j) {
+                Q1.colAt(j).assign(part(Q.colAt(kept[perm[j]]), 0, n1));
+            }
+            blas.dgemm(false, false, 1, Q1, rows(UP, 0, upper), 0, rows(C, 0, n1));
+        }
+        if (lower > 0) {
+            final int start = count[UPPER];
+            final var Q2 = Q.like(new Extent2d(n - n1, lower));
+            for (int j = 0; j < lower; ++j) {
+                Q2.colAt(j).assign(part(Q.colAt(kept[perm[start + j]]), n1, n));
+            }
+            blas.dgemm(false, false, 1, Q2, rows(UP, start, nk), 0, rows(C, n1, n));
+        }
+    }
+
+    /**
+     * Computes the eigenvalues and eigenvectors of {@code D + rho*z*z'},
+     * where {@code d} is sorted in ascending order, all elements of {@code z}
+     * are non-zero and {@code rho > 0}. The eigenvalues are written into the
+     * given {@code lambda} array and the eigenvectors are returned.
+     */
+    private static DoubleMatrix2d secular(
+        double[] d,
+        double[] z,
+        double rho,
+        double[] lambda
+    ) {
+        final int n = d.length;
+
+        // The differences delta[i, j] = d[i] - lambda[j].
+        final var delta = DoubleMatrix2d.DENSE.create(n, n);
+        for (int j = 0; j < n; ++j) {
+            lambda[j] = root(d, z, rho, j, delta.colAt(j));
+        }
+
+        // Gu/Eisenstat: compute z, which makes the eigenvectors orthogonal.
+        final double[] zhat = new double[n];
+        for (int i = 0; i < n; ++i) {
+            double w = -delta.get(i, i);
+            for (int j = 0; j < n; ++j) {
+                if (j != i) {
+                    w *= -delta.get(i, j)/(d[j] - d[i]);
+                }
+            }
+            zhat[i] = Math.copySign(Math.sqrt(w/rho), z[i]);
+        }
+
+        // Eigenvectors: u[i, j] = zhat[i]/(d[i] - lambda[j]).
+        for (int j = 0; j < n; ++j) {
+            final var u = delta.colAt(j);
+            for (int i = 0; i < n; ++i) {
+                u.set(i, zhat[i]/u.get(i));
+            }
+            Blas.DEFAULT.dscal(1.0/norm(u), u);
+        }
+
+        return delta;
+    }
+
+    /**
+     * Computes the {@code j}-th root of the secular equation
+     * <pre>
+     *     f(lambda) = 1 + rho*sum(z[i]^2/(d[i] - lambda)) = 0
+     * </pre>
+     * The root lies between {@code d[j]} and {@code d[j + 1]}, or between
+     * {@code d[n - 1]} and {@code d[n - 1] + rho*z'*z} for the last root. To
+     * preserve accuracy, the root is computed relative to the nearest pole,
+     * {@code lambda = d[origin] + mu}, and the differences
+     * {@code d[i] - lambda} are written to {@code delta}.
+     */
+    private static double root(
+        double[] d,
+        double[] z,
+        double rho,
+        int j,
+        DoubleMatrix1d delta
+    ) {
+        final int n = d.length;
+
+        // Choose the pole, which is closer to the root.
+        int origin = j;
+        double lo = 0;
+        double hi;
+        if (j < n - 1) {
+            final double mid = (d[j + 1] - d[j])/2;
+            if (evaluate(d, z, rho, j, mid) < 0) {
+                origin = j + 1;
+                lo = mid - (d[j + 1] - d[j]);
+                hi = 0;
+            } else {
+                hi = mid;
+            }
+        } else {
+            double zz = 0;
+            for (int i = 0; i < n; ++i) {
+                zz = Math.fma(z[i], z[i], zz);
+            }
+            hi = rho*zz;
+        }
+
+        double mu = (lo + hi)/2;
+        for (int iter = 0; iter < MAX_ITERATIONS; ++iter) {
+            double f = 1;
+            double df = 0;
+            double err = 1;
+            for (int i = 0; i < n; ++i) {
+                final double t = z[i]/((d[i] - d[origin]) - mu);
+                final double term = rho*z[i]*t;
+                f += term;
+                err += Math.abs(term);
+                df += rho*t*t;
+            }
+            if (Math.abs(f) <= 8*n*EPS*err) {
+                break;
+            }
+            if (f < 0) {
+                lo = mu;
+            } else {
+                hi = mu;
+            }
+
+            // Fit f(x) ~ a - b/x, which has its pole at the origin.
+            double next = df*mu*mu/(f + df*mu);
+            if (!(next > lo && next < hi)) {
+                next = lo + (hi - lo)/2;
+            }
+            if (next == mu || hi - lo <= 2*EPS*Math.max(Math.abs(lo), Math.abs(hi))) {
+                break;
+            }
+            mu = next;
+        }
+
+        for (int i = 0; i < n; ++i) {
+            delta.set(i, (d[i] - d[origin]) - mu);
+        }
+        return d[origin] + mu;
+    }
+
+    /**
+     * Evaluates the secular equation at {@code lambda = d[origin] + mu}.
+     */
+    private static double evaluate(
+        double[] d,
+        double[] z,
+        double rho,
+        int origin,
+        double mu
+    ) {
+        double f = 1;
+        for (int i = 0; i < d.length; ++i) {
+            f += rho*z[i]*z[i]/((d[i] - d[origin]) - mu);
+        }
+        return f;
+    }
+
+    /**
+     * Returns the indexes of the given values, in ascending value order.
+     */
+    private static int[] order(double[] values) {
+        return IntStream.range(0, values.length)
+            .boxed()
+            .sorted(Comparator.comparingDouble(i -> values[i]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+
+    /**
+     * Returns the 2-norm of the given vector, without under- or overflow.
+     */
+    private static double norm(DoubleMatrix1d x) {
+        final double s = x.dotProduct(x);
+        if (s > 0x1p-900 && s < 0x1p900) {
+            return Math.sqrt(s);
+        }
+
+        double nrm = 0;
+        for (int i = 0; i < x.extent().elements(); ++i) {
+            nrm = Math.hypot(nrm, x.get(i));
+        }
+        return nrm;
+    }
+
+    /**
+     * Solves the sub-problem {@code [start, end)}, by splitting it into two
+     * halves, until the requested number of tasks is reached.
+     */
+    private static final class Subproblem extends RecursiveTask<Eigen> {
+        private static final long serialVersionUID = 1;
+
+        private final transient double[] d;
+        private final transient double[] e;
+        private final int start;
+        private final int end;
+        private final int tasks;
+
+        Subproblem(double[] d, double[] e, int start, int end, int tasks) {
+            this.d = d;
+            this.e = e;
+            this.start = start;
+            this.end = end;
+            this.tasks = tasks;
+        }
+
+        @Override
+        protected Eigen compute() {
+            if (tasks <= 1 || end - start <= LEAF_SIZE) {
+                return solve(d, e, start, end);
+            } else {
+                final int split = start + (end - start)/2;
+                final double rho = tear(d, e, split);
+
+                final var right = new Subproblem(d, e, split, end, tasks - tasks/2);
+                right.fork();
+
+                final var left = new Subproblem(d, e, start, split, tasks/2);
+                return merge(left.compute(), right.join(), rho);
+            }
+        }
+    }
+
+}
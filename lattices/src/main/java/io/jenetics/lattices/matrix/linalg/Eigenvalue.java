@@ -28,6 +28,12 @@ import io.jenetics.lattices.matrix.NumericalContext;
 
 /**
  * Store the result of an <em>Eigenvalue</em>-decomposition.
+ * <p>
+ * Symmetric matrices are reduced to tri-diagonal form, which is then
+ * diagonalized with the QL algorithm. For large symmetric matrices, the
+ * blocked reduction and the parallel divide-and-conquer algorithm is used
+ * instead. The eigenvalues of symmetric matrices are sorted in ascending
+ * order.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
@@ -35,6 +41,10 @@ import io.jenetics.lattices.matrix.NumericalContext;
  */
 public final class Eigenvalue {
 
+    // Minimal size of symmetric matrices, which are decomposed with the
+    // divide-and-conquer algorithm.
+    private static final int DIVIDE_AND_CONQUER_SIZE = 1000;
+
     private final NumericalContext context = NumericalContext.get();
 
     // Row and column dimension (square matrix).
@@ -66,14 +76,17 @@ public final class Eigenvalue {
         e = new double[n];
 
         if (isSymmetric(A)) {
-            V = A.copy();
-
-            // Tri-diagonalize.
-            tred2();
+            if (n >= DIVIDE_AND_CONQUER_SIZE) {
+                V = DivideAndConquer.decompose(A, d);
+            } else {
+                V = A.copy();
 
-            // Diagonalize.
-            tql2();
+                // Tri-diagonalize.
+                tred2();
 
+                // Diagonalize.
+                tql2();
+            }
         } else {
             V = DoubleMatrix2d.DENSE.create(n, n);
             H = new double[n][n];
@@ -371,6 +384,9 @@ public final class Eigenvalue {
                 }
                 ort[m] = scale*ort[m];
                 H[m][m - 1] = scale*g;
+            } else {
+                // No transformation has been applied for this column.
+                ort[m] = 0.0;
             }
         }
 
@@ -378,7 +394,7 @@ public final class Eigenvalue {
         V.forEach((i, j) -> V.set(i, j, (i == j ? 1.0 : 0.0)));
 
         for (int m = high - 1; m >= low + 1; m--) {
-            if (H[m][m - 1] != 0.0) {
+            if (H[m][m - 1] != 0.0 && ort[m] != 0.0) {
                 for (int i = m + 1; i <= high; ++i) {
                     ort[i] = H[i][m - 1];
                 }
@@ -23,16 +23,16 @@ import static java.util.Objects.requireNonNull;
 import static io.jenetics.lattices.grid.Structures.checkRectangular;
 import static io.jenetics.lattices.grid.Structures.checkSquare;
 import static io.jenetics.lattices.matrix.Matrices.isSingular;
+import static io.jenetics.lattices.matrix.linalg.Views.block;
+import static io.jenetics.lattices.matrix.linalg.Views.part;
+import static io.jenetics.lattices.matrix.linalg.Views.rows;
 
 import io.jenetics.lattices.matrix.DoubleMatrix1d;
 import io.jenetics.lattices.matrix.DoubleMatrix2d;
 import io.jenetics.lattices.matrix.NumericalContext;
-import io.jenetics.lattices.structure.Extent1d;
-import io.jenetics.lattices.structure.Index1d;
+import io.jenetics.lattices.structure.Extent2d;
 import io.jenetics.lattices.structure.Index2d;
-import io.jenetics.lattices.structure.Range1d;
 import io.jenetics.lattices.structure.Range2d;
-import io.jenetics.lattices.structure.View1d;
 import io.jenetics.lattices.structure.View2d;
 
 /**
@@ -44,6 +44,9 @@ import io.jenetics.lattices.structure.View2d;
  */
 public final class LU implements Solver {
 
+    // Number of columns of a panel of the blocked decomposition.
+    private static final int BLOCK_SIZE = 64;
+
     private final DoubleMatrix2d LU;
     private final int[] pivot;
     private final int pivsign;
@@ -162,37 +165,51 @@ public final class LU implements Solver {
         // Right-hand side with pivoting
         Permutations.permuteRows(X, pivot);
 
-        final DoubleMatrix1d[] B_rows = new DoubleMatrix1d[n];
-        for (int k = 0; k < n; ++k) {
-            B_rows[k] = X.rowAt(k);
-        }
-
-        final var B_row_k = X.rowAt(0).like();
+        final var blas = Blas.get();
 
         // Solve L*Y = B(piv,:)
-        for (int k = 0; k < n; ++k) {
-            B_row_k.assign(B_rows[k]);
-
-            for (int i = k + 1; i < n; ++i) {
-                final double multiplier = -LU.get(i, k);
-                if (context.isNotZero(multiplier)) {
-                    B_rows[i].assign(B_row_k, (a, b) -> Math.fma(multiplier, b, a));
-                }
+        for (int k0 = 0; k0 < n; k0 += BLOCK_SIZE) {
+            final int k1 = Math.min(k0 + BLOCK_SIZE, n);
+
+            for (int k = k0; k < k1 - 1; ++k) {
+                blas.dger(
+                    -1,
+                    part(LU.colAt(k), k + 1, k1),
+                    X.rowAt(k),
+                    rows(X, k + 1, k1)
+                );
+            }
+            if (k1 < n) {
+                blas.dgemm(
+                    false, false,
+                    -1, block(LU, k1, n, k0, k1), rows(X, k0, k1),
+                    1, rows(X, k1, n)
+                );
             }
         }
 
         // Solve U*B = Y;
-        for (int k = n - 1; k >= 0; k--) {
-            final double multiplier1 = 1.0/LU.get(k, k);
-            B_rows[k].assign(a -> a*multiplier1);
-            B_row_k.assign(B_rows[k]);
-
-            for (int i = 0; i < k; ++i) {
-                final double multiplier2 = -LU.get(i, k);
-                if (context.isNotZero(multiplier2)) {
-                    B_rows[i].assign(B_row_k, (a, b) -> Math.fma(multiplier2, b, a));
+        for (int k1 = n; k1 > 0; k1 -= BLOCK_SIZE) {
+            final int k0 = Math.max(k1 - BLOCK_SIZE, 0);
+
+            for (int k = k1 - 1; k >= k0; --k) {
+                blas.dscal(1.0/LU.get(k, k), X.rowAt(k));
+                if (k > k0) {
+                    blas.dger(
+                        -1,
+                        part(LU.colAt(k), k0, k),
+                        X.rowAt(k),
+                        rows(X, k0, k)
+                    );
                 }
             }
+            if (k0 > 0) {
+                blas.dgemm(
+                    false, false,
+                    -1, block(LU, 0, k0, k0, k1), rows(X, k0, k1),
+                    1, rows(X, 0, k0)
+                );
+            }
         }
 
         return X;
@@ -201,11 +218,29 @@ public final class LU implements Solver {
     /**
      * Performs an <em>LU</em>-decomposition of the given matrix {@code A}.
      *
+     * @implNote
+     * The decomposition is computed by a blocked, right-looking algorithm
+     * with partial pivoting. For every block column, the panel is factorized
+     * with Level 2 operations, followed by the computation of the block row
+     * of {@code U} and the update of the trailing matrix with a matrix-matrix
+     * multiplication.
+     * <pre>
+     *     | A11 A12 |   | L11  0  |   | U11 U12 |
+     *     | A21 A22 | = | L21  1  | x |  0  A22'|
+     *
+     *     [L11, L21] x U11 = [A11, A21]       (panel factorization)
+     *     U12  = inv(L11) x A12               (triangular solve)
+     *     A22' = A22 - L21 x U12              (GEMM)
+     * </pre>
+     * All operations are performed by the current {@link Blas#get()}
+     * implementation.
+     *
      * @param A the matrix to be decomposed
      * @return the <em>LU</em>-decomposition of the given matrix {@code A}
      */
     public static LU decompose(DoubleMatrix2d A) {
         final var context = NumericalContext.get();
+        final var blas = Blas.get();
         final var lu = A.copy();
 
         final int m = lu.rows();
@@ -217,60 +252,57 @@ public final class LU implements Solver {
             piv[i] = i;
         }
 
-        if (m == 0 || n == 0) {
-            return new LU(lu, piv, pivsign, context);
-        }
-
-        final var rows = new DoubleMatrix1d[m];
-        for (int i = 0; i < m; ++i) {
-            rows[i] = lu.rowAt(i);
-        }
-
-        final var col_j = lu.colAt(0).like();
-        for (int j = 0; j < n; ++j) {
-            col_j.assign(lu.colAt(j));
-
-            // Apply previous transformations.
-            for (int i = 0; i < m; ++i) {
-                int kmax = Math.min(i, j);
-                double s = rows[i].dotProduct(col_j, 0, kmax);
-                double before = col_j.get(i);
-                double after = before - s;
-
-                col_j.set(i, after);
-                lu.set(i, j, after);
-            }
+        final int min = Math.min(m, n);
+        for (int j0 = 0; j0 < min; j0 += BLOCK_SIZE) {
+            final int j1 = Math.min(j0 + BLOCK_SIZE, min);
+
+            // Factorize the panel A[j0:m, j0:j1].
+            for (int j = j0; j < j1; ++j) {
+                // Find pivot and exchange if necessary.
+                final int p = j + blas.idamax(part(lu.colAt(j), j, m));
+                if (p != j) {
+                    blas.dswap(lu.rowAt(p), lu.rowAt(j));
+
+                    int k = piv[p];
+                    piv[p] = piv[j];
+                    piv[j] = k;
+                    pivsign = -pivsign;
+                }
 
-            // Find pivot and exchange if necessary.
-            int p = j;
-            if (p < m) {
-                double max = Math.abs(col_j.get(p));
-                for (int i = j + 1; i < m; ++i) {
-                    double v = Math.abs(col_j.get(i));
-                    if (v > max) {
-                        p = i;
-                        max = v;
-                    }
+                final double jj = lu.get(j, j);
+                if (context.isNotZero(jj)) {
+                    blas.dscal(1.0/jj, part(lu.colAt(j), j + 1, m));
+                }
+                if (j + 1 < j1) {
+                    blas.dger(
+                        -1,
+                        part(lu.colAt(j), j + 1, m),
+                        part(lu.rowAt(j), j + 1, j1),
+                        block(lu, j + 1, m, j + 1, j1)
+                    );
                 }
             }
 
-            if (p != j) {
-                rows[p].swap(rows[j]);
-
-                int k = piv[p];
-                piv[p] = piv[j];
-                piv[j] = k;
-                pivsign = -pivsign;
-            }
+            if (j1 < n) {
+                // Compute the block row of U: U12 = inv(L11)*A12.
+                final var A12 = block(lu, j0, j1, j1, n);
+                for (int k = j0; k < j1 - 1; ++k) {
+                    blas.dger(
+                        -1,
+                        part(lu.colAt(k), k + 1, j1),
+                        A12.rowAt(k - j0),
+                        rows(A12, k + 1 - j0, j1 - j0)
+                    );
+                }
 
-            final double jj = lu.get(j, j);
-            if (j < m && context.isNotZero(jj)) {
-                final var multiplier = 1.0/jj;
-                lu.colAt(j)
-                    .view(View1d.of(new Range1d(
-                        new Index1d(j + 1),
-                        new Extent1d(m - (j + 1)))))
-                    .assign(v -> v*multiplier);
+                // Update the trailing matrix: A22 = A22 - L21*U12.
+                if (j1 < m) {
+                    blas.dgemm(
+                        false, false,
+                        -1, block(lu, j1, m, j0, j1), A12,
+                        1, block(lu, j1, m, j1, n)
+                    );
+                }
             }
         }
 
@@ -292,7 +324,7 @@ public final class LU implements Solver {
         if (A.cols() > A.rows()) {
             final var range = new Range2d(
                 new Index2d(0, min),
-                new Index2d(A.rows(), A.cols() - min)
+                new Extent2d(A.rows(), A.cols() - min)
             );
             A.view(View2d.of(range)).assign(0);
         }
@@ -310,8 +342,8 @@ public final class LU implements Solver {
         }
         if (A.cols() < A.rows()) {
             final var range = new Range2d(
-                new Index2d(0, min),
-                new Index2d(A.rows() - min, A.cols())
+                new Index2d(min, 0),
+                new Extent2d(A.rows() - min, A.cols())
             );
             A.view(View2d.of(range)).assign(0);
         }
@@ -0,0 +1,166 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix.linalg;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.BiConsumer;
+
+import io.jenetics.lattices.matrix.CscDoubleMatrix2d;
+import io.jenetics.lattices.matrix.CsrDoubleMatrix2d;
+import io.jenetics.lattices.matrix.DoubleMatrix1d;
+import io.jenetics.lattices.matrix.DoubleMatrix2d;
+
+/**
+ * A linear operator {@code A}, which is only defined by its action on a
+ * vector, {@code y = A*x}. Iterative algorithms only need this matrix-vector
+ * product. This allows to use dense, structured or sparse matrices, or
+ * matrices which are never formed explicitly.
+ * <pre>{@code
+ * // The covariance matrix C = X'*X, which is never formed.
+ * final DoubleMatrix2d X = ...;
+ * final DoubleMatrix1d t = DoubleMatrix1d.DENSE.create(X.rows());
+ * final LinearOperator C = LinearOperator.of(X.cols(), (x, y) -> {
+ *     X.mult(x, t);
+ *     X.mult(t, y, 1, 0, true);
+ * });
+ * }</pre>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public interface LinearOperator {
+
+    /**
+     * Return the number of rows of the operator matrix {@code A}.
+     *
+     * @return the number of rows of the operator
+     */
+    int rows();
+
+    /**
+     * Return the number of columns of the operator matrix {@code A}.
+     *
+     * @return the number of columns of the operator
+     */
+    int cols();
+
+    /**
+     * Computes the matrix-vector product {@code y = A*x}.
+     *
+     * @param x the vector {@code x}, with {@link #cols()} elements
+     * @param y the result vector, with {@link #rows()} elements
+     */
+    void apply(DoubleMatrix1d x, DoubleMatrix1d y);
+
+    /**
+     * Return a linear operator for the given matrix {@code A}.
+     *
+     * @param A the operator matrix
+     * @return a new linear operator for the given matrix
+     */
+    static LinearOperator of(DoubleMatrix2d A) {
+        requireNonNull(A);
+        return of(A.rows(), A.cols(), (x, y) -> A.mult(x, y));
+    }
+
+    /**
+     * Return a linear operator for the given sparse matrix {@code A}.
+     *
+     * @param A the operator matrix
+     * @return a new linear operator for the given matrix
+     */
+    static LinearOperator of(CsrDoubleMatrix2d A) {
+        requireNonNull(A);
+        return of(A.rows(), A.cols(), (x, y) -> A.mult(x, y));
+    }
+
+    /**
+     * Return a linear operator for the given sparse matrix {@code A}.
+     *
+     * @param A the operator matrix
+     * @return a new linear operator for the given matrix
+     */
+    static LinearOperator of(CscDoubleMatrix2d A) {
+        requireNonNull(A);
+        return of(A.rows(), A.cols(), (x, y) -> A.mult(x, y));
+    }
+
+    /**
+     * Return a linear operator with the given dimension and matrix-vector
+     * product. The number of elements of the operator matrix may exceed
+     * {@link Integer#MAX_VALUE}.
+     *
+     * @param rows the number of rows of the operator matrix
+     * @param cols the number of columns of the operator matrix
+     * @param operator the matrix-vector product {@code y = A*x}, where the
+     *        first argument is {@code x} and the second argument {@code y}
+     * @return a new linear operator
+     * @throws IllegalArgumentException if {@code rows} or {@code cols} is
+     *         negative
+     */
+    static LinearOperator of(
+        int rows,
+        int cols,
+        BiConsumer<? super DoubleMatrix1d, ? super DoubleMatrix1d> operator
+    ) {
+        requireNonNull(operator);
+        if (rows < 0 || cols < 0) {
+            throw new IllegalArgumentException(
+                "Operator dimension is out of bounds: [%d, %d]."
+                    .formatted(rows, cols)
+            );
+        }
+
+        return new LinearOperator() {
+            @Override
+            public int rows() {
+                return rows;
+            }
+            @Override
+            public int cols() {
+                return cols;
+            }
+            @Override
+            public void apply(DoubleMatrix1d x, DoubleMatrix1d y) {
+                operator.accept(x, y);
+            }
+        };
+    }
+
+    /**
+     * Return a square linear operator with the given {@code size} and
+     * matrix-vector product.
+     *
+     * @param size the number of rows and columns of the operator matrix
+     * @param operator the matrix-vector product {@code y = A*x}, where the
+     *        first argument is {@code x} and the second argument {@code y}
+     * @return a new linear operator
+     * @throws IllegalArgumentException if {@code size} is negative
+     */
+    static LinearOperator of(
+        int size,
+        BiConsumer<? super DoubleMatrix1d, ? super DoubleMatrix1d> operator
+    ) {
+        return of(size, size, operator);
+    }
+
+}
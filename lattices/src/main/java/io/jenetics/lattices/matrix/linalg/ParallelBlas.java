@@ -0,0 +1,378 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix.linalg;
+
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.lattices.grid.Structures.checkSameExtent;
+import static io.jenetics.lattices.grid.Structures.checkSquare;
+import static io.jenetics.lattices.matrix.linalg.Views.cols;
+import static io.jenetics.lattices.matrix.linalg.Views.part;
+import static io.jenetics.lattices.matrix.linalg.Views.rows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import io.jenetics.lattices.grid.array.BaseArray;
+import io.jenetics.lattices.internal.DoubleKernels;
+import io.jenetics.lattices.matrix.DoubleMatrix1d;
+import io.jenetics.lattices.matrix.DoubleMatrix2d;
+import io.jenetics.lattices.matrix.ParallelContext;
+
+/**
+ * BLAS implementation, which executes the Level 2 and Level 3 operations in
+ * parallel. The result matrix (vector) is split into row (column) chunks,
+ * which are calculated on the given {@link Executor}. Operations with less
+ * multiply-add operations than the {@link #threshold()} are executed
+ * sequentially in the calling thread, as well as operations whose result
+ * array can't be written concurrently, like the <em>sparse</em> arrays. The
+ * Level 1 operations are always executed sequentially.
+ * <p>
+ * Every element of the result is calculated by exactly one chunk, with the
+ * same order of floating point operations as the sequential implementation.
+ * The results are therefore identical to the results of {@link Blas#DEFAULT}.
+ * <pre>{@code
+ * final var pool = new ForkJoinPool(16);
+ *
+ * // Make the parallel BLAS the process-wide default, which is
+ * // picked up by the Algebra class and the matrix decompositions.
+ * Blas.set(new ParallelBlas(pool));
+ * }</pre>
+ *
+ * @see Blas#set(Blas)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public final class ParallelBlas implements Blas {
+
+    private final Executor executor;
+    private final int parallelism;
+    private final long threshold;
+
+    /**
+     * Create a new parallel BLAS implementation.
+     *
+     * @param executor the executor used for the parallel operations
+     * @param parallelism the maximal number of chunks an operation is split
+     *        into
+     * @param threshold the minimal number of multiply-add operations, needed
+     *        for executing an operation in parallel
+     * @throws NullPointerException if the given {@code executor} is
+     *         {@code null}
+     * @throws IllegalArgumentException if the given {@code parallelism} is
+     *         smaller than one or the {@code threshold} is smaller than zero
+     */
+    public ParallelBlas(Executor executor, int parallelism, long threshold) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                "Parallelism must be greater than zero: " + parallelism
+            );
+        }
+        if (threshold < 0) {
+            throw new IllegalArgumentException(
+                "Threshold must not be negative: " + threshold
+            );
+        }
+
+        this.executor = requireNonNull(executor);
+        this.parallelism = parallelism;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Create a new parallel BLAS implementation with the
+     * {@link ParallelContext#DEFAULT_THRESHOLD}.
+     *
+     * @param executor the executor used for the parallel operations
+     * @param parallelism the maximal number of chunks an operation is split
+     *        into
+     * @throws NullPointerException if the given {@code executor} is
+     *         {@code null}
+     * @throws IllegalArgumentException if the given {@code parallelism} is
+     *         smaller than one
+     */
+    public ParallelBlas(Executor executor, int parallelism) {
+        this(executor, parallelism, ParallelContext.DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Create a new parallel BLAS implementation, which uses the given
+     * {@code pool} and its parallelism.
+     *
+     * @param pool the pool used for the parallel operations
+     * @throws NullPointerException if the given {@code pool} is {@code null}
+     */
+    public ParallelBlas(ForkJoinPool pool) {
+        this(pool, pool.getParallelism());
+    }
+
+    /**
+     * Return the executor used for the parallel operations.
+     *
+     * @return the executor used for the parallel operations
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Return the maximal number of chunks an operation is split into.
+     *
+     * @return the maximal number of chunks an operation is split into
+     */
+    public int parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Return the minimal number of multiply-add operations, needed for
+     * executing an operation in parallel.
+     *
+     * @return the threshold for parallel executions
+     */
+    public long threshold() {
+        return threshold;
+    }
+
+    /* *************************************************************************
+     * Level 2
+     * ************************************************************************/
+
+    @Override
+    public void dgemv(
+        boolean transposeA,
+        double alpha,
+        DoubleMatrix2d A,
+        DoubleMatrix1d x,
+        double beta,
+        DoubleMatrix1d y
+    ) {
+        final var a = transposeA ? A.transpose() : A;
+        if (a.cols() != x.extent().elements() ||
+            a.rows() > y.extent().elements())
+        {
+            throw new IllegalArgumentException(
+                "Incompatible args: " + a.extent() + ", " + x.extent() + ", " + y.extent()
+            );
+        }
+
+        split(a.rows(), (long)a.rows()*a.cols(), 1, y.array(), (start, end) ->
+            rows(a, start, end).mult(x, part(y, start, end), alpha, beta, false)
+        );
+    }
+
+    @Override
+    public void dger(
+        double alpha,
+        DoubleMatrix1d x,
+        DoubleMatrix1d y,
+        DoubleMatrix2d A
+    ) {
+        split(A.rows(), (long)A.rows()*A.cols(), 1, A.array(), (start, end) ->
+            DEFAULT.dger(alpha, part(x, start, end), y, rows(A, start, end))
+        );
+    }
+
+    @Override
+    public void dsymv(
+        boolean isUpperTriangular,
+        double alpha,
+        DoubleMatrix2d A,
+        DoubleMatrix1d x,
+        double beta,
+        DoubleMatrix1d y
+    ) {
+        checkSquare(A.extent());
+
+        final var a = isUpperTriangular ? A.transpose() : A;
+        if (a.rows() != x.extent().elements() || a.rows() != y.extent().elements()) {
+            throw new IllegalArgumentException(
+                a.extent() + ", " + x.extent() + ", " + y.extent()
+            );
+        }
+
+        final int n = a.rows();
+        final DoubleMatrix1d tmp = x.like();
+        split(n, (long)n*n, 1, tmp.array(), (start, end) -> {
+            for (int i = start; i < end; i++) {
+                double sum = 0;
+                for (int j = 0; j <= i; j++) {
+                    sum = Math.fma(a.get(i, j), x.get(j), sum);
+                }
+                for (int j = i + 1; j < n; j++) {
+                    sum = Math.fma(a.get(j, i), x.get(j), sum);
+                }
+                tmp.set(i, alpha * sum + beta * y.get(i));
+            }
+        });
+
+        y.assign(tmp);
+    }
+
+    /* *************************************************************************
+     * Level 3
+     * ************************************************************************/
+
+    @Override
+    public void dscal(double alpha, DoubleMatrix2d A) {
+        split(A.rows(), (long)A.rows()*A.cols(), 1, A.array(), (start, end) ->
+            DEFAULT.dscal(alpha, rows(A, start, end))
+        );
+    }
+
+    @Override
+    public void dgemm(
+        boolean transposeA,
+        boolean transposeB,
+        double alpha,
+        DoubleMatrix2d A,
+        DoubleMatrix2d B,
+        double beta,
+        DoubleMatrix2d C
+    ) {
+        final var a = transposeA ? A.transpose() : A;
+        final var b = transposeB ? B.transpose() : B;
+
+        if (b.rows() != a.cols()) {
+            throw new IllegalArgumentException(
+                "Matrix inner dimensions must be equal:" +
+                    a.extent() + ", " + b.extent()
+            );
+        }
+        if (C.rows() != a.rows() || C.cols() != b.cols()) {
+            throw new IllegalArgumentException(
+                "Incompatible result matrix: " +
+                    a.extent() + ", " + b.extent() + ", " + C.extent()
+            );
+        }
+        if (A == C || B == C) {
+            throw new IllegalArgumentException(
+                "Matrices A, B or C must not be identical."
+            );
+        }
+
+        final long work = (long)a.rows()*a.cols()*b.cols();
+        if (C.rows() >= C.cols()) {
+            split(C.rows(), work, DoubleKernels.MR, C.array(), (start, end) ->
+                rows(a, start, end)
+                    .mult(b, rows(C, start, end), alpha, beta, false, false)
+            );
+        } else {
+            split(C.cols(), work, DoubleKernels.NR, C.array(), (start, end) ->
+                a.mult(cols(b, start, end), cols(C, start, end), alpha, beta, false, false)
+            );
+        }
+    }
+
+    @Override
+    public void daxpy(double alpha, DoubleMatrix2d A, DoubleMatrix2d B) {
+        checkSameExtent(A.extent(), B.extent());
+
+        split(A.rows(), (long)A.rows()*A.cols(), 1, B.array(), (start, end) ->
+            DEFAULT.daxpy(alpha, rows(A, start, end), rows(B, start, end))
+        );
+    }
+
+    /* *************************************************************************
+     * Helper methods.
+     * ************************************************************************/
+
+    /**
+     * Splits the index range {@code [0, size)} into chunks and executes the
+     * given {@code task} for every chunk. The chunk borders are multiples of
+     * the given {@code alignment}. The first chunk is executed by the calling
+     * thread. If the {@code target} array, written by the chunks, can't be
+     * written concurrently, the task is executed sequentially.
+     */
+    private void split(
+        int size,
+        long work,
+        int alignment,
+        BaseArray target,
+        Chunk task
+    ) {
+        final int chunks = work < threshold || !target.isConcurrentWritable()
+            ? 1
+            : Math.min(parallelism, (size + alignment - 1)/alignment);
+
+        if (chunks <= 1) {
+            sequential(task, 0, size);
+        } else {
+            final int step = ((size + chunks - 1)/chunks + alignment - 1)/
+                alignment*alignment;
+
+            final List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int start = step; start < size; start += step) {
+                final int from = start;
+                final int to = Math.min(start + step, size);
+                futures.add(CompletableFuture.runAsync(
+                    () -> sequential(task, from, to),
+                    executor
+                ));
+            }
+
+            sequential(task, 0, Math.min(step, size));
+            join(futures);
+        }
+    }
+
+    // Executes a single chunk without any further (nested) parallelization.
+    private static void sequential(Chunk task, int start, int end) {
+        ParallelContext.using(ParallelContext.SEQUENTIAL, () ->
+            task.execute(start, end)
+        );
+    }
+
+    private static void join(List<CompletableFuture<Void>> futures) {
+        try {
+            CompletableFuture
+                .allOf(futures.toArray(CompletableFuture[]::new))
+                .join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelBlas[executor=%s, parallelism=%d, threshold=%d]"
+            .formatted(executor, parallelism, threshold);
+    }
+
+    /**
+     * A task, which processes the index range {@code [start, end)}.
+     */
+    @FunctionalInterface
+    private interface Chunk {
+        void execute(int start, int end);
+    }
+
+}
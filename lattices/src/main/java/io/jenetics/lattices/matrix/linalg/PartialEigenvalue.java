@@ -0,0 +1,527 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix.linalg;
+
+import static io.jenetics.lattices.matrix.Matrices.isSymmetric;
+import static io.jenetics.lattices.matrix.linalg.Views.block;
+import static io.jenetics.lattices.matrix.linalg.Views.part;
+import static io.jenetics.lattices.matrix.linalg.Views.rows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import io.jenetics.lattices.matrix.DoubleMatrix1d;
+import io.jenetics.lattices.matrix.DoubleMatrix2d;
+import io.jenetics.lattices.matrix.NumericalContext;
+import io.jenetics.lattices.structure.Extent2d;
+
+/**
+ * Stores the {@code k} dominant eigenvalues, and the corresponding
+ * eigenvectors, of a square matrix. In contrast to the {@link Eigenvalue}
+ * decomposition, only the matrix-vector product of the matrix is needed, see
+ * {@link LinearOperator}. The {@link #decomposeSymmetric(LinearOperator, int)}
+ * method computes the {@code k} largest eigenvalues, the other factory
+ * methods the {@code k} eigenvalues with the largest magnitude.
+ * <pre>{@code
+ * final DoubleMatrix2d A = ...;
+ *
+ * // The 10 largest eigenvalues and eigenvectors of the symmetric matrix A.
+ * final PartialEigenvalue eigen =
+ *     PartialEigenvalue.decomposeSymmetric(LinearOperator.of(A), 10);
+ * }</pre>
+ * The eigenpairs are computed with the <em>implicitly restarted Lanczos</em>
+ * method for symmetric matrices and the <em>implicitly restarted Arnoldi</em>
+ * method otherwise. A Krylov subspace of dimension {@code m ~ 2*k} is built
+ * and its Ritz values and vectors are computed. Instead of applying the
+ * unwanted Ritz values as shifts, the wanted Ritz vectors are kept
+ * explicitly (<em>thick restart</em>, <em>Krylov-Schur</em>), which is
+ * mathematically equivalent to an implicit restart with exact shifts. The
+ * basis vectors are fully re-orthogonalized.
+ * <p>
+ * A Ritz pair {@code (theta, y)} is accepted, if its residual
+ * {@code |A*y - theta*y|} is not greater than
+ * {@code epsilon*max(|theta|, eps^(2/3))}, where the {@code epsilon} is taken
+ * from the current {@link NumericalContext}.
+ *
+ * @see Eigenvalue
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public final class PartialEigenvalue {
+
+    // Minimal dimension of the Krylov subspace.
+    private static final int MIN_SUBSPACE = 20;
+
+    // Maximal number of restarts.
+    private static final int MAX_RESTARTS = 1000;
+
+    private static final double EPS = Math.pow(2.0, -52.0);
+
+    // Real and imaginary parts of the eigenvalues.
+    private final double[] d, e;
+
+    // The eigenvectors.
+    private final DoubleMatrix2d V;
+
+    private final boolean converged;
+
+    private PartialEigenvalue(
+        double[] d,
+        double[] e,
+        DoubleMatrix2d V,
+        boolean converged
+    ) {
+        this.d = d;
+        this.e = e;
+        this.V = V;
+        this.converged = converged;
+    }
+
+    /**
+     * Return the block diagonal eigenvalue matrix, {@code D}.
+     *
+     * @return {@code D}
+     */
+    public DoubleMatrix2d D() {
+        final int k = d.length;
+        final var D = DoubleMatrix2d.DENSE.create(k, k);
+
+        for (int i = 0; i < k; ++i) {
+            D.set(i, i, d[i]);
+            if (e[i] > 0) {
+                D.set(i, i + 1, e[i]);
+            } else if (e[i] < 0) {
+                D.set(i, i - 1, e[i]);
+            }
+        }
+
+        return D;
+    }
+
+    /**
+     * Return the eigenvector matrix, {@code V}, with one column for every
+     * eigenvalue. The eigenvectors are normalized. A complex conjugate
+     * eigenvalue pair is represented by two columns, containing the real and
+     * the imaginary part of the eigenvector. It holds {@code A*V = V*D}.
+     *
+     * @return {@code V}
+     */
+    public DoubleMatrix2d V() {
+        return V.copy();
+    }
+
+    /**
+     * Return the imaginary parts of the eigenvalues.
+     *
+     * @return the imaginary parts of the eigenvalues
+     */
+    public DoubleMatrix1d imagEigenvalues() {
+        final var result = DoubleMatrix1d.DENSE.create(e.length);
+        result.assign(e);
+        return result;
+    }
+
+    /**
+     * Return the real parts of the eigenvalues. The eigenvalues computed by
+     * {@link #decomposeSymmetric(LinearOperator, int)} are sorted in
+     * descending order, otherwise in descending order of their magnitude.
+     *
+     * @return the real parts of the eigenvalues
+     */
+    public DoubleMatrix1d realEigenvalues() {
+        final var result = DoubleMatrix1d.DENSE.create(d.length);
+        result.assign(d);
+        return result;
+    }
+
+    /**
+     * Return whether all eigenpairs have converged. If not, the returned
+     * eigenpairs are only approximations.
+     *
+     * @return {@code true} if all eigenpairs have converged
+     */
+    public boolean isConverged() {
+        return converged;
+    }
+
+    /* *************************************************************************
+     * Static factory methods.
+     * ************************************************************************/
+
+    /**
+     * Computes the {@code k} dominant eigenpairs, the eigenpairs with the
+     * largest magnitude, of the given matrix {@code A}. The Lanczos method is
+     * used, if the matrix is symmetric, and the Arnoldi method otherwise. The
+     * eigenvalues are sorted in descending order of their magnitude, for
+     * symmetric and non-symmetric matrices. Use
+     * {@link #decomposeSymmetric(LinearOperator, int)} for computing the
+     * {@code k} largest eigenvalues of a symmetric matrix.
+     *
+     * @param A the square matrix
+     * @param k the number of eigenpairs to compute
+     * @return the {@code k} dominant eigenpairs of {@code A}
+     * @throws IllegalArgumentException if {@code A} is not square or
+     *         {@code k} is not within the range {@code [1, A.rows()]}
+     */
+    public static PartialEigenvalue decompose(DoubleMatrix2d A, int k) {
+        return decompose(LinearOperator.of(A), k, isSymmetric(A), MAGNITUDE);
+    }
+
+    /**
+     * Computes the {@code k} largest eigenpairs of the given symmetric
+     * operator {@code A}, with the Lanczos method. The operator is not
+     * checked for symmetry.
+     *
+     * @param A the square, symmetric operator
+     * @param k the number of eigenpairs to compute
+     * @return the {@code k} largest eigenpairs of {@code A}
+     * @throws IllegalArgumentException if {@code A} is not square or
+     *         {@code k} is not within the range {@code [1, A.rows()]}
+     */
+    public static PartialEigenvalue decomposeSymmetric(LinearOperator A, int k) {
+        return decompose(A, k, true, VALUE);
+    }
+
+    /**
+     * Computes the {@code k} eigenpairs with the largest magnitude of the
+     * given operator {@code A}, with the Arnoldi method. If the {@code k}-th
+     * eigenvalue is part of a complex conjugate pair, {@code k + 1}
+     * eigenpairs are returned.
+     *
+     * @param A the square operator
+     * @param k the number of eigenpairs to compute
+     * @return the {@code k} dominant eigenpairs of {@code A}
+     * @throws IllegalArgumentException if {@code A} is not square or
+     *         {@code k} is not within the range {@code [1, A.rows()]}
+     */
+    public static PartialEigenvalue decompose(LinearOperator A, int k) {
+        return decompose(A, k, false, MAGNITUDE);
+    }
+
+    private static PartialEigenvalue decompose(
+        LinearOperator A,
+        int k,
+        boolean symmetric,
+        Comparator<Ritz> order
+    ) {
+        if (A.rows() != A.cols()) {
+            throw new IllegalArgumentException(
+                "Operator must be square: [%d, %d].".formatted(A.rows(), A.cols())
+            );
+        }
+        final int n = A.rows();
+        if (k < 1 || k > n) {
+            throw new IllegalArgumentException(
+                "Number of eigenvalues out of range [1, %d]: %d".formatted(n, k)
+            );
+        }
+
+        return new Krylov(A, k, symmetric, order).solve();
+    }
+
+    /* *************************************************************************
+     * Krylov-Schur iteration.
+     * ************************************************************************/
+
+    /**
+     * A single eigenvalue, or a complex conjugate pair of eigenvalues, of the
+     * projected matrix. The index points to the (first) column of the
+     * eigenvector matrix.
+     */
+    private record Ritz(int index, int size, double re, double im) {
+        double magnitude() {
+            return Math.hypot(re, im);
+        }
+    }
+
+    // The Ritz values, ordered by descending value or magnitude.
+    private static final Comparator<Ritz> VALUE =
+        Comparator.comparingDouble(Ritz::re).reversed();
+    private static final Comparator<Ritz> MAGNITUDE =
+        Comparator.comparingDouble(Ritz::magnitude).reversed();
+
+    /**
+     * The Krylov decomposition {@code A*V' = V'*H + v*h'}, where the rows of
+     * {@code V} contain an orthonormal basis of the Krylov subspace.
+     */
+    private static final class Krylov {
+        private final LinearOperator A;
+        private final int k;
+        private final boolean symmetric;
+        private final Comparator<Ritz> order;
+
+        private final int n;
+        private final int m;
+        private final double tolerance;
+        private final Blas blas = Blas.get();
+        private final RandomGenerator random = new SplittableRandom(0);
+
+        // The basis vectors are the first m rows, the residual vector is the
+        // last row.
+        private final DoubleMatrix2d V;
+
+        // The projected matrix, the last row contains the residual couplings.
+        private final DoubleMatrix2d H;
+
+        Krylov(
+            LinearOperator A,
+            int k,
+            boolean symmetric,
+            Comparator<Ritz> order
+        ) {
+            this.A = A;
+            this.k = k;
+            this.symmetric = symmetric;
+            this.order = order;
+
+            n = A.rows();
+            m = Math.min(n, Math.max(2*k + 1, MIN_SUBSPACE));
+            tolerance = Math.max(NumericalContext.get().epsilon(), EPS);
+            V = DoubleMatrix2d.DENSE.create(m + 1, n);
+            H = DoubleMatrix2d.DENSE.create(m + 1, m);
+        }
+
+        PartialEigenvalue solve() {
+            randomize(V.rowAt(0), 0);
+
+            int start = 0;
+            for (int restart = 0; ; ++restart) {
+                expand(start);
+
+                final var Hm = block(H, 0, m, 0, m).copy();
+                if (symmetric) {
+                    Hm.assign(Hm.transpose().copy(), (a, b) -> (a + b)/2);
+                }
+                final var eigen = Eigenvalue.decompose(Hm);
+                final var Y = eigen.V();
+                final var ritz = ritz(eigen);
+
+                // Check the convergence of the wanted Ritz values.
+                final double beta = H.get(m, m - 1);
+                boolean converged = true;
+                int wanted = 0;
+                for (int i = 0; wanted < k; ++i) {
+                    final var r = ritz.get(i);
+                    converged &= residual(Y, r)*Math.abs(beta) <=
+                        tolerance*Math.max(r.magnitude(), Math.cbrt(EPS*EPS));
+                    wanted += r.size();
+                }
+
+                if (converged || m == n || restart >= MAX_RESTARTS) {
+                    return result(ritz, wanted, Y, converged || m == n);
+                }
+
+                start = restart(ritz, wanted, Y, beta);
+            }
+        }
+
+        /**
+         * Expands the Krylov decomposition from {@code start} to {@code m}
+         * basis vectors, with Arnoldi steps.
+         */
+        private void expand(int start) {
+            final var w = V.rowAt(0).like();
+            final var h = H.colAt(0).like();
+
+            for (int j = start; j < m; ++j) {
+                A.apply(V.rowAt(j), w);
+
+                h.assign(0);
+                orthogonalize(rows(V, 0, j + 1), w, part(h, 0, j + 1));
+                double beta = norm(w);
+
+                // The Krylov subspace is invariant: restart with a new vector.
+                if (beta <= EPS*norm(h) && j + 1 < n) {
+                    randomize(w, j + 1);
+                    beta = 0;
+                }
+
+                h.set(j + 1, beta);
+                H.colAt(j).assign(h);
+                if (j + 1 < n) {
+                    blas.dscal(1.0/norm(w), w);
+                    V.rowAt(j + 1).assign(w);
+                }
+            }
+        }
+
+        /**
+         * Orthogonalizes {@code w} against the rows of the given basis,
+         * twice. The orthogonalization coefficients are added to {@code h}.
+         */
+        private void orthogonalize(
+            DoubleMatrix2d basis,
+            DoubleMatrix1d w,
+            DoubleMatrix1d h
+        ) {
+            final var c = h.like();
+            for (int pass = 0; pass < 2; ++pass) {
+                blas.dgemv(false, 1, basis, w, 0, c);
+                for (int i = 0; i < basis.rows(); ++i) {
+                    blas.daxpy(-c.get(i), basis.rowAt(i), w);
+                }
+                blas.daxpy(1, c, h);
+            }
+        }
+
+        /**
+         * Assigns a random vector to {@code w}, which is orthogonal to the
+         * first {@code j} basis vectors.
+         */
+        private void randomize(DoubleMatrix1d w, int j) {
+            w.assign(v -> random.nextDouble() - 0.5);
+            if (j > 0) {
+                orthogonalize(rows(V, 0, j), w, DoubleMatrix1d.DENSE.create(j));
+            }
+            blas.dscal(1.0/norm(w), w);
+        }
+
+        /**
+         * Returns the Ritz values, in the order of their wanted-ness.
+         */
+        private List<Ritz> ritz(Eigenvalue eigen) {
+            final var re = eigen.realEigenvalues();
+            final var im = eigen.imagEigenvalues();
+
+            final var ritz = new ArrayList<Ritz>();
+            for (int i = 0; i < m; ++i) {
+                if (im.get(i) > 0 && i + 1 < m) {
+                    ritz.add(new Ritz(i, 2, re.get(i), im.get(i)));
+                    ++i;
+                } else {
+                    ritz.add(new Ritz(i, 1, re.get(i), 0));
+                }
+            }
+
+            ritz.sort(order);
+            return ritz;
+        }
+
+        /**
+         * Returns the relative residual factor {@code |y[m-1]|/|y|} of the
+         * given Ritz vector.
+         */
+        private double residual(DoubleMatrix2d Y, Ritz ritz) {
+            double last = Math.abs(Y.get(m - 1, ritz.index()));
+            double norm = norm(Y.colAt(ritz.index()));
+            if (ritz.size() == 2) {
+                last = Math.hypot(last, Y.get(m - 1, ritz.index() + 1));
+                norm = Math.hypot(norm, norm(Y.colAt(ritz.index() + 1)));
+            }
+            return last/norm;
+        }
+
+        /**
+         * Returns the Ritz vectors of the first {@code count} Ritz values,
+         * as columns.
+         */
+        private DoubleMatrix2d vectors(List<Ritz> ritz, int count, DoubleMatrix2d Y) {
+            final var S = Y.like(new Extent2d(m, count));
+            for (int i = 0, j = 0; j < count; ++i) {
+                final var r = ritz.get(i);
+                for (int c = 0; c < r.size(); ++c, ++j) {
+                    S.colAt(j).assign(Y.colAt(r.index() + c));
+                }
+            }
+            return S;
+        }
+
+        /**
+         * Restarts the Krylov decomposition with the most wanted Ritz
+         * vectors. Returns the number of kept basis vectors.
+         */
+        private int restart(List<Ritz> ritz, int wanted, DoubleMatrix2d Y, double beta) {
+            int p = 0;
+            final int target = Math.max(wanted, k + (m - k)/2);
+            for (int i = 0; p + ritz.get(i).size() <= target; ++i) {
+                p += ritz.get(i).size();
+            }
+
+            // Orthonormal basis of the kept Ritz vectors.
+            final var Q = QR.decompose(vectors(ritz, p, Y)).Q();
+
+            // V = Q'*V
+            final var Vp = V.like(new Extent2d(p, n));
+            blas.dgemm(true, false, 1, Q, rows(V, 0, m), 0, Vp);
+            rows(V, 0, p).assign(Vp);
+            V.rowAt(p).assign(V.rowAt(m));
+
+            // H = Q'*H*Q, with the coupling of the residual vector.
+            final var HQ = Q.like();
+            final var Hp = Q.like(new Extent2d(p, p));
+            blas.dgemm(false, false, 1, block(H, 0, m, 0, m), Q, 0, HQ);
+            blas.dgemm(true, false, 1, Q, HQ, 0, Hp);
+
+            H.assign(0);
+            block(H, 0, p, 0, p).assign(Hp);
+            final var coupling = part(H.rowAt(p), 0, p);
+            coupling.assign(Q.rowAt(m - 1));
+            blas.dscal(beta, coupling);
+
+            return p;
+        }
+
+        private PartialEigenvalue result(
+            List<Ritz> ritz,
+            int count,
+            DoubleMatrix2d Y,
+            boolean converged
+        ) {
+            final double[] d = new double[count];
+            final double[] e = new double[count];
+            for (int i = 0, j = 0; j < count; ++i) {
+                final var r = ritz.get(i);
+                d[j] = r.re();
+                e[j] = r.im();
+                if (r.size() == 2) {
+                    d[j + 1] = r.re();
+                    e[j + 1] = -r.im();
+                }
+                j += r.size();
+            }
+
+            // Ritz vectors: X = V'*Y
+            final var X = V.like(new Extent2d(n, count));
+            blas.dgemm(true, false, 1, rows(V, 0, m), vectors(ritz, count, Y), 0, X);
+            for (int j = 0; j < count; ++j) {
+                if (e[j] > 0) {
+                    final double norm = Math.hypot(norm(X.colAt(j)), norm(X.colAt(j + 1)));
+                    blas.dscal(1.0/norm, X.colAt(j));
+                    blas.dscal(1.0/norm, X.colAt(j + 1));
+                    ++j;
+                } else {
+                    blas.dscal(1.0/norm(X.colAt(j)), X.colAt(j));
+                }
+            }
+
+            return new PartialEigenvalue(d, e, X, converged);
+        }
+
+        private static double norm(DoubleMatrix1d x) {
+            return Math.sqrt(x.dotProduct(x));
+        }
+    }
+
+}
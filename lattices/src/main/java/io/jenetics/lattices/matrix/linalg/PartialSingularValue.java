@@ -0,0 +1,499 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix.linalg;
+
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.lattices.matrix.linalg.Views.cols;
+import static io.jenetics.lattices.matrix.linalg.Views.part;
+import static io.jenetics.lattices.matrix.linalg.Views.rows;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import io.jenetics.lattices.matrix.DoubleMatrix1d;
+import io.jenetics.lattices.matrix.DoubleMatrix2d;
+import io.jenetics.lattices.matrix.NumericalContext;
+import io.jenetics.lattices.structure.Extent2d;
+
+/**
+ * Stores the {@code k} largest singular values, and the corresponding
+ * singular vectors, of a matrix {@code A}. In contrast to the
+ * {@link SingularValue} decomposition, only the thin factors
+ * {@code U (m x k)} and {@code V (n x k)} are computed, with
+ * {@code A*V = U*S} and {@code A ~ U*S*V'}. The matrix {@code A} is only
+ * accessed with matrix-vector and matrix-matrix products, and it may also
+ * have more columns than rows.
+ * <pre>{@code
+ * final DoubleMatrix2d A = ...;
+ *
+ * // Rank-10 approximation of the matrix A.
+ * final PartialSingularValue svd = PartialSingularValue.decompose(A, 10);
+ * final DoubleMatrix2d Ak = svd.U()
+ *     .mult(svd.S(), null)
+ *     .mult(svd.V(), null, 1, 0, false, true);
+ * }</pre>
+ * Two algorithms are available:
+ * <ul>
+ *     <li>{@link #decompose(DoubleMatrix2d, int)} uses the
+ *     <em>Golub-Kahan-Lanczos</em> bidiagonalization, with thick restarts
+ *     and full re-orthogonalization. The singular triplets are computed to
+ *     the accuracy of the current {@link NumericalContext}.</li>
+ *     <li>{@link #decomposeRandomized(DoubleMatrix2d, int)} uses the
+ *     <em>randomized range finder</em> of Halko, Martinsson and Tropp. The
+ *     range of {@code A} is sampled with a random Gaussian matrix, which is
+ *     refined by some power iterations. This needs only a fixed number of
+ *     passes over {@code A}, but the result is an approximation, whose
+ *     accuracy depends on the decay of the singular values.</li>
+ * </ul>
+ *
+ * @see SingularValue
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public final class PartialSingularValue {
+
+    // Minimal dimension of the Krylov subspace.
+    private static final int MIN_SUBSPACE = 20;
+
+    // Maximal number of restarts.
+    private static final int MAX_RESTARTS = 1000;
+
+    // Default number of additional samples of the randomized range finder.
+    private static final int OVERSAMPLING = 10;
+
+    // Default number of power iterations of the randomized range finder.
+    private static final int POWER_ITERATIONS = 2;
+
+    private static final double EPS = Math.pow(2.0, -52.0);
+
+    // The left and right singular vectors.
+    private final DoubleMatrix2d U, V;
+
+    // The singular values.
+    private final double[] s;
+
+    private final boolean converged;
+
+    private PartialSingularValue(
+        DoubleMatrix2d U,
+        double[] s,
+        DoubleMatrix2d V,
+        boolean converged
+    ) {
+        this.U = U;
+        this.s = s;
+        this.V = V;
+        this.converged = converged;
+    }
+
+    /**
+     * Returns the diagonal matrix of singular values.
+     *
+     * @return S
+     */
+    public DoubleMatrix2d S() {
+        final var S = DoubleMatrix2d.DENSE.create(s.length, s.length);
+        for (int i = 0; i < s.length; ++i) {
+            S.set(i, i, s[i]);
+        }
+
+        return S;
+    }
+
+    /**
+     * Return the left singular vectors {@code U}.
+     *
+     * @return {@code U}
+     */
+    public DoubleMatrix2d U() {
+        return U.copy();
+    }
+
+    /**
+     * Return the right singular vectors {@code V}.
+     *
+     * @return {@code V}
+     */
+    public DoubleMatrix2d V() {
+        return V.copy();
+    }
+
+    /**
+     * Return the diagonal of {@code S}, which is a one-dimensional array of
+     * singular values, in descending order.
+     *
+     * @return diagonal of {@code S}
+     */
+    public DoubleMatrix1d values() {
+        final var sv = DoubleMatrix1d.DENSE.create(s.length);
+        sv.assign(s);
+        return sv;
+    }
+
+    /**
+     * Return the two norm, which is {@code max(S)}.
+     */
+    public double norm2() {
+        return s[0];
+    }
+
+    /**
+     * Return whether all singular triplets have converged. The result of the
+     * randomized algorithm is always marked as converged.
+     *
+     * @return {@code true} if all singular triplets have converged
+     */
+    public boolean isConverged() {
+        return converged;
+    }
+
+    /* *************************************************************************
+     * Static factory methods.
+     * ************************************************************************/
+
+    /**
+     * Computes the {@code k} largest singular values, and the corresponding
+     * singular vectors, of the given matrix {@code A}, with the
+     * <em>Golub-Kahan-Lanczos</em> bidiagonalization.
+     *
+     * @param A the matrix to be decomposed
+     * @param k the number of singular triplets to compute
+     * @return the {@code k} largest singular triplets of {@code A}
+     * @throws IllegalArgumentException if {@code k} is not within the range
+     *         {@code [1, min(A.rows(), A.cols())]}
+     */
+    public static PartialSingularValue decompose(DoubleMatrix2d A, int k) {
+        checkCount(A, k);
+
+        if (A.rows() >= A.cols()) {
+            return new Bidiagonalization(A, k).solve();
+        } else {
+            final var svd = new Bidiagonalization(A.transpose(), k).solve();
+            return new PartialSingularValue(svd.V, svd.s, svd.U, svd.converged);
+        }
+    }
+
+    /**
+     * Computes the {@code k} largest singular values, and the corresponding
+     * singular vectors, of the given matrix {@code A}, with the
+     * <em>randomized range finder</em>.
+     *
+     * @param A the matrix to be decomposed
+     * @param k the number of singular triplets to compute
+     * @param oversampling the number of additional random samples, which
+     *        improves the accuracy of the computed subspace
+     * @param iterations the number of power iterations, which improves the
+     *        accuracy for slowly decaying singular values
+     * @param random the random generator used for the sampling matrix
+     * @return the approximated {@code k} largest singular triplets of {@code A}
+     * @throws IllegalArgumentException if {@code k} is not within the range
+     *         {@code [1, min(A.rows(), A.cols())]}, or the
+     *         {@code oversampling} or {@code iterations} are negative
+     */
+    public static PartialSingularValue decomposeRandomized(
+        DoubleMatrix2d A,
+        int k,
+        int oversampling,
+        int iterations,
+        RandomGenerator random
+    ) {
+        requireNonNull(random);
+        checkCount(A, k);
+        if (oversampling < 0) {
+            throw new IllegalArgumentException(
+                "Oversampling must not be negative: " + oversampling
+            );
+        }
+        if (iterations < 0) {
+            throw new IllegalArgumentException(
+                "Power iterations must not be negative: " + iterations
+            );
+        }
+
+        final int l = Math.min(k + oversampling, Math.min(A.rows(), A.cols()));
+
+        // Sample the range of A: Q = orth(A*Omega).
+        final var Omega = A.like(new Extent2d(A.cols(), l));
+        Omega.assign(v -> random.nextGaussian());
+        var Q = QR.decompose(A.mult(Omega, null)).Q();
+
+        // Power iterations, Q = orth((A*A')^q*A*Omega), orthonormalized in
+        // every step for preventing the loss of the smaller singular values.
+        for (int i = 0; i < iterations; ++i) {
+            final var Z = QR
+                .decompose(A.mult(Q, null, 1, 0, true, false))
+                .Q();
+            Q = QR.decompose(A.mult(Z, null)).Q();
+        }
+
+        // SVD of the small matrix B = Q'*A, computed via its transpose B',
+        // since the SVD requires rows >= cols: B' = Ub*S*Vb' -> B = Vb*S*Ub'.
+        final var Bt = A.mult(Q, null, 1, 0, true, false);
+        final var svd = SingularValue.decompose(Bt);
+
+        final var U = Q.mult(cols(svd.V(), 0, k), null);
+        final var V = cols(svd.U(), 0, k).copy();
+        final double[] s = new double[k];
+        for (int i = 0; i < k; ++i) {
+            s[i] = svd.values().get(i);
+        }
+
+        return new PartialSingularValue(U, s, V, true);
+    }
+
+    /**
+     * Computes the {@code k} largest singular values, and the corresponding
+     * singular vectors, of the given matrix {@code A}, with the
+     * <em>randomized range finder</em>. Uses an oversampling of 10, two power
+     * iterations and a fixed random seed, which makes the result
+     * reproducible.
+     *
+     * @see #decomposeRandomized(DoubleMatrix2d, int, int, int, RandomGenerator)
+     *
+     * @param A the matrix to be decomposed
+     * @param k the number of singular triplets to compute
+     * @return the approximated {@code k} largest singular triplets of {@code A}
+     * @throws IllegalArgumentException if {@code k} is not within the range
+     *         {@code [1, min(A.rows(), A.cols())]}
+     */
+    public static PartialSingularValue decomposeRandomized(
+        DoubleMatrix2d A,
+        int k
+    ) {
+        return decomposeRandomized(
+            A, k, OVERSAMPLING, POWER_ITERATIONS, new SplittableRandom(0)
+        );
+    }
+
+    private static void checkCount(DoubleMatrix2d A, int k) {
+        final int n = Math.min(A.rows(), A.cols());
+        if (k < 1 || k > n) {
+            throw new IllegalArgumentException(
+                "Number of singular values out of range [1, %d]: %d"
+                    .formatted(n, k)
+            );
+        }
+    }
+
+    /* *************************************************************************
+     * Golub-Kahan-Lanczos bidiagonalization.
+     * ************************************************************************/
+
+    /**
+     * Thick restarted <em>Golub-Kahan-Lanczos</em> bidiagonalization of a
+     * matrix {@code A (m x n)}, with {@code m >= n}. After {@code p} steps it
+     * holds
+     * <pre>
+     *     A*V' = U'*B
+     *     A'*U' = V'*B' + beta*v[p]*e[p-1]'
+     * </pre>
+     * where the rows of {@code U} and {@code V} are orthonormal. The matrix
+     * {@code B} is upper bidiagonal, except for the coupling column of a
+     * restart.
+     */
+    private static final class Bidiagonalization {
+        private final DoubleMatrix2d A;
+        private final int k;
+
+        private final int m;
+        private final int n;
+        private final int p;
+        private final double tolerance;
+        private final Blas blas = Blas.get();
+        private final RandomGenerator random = new SplittableRandom(0);
+
+        // The left basis vectors, as rows.
+        private final DoubleMatrix2d U;
+
+        // The right basis vectors, as rows. The last row is the residual
+        // vector.
+        private final DoubleMatrix2d V;
+
+        // The projected matrix B = U*A*V'.
+        private final DoubleMatrix2d B;
+
+        // The norm of the residual vector.
+        private double beta;
+
+        Bidiagonalization(DoubleMatrix2d A, int k) {
+            this.A = A;
+            this.k = k;
+
+            m = A.rows();
+            n = A.cols();
+            p = Math.min(n, Math.max(2*k + 1, MIN_SUBSPACE));
+            tolerance = Math.max(NumericalContext.get().epsilon(), EPS);
+            U = A.like(new Extent2d(p, m));
+            V = A.like(new Extent2d(p + 1, n));
+            B = A.like(new Extent2d(p, p));
+        }
+
+        PartialSingularValue solve() {
+            randomize(V.rowAt(0), V, 0);
+
+            int start = 0;
+            for (int restart = 0; ; ++restart) {
+                expand(start);
+
+                final var svd = SingularValue.decompose(B);
+                final var X = svd.U();
+                final var Y = svd.V();
+                final var s = svd.values();
+
+                // The residual of the i-th triplet is |beta*X[p-1, i]|.
+                boolean converged = true;
+                for (int i = 0; i < k; ++i) {
+                    converged &= Math.abs(beta*X.get(p - 1, i)) <=
+                        tolerance*s.get(0);
+                }
+
+                if (converged || p == n || restart >= MAX_RESTARTS) {
+                    return result(X, s, Y, converged || p == n);
+                }
+
+                start = restart(X, s, Y);
+            }
+        }
+
+        /**
+         * Expands the bidiagonalization from {@code start} to {@code p}
+         * basis vectors.
+         */
+        private void expand(int start) {
+            final var u = U.rowAt(0).like();
+            final var v = V.rowAt(0).like();
+            final var c = V.colAt(0).like();
+
+            for (int j = start; j < p; ++j) {
+                // u[j] = (A*v[j] - U'*B[:, j])/alpha
+                A.mult(V.rowAt(j), u);
+                final double unorm = norm(u);
+                if (j > 0) {
+                    orthogonalize(rows(U, 0, j), u, part(B.colAt(j), 0, j));
+                }
+
+                double alpha = norm(u);
+                if (alpha <= EPS*unorm) {
+                    randomize(u, U, j);
+                    alpha = 0;
+                } else {
+                    blas.dscal(1.0/alpha, u);
+                }
+                B.set(j, j, alpha);
+                U.rowAt(j).assign(u);
+
+                // v[j + 1] = (A'*u[j] - V'*(A'*u[j]))/beta
+                A.mult(U.rowAt(j), v, 1, 0, true);
+                final double vnorm = norm(v);
+                orthogonalize(rows(V, 0, j + 1), v, part(c, 0, j + 1));
+
+                beta = norm(v);
+                if (j + 1 < n) {
+                    if (beta <= EPS*vnorm) {
+                        randomize(v, V, j + 1);
+                        beta = 0;
+                    } else {
+                        blas.dscal(1.0/beta, v);
+                    }
+                    V.rowAt(j + 1).assign(v);
+                } else {
+                    beta = 0;
+                }
+            }
+        }
+
+        /**
+         * Restarts the bidiagonalization with the largest Ritz triplets.
+         * Returns the number of kept basis vectors.
+         */
+        private int restart(DoubleMatrix2d X, DoubleMatrix1d s, DoubleMatrix2d Y) {
+            final int q = k + (p - k)/2;
+
+            // U = X'*U, V = Y'*V
+            final var Uq = cols(X, 0, q).mult(rows(U, 0, p), null, 1, 0, true, false);
+            rows(U, 0, q).assign(Uq);
+            final var Vq = cols(Y, 0, q).mult(rows(V, 0, p), null, 1, 0, true, false);
+            rows(V, 0, q).assign(Vq);
+            V.rowAt(q).assign(V.rowAt(p));
+
+            // The coupling column B[0:q, q] is created by the next expansion.
+            B.assign(0);
+            for (int i = 0; i < q; ++i) {
+                B.set(i, i, s.get(i));
+            }
+
+            return q;
+        }
+
+        private PartialSingularValue result(
+            DoubleMatrix2d X,
+            DoubleMatrix1d s,
+            DoubleMatrix2d Y,
+            boolean converged
+        ) {
+            final var Uk = rows(U, 0, p).mult(cols(X, 0, k), null, 1, 0, true, false);
+            final var Vk = rows(V, 0, p).mult(cols(Y, 0, k), null, 1, 0, true, false);
+            final double[] values = new double[k];
+            for (int i = 0; i < k; ++i) {
+                values[i] = s.get(i);
+            }
+
+            return new PartialSingularValue(Uk, values, Vk, converged);
+        }
+
+        /**
+         * Orthogonalizes {@code w} against the rows of the given basis,
+         * twice. The orthogonalization coefficients are added to {@code h}.
+         */
+        private void orthogonalize(
+            DoubleMatrix2d basis,
+            DoubleMatrix1d w,
+            DoubleMatrix1d h
+        ) {
+            final var c = h.like();
+            for (int pass = 0; pass < 2; ++pass) {
+                blas.dgemv(false, 1, basis, w, 0, c);
+                for (int i = 0; i < basis.rows(); ++i) {
+                    blas.daxpy(-c.get(i), basis.rowAt(i), w);
+                }
+                blas.daxpy(1, c, h);
+            }
+        }
+
+        /**
+         * Assigns a random unit vector to {@code w}, which is orthogonal to
+         * the first {@code j} rows of the given basis.
+         */
+        private void randomize(DoubleMatrix1d w, DoubleMatrix2d basis, int j) {
+            w.assign(v -> random.nextDouble() - 0.5);
+            if (j > 0) {
+                orthogonalize(rows(basis, 0, j), w, DoubleMatrix1d.DENSE.create(j));
+            }
+            blas.dscal(1.0/norm(w), w);
+        }
+
+        private static double norm(DoubleMatrix1d x) {
+            return Math.sqrt(x.dotProduct(x));
+        }
+    }
+
+}
@@ -21,6 +21,9 @@ package io.jenetics.lattices.matrix.linalg;
 
 import static java.util.Objects.requireNonNull;
 import static io.jenetics.lattices.grid.Structures.checkRectangular;
+import static io.jenetics.lattices.matrix.linalg.Views.block;
+import static io.jenetics.lattices.matrix.linalg.Views.part;
+import static io.jenetics.lattices.matrix.linalg.Views.rows;
 
 import io.jenetics.lattices.matrix.DoubleMatrix1d;
 import io.jenetics.lattices.matrix.DoubleMatrix2d;
@@ -41,6 +44,9 @@ import io.jenetics.lattices.structure.View2d;
  */
 public final class QR implements Solver {
 
+    // Number of columns of a panel of the blocked decomposition.
+    private static final int BLOCK_SIZE = 64;
+
     private final DoubleMatrix2d QR;
     private final DoubleMatrix1d rdiag;
 
@@ -162,40 +168,33 @@ public final class QR implements Solver {
         // Copy right-hand side
         final var X = B.copy();
 
+        final var blas = Blas.get();
+        final var w = X.rowAt(0).like();
+
         // Compute Y = transpose(Q)*B
         for (int k = 0; k < QR.cols(); ++k) {
-            for (int j = 0; j < B.cols(); ++j) {
-                double s = 0.0;
-                for (int i = k; i < QR.rows(); ++i) {
-                    s = Math.fma(QR.get(i, k), X.get(i, j), s);
-                }
-                s = -s/QR.get(k, k);
-                for (int i = k; i < QR.rows(); ++i) {
-                    X.set(
-                        i, j,
-                        Math.fma(s, QR.get(i, k), X.get(i, j))
-                    );
-                }
-            }
+            final var v = householder(k);
+            final var Xk = rows(X, k, QR.rows());
+
+            blas.dgemv(true, -1.0/QR.get(k, k), Xk, v, 0, w);
+            blas.dger(1, v, w, Xk);
         }
 
         // Solve R*X = Y;
         for (int k = QR.cols() - 1; k >= 0; k--) {
-            for (int j = 0; j < B.cols(); ++j) {
-                X.set(k, j, X.get(k, j)/rdiag.get(k));
-            }
-            for (int i = 0; i < k; i++) {
-                for (int j = 0; j < B.cols(); ++j) {
-                    X.set(
-                        i, j,
-                        -Math.fma(X.get(k, j), QR.get(i, k), -X.get(i, j))
-                    );
-                }
+            blas.dscal(1.0/rdiag.get(k), X.rowAt(k));
+            if (k > 0) {
+                blas.dger(-1, part(QR.colAt(k), 0, k), X.rowAt(k), rows(X, 0, k));
             }
         }
         return X.view(View2d.of(new Extent2d(QR.cols(), B.cols())));
     }
 
+    // Returns the k-th Householder vector.
+    private DoubleMatrix1d householder(int k) {
+        return part(QR.colAt(k), k, QR.rows());
+    }
+
     /**
      * Returns whether the matrix {@code A} has full rank.
      *
@@ -214,6 +213,17 @@ public final class QR implements Solver {
      * Performs an <em>QR</em>-decomposition of the given matrix {@code A},
      * computed by Householder reflections.
      *
+     * @implNote
+     * The decomposition is computed block-wise. The reflectors of a panel are
+     * accumulated in the compact <em>WY</em> representation,
+     * {@code H1*H2*...*Hb = I - V*T*V'}, and applied to the trailing matrix
+     * with matrix-matrix multiplications.
+     * <pre>
+     *     A2 = (I - V*T*V')'*A2 = A2 - V*(T'*(V'*A2))
+     * </pre>
+     * The panel itself is factorized on a transposed copy, which makes the
+     * Householder vectors contiguous in memory.
+     *
      * @param A the matrix to be decomposed
      * @return the <em>QR</em>-decomposition of the given matrix {@code A}
      * @throws IllegalArgumentException if {@code A.rows() < A.cols()}
@@ -221,62 +231,122 @@ public final class QR implements Solver {
     public static QR decompose(DoubleMatrix2d A) {
         checkRectangular(A.extent());
 
+        final var blas = Blas.get();
         final var qr = A.copy();
 
         final var m = qr.rows();
         final var n = qr.cols();
         final var Rdiag = qr.colAt(0).like();
 
-        final var QRcolumnsPart = new DoubleMatrix1d[n];
-        for (int k = 0; k < n; ++k) {
-            final var range = new Range1d(
-                new Index1d(k),
-                new Extent1d(m - k)
-            );
-
-            QRcolumnsPart[k] = qr.colAt(k).view(View1d.of(range));
-        }
+        for (int k0 = 0; k0 < n; k0 += BLOCK_SIZE) {
+            final int k1 = Math.min(k0 + BLOCK_SIZE, n);
+            final var panel = block(qr, k0, m, k0, k1);
 
-        // Main loop.
-        for (int k = 0; k < n; ++k) {
-            double nrm = 0;
-            for (int i = k; i < m; ++i) {
-                nrm = Math.hypot(nrm, qr.get(i, k));
+            // The rows of the transposed panel are the columns of A.
+            final var VT = panel.transpose().copy();
+            for (int j = 0; j < k1 - k0; ++j) {
+                Rdiag.set(k0 + j, householder(VT, j, blas));
             }
+            panel.assign(VT.transpose());
 
-            if (nrm != 0.0) {
-                // Form k-th Householder vector.
-                if (qr.get(k, k) < 0) {
-                    nrm = -nrm;
+            if (k1 < n) {
+                // Zero the part of V, which belongs to R.
+                for (int j = 0; j < k1 - k0; ++j) {
+                    part(VT.rowAt(j), 0, j).assign(0);
                 }
-                final var divisor = 1.0/nrm;
-                QRcolumnsPart[k].assign(x -> x*divisor);
 
-                qr.set(k, k, qr.get(k, k) + 1);
+                final var T = triangularFactor(VT, Rdiag, k0, blas);
+                final var A2 = block(qr, k0, m, k1, n);
+                final var W = A2.like(new Extent2d(k1 - k0, n - k1));
+                final var TW = W.like();
 
-                // Apply transformation to remaining columns.
-                for (int j = k + 1; j < n; ++j) {
-                    final var range = new Range1d(
-                        new Index1d(k),
-                        new Extent1d(m - k)
-                    );
+                blas.dgemm(false, false, 1, VT, A2, 0, W);
+                blas.dgemm(true, false, 1, T, W, 0, TW);
+                blas.dgemm(true, false, -1, VT, TW, 1, A2);
+            }
+        }
+
+        return new QR(qr, Rdiag, NumericalContext.get());
+    }
 
-                    final DoubleMatrix1d QRcolj = qr.colAt(j).view(View1d.of(range));
+    /**
+     * Computes the Householder vector of the {@code j}-th row of the given,
+     * transposed panel and applies the reflection to the remaining rows.
+     * Returns the diagonal element of {@code R}.
+     */
+    private static double householder(
+        DoubleMatrix2d VT,
+        int j,
+        Blas blas
+    ) {
+        final int m = VT.cols();
+        final var v = part(VT.rowAt(j), j, m);
+
+        double nrm = norm(v);
+        if (nrm != 0.0) {
+            // Form j-th Householder vector.
+            if (v.get(0) < 0) {
+                nrm = -nrm;
+            }
+            blas.dscal(1.0/nrm, v);
+            v.set(0, v.get(0) + 1);
+
+            // Apply transformation to remaining rows.
+            for (int i = j + 1; i < VT.rows(); ++i) {
+                final var a = part(VT.rowAt(i), j, m);
+                final double s = -v.dotProduct(a)/v.get(0);
+                blas.daxpy(s, v, a);
+            }
+        }
 
-                    double s = QRcolumnsPart[k].dotProduct(QRcolj);
-                    s = -s/qr.get(k, k);
-                    for (int i = k; i < m; ++i) {
-                        qr.set(
-                            i, j,
-                            Math.fma(s, qr.get(i, k), qr.get(i, j))
-                        );
-                    }
-                }
+        return -nrm;
+    }
+
+    /**
+     * Computes the upper triangular factor {@code T} of the compact WY
+     * representation of the reflectors, stored in the rows of {@code VT}. The
+     * scalar factor of the reflector {@code H = I - tau*v*v'} is
+     * {@code tau = 1/v[0]}.
+     */
+    private static DoubleMatrix2d triangularFactor(
+        DoubleMatrix2d VT,
+        DoubleMatrix1d Rdiag,
+        int k0,
+        Blas blas
+    ) {
+        final int b = VT.rows();
+        final var T = VT.like(new Extent2d(b, b));
+
+        for (int j = 0; j < b; ++j) {
+            final double tau = Rdiag.get(k0 + j) != 0.0
+                ? 1.0/VT.get(j, j)
+                : 0.0;
+
+            if (j > 0) {
+                final var t = part(T.colAt(j), 0, j);
+                blas.dgemv(false, -tau, rows(VT, 0, j), VT.rowAt(j), 0, t);
+                blas.dtrmv(true, false, false, block(T, 0, j, 0, j), t);
             }
-            Rdiag.set(k, -nrm);
+            T.set(j, j, tau);
         }
 
-        return new QR(qr, Rdiag, NumericalContext.get());
+        return T;
+    }
+
+    /**
+     * Returns the 2-norm of the given vector, without under- or overflow.
+     */
+    private static double norm(DoubleMatrix1d x) {
+        final double s = x.dotProduct(x);
+        if (s > 0x1p-900 && s < 0x1p900) {
+            return Math.sqrt(s);
+        }
+
+        double nrm = 0;
+        for (int i = 0; i < x.extent().elements(); ++i) {
+            nrm = Math.hypot(nrm, x.get(i));
+        }
+        return nrm;
     }
 
 }
@@ -0,0 +1,369 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix.linalg;
+
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.lattices.matrix.linalg.Views.block;
+import static io.jenetics.lattices.matrix.linalg.Views.part;
+import static io.jenetics.lattices.matrix.linalg.Views.rows;
+
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+
+import io.jenetics.lattices.matrix.DoubleMatrix2d;
+import io.jenetics.lattices.matrix.NumericalContext;
+import io.jenetics.lattices.matrix.ParallelContext;
+import io.jenetics.lattices.structure.Extent2d;
+
+/**
+ * Tall-skinny <em>QR</em>-decomposition (TSQR) of matrices with much more
+ * rows than columns. The rows of the matrix are split into chunks, which are
+ * factorized independently. The resulting {@code R} factors are then stacked
+ * and reduced pairwise in a tree, until only one {@code R} factor is left.
+ * Only the {@code R} factor of the decomposition is computed, the orthogonal
+ * factor {@code Q} is never formed.
+ * <p>
+ * The matrix can also be given as stream of row blocks. This allows to
+ * compute {@code R}, and the least-squares solution of an over-determined
+ * system, without materializing the whole matrix. For the least-squares
+ * solution, every row block contains the rows of the matrix {@code A},
+ * followed by the rows of the right-hand side {@code B}.
+ * <pre>{@code
+ * // Every row block is [A_i | b_i], with 50 columns of A.
+ * final Stream<DoubleMatrix2d> blocks = ...;
+ *
+ * final TSQR qr = TSQR.decompose(blocks, 50);
+ * final DoubleMatrix2d x = qr.solve();
+ * }</pre>
+ * Least-squares solutions are computed from the {@code R} factor of the
+ * augmented matrix {@code [A | B]}, which contains {@code Q'*B} in its upper
+ * right part.
+ * <pre>
+ *     [A | B] = Q x | R  Q'B |
+ *                   | 0  R22 |
+ * </pre>
+ *
+ * @see QR
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public final class TSQR {
+
+    // Minimal number of rows of a chunk, which is factorized at once.
+    private static final int CHUNK_ROWS = 2048;
+
+    // Number of chunks created for every thread of the pool.
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    // The R factor of the augmented matrix [A | B].
+    private final DoubleMatrix2d R;
+
+    // The number of columns of A.
+    private final int cols;
+
+    private final NumericalContext context;
+
+    private TSQR(DoubleMatrix2d R, int cols, NumericalContext context) {
+        this.R = requireNonNull(R);
+        this.cols = cols;
+        this.context = requireNonNull(context);
+    }
+
+    /**
+     * Returns the upper triangular factor {@code R} of the matrix {@code A}.
+     *
+     * @return {@code R}
+     */
+    public DoubleMatrix2d R() {
+        return block(R, 0, cols, 0, cols).copy();
+    }
+
+    /**
+     * Returns whether the matrix {@code A} has full rank.
+     *
+     * @return true if {@code R}, and hence {@code A}, has full rank
+     */
+    public boolean hasFullRank() {
+        for (int j = 0; j < cols; ++j) {
+            if (context.isZero(R.get(j, j))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the least-squares solution {@code X} of {@code A*X = B}, where
+     * the right-hand side {@code B} has been part of the decomposed matrix.
+     * If no right-hand side has been given, the returned matrix has no
+     * columns.
+     *
+     * @return {@code X} that minimizes the two-norm of {@code A*X - B}
+     * @throws IllegalArgumentException if {@code !hasFullRank()} ({@code A}
+     *         is rank deficient)
+     */
+    public DoubleMatrix2d solve() {
+        if (!hasFullRank()) {
+            throw new IllegalArgumentException("Matrix is rank deficient.");
+        }
+
+        final var blas = Blas.get();
+        final var X = block(R, 0, cols, cols, R.cols()).copy();
+
+        // Solve R*X = Q'*B;
+        for (int k = cols - 1; k >= 0; --k) {
+            blas.dscal(1.0/R.get(k, k), X.rowAt(k));
+            if (k > 0) {
+                blas.dger(-1, part(R.colAt(k), 0, k), X.rowAt(k), rows(X, 0, k));
+            }
+        }
+
+        return X;
+    }
+
+    /* *************************************************************************
+     * Static factory methods.
+     * ************************************************************************/
+
+    /**
+     * Performs a tall-skinny <em>QR</em>-decomposition of the given matrix
+     * {@code A}. The row chunks are factorized in parallel, if the current
+     * {@link ParallelContext} allows it.
+     *
+     * @param A the matrix to be decomposed
+     * @return the <em>QR</em>-decomposition of the given matrix {@code A}
+     */
+    public static TSQR decompose(DoubleMatrix2d A) {
+        return decompose(new Rows(A, null));
+    }
+
+    /**
+     * Performs a tall-skinny <em>QR</em>-decomposition of the augmented
+     * matrix {@code [A | B]}. The least-squares solution of {@code A*X = B}
+     * is then returned by {@link #solve()}.
+     *
+     * @param A the matrix to be decomposed
+     * @param B the right-hand side
+     * @return the <em>QR</em>-decomposition of the given matrix {@code A}
+     * @throws IllegalArgumentException if {@code B.rows() != A.rows()}
+     */
+    public static TSQR decompose(DoubleMatrix2d A, DoubleMatrix2d B) {
+        if (B.rows() != A.rows()) {
+            throw new IllegalArgumentException(
+                "Matrix row dimensions must agree: %s != %s."
+                    .formatted(B.extent(), A.extent())
+            );
+        }
+
+        return decompose(new Rows(A, B));
+    }
+
+    private static TSQR decompose(Rows rows) {
+        final var context = ParallelContext.get();
+        final long work = (long)rows.rows()*rows.cols()*rows.cols();
+
+        final DoubleMatrix2d R;
+        if (context.isParallel(work)) {
+            final int chunks = context.parallelism()*CHUNKS_PER_THREAD;
+            R = context.pool().invoke(new Reduction(rows, 0, rows.rows(), chunks));
+        } else {
+            R = sequential(rows, 0, rows.rows());
+        }
+
+        return new TSQR(triangular(R), rows.A().cols(), NumericalContext.get());
+    }
+
+    /**
+     * Performs a tall-skinny <em>QR</em>-decomposition of the matrix, given
+     * by the stream of row blocks. The blocks are reduced in the encounter
+     * order of the stream. If the stream is parallel, the blocks are reduced
+     * in parallel, in a tree.
+     *
+     * @param blocks the row blocks of the matrix to be decomposed
+     * @return the <em>QR</em>-decomposition of the given row blocks
+     * @throws IllegalArgumentException if the stream is empty or the blocks
+     *         have a different number of columns
+     */
+    public static TSQR decompose(Stream<? extends DoubleMatrix2d> blocks) {
+        final var R = factorize(blocks);
+        return new TSQR(triangular(R), R.cols(), NumericalContext.get());
+    }
+
+    /**
+     * Performs a tall-skinny <em>QR</em>-decomposition of the augmented matrix
+     * {@code [A | B]}, given by the stream of row blocks. The first
+     * {@code cols} columns of every block are rows of {@code A}, the remaining
+     * columns are the rows of the right-hand side {@code B}. The least-squares
+     * solution of {@code A*X = B} is then returned by {@link #solve()}.
+     *
+     * @param blocks the row blocks of the augmented matrix
+     * @param cols the number of columns of {@code A}
+     * @return the <em>QR</em>-decomposition of the given row blocks
+     * @throws IllegalArgumentException if the stream is empty, the blocks
+     *         have a different number of columns or {@code cols} is not
+     *         within the range {@code [0, blocks.cols()]}
+     */
+    public static TSQR decompose(
+        Stream<? extends DoubleMatrix2d> blocks,
+        int cols
+    ) {
+        final var R = factorize(blocks);
+        if (cols < 0 || cols > R.cols()) {
+            throw new IllegalArgumentException(
+                "Column count out of range [0, %d]: %d".formatted(R.cols(), cols)
+            );
+        }
+
+        return new TSQR(triangular(R), cols, NumericalContext.get());
+    }
+
+    private static DoubleMatrix2d factorize(
+        Stream<? extends DoubleMatrix2d> blocks
+    ) {
+        return blocks
+            .map(TSQR::reduce)
+            .reduce(TSQR::combine)
+            .orElseThrow(() ->
+                new IllegalArgumentException("No row blocks given.")
+            );
+    }
+
+    /* *************************************************************************
+     * Reduction methods.
+     * ************************************************************************/
+
+    /**
+     * Reduces the rows {@code [start, end)} sequentially, chunk by chunk.
+     */
+    private static DoubleMatrix2d sequential(Rows rows, int start, int end) {
+        final int size = Math.max(CHUNK_ROWS, 4*rows.cols());
+
+        DoubleMatrix2d R = reduce(rows.slice(start, Math.min(start + size, end)));
+        for (int i = start + size; i < end; i += size) {
+            R = combine(R, rows.slice(i, Math.min(i + size, end)));
+        }
+        return R;
+    }
+
+    /**
+     * Stacks the two given matrices and reduces the result.
+     */
+    private static DoubleMatrix2d combine(DoubleMatrix2d A, DoubleMatrix2d B) {
+        if (A.cols() != B.cols()) {
+            throw new IllegalArgumentException(
+                "Row blocks must have the same number of columns: %s != %s."
+                    .formatted(A.extent(), B.extent())
+            );
+        }
+
+        final var stacked = A.like(new Extent2d(A.rows() + B.rows(), A.cols()));
+        rows(stacked, 0, A.rows()).assign(A);
+        rows(stacked, A.rows(), stacked.rows()).assign(B);
+        return reduce(stacked);
+    }
+
+    /**
+     * Reduces the given matrix to its {@code R} factor. Matrices with less
+     * rows than columns are returned unchanged.
+     */
+    private static DoubleMatrix2d reduce(DoubleMatrix2d A) {
+        return A.rows() >= A.cols() ? QR.decompose(A).R() : A;
+    }
+
+    /**
+     * Makes sure that the given {@code R} factor is a square, upper
+     * triangular matrix, by padding it with zero rows, if necessary.
+     */
+    private static DoubleMatrix2d triangular(DoubleMatrix2d R) {
+        if (R.rows() >= R.cols()) {
+            return R;
+        }
+
+        final var padded = R.like(new Extent2d(R.cols(), R.cols()));
+        rows(padded, 0, R.rows()).assign(R);
+        return QR.decompose(padded).R();
+    }
+
+    /**
+     * The rows of the matrix {@code A}, optionally augmented with the rows of
+     * the right-hand side {@code B}.
+     */
+    private record Rows(DoubleMatrix2d A, DoubleMatrix2d B) {
+
+        int rows() {
+            return A.rows();
+        }
+
+        int cols() {
+            return B != null ? A.cols() + B.cols() : A.cols();
+        }
+
+        DoubleMatrix2d slice(int start, int end) {
+            if (B == null) {
+                return Views.rows(A, start, end);
+            }
+
+            final var slice = A.like(new Extent2d(end - start, cols()));
+            Views.cols(slice, 0, A.cols()).assign(Views.rows(A, start, end));
+            Views.cols(slice, A.cols(), cols()).assign(Views.rows(B, start, end));
+            return slice;
+        }
+    }
+
+    /**
+     * Reduces the rows {@code [start, end)}, by splitting them into two
+     * halves, until the requested number of chunks is reached.
+     */
+    private static final class Reduction extends RecursiveTask<DoubleMatrix2d> {
+        private static final long serialVersionUID = 1;
+
+        private final transient Rows rows;
+        private final int start;
+        private final int end;
+        private final int chunks;
+
+        Reduction(Rows rows, int start, int end, int chunks) {
+            this.rows = rows;
+            this.start = start;
+            this.end = end;
+            this.chunks = chunks;
+        }
+
+        @Override
+        protected DoubleMatrix2d compute() {
+            final int size = end - start;
+            final int min = 2*Math.max(CHUNK_ROWS, 4*rows.cols());
+
+            if (chunks <= 1 || size < min) {
+                return sequential(rows, start, end);
+            } else {
+                final int split = start + size/2;
+                final var right = new Reduction(rows, split, end, chunks - chunks/2);
+                right.fork();
+
+                final var left = new Reduction(rows, start, split, chunks/2);
+                return combine(left.compute(), right.join());
+            }
+        }
+    }
+
+}
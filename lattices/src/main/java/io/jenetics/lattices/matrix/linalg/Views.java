@@ -0,0 +1,71 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix.linalg;
+
+import io.jenetics.lattices.matrix.DoubleMatrix1d;
+import io.jenetics.lattices.matrix.DoubleMatrix2d;
+import io.jenetics.lattices.structure.Extent1d;
+import io.jenetics.lattices.structure.Extent2d;
+import io.jenetics.lattices.structure.Index1d;
+import io.jenetics.lattices.structure.Index2d;
+import io.jenetics.lattices.structure.Range1d;
+import io.jenetics.lattices.structure.Range2d;
+import io.jenetics.lattices.structure.View1d;
+import io.jenetics.lattices.structure.View2d;
+
+/**
+ * Helper methods for creating sub-views of vectors and matrices, as needed by
+ * the (blocked) linear algebra algorithms. All index ranges are given as
+ * {@code [start, end)}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+final class Views {
+    private Views() {
+    }
+
+    static DoubleMatrix1d part(DoubleMatrix1d x, int start, int end) {
+        return x.view(View1d.of(
+            new Range1d(new Index1d(start), new Extent1d(end - start))
+        ));
+    }
+
+    static DoubleMatrix2d rows(DoubleMatrix2d A, int start, int end) {
+        return block(A, start, end, 0, A.cols());
+    }
+
+    static DoubleMatrix2d cols(DoubleMatrix2d A, int start, int end) {
+        return block(A, 0, A.rows(), start, end);
+    }
+
+    static DoubleMatrix2d block(
+        DoubleMatrix2d A,
+        int rowStart, int rowEnd,
+        int colStart, int colEnd
+    ) {
+        return A.view(View2d.of(new Range2d(
+            new Index2d(rowStart, colStart),
+            new Extent2d(rowEnd - rowStart, colEnd - colStart)
+        )));
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix.linalg.iterative;
+
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.lattices.matrix.linalg.iterative.Vectors.checkSystem;
+import static io.jenetics.lattices.matrix.linalg.iterative.Vectors.norm;
+import static io.jenetics.lattices.matrix.linalg.iterative.Vectors.residual;
+
+import io.jenetics.lattices.matrix.DoubleMatrix1d;
+import io.jenetics.lattices.matrix.linalg.Blas;
+import io.jenetics.lattices.matrix.linalg.LinearOperator;
+
+/**
+ * Right preconditioned <em>stabilized biconjugate gradient</em> method, as
+ * described by van der Vorst.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+final class BiCGSTAB implements IterativeSolver {
+
+    private final Preconditioner preconditioner;
+    private final Termination termination;
+
+    BiCGSTAB(Preconditioner preconditioner, Termination termination) {
+        this.preconditioner = requireNonNull(preconditioner);
+        this.termination = requireNonNull(termination);
+    }
+
+    @Override
+    public Solution solve(LinearOperator A, DoubleMatrix1d b, DoubleMatrix1d x) {
+        checkSystem(A, b, x);
+
+        final var blas = Blas.get();
+        final double bnorm = norm(b);
+        if (bnorm == 0) {
+            x.assign(0);
+            return new Solution(x, 0, 0, true);
+        }
+        final double tolerance = termination.tolerance()*bnorm;
+
+        final var r = b.like();
+        final var r0 = b.like();
+        final var p = b.like();
+        final var v = b.like();
+        final var s = b.like();
+        final var t = b.like();
+        final var y = b.like();
+        final var z = b.like();
+
+        residual(A, b, x, r);
+        r0.assign(r);
+
+        double rho = 1;
+        double alpha = 1;
+        double omega = 1;
+
+        double rnorm = norm(r);
+        int iteration = 0;
+        while (rnorm > tolerance && iteration < termination.iterations()) {
+            final double rhoNext = blas.ddot(r0, r);
+            if (rhoNext == 0 || omega == 0) {
+                // Breakdown of the method.
+                break;
+            }
+
+            // p = r + beta*(p - omega*v)
+            final double beta = (rhoNext/rho)*(alpha/omega);
+            blas.daxpy(-omega, v, p);
+            blas.dscal(beta, p);
+            blas.daxpy(1, r, p);
+            rho = rhoNext;
+
+            preconditioner.apply(p, y);
+            A.apply(y, v);
+            alpha = rho/blas.ddot(r0, v);
+
+            // s = r - alpha*v
+            s.assign(r);
+            blas.daxpy(-alpha, v, s);
+            blas.daxpy(alpha, y, x);
+            ++iteration;
+
+            final double snorm = norm(s);
+            if (snorm <= tolerance) {
+                r.assign(s);
+                rnorm = snorm;
+                break;
+            }
+
+            preconditioner.apply(s, z);
+            A.apply(z, t);
+            final double tt = blas.ddot(t, t);
+            omega = tt == 0 ? 0 : blas.ddot(t, s)/tt;
+
+            // x = x + omega*z, r = s - omega*t
+            blas.daxpy(omega, z, x);
+            r.assign(s);
+            blas.daxpy(-omega, t, r);
+            rnorm = norm(r);
+        }
+
+        return new Solution(x, iteration, rnorm/bnorm, rnorm <= tolerance);
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix.linalg.iterative;
+
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.lattices.matrix.linalg.iterative.Vectors.checkSystem;
+import static io.jenetics.lattices.matrix.linalg.iterative.Vectors.norm;
+import static io.jenetics.lattices.matrix.linalg.iterative.Vectors.residual;
+
+import io.jenetics.lattices.matrix.DoubleMatrix1d;
+import io.jenetics.lattices.matrix.linalg.Blas;
+import io.jenetics.lattices.matrix.linalg.LinearOperator;
+
+/**
+ * Preconditioned <em>conjugate gradient</em> method.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+final class ConjugateGradient implements IterativeSolver {
+
+    private final Preconditioner preconditioner;
+    private final Termination termination;
+
+    ConjugateGradient(Preconditioner preconditioner, Termination termination) {
+        this.preconditioner = requireNonNull(preconditioner);
+        this.termination = requireNonNull(termination);
+    }
+
+    @Override
+    public Solution solve(LinearOperator A, DoubleMatrix1d b, DoubleMatrix1d x) {
+        checkSystem(A, b, x);
+
+        final var blas = Blas.get();
+        final double bnorm = norm(b);
+        if (bnorm == 0) {
+            x.assign(0);
+            return new Solution(x, 0, 0, true);
+        }
+        final double tolerance = termination.tolerance()*bnorm;
+
+        final var r = b.like();
+        final var z = b.like();
+        final var p = b.like();
+        final var q = b.like();
+
+        residual(A, b, x, r);
+        preconditioner.apply(r, z);
+        p.assign(z);
+        double rz = blas.ddot(r, z);
+
+        double rnorm = norm(r);
+        int iteration = 0;
+        while (rnorm > tolerance && iteration < termination.iterations()) {
+            A.apply(p, q);
+            final double pq = blas.ddot(p, q);
+            if (!(pq > 0)) {
+                // The matrix is not positive definite.
+                break;
+            }
+
+            final double alpha = rz/pq;
+            blas.daxpy(alpha, p, x);
+            blas.daxpy(-alpha, q, r);
+            rnorm = norm(r);
+            ++iteration;
+
+            preconditioner.apply(r, z);
+            final double rzNext = blas.ddot(r, z);
+            final double beta = rzNext/rz;
+            rz = rzNext;
+
+            // p = z + beta*p
+            blas.dscal(beta, p);
+            blas.daxpy(1, z, p);
+        }
+
+        return new Solution(x, iteration, rnorm/bnorm, rnorm <= tolerance);
+    }
+
+}
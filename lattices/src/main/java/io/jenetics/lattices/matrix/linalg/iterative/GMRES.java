@@ -0,0 +1,169 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix.linalg.iterative;
+
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.lattices.matrix.linalg.iterative.Vectors.checkSystem;
+import static io.jenetics.lattices.matrix.linalg.iterative.Vectors.norm;
+import static io.jenetics.lattices.matrix.linalg.iterative.Vectors.residual;
+
+import java.util.Arrays;
+
+import io.jenetics.lattices.matrix.DoubleMatrix1d;
+import io.jenetics.lattices.matrix.DoubleMatrix2d;
+import io.jenetics.lattices.matrix.linalg.Blas;
+import io.jenetics.lattices.matrix.linalg.LinearOperator;
+import io.jenetics.lattices.structure.Extent2d;
+
+/**
+ * Restarted, right preconditioned <em>generalized minimal residual</em>
+ * method, GMRES(m). The Arnoldi basis is orthogonalized with the modified
+ * Gram-Schmidt method and the least squares problem is solved with Givens
+ * rotations.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+final class GMRES implements IterativeSolver {
+
+    private final Preconditioner preconditioner;
+    private final int restart;
+    private final Termination termination;
+
+    GMRES(Preconditioner preconditioner, int restart, Termination termination) {
+        if (restart < 1) {
+            throw new IllegalArgumentException(
+                "Restart must be positive: " + restart
+            );
+        }
+        this.preconditioner = requireNonNull(preconditioner);
+        this.restart = restart;
+        this.termination = requireNonNull(termination);
+    }
+
+    @Override
+    public Solution solve(LinearOperator A, DoubleMatrix1d b, DoubleMatrix1d x) {
+        checkSystem(A, b, x);
+
+        final var blas = Blas.get();
+        final double bnorm = norm(b);
+        if (bnorm == 0) {
+            x.assign(0);
+            return new Solution(x, 0, 0, true);
+        }
+        final double tolerance = termination.tolerance()*bnorm;
+
+        final int n = b.extent().elements();
+        final int m = Math.min(restart, n);
+
+        // The Arnoldi basis vectors, as rows.
+        final var V = DoubleMatrix2d.DENSE.create(new Extent2d(m + 1, n));
+        final double[][] H = new double[m + 1][m];
+        final double[] cs = new double[m];
+        final double[] sn = new double[m];
+        final double[] g = new double[m + 1];
+        final double[] y = new double[m];
+
+        final var r = b.like();
+        final var w = b.like();
+        final var z = b.like();
+
+        residual(A, b, x, r);
+        double rnorm = norm(r);
+        int iteration = 0;
+
+        while (rnorm > tolerance && iteration < termination.iterations()) {
+            V.rowAt(0).assign(r);
+            blas.dscal(1.0/rnorm, V.rowAt(0));
+            Arrays.fill(g, 0);
+            g[0] = rnorm;
+
+            int j = 0;
+            while (j < m && iteration < termination.iterations()) {
+                // w = A*M^-1*v[j]
+                preconditioner.apply(V.rowAt(j), z);
+                A.apply(z, w);
+
+                for (int i = 0; i <= j; ++i) {
+                    H[i][j] = blas.ddot(w, V.rowAt(i));
+                    blas.daxpy(-H[i][j], V.rowAt(i), w);
+                }
+                H[j + 1][j] = norm(w);
+
+                // Apply the previous rotations to the new column.
+                for (int i = 0; i < j; ++i) {
+                    final double h = cs[i]*H[i][j] + sn[i]*H[i + 1][j];
+                    H[i + 1][j] = -sn[i]*H[i][j] + cs[i]*H[i + 1][j];
+                    H[i][j] = h;
+                }
+
+                // Rotation which annihilates H[j + 1][j].
+                final double beta = Math.hypot(H[j][j], H[j + 1][j]);
+                final boolean breakdown = H[j + 1][j] == 0;
+                if (beta == 0) {
+                    cs[j] = 1;
+                    sn[j] = 0;
+                } else {
+                    cs[j] = H[j][j]/beta;
+                    sn[j] = H[j + 1][j]/beta;
+                }
+                if (!breakdown) {
+                    V.rowAt(j + 1).assign(w);
+                    blas.dscal(1.0/H[j + 1][j], V.rowAt(j + 1));
+                }
+                H[j][j] = beta;
+                H[j + 1][j] = 0;
+                g[j + 1] = -sn[j]*g[j];
+                g[j] = cs[j]*g[j];
+
+                rnorm = Math.abs(g[j + 1]);
+                ++iteration;
+                ++j;
+
+                if (rnorm <= tolerance || breakdown) {
+                    break;
+                }
+            }
+
+            // Solve H*y = g and update x = x + M^-1*V'*y.
+            for (int i = j - 1; i >= 0; --i) {
+                double s = g[i];
+                for (int k = i + 1; k < j; ++k) {
+                    s -= H[i][k]*y[k];
+                }
+                y[i] = H[i][i] == 0 ? 0 : s/H[i][i];
+            }
+            w.assign(0);
+            for (int i = 0; i < j; ++i) {
+                blas.daxpy(y[i], V.rowAt(i), w);
+            }
+            preconditioner.apply(w, z);
+            blas.daxpy(1, z, x);
+
+            // The true residual of the restart.
+            residual(A, b, x, r);
+            rnorm = norm(r);
+        }
+
+        return new Solution(x, iteration, rnorm/bnorm, rnorm <= tolerance);
+    }
+
+}
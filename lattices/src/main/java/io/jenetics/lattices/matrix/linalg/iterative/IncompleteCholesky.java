@@ -0,0 +1,233 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix.linalg.iterative;
+
+import static io.jenetics.lattices.grid.Structures.checkSquare;
+
+import io.jenetics.lattices.matrix.CsrDoubleMatrix2d;
+import io.jenetics.lattices.matrix.DoubleMatrix1d;
+import io.jenetics.lattices.matrix.DoubleMatrix2d;
+
+/**
+ * The <em>incomplete Cholesky</em> preconditioner without fill-in, IC(0).
+ * The lower triangular factor {@code L} is stored row-wise in compressed
+ * form, where the diagonal element is the last element of every row.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+final class IncompleteCholesky implements Preconditioner {
+
+    // Maximal number of factorization attempts with an increasing shift.
+    private static final int MAX_SHIFTS = 20;
+
+    // Initial relative shift of the diagonal, after a breakdown.
+    private static final double INITIAL_SHIFT = 1.0E-3;
+
+    private final int[] rowStart;
+    private final int[] cols;
+    private final double[] values;
+
+    private IncompleteCholesky(int[] rowStart, int[] cols, double[] values) {
+        this.rowStart = rowStart;
+        this.cols = cols;
+        this.values = values;
+    }
+
+    @Override
+    public void apply(DoubleMatrix1d r, DoubleMatrix1d z) {
+        final int n = rowStart.length - 1;
+        final double[] y = new double[n];
+
+        // Solve L*y = r.
+        for (int i = 0; i < n; ++i) {
+            final int diag = rowStart[i + 1] - 1;
+            double s = r.get(i);
+            for (int p = rowStart[i]; p < diag; ++p) {
+                s -= values[p]*y[cols[p]];
+            }
+            y[i] = s/values[diag];
+        }
+
+        // Solve L'*z = y, column-wise.
+        for (int i = n - 1; i >= 0; --i) {
+            final int diag = rowStart[i + 1] - 1;
+            final double zi = y[i]/values[diag];
+            y[i] = zi;
+            for (int p = rowStart[i]; p < diag; ++p) {
+                y[cols[p]] -= values[p]*zi;
+            }
+        }
+
+        z.assign(y);
+    }
+
+    /**
+     * Decomposes the given dense matrix. Every element of the lower triangle
+     * is read, which makes the pattern scan {@code O(n^2)}.
+     */
+    static IncompleteCholesky decompose(DoubleMatrix2d A) {
+        checkSquare(A.extent());
+        final int n = A.rows();
+
+        // Sparsity pattern of the lower triangle, including the diagonal.
+        final int[] rowStart = new int[n + 1];
+        for (int i = 0; i < n; ++i) {
+            int count = 1;
+            for (int j = 0; j < i; ++j) {
+                if (A.get(i, j) != 0.0) {
+                    ++count;
+                }
+            }
+            rowStart[i + 1] = rowStart[i] + count;
+        }
+
+        final int[] cols = new int[rowStart[n]];
+        final double[] elements = new double[rowStart[n]];
+        for (int i = 0; i < n; ++i) {
+            int p = rowStart[i];
+            for (int j = 0; j < i; ++j) {
+                if (A.get(i, j) != 0.0) {
+                    cols[p] = j;
+                    elements[p++] = A.get(i, j);
+                }
+            }
+            cols[p] = i;
+            elements[p] = A.get(i, i);
+        }
+
+        return decompose(rowStart, cols, elements);
+    }
+
+    /**
+     * Decomposes the given sparse matrix. Only the stored elements of the
+     * lower triangle are visited, which makes the pattern scan
+     * {@code O(nnz)}.
+     */
+    static IncompleteCholesky decompose(CsrDoubleMatrix2d A) {
+        if (A.rows() != A.cols()) {
+            throw new IllegalArgumentException(
+                "Matrix must be square: [%d, %d].".formatted(A.rows(), A.cols())
+            );
+        }
+        final int n = A.rows();
+
+        // Sparsity pattern of the lower triangle, including the diagonal.
+        final int[] rowStart = new int[n + 1];
+        for (int i = 0; i < n; ++i) {
+            final int row = i;
+            final int[] count = {1};
+            A.forEachNonZero(i, (j, value) -> {
+                if (j < row && value != 0.0) {
+                    ++count[0];
+                }
+            });
+            rowStart[i + 1] = rowStart[i] + count[0];
+        }
+
+        final int[] cols = new int[rowStart[n]];
+        final double[] elements = new double[rowStart[n]];
+        for (int i = 0; i < n; ++i) {
+            final int row = i;
+            final int[] p = {rowStart[i]};
+            A.forEachNonZero(i, (j, value) -> {
+                if (j < row && value != 0.0) {
+                    cols[p[0]] = j;
+                    elements[p[0]++] = value;
+                } else if (j == row) {
+                    elements[rowStart[row + 1] - 1] = value;
+                }
+            });
+            cols[rowStart[i + 1] - 1] = i;
+        }
+
+        return decompose(rowStart, cols, elements);
+    }
+
+    private static IncompleteCholesky decompose(
+        int[] rowStart,
+        int[] cols,
+        double[] elements
+    ) {
+        double shift = 0;
+        for (int attempt = 0; attempt <= MAX_SHIFTS; ++attempt) {
+            final double[] values = factorize(rowStart, cols, elements, shift);
+            if (values != null) {
+                return new IncompleteCholesky(rowStart, cols, values);
+            }
+            shift = shift == 0 ? INITIAL_SHIFT : 2*shift;
+        }
+
+        throw new IllegalArgumentException(
+            "Incomplete Cholesky factorization failed, " +
+            "matrix is not positive definite."
+        );
+    }
+
+    /**
+     * Performs the factorization of {@code A + shift*diag(A)}. Returns the
+     * values of the factor {@code L}, or {@code null} if the factorization
+     * breaks down.
+     */
+    private static double[] factorize(
+        int[] rowStart,
+        int[] cols,
+        double[] elements,
+        double shift
+    ) {
+        final int n = rowStart.length - 1;
+        final double[] values = new double[elements.length];
+
+        // Holds the already computed elements L[i, 0:k] of the current row.
+        final double[] row = new double[n];
+
+        for (int i = 0; i < n; ++i) {
+            final int diag = rowStart[i + 1] - 1;
+
+            // L[i, k] = (A[i, k] - L[i, 0:k]*L[k, 0:k]')/L[k, k]
+            for (int p = rowStart[i]; p < diag; ++p) {
+                final int k = cols[p];
+                final int kdiag = rowStart[k + 1] - 1;
+
+                double s = elements[p];
+                for (int q = rowStart[k]; q < kdiag; ++q) {
+                    s -= row[cols[q]]*values[q];
+                }
+                values[p] = s/values[kdiag];
+                row[k] = values[p];
+            }
+
+            // L[i, i] = sqrt(A[i, i] - L[i, 0:i]*L[i, 0:i]')
+            double d = elements[diag]*(1 + shift);
+            for (int p = rowStart[i]; p < diag; ++p) {
+                d -= values[p]*values[p];
+                row[cols[p]] = 0;
+            }
+            if (!(d > 0)) {
+                return null;
+            }
+            values[diag] = Math.sqrt(d);
+        }
+
+        return values;
+    }
+
+}
@@ -0,0 +1,215 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix.linalg.iterative;
+
+import io.jenetics.lattices.matrix.DoubleMatrix1d;
+import io.jenetics.lattices.matrix.linalg.LinearOperator;
+
+/**
+ * Iterative solver for linear systems {@code A*x = b}. In contrast to the
+ * direct solvers, like {@link io.jenetics.lattices.matrix.linalg.LU}, the
+ * matrix {@code A} is only accessed by its matrix-vector product and no
+ * additional matrix of the size of {@code A} is needed.
+ * <pre>{@code
+ * final DoubleMatrix2d A = ...;
+ * final DoubleMatrix1d b = ...;
+ *
+ * final IterativeSolver solver =
+ *     IterativeSolver.cg(Preconditioner.incompleteCholesky(A));
+ * final Solution solution = solver.solve(LinearOperator.of(A), b);
+ * }</pre>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public interface IterativeSolver {
+
+    /**
+     * The default number of iterations after which the <em>GMRES</em> method
+     * is restarted.
+     */
+    int DEFAULT_RESTART = 30;
+
+    /**
+     * Solves {@code A*x = b}, with the given initial guess {@code x}. The
+     * solution is written into {@code x}.
+     *
+     * @param A the square operator matrix
+     * @param b the right-hand side
+     * @param x the initial guess, which is overwritten by the solution
+     * @return the solution of the linear system, containing {@code x}
+     * @throws IllegalArgumentException if {@code A} is not square or the
+     *         sizes of {@code b} and {@code x} doesn't match {@code A}
+     */
+    Solution solve(LinearOperator A, DoubleMatrix1d b, DoubleMatrix1d x);
+
+    /**
+     * Solves {@code A*x = b}, with the initial guess {@code x = 0}.
+     *
+     * @param A the square operator matrix
+     * @param b the right-hand side
+     * @return the solution of the linear system
+     * @throws IllegalArgumentException if {@code A} is not square or the
+     *         size of {@code b} doesn't match {@code A}
+     */
+    default Solution solve(LinearOperator A, DoubleMatrix1d b) {
+        return solve(A, b, b.like());
+    }
+
+    /* *************************************************************************
+     * Static factory methods.
+     * ************************************************************************/
+
+    /**
+     * Return a <em>preconditioned conjugate gradient</em> (CG) solver, for
+     * symmetric positive definite matrices. The preconditioner must also be
+     * symmetric positive definite.
+     *
+     * @param preconditioner the preconditioner
+     * @param termination the termination criterion
+     * @return a new CG solver
+     */
+    static IterativeSolver cg(
+        Preconditioner preconditioner,
+        Termination termination
+    ) {
+        return new ConjugateGradient(preconditioner, termination);
+    }
+
+    /**
+     * Return a <em>preconditioned conjugate gradient</em> (CG) solver, for
+     * symmetric positive definite matrices. The tolerance is taken from the
+     * current {@link io.jenetics.lattices.matrix.NumericalContext}.
+     *
+     * @see Termination#of()
+     *
+     * @param preconditioner the preconditioner
+     * @return a new CG solver
+     */
+    static IterativeSolver cg(Preconditioner preconditioner) {
+        return cg(preconditioner, Termination.of());
+    }
+
+    /**
+     * Return a <em>conjugate gradient</em> (CG) solver, without
+     * preconditioner. The tolerance is taken from the current
+     * {@link io.jenetics.lattices.matrix.NumericalContext}.
+     *
+     * @see Termination#of()
+     *
+     * @return a new CG solver
+     */
+    static IterativeSolver cg() {
+        return cg(Preconditioner.identity());
+    }
+
+    /**
+     * Return a <em>preconditioned stabilized biconjugate gradient</em>
+     * (BiCGSTAB) solver, for general square matrices.
+     *
+     * @param preconditioner the preconditioner
+     * @param termination the termination criterion
+     * @return a new BiCGSTAB solver
+     */
+    static IterativeSolver bicgstab(
+        Preconditioner preconditioner,
+        Termination termination
+    ) {
+        return new BiCGSTAB(preconditioner, termination);
+    }
+
+    /**
+     * Return a <em>preconditioned stabilized biconjugate gradient</em>
+     * (BiCGSTAB) solver, for general square matrices. The tolerance is taken
+     * from the current {@link io.jenetics.lattices.matrix.NumericalContext}.
+     *
+     * @see Termination#of()
+     *
+     * @param preconditioner the preconditioner
+     * @return a new BiCGSTAB solver
+     */
+    static IterativeSolver bicgstab(Preconditioner preconditioner) {
+        return bicgstab(preconditioner, Termination.of());
+    }
+
+    /**
+     * Return a <em>stabilized biconjugate gradient</em> (BiCGSTAB) solver,
+     * without preconditioner. The tolerance is taken from the current
+     * {@link io.jenetics.lattices.matrix.NumericalContext}.
+     *
+     * @see Termination#of()
+     *
+     * @return a new BiCGSTAB solver
+     */
+    static IterativeSolver bicgstab() {
+        return bicgstab(Preconditioner.identity());
+    }
+
+    /**
+     * Return a restarted, right preconditioned <em>generalized minimal
+     * residual</em> (GMRES) solver, for general square matrices.
+     *
+     * @param preconditioner the preconditioner
+     * @param restart the number of iterations after which the method is
+     *        restarted
+     * @param termination the termination criterion
+     * @return a new GMRES solver
+     * @throws IllegalArgumentException if {@code restart < 1}
+     */
+    static IterativeSolver gmres(
+        Preconditioner preconditioner,
+        int restart,
+        Termination termination
+    ) {
+        return new GMRES(preconditioner, restart, termination);
+    }
+
+    /**
+     * Return a restarted, right preconditioned <em>generalized minimal
+     * residual</em> (GMRES) solver, for general square matrices. The method
+     * is restarted after {@link #DEFAULT_RESTART} iterations and the
+     * tolerance is taken from the current
+     * {@link io.jenetics.lattices.matrix.NumericalContext}.
+     *
+     * @see Termination#of()
+     *
+     * @param preconditioner the preconditioner
+     * @return a new GMRES solver
+     */
+    static IterativeSolver gmres(Preconditioner preconditioner) {
+        return gmres(preconditioner, DEFAULT_RESTART, Termination.of());
+    }
+
+    /**
+     * Return a restarted <em>generalized minimal residual</em> (GMRES)
+     * solver, without preconditioner. The method is restarted after
+     * {@link #DEFAULT_RESTART} iterations and the tolerance is taken from the
+     * current {@link io.jenetics.lattices.matrix.NumericalContext}.
+     *
+     * @see Termination#of()
+     *
+     * @return a new GMRES solver
+     */
+    static IterativeSolver gmres() {
+        return gmres(Preconditioner.identity());
+    }
+
+}
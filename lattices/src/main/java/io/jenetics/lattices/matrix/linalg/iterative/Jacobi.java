@@ -0,0 +1,58 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix.linalg.iterative;
+
+import io.jenetics.lattices.matrix.DoubleMatrix1d;
+
+/**
+ * The <em>Jacobi</em> (diagonal) preconditioner.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+final class Jacobi implements Preconditioner {
+
+    // The inverse diagonal elements.
+    private final double[] inverse;
+
+    Jacobi(DoubleMatrix1d diagonal) {
+        final int n = diagonal.extent().elements();
+
+        inverse = new double[n];
+        for (int i = 0; i < n; ++i) {
+            final double d = diagonal.get(i);
+            if (d == 0.0) {
+                throw new IllegalArgumentException(
+                    "Diagonal element at index %d is zero.".formatted(i)
+                );
+            }
+            inverse[i] = 1.0/d;
+        }
+    }
+
+    @Override
+    public void apply(DoubleMatrix1d r, DoubleMatrix1d z) {
+        for (int i = 0; i < inverse.length; ++i) {
+            z.set(i, r.get(i)*inverse[i]);
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix.linalg.iterative;
+
+import static io.jenetics.lattices.grid.Structures.checkSquare;
+
+import io.jenetics.lattices.matrix.CsrDoubleMatrix2d;
+import io.jenetics.lattices.matrix.DoubleMatrix1d;
+import io.jenetics.lattices.matrix.DoubleMatrix2d;
+
+/**
+ * A preconditioner {@code M} of a linear system {@code A*x = b}, where
+ * {@code M} approximates {@code A} and {@code M*z = r} is cheap to solve.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+@FunctionalInterface
+public interface Preconditioner {
+
+    /**
+     * Solves {@code M*z = r}.
+     *
+     * @param r the right-hand side {@code r}
+     * @param z the result vector {@code z}, which must not be identical with
+     *        {@code r}
+     */
+    void apply(DoubleMatrix1d r, DoubleMatrix1d z);
+
+    /**
+     * Return the identity preconditioner {@code M = I}, which is equivalent
+     * to no preconditioning.
+     *
+     * @return the identity preconditioner
+     */
+    static Preconditioner identity() {
+        return (r, z) -> z.assign(r);
+    }
+
+    /**
+     * Return the <em>Jacobi</em> preconditioner {@code M = diag(A)}, for the
+     * given diagonal elements of {@code A}.
+     *
+     * @param diagonal the diagonal elements of the matrix {@code A}
+     * @return the <em>Jacobi</em> preconditioner
+     * @throws IllegalArgumentException if one of the diagonal elements is
+     *         zero
+     */
+    static Preconditioner jacobi(DoubleMatrix1d diagonal) {
+        return new Jacobi(diagonal);
+    }
+
+    /**
+     * Return the <em>Jacobi</em> preconditioner {@code M = diag(A)} of the
+     * given matrix {@code A}.
+     *
+     * @param A the square matrix {@code A}
+     * @return the <em>Jacobi</em> preconditioner
+     * @throws IllegalArgumentException if {@code A} is not square or one of
+     *         its diagonal elements is zero
+     */
+    static Preconditioner jacobi(DoubleMatrix2d A) {
+        checkSquare(A.extent());
+
+        final var diagonal = DoubleMatrix1d.DENSE.create(A.rows());
+        for (int i = 0; i < A.rows(); ++i) {
+            diagonal.set(i, A.get(i, i));
+        }
+        return new Jacobi(diagonal);
+    }
+
+    /**
+     * Return the <em>incomplete Cholesky</em> preconditioner, IC(0), of the
+     * given symmetric positive definite matrix {@code A}. The factor
+     * {@code L} of {@code M = L*L'} has the same sparsity pattern as the
+     * lower triangle of {@code A}. Only the lower triangle of {@code A} is
+     * read. If the factorization breaks down, it is repeated with an
+     * increasing diagonal shift.
+     *
+     * @apiNote
+     * The sparsity pattern is determined by reading every element of the
+     * lower triangle of {@code A}, which costs {@code O(n^2)}. This method
+     * is therefore only suitable for small matrices. Use the
+     * {@link #incompleteCholesky(CsrDoubleMatrix2d)} method for large sparse
+     * matrices.
+     *
+     * @param A the symmetric positive definite matrix {@code A}
+     * @return the <em>incomplete Cholesky</em> preconditioner
+     * @throws IllegalArgumentException if {@code A} is not square or the
+     *         factorization is not possible
+     */
+    static Preconditioner incompleteCholesky(DoubleMatrix2d A) {
+        return IncompleteCholesky.decompose(A);
+    }
+
+    /**
+     * Return the <em>incomplete Cholesky</em> preconditioner, IC(0), of the
+     * given sparse, symmetric positive definite matrix {@code A}. The factor
+     * {@code L} of {@code M = L*L'} has the same sparsity pattern as the
+     * lower triangle of {@code A}. Only the stored elements of the lower
+     * triangle of {@code A} are read, which makes the setup of the pattern
+     * {@code O(nnz)}. If the factorization breaks down, it is repeated with
+     * an increasing diagonal shift.
+     *
+     * @param A the sparse, symmetric positive definite matrix {@code A}
+     * @return the <em>incomplete Cholesky</em> preconditioner
+     * @throws IllegalArgumentException if {@code A} is not square or the
+     *         factorization is not possible
+     */
+    static Preconditioner incompleteCholesky(CsrDoubleMatrix2d A) {
+        return IncompleteCholesky.decompose(A);
+    }
+
+}
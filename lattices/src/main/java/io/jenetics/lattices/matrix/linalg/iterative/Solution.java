@@ -0,0 +1,51 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix.linalg.iterative;
+
+import static java.util.Objects.requireNonNull;
+
+import io.jenetics.lattices.matrix.DoubleMatrix1d;
+
+/**
+ * The result of an iterative solver.
+ *
+ * @param x the (approximated) solution of the linear system {@code A*x = b}
+ * @param iterations the number of performed iterations
+ * @param residual the relative residual {@code |b - A*x|/|b|} of the
+ *        solution, as computed by the solver
+ * @param converged {@code true} if the {@link Termination#tolerance()} has
+ *        been reached
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public record Solution(
+    DoubleMatrix1d x,
+    int iterations,
+    double residual,
+    boolean converged
+) {
+
+    public Solution {
+        requireNonNull(x);
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix.linalg.iterative;
+
+import io.jenetics.lattices.matrix.NumericalContext;
+
+/**
+ * The termination criterion of an iterative solver. The iteration stops, if
+ * the relative residual {@code |b - A*x|/|b|} is not greater than the
+ * {@code tolerance}, or if the maximal number of {@code iterations} is
+ * reached.
+ *
+ * @param tolerance the relative residual tolerance
+ * @param iterations the maximal number of iterations, where one iteration
+ *        corresponds to one (or two, for BiCGSTAB) matrix-vector products
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public record Termination(double tolerance, int iterations) {
+
+    /**
+     * The default maximal number of iterations.
+     */
+    public static final int DEFAULT_ITERATIONS = 10_000;
+
+    /**
+     * Create a new termination criterion.
+     *
+     * @param tolerance the relative residual tolerance
+     * @param iterations the maximal number of iterations
+     * @throws IllegalArgumentException if the {@code tolerance} is negative
+     *         or the {@code iterations} are smaller than one
+     */
+    public Termination {
+        if (!(tolerance >= 0)) {
+            throw new IllegalArgumentException(
+                "Tolerance must not be negative: " + tolerance
+            );
+        }
+        if (iterations < 1) {
+            throw new IllegalArgumentException(
+                "Iterations must be positive: " + iterations
+            );
+        }
+    }
+
+    /**
+     * Return a termination criterion with the given maximal number of
+     * {@code iterations}. The tolerance is the {@link NumericalContext#epsilon()}
+     * of the current numerical context.
+     *
+     * @param iterations the maximal number of iterations
+     * @return a new termination criterion
+     * @throws IllegalArgumentException if the {@code iterations} are smaller
+     *         than one
+     */
+    public static Termination of(int iterations) {
+        return new Termination(NumericalContext.get().epsilon(), iterations);
+    }
+
+    /**
+     * Return a termination criterion with {@link #DEFAULT_ITERATIONS}
+     * iterations. The tolerance is the {@link NumericalContext#epsilon()} of
+     * the current numerical context.
+     *
+     * @return a new termination criterion
+     */
+    public static Termination of() {
+        return of(DEFAULT_ITERATIONS);
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix.linalg.iterative;
+
+import io.jenetics.lattices.matrix.DoubleMatrix1d;
+import io.jenetics.lattices.matrix.linalg.LinearOperator;
+
+/**
+ * Helper methods for the iterative solvers.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+final class Vectors {
+    private Vectors() {
+    }
+
+    /**
+     * Checks the dimensions of the linear system {@code A*x = b}.
+     */
+    static void checkSystem(
+        LinearOperator A,
+        DoubleMatrix1d b,
+        DoubleMatrix1d x
+    ) {
+        if (A.rows() != A.cols()) {
+            throw new IllegalArgumentException(
+                "Operator must be square: [%d, %d].".formatted(A.rows(), A.cols())
+            );
+        }
+
+        final int n = A.rows();
+        if (b.extent().elements() != n || x.extent().elements() != n) {
+            throw new IllegalArgumentException(
+                "Incompatible vector sizes: A=[%d, %d], b=%d, x=%d.".formatted(
+                    n, n, b.extent().elements(), x.extent().elements()
+                )
+            );
+        }
+    }
+
+    /**
+     * Computes the residual {@code r = b - A*x}.
+     */
+    static void residual(
+        LinearOperator A,
+        DoubleMatrix1d b,
+        DoubleMatrix1d x,
+        DoubleMatrix1d r
+    ) {
+        A.apply(x, r);
+        r.assign(b, (a, c) -> c - a);
+    }
+
+    static double norm(DoubleMatrix1d x) {
+        return Math.sqrt(x.dotProduct(x));
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.structure;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Defines the {@code long} offsets of the elements of a 1-d big structure.
+ * In contrast to the {@link Layout1d}, the start offset and the calculated
+ * offsets are of type {@code long}.
+ *
+ * @param start the start offset of the first element
+ * @param stride the element stride
+ * @param band the band index
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public record BigLayout1d(long start, Stride1d stride, Band band)
+    implements BigMapper1d
+{
+
+    public BigLayout1d {
+        if (start < 0) {
+            throw new IllegalArgumentException(
+                "Start offset must not be negative: " + start
+            );
+        }
+        requireNonNull(stride);
+        requireNonNull(band);
+    }
+
+    @Override
+    public long offset(int index) {
+        return start + (long)index*stride.value() + band.value();
+    }
+
+    @Override
+    public Index1d index(long offset) {
+        final long start = offset - this.start - band.value();
+        return new Index1d((int)(start/stride.value()));
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.structure;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Defines the {@code long} offsets of the elements of a 3-d big structure.
+ * In contrast to the {@link Layout3d}, the start offset and the calculated
+ * offsets are of type {@code long}.
+ *
+ * @param start the start offset of the first element
+ * @param stride the element strides
+ * @param band the band index
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public record BigLayout3d(long start, Stride3d stride, Band band)
+    implements BigMapper3d
+{
+
+    public BigLayout3d {
+        if (start < 0) {
+            throw new IllegalArgumentException(
+                "Start offset must not be negative: " + start
+            );
+        }
+        requireNonNull(stride);
+        requireNonNull(band);
+    }
+
+    @Override
+    public long offset(int slice, int row, int col) {
+        return
+            start +
+            (long)slice*stride.slice() +
+            (long)row*stride.row() +
+            (long)col*stride.col() +
+            band.value();
+    }
+
+    @Override
+    public Index3d index(long offset) {
+        long start = offset - this.start - band.value();
+        final long slice = start/stride.slice();
+        start = start - slice*stride.slice();
+        final long row = start/stride.row();
+        start = start - row*stride.row();
+        final long col = start/stride.col();
+        return new Index3d((int)slice, (int)row, (int)col);
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.structure;
+
+/**
+ * This interface defines the {@code long} array offset for a given 1-d index.
+ * It is the counterpart of the {@link Mapper1d} for big arrays, with more than
+ * {@link Integer#MAX_VALUE} elements.
+ *
+ * @see BigLayout1d
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public interface BigMapper1d {
+
+    /**
+     * Return the position of the given index within the (virtual or
+     * non-virtual) internal big 1-d array.
+     *
+     * @param index the index
+     * @return the (linearized) offset of the given {@code index}
+     */
+    long offset(int index);
+
+    /**
+     * Return the <em>array</em> offset from the given <em>dimensional</em>
+     * index.
+     *
+     * @see #offset(int)
+     *
+     * @param index the dimensional index
+     * @return the array offset
+     */
+    default long offset(Index1d index) {
+        return offset(index.value());
+    }
+
+    /**
+     * Calculates the index for the given {@code offset}. This is the
+     * <em>inverse</em> operation of the {@link #offset(Index1d)} method.
+     *
+     * @param offset the offset for which to calculate the index
+     * @return the index for the given {@code offset}
+     */
+    Index1d index(long offset);
+
+}
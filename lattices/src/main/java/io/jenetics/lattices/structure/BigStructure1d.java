@@ -0,0 +1,118 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.structure;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Defines a 1-d structure with {@code long} offsets, which is used for
+ * structuring <em>big</em> arrays. Since the {@link View1d} functions are
+ * working with {@code int} offsets, the view transformations are part of
+ * this class.
+ *
+ * @see Structure1d
+ *
+ * @param extent the extent of the structure
+ * @param layout the element order
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public record BigStructure1d(Extent1d extent, BigLayout1d layout) {
+
+    public BigStructure1d {
+        requireNonNull(extent);
+        requireNonNull(layout);
+    }
+
+    /**
+     * Create a new structure with the given extent and the default element
+     * order.
+     *
+     * @param extent the extent of the structure
+     */
+    public BigStructure1d(Extent1d extent) {
+        this(extent, new BigLayout1d(0, new Stride1d(extent.bands()), Band.ZERO));
+    }
+
+    /**
+     * Return a new structure view of the given {@code range}.
+     *
+     * @see View1d#of(Range1d)
+     *
+     * @param range the range of the view
+     * @return a new structure view
+     */
+    public BigStructure1d view(Range1d range) {
+        return new BigStructure1d(
+            range.extent(),
+            new BigLayout1d(
+                layout.offset(range.start().value()) - layout.band().value(),
+                layout.stride(),
+                layout.band()
+            )
+        );
+    }
+
+    /**
+     * Return a new structure view with the given {@code stride}.
+     *
+     * @see View1d#of(Stride1d)
+     *
+     * @param stride the stride of the view
+     * @return a new structure view
+     * @throws ArithmeticException if the resulting stride overflows an
+     *         {@code int}
+     */
+    public BigStructure1d view(Stride1d stride) {
+        return new BigStructure1d(
+            new Extent1d(
+                extent.elements() != 0
+                    ? (extent.elements() - 1)/stride.value() + 1
+                    : 0,
+                extent.bands()
+            ),
+            new BigLayout1d(
+                layout.start(),
+                new Stride1d(
+                    Math.multiplyExact(layout.stride().value(), stride.value())
+                ),
+                layout.band()
+            )
+        );
+    }
+
+    /**
+     * Return a new structure view onto the given {@code band}.
+     *
+     * @see View1d#of(Band)
+     *
+     * @param band the band of the view
+     * @return a new structure view
+     */
+    public BigStructure1d view(Band band) {
+        return new BigStructure1d(
+            extent,
+            new BigLayout1d(layout.start(), layout.stride(), band)
+        );
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.structure;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * Defines a 2-d structure with {@code long} offsets, which is used for
+ * structuring <em>big</em> arrays, with more than {@link Integer#MAX_VALUE}
+ * elements. Since the {@link View2d} and {@link Projection2d} functions are
+ * working with {@code int} offsets, the view and projection transformations
+ * are part of this class.
+ *
+ * <pre>{@code
+ * // A structure for 2.5 billion elements.
+ * final var structure = new BigStructure2d(new Extent2d(50_000, 50_000));
+ * final var view = structure
+ *     .view(new Range2d(new Index2d(40_000, 0), new Extent2d(100, 100)))
+ *     .transpose();
+ * }</pre>
+ *
+ * @see Structure2d
+ *
+ * @param extent the extent of the structure
+ * @param layout the element order
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public record BigStructure2d(Extent2d extent, BigLayout2d layout) {
+
+    public BigStructure2d {
+        requireNonNull(extent);
+        requireNonNull(layout);
+    }
+
+    /**
+     * Create a new structure with the given extent and the default, row-major
+     * element order.
+     *
+     * @param extent the extent of the structure
+     * @throws ArithmeticException if the row stride overflows an {@code int}
+     */
+    public BigStructure2d(Extent2d extent) {
+        this(
+            extent,
+            new BigLayout2d(
+                0,
+                new Stride2d(
+                    Math.multiplyExact(extent.cols(), extent.bands()),
+                    extent.bands()
+                ),
+                Band.ZERO
+            )
+        );
+    }
+
+    /**
+     * Return a new structure view of the given {@code range}.
+     *
+     * @see View2d#of(Range2d)
+     *
+     * @param range the range of the view
+     * @return a new structure view
+     */
+    public BigStructure2d view(Range2d range) {
+        return new BigStructure2d(
+            range.extent(),
+            new BigLayout2d(
+                layout.offset(range.start()) - layout.band().value(),
+                layout.stride(),
+                layout.band()
+            )
+        );
+    }
+
+    /**
+     * Return a new structure view with the given {@code stride}.
+     *
+     * @see View2d#of(Stride2d)
+     *
+     * @param stride the stride of the view
+     * @return a new structure view
+     * @throws ArithmeticException if the resulting stride overflows an
+     *         {@code int}
+     */
+    public BigStructure2d view(Stride2d stride) {
+        return new BigStructure2d(
+            new Extent2d(
+                extent.rows() != 0
+                        ? (extent.rows() - 1)/stride.row() + 1
+                        : 0,
+                extent.cols() != 0
+                        ? (extent.cols() - 1)/stride.col() + 1
+                        : 0,
+                extent.bands()
+            ),
+            new BigLayout2d(
+                layout.start(),
+                new Stride2d(
+                    Math.multiplyExact(layout.stride().row(), stride.row()),
+                    Math.multiplyExact(layout.stride().col(), stride.col())
+                ),
+                layout.band()
+            )
+        );
+    }
+
+    /**
+     * Return a new structure view onto the given {@code band}.
+     *
+     * @see View2d#of(Band)
+     *
+     * @param band the band of the view
+     * @return a new structure view
+     */
+    public BigStructure2d view(Band band) {
+        return new BigStructure2d(
+            extent,
+            new BigLayout2d(layout.start(), layout.stride(), band)
+        );
+    }
+
+    /**
+     * Return the transposed structure view.
+     *
+     * @see View2d#TRANSPOSE
+     *
+     * @return the transposed structure view
+     */
+    public BigStructure2d transpose() {
+        return new BigStructure2d(
+            new Extent2d(extent.cols(), extent.rows(), extent.bands()),
+            new BigLayout2d(
+                layout.start(),
+                new Stride2d(layout.stride().col(), layout.stride().row()),
+                layout.band()
+            )
+        );
+    }
+
+    /**
+     * Return the 1-d structure of the row with the given {@code index}.
+     *
+     * @see Projection2d#row(int)
+     *
+     * @param index the row index
+     * @return the projected row structure
+     * @throws IndexOutOfBoundsException if the given {@code index} is out of
+     *         bounds
+     */
+    public BigStructure1d row(int index) {
+        Objects.checkIndex(index, extent.rows());
+        return new BigStructure1d(
+            new Extent1d(extent.cols(), extent.bands()),
+            new BigLayout1d(
+                layout.offset(index, 0) - layout.band().value(),
+                new Stride1d(layout.stride().col()),
+                layout.band()
+            )
+        );
+    }
+
+    /**
+     * Return the 1-d structure of the column with the given {@code index}.
+     *
+     * @see Projection2d#col(int)
+     *
+     * @param index the column index
+     * @return the projected column structure
+     * @throws IndexOutOfBoundsException if the given {@code index} is out of
+     *         bounds
+     */
+    public BigStructure1d col(int index) {
+        Objects.checkIndex(index, extent.cols());
+        return new BigStructure1d(
+            new Extent1d(extent.rows(), extent.bands()),
+            new BigLayout1d(
+                layout.offset(0, index) - layout.band().value(),
+                new Stride1d(layout.stride().row()),
+                layout.band()
+            )
+        );
+    }
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.structure;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * Defines a 3-d structure with {@code long} offsets, which is used for
+ * structuring <em>big</em> arrays, with more than {@link Integer#MAX_VALUE}
+ * elements. Since the {@link View3d} and {@link Projection3d} functions are
+ * working with {@code int} offsets, the view and projection transformations
+ * are part of this class.
+ *
+ * <pre>{@code
+ * // A structure for 8 billion elements.
+ * final var structure = new BigStructure3d(new Extent3d(2_000, 2_000, 2_000));
+ * final var slice = structure.slice(1_500);
+ * }</pre>
+ *
+ * @see Structure3d
+ *
+ * @param extent the extent of the structure
+ * @param layout the element order
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+public record BigStructure3d(Extent3d extent, BigLayout3d layout) {
+
+    public BigStructure3d {
+        requireNonNull(extent);
+        requireNonNull(layout);
+    }
+
+    /**
+     * Create a new structure with the given extent and the default element
+     * order.
+     *
+     * @param extent the extent of the structure
+     * @throws ArithmeticException if the slice stride overflows an {@code int}
+     */
+    public BigStructure3d(Extent3d extent) {
+        this(
+            extent,
+            new BigLayout3d(
+                0,
+                new Stride3d(
+                    Math.multiplyExact(
+                        Math.multiplyExact(extent.rows(), extent.cols()),
+                        extent.bands()
+                    ),
+                    Math.multiplyExact(extent.cols(), extent.bands()),
+                    extent.bands()
+                ),
+                Band.ZERO
+            )
+        );
+    }
+
+    /**
+     * Return a new structure view of the given {@code range}.
+     *
+     * @see View3d#of(Range3d)
+     *
+     * @param range the range of the view
+     * @return a new structure view
+     */
+    public BigStructure3d view(Range3d range) {
+        return new BigStructure3d(
+            range.extent(),
+            new BigLayout3d(
+                layout.offset(range.start()) - layout.band().value(),
+                layout.stride(),
+                layout.band()
+            )
+        );
+    }
+
+    /**
+     * Return a new structure view with the given {@code stride}.
+     *
+     * @see View3d#of(Stride3d)
+     *
+     * @param stride the stride of the view
+     * @return a new structure view
+     * @throws ArithmeticException if the resulting stride overflows an
+     *         {@code int}
+     */
+    public BigStructure3d view(Stride3d stride) {
+        return new BigStructure3d(
+            new Extent3d(
+                extent.slices() != 0
+                        ? (extent.slices() - 1)/stride.slice() + 1
+                        : 0,
+                extent.rows() != 0
+                        ? (extent.rows() - 1)/stride.row() + 1
+                        : 0,
+                extent.cols() != 0
+                        ? (extent.cols() - 1)/stride.col() + 1
+                        : 0,
+                extent.bands()
+            ),
+            new BigLayout3d(
+                layout.start(),
+                new Stride3d(
+                    Math.multiplyExact(layout.stride().slice(), stride.slice()),
+                    Math.multiplyExact(layout.stride().row(), stride.row()),
+                    Math.multiplyExact(layout.stride().col(), stride.col())
+                ),
+                layout.band()
+            )
+        );
+    }
+
+    /**
+     * Return a new structure view onto the given {@code band}.
+     *
+     * @see View3d#of(Band)
+     *
+     * @param band the band of the view
+     * @return a new structure view
+     */
+    public BigStructure3d view(Band band) {
+        return new BigStructure3d(
+            extent,
+            new BigLayout3d(layout.start(), layout.stride(), band)
+        );
+    }
+
+    /**
+     * Return the 2-d structure of the slice with the given {@code index}.
+     *
+     * @see Projection3d#slice(int)
+     *
+     * @param index the slice index
+     * @return the projected slice structure
+     * @throws IndexOutOfBoundsException if the given {@code index} is out of
+     *         bounds
+     */
+    public BigStructure2d slice(int index) {
+        Objects.checkIndex(index, extent.slices());
+        return new BigStructure2d(
+            new Extent2d(extent.rows(), extent.cols(), extent.bands()),
+            new BigLayout2d(
+                layout.offset(index, 0, 0) - layout.band().value(),
+                new Stride2d(layout.stride().row(), layout.stride().col()),
+                layout.band()
+            )
+        );
+    }
+
+    /**
+     * Return the 2-d structure of the row with the given {@code index}.
+     *
+     * @see Projection3d#row(int)
+     *
+     * @param index the row index
+     * @return the projected row structure
+     * @throws IndexOutOfBoundsException if the given {@code index} is out of
+     *         bounds
+     */
+    public BigStructure2d row(int index) {
+        Objects.checkIndex(index, extent.rows());
+        return new BigStructure2d(
+            new Extent2d(extent.slices(), extent.cols(), extent.bands()),
+            new BigLayout2d(
+                layout.offset(0, index, 0) - layout.band().value(),
+                new Stride2d(layout.stride().slice(), layout.stride().col()),
+                layout.band()
+            )
+        );
+    }
+
+    /**
+     * Return the 2-d structure of the column with the given {@code index}.
+     *
+     * @see Projection3d#col(int)
+     *
+     * @param index the column index
+     * @return the projected column structure
+     * @throws IndexOutOfBoundsException if the given {@code index} is out of
+     *         bounds
+     */
+    public BigStructure2d col(int index) {
+        Objects.checkIndex(index, extent.cols());
+        return new BigStructure2d(
+            new Extent2d(extent.slices(), extent.rows(), extent.bands()),
+            new BigLayout2d(
+                layout.offset(0, 0, index) - layout.band().value(),
+                new Stride2d(layout.stride().slice(), layout.stride().row()),
+                layout.band()
+            )
+        );
+    }
+
+}
@@ -35,29 +35,25 @@ final class Checks {
         return (int)r != r;
     }
 
-    static boolean multNotSave(int a, int b, int c) {
-        final long r1 = (long)a*(long)b;
-        if ((int)r1 == r1) {
-            final long r2 = r1*(long)c;
-            return (int)r2 != r2;
-        } else {
-            return true;
-        }
+    /**
+     * Checks whether the product of the given non-negative values overflows
+     * a {@code long}.
+     */
+    static boolean bigMultNotSave(int a, int b, int c) {
+        return bigMultNotSave((long)a*(long)b, c);
     }
 
-    static boolean multNotSave(int a, int b, int c, int d) {
-        final long r1 = (long)a*(long)b;
-        if ((int)r1 == r1) {
-            final long r2 = r1*(long)c;
-            if ((int)r2 == r2) {
-                final long r3 = r2*(long)d;
-                return (int)r3 != r3;
-            } else {
-                return true;
-            }
-        } else {
-            return true;
-        }
+    /**
+     * Checks whether the product of the given non-negative values overflows
+     * a {@code long}.
+     */
+    static boolean bigMultNotSave(int a, int b, int c, int d) {
+        final long r = (long)a*(long)b;
+        return bigMultNotSave(r, c) || bigMultNotSave(r*c, d);
+    }
+
+    private static boolean bigMultNotSave(long a, int b) {
+        return b != 0 && a > Long.MAX_VALUE/b;
     }
 
     static void checkIndex(int value, Extent1d extent) {
@@ -43,11 +43,11 @@ public record Extent2d(int rows, int cols, int bands)
      * @param cols the number of cols
      * @param bands the number of bands
      * @throws IllegalArgumentException if one of the arguments is smaller than
-     *         zero or {@code rows*cols*channels > Integer.MAX_VALUE}
+     *         zero or {@code rows*cols*bands > Long.MAX_VALUE}
      */
     public Extent2d {
         if (rows < 0 || cols < 0 || bands < 1 ||
-            Checks.multNotSave(rows, cols, bands))
+            Checks.bigMultNotSave(rows, cols, bands))
         {
             throw new IllegalArgumentException(
                 "Extent is out of bounds: [%d, %d, bands=%d]."
@@ -62,7 +62,7 @@ public record Extent2d(int rows, int cols, int bands)
      * @param rows the number of rows
      * @param cols the number of cols
      * @throws IllegalArgumentException if one of the arguments is smaller than
-     *         zero or {@code rows*cols > Integer.MAX_VALUE}
+     *         zero or {@code rows*cols > Long.MAX_VALUE}
      */
     public Extent2d(int rows, int cols) {
         this(rows, cols, 1);
@@ -72,9 +72,11 @@ public record Extent2d(int rows, int cols, int bands)
      * The number of elements.
      *
      * @return the number of elements
+     * @throws ArithmeticException if the number of elements exceeds
+     *         {@link Integer#MAX_VALUE}, see {@link #bigElements()}
      */
     public int elements() {
-        return rows*cols;
+        return Math.toIntExact(bigElements());
     }
 
     /**
@@ -82,9 +84,34 @@ public record Extent2d(int rows, int cols, int bands)
      * {@code size()*channels}.
      *
      * @return the array length needed for storing all cells
+     * @throws ArithmeticException if the number of cells exceeds
+     *         {@link Integer#MAX_VALUE}, see {@link #bigCells()}
      */
     public int cells() {
-        return elements()*bands;
+        return Math.toIntExact(bigCells());
+    }
+
+    /**
+     * The number of elements, for extents which are too big for
+     * {@code int} indexed arrays.
+     *
+     * @see io.jenetics.lattices.grid.array.BigArray
+     *
+     * @return the number of elements
+     */
+    public long bigElements() {
+        return (long)rows*cols;
+    }
+
+    /**
+     * Return the length of the (big) array, needed for storing all cells.
+     *
+     * @see io.jenetics.lattices.grid.array.BigArray
+     *
+     * @return the array length needed for storing all cells
+     */
+    public long bigCells() {
+        return bigElements()*bands;
     }
 
     @Override
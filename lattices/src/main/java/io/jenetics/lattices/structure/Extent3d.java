@@ -45,11 +45,11 @@ public record Extent3d(int slices, int rows, int cols, int bands)
      * @param cols the number of columns must be greater or equal zero
      * @param bands the number of bands
      * @throws IllegalArgumentException if one of the arguments is smaller than
-     *         zero or {@code slices*rows*cols*channels > Integer.MAX_VALUE}
+     *         zero or {@code slices*rows*cols*bands > Long.MAX_VALUE}
      */
     public Extent3d {
         if (slices < 0 || rows < 0 || cols < 0 || bands < 1 ||
-            Checks.multNotSave(slices, rows, cols, bands))
+            Checks.bigMultNotSave(slices, rows, cols, bands))
         {
             throw new IllegalArgumentException(
                 "Extent is out of bounds: [%d, %d, %d, bands=%d]."
@@ -65,7 +65,7 @@ public record Extent3d(int slices, int rows, int cols, int bands)
      * @param rows the number of rows must be greater or equal zero
      * @param cols the number of columns must be greater or equal zero
      * @throws IllegalArgumentException if one of the arguments is smaller than
-     *         zero or {@code slices*rows*cols > Integer.MAX_VALUE}
+     *         zero or {@code slices*rows*cols > Long.MAX_VALUE}
      */
     public Extent3d(int slices, int rows, int cols) {
         this(slices, rows, cols, 1);
@@ -75,9 +75,11 @@ public record Extent3d(int slices, int rows, int cols, int bands)
      * The number of elements.
      *
      * @return the number of elements
+     * @throws ArithmeticException if the number of elements exceeds
+     *         {@link Integer#MAX_VALUE}, see {@link #bigElements()}
      */
     public int elements() {
-        return slices*rows*cols;
+        return Math.toIntExact(bigElements());
     }
 
     /**
@@ -85,9 +87,34 @@ public record Extent3d(int slices, int rows, int cols, int bands)
      * {@code size()*channels}.
      *
      * @return the array length needed for storing all cells
+     * @throws ArithmeticException if the number of cells exceeds
+     *         {@link Integer#MAX_VALUE}, see {@link #bigCells()}
      */
     public int cells() {
-        return elements()*bands;
+        return Math.toIntExact(bigCells());
+    }
+
+    /**
+     * The number of elements, for extents which are too big for
+     * {@code int} indexed arrays.
+     *
+     * @see io.jenetics.lattices.grid.array.BigArray
+     *
+     * @return the number of elements
+     */
+    public long bigElements() {
+        return (long)slices*rows*cols;
+    }
+
+    /**
+     * Return the length of the (big) array, needed for storing all cells.
+     *
+     * @see io.jenetics.lattices.grid.array.BigArray
+     *
+     * @return the array length needed for storing all cells
+     */
+    public long bigCells() {
+        return bigElements()*bands;
     }
 
     @Override
@@ -41,9 +41,24 @@ import static java.util.Objects.requireNonNull;
  */
 public record Structure2d(Extent2d extent, Layout2d layout) {
 
+    /**
+     * Create a new structure with the given extent and layout.
+     *
+     * @param extent the extent of the structure
+     * @param layout the element order
+     * @throws IllegalArgumentException if the number of cells of the given
+     *         {@code extent} exceeds {@link Integer#MAX_VALUE}, see
+     *         {@link BigStructure2d}
+     */
     public Structure2d {
         requireNonNull(extent);
         requireNonNull(layout);
+        if (extent.bigCells() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                "Extent is too big for an int indexed structure: %s."
+                    .formatted(extent)
+            );
+        }
     }
 
     /**
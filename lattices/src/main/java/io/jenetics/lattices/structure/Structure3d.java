@@ -41,9 +41,24 @@ import static java.util.Objects.requireNonNull;
  */
 public record Structure3d(Extent3d extent, Layout3d layout) {
 
+    /**
+     * Create a new structure with the given extent and layout.
+     *
+     * @param extent the extent of the structure
+     * @param layout the element order
+     * @throws IllegalArgumentException if the number of cells of the given
+     *         {@code extent} exceeds {@link Integer#MAX_VALUE}, see
+     *         {@link BigStructure3d}
+     */
     public Structure3d {
         requireNonNull(extent);
         requireNonNull(layout);
+        if (extent.bigCells() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                "Extent is too big for an int indexed structure: %s."
+                    .formatted(extent)
+            );
+        }
     }
 
     /**
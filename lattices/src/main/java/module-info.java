@@ -23,10 +23,13 @@
  * @since 3.0
  */
 module io.jenetics.lattices {
+    requires jdk.unsupported;
+
     exports io.jenetics.lattices.grid.array;
     exports io.jenetics.lattices.grid.function;
     exports io.jenetics.lattices.grid.lattice;
     exports io.jenetics.lattices.grid;
+    exports io.jenetics.lattices.matrix.linalg.iterative;
     exports io.jenetics.lattices.matrix.linalg;
     exports io.jenetics.lattices.matrix;
     //exports io.jenetics.lattices.serialize;
@@ -0,0 +1,91 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.testng.annotations.Test;
+
+import io.jenetics.lattices.grid.array.BigDoubleArray;
+import io.jenetics.lattices.structure.Extent2d;
+import io.jenetics.lattices.structure.Extent3d;
+import io.jenetics.lattices.structure.Index2d;
+import io.jenetics.lattices.structure.Range2d;
+import io.jenetics.lattices.structure.Stride2d;
+import io.jenetics.lattices.structure.View2d;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class BigDoubleGrid2dTest {
+
+    @Test
+    public void bigArray() {
+        final long length = (1L << 27) + 10;
+        final var array = BigDoubleArray.ofSize(length);
+        array.set(length - 1, 1);
+        array.set((1L << 27) - 1, 2);
+
+        assertThat(array.length()).isEqualTo(length);
+        assertThat(array.get(length - 1)).isEqualTo(1);
+        assertThat(array.get((1L << 27) - 1)).isEqualTo(2);
+        assertThat(array.get(0)).isZero();
+    }
+
+    @Test
+    public void compareWithGrid() {
+        final var extent = new Extent2d(30, 40);
+        final var big = BigDoubleGrid2d.DENSE.create(extent);
+        final var grid = DoubleGrid2d.DENSE.create(extent);
+        for (int r = 0; r < extent.rows(); ++r) {
+            for (int c = 0; c < extent.cols(); ++c) {
+                big.set(r, c, r*100 + c);
+                grid.set(r, c, r*100 + c);
+            }
+        }
+
+        final var range = new Range2d(new Index2d(3, 5), new Extent2d(20, 30));
+        final var bigView = big.view(range).transpose().view(new Stride2d(2, 3));
+        final var view = grid.view(View2d.of(range))
+            .view(View2d.TRANSPOSE)
+            .view(View2d.of(new Stride2d(2, 3)));
+
+        assertThat(bigView.extent()).isEqualTo(view.extent());
+        for (int r = 0; r < view.rows(); ++r) {
+            for (int c = 0; c < view.cols(); ++c) {
+                assertThat(bigView.get(r, c)).isEqualTo(view.get(r, c));
+            }
+            assertThat(bigView.rowAt(r).get(1)).isEqualTo(view.get(r, 1));
+        }
+    }
+
+    @Test
+    public void slices() {
+        final var grid = BigDoubleGrid3d.DENSE.create(new Extent3d(4, 5, 6));
+        grid.assign(1);
+        grid.sliceAt(2).rowAt(3).assign(2);
+
+        assertThat(grid.get(2, 3, 4)).isEqualTo(2);
+        assertThat(grid.rowAt(3).get(2, 5)).isEqualTo(2);
+        assertThat(grid.colAt(4).get(2, 3)).isEqualTo(2);
+        assertThat(grid.get(1, 3, 4)).isEqualTo(1);
+    }
+
+}
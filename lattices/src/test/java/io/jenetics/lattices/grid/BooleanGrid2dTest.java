@@ -0,0 +1,143 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.random.RandomGenerator;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.lattices.grid.array.BitArray;
+import io.jenetics.lattices.structure.Extent2d;
+import io.jenetics.lattices.structure.View2d;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class BooleanGrid2dTest {
+
+    private static boolean[] nextBits(final int length) {
+        final var random = RandomGenerator.getDefault();
+        final var values = new boolean[length];
+        for (int i = 0; i < length; ++i) {
+            values[i] = random.nextBoolean();
+        }
+        return values;
+    }
+
+    @Test(dataProvider = "shifts")
+    public void shiftBitArray(final int length, final int distance) {
+        final var values = nextBits(length);
+        final var bits = BitArray.of(values);
+        bits.shift(distance);
+
+        int cardinality = 0;
+        for (int i = 0; i < length; ++i) {
+            final long j = (long)i - distance;
+            final boolean expected = j >= 0 && j < length && values[(int)j];
+            assertThat(bits.get(i)).isEqualTo(expected);
+            cardinality += expected ? 1 : 0;
+        }
+        assertThat(bits.cardinality()).isEqualTo(cardinality);
+    }
+
+    @DataProvider
+    public Object[][] shifts() {
+        return new Object[][] {
+            { 0, 1 },
+            { 1, 0 },
+            { 63, 1 },
+            { 64, -1 },
+            { 65, 64 },
+            { 129, -65 },
+            { 200, 130 },
+            { 200, -63 },
+            { 200, 199 },
+            { 200, 200 },
+            { 200, Integer.MIN_VALUE }
+        };
+    }
+
+    @Test
+    public void copyBitArray() {
+        final var values = nextBits(300);
+        final var bits = BitArray.of(values);
+
+        for (int from = 0; from < 300; from += 7) {
+            final var copy = bits.copy(from, 300 - from);
+            for (int i = 0; i < copy.length(); ++i) {
+                assertThat(copy.get(i)).isEqualTo(values[from + i]);
+            }
+        }
+    }
+
+    @Test
+    public void notKeepsLength() {
+        final var bits = BitArray.of(nextBits(70));
+        final int cardinality = bits.cardinality();
+        bits.not();
+        assertThat(bits.cardinality()).isEqualTo(70 - cardinality);
+
+        bits.fill(true);
+        assertThat(bits.cardinality()).isEqualTo(70);
+    }
+
+    @Test
+    public void wordAndCellOperations() {
+        final var extent = new Extent2d(37, 71);
+        final var a = BooleanGrid2d.of(extent, nextBits(extent.cells()));
+        final var b = BooleanGrid2d.of(extent, nextBits(extent.cells()));
+        final var c = BooleanGrid2d.of(extent, nextBits(extent.cells()));
+
+        // The transposed views are processed cell by cell.
+        final var at = a.copy().view(View2d.TRANSPOSE).copy().view(View2d.TRANSPOSE);
+        assertThat(at.equals(a)).isTrue();
+
+        a.and(b);
+        at.and(b);
+        a.shift(75);
+        at.shift(75);
+        a.xor(b);
+        at.xor(b);
+        a.not();
+        at.not();
+        a.andNot(b);
+        at.andNot(b);
+        a.or(c);
+        at.or(c);
+
+        assertThat(at.equals(a)).isTrue();
+        assertThat(at.cardinality()).isEqualTo(a.cardinality());
+        assertThat(a.cardinality()).isPositive();
+    }
+
+    @Test
+    public void byteGridNarrowing() {
+        final var grid = ByteGrid2d.DENSE.create(3, 4);
+        grid.assign(a -> a + 200);
+        assertThat(grid.get(1, 2)).isEqualTo((byte)200);
+
+        final var shorts = ShortGrid1d.of((short)1, (short)2, (short)3);
+        assertThat(shorts.reduce(Integer::sum, a -> a).orElseThrow()).isEqualTo(6);
+    }
+
+}
@@ -21,12 +21,20 @@ package io.jenetics.lattices.grid;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.Spliterator;
+
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import io.jenetics.lattices.grid.array.DenseDoubleArray;
 import io.jenetics.lattices.structure.Extent2d;
+import io.jenetics.lattices.structure.Index2d;
+import io.jenetics.lattices.structure.Projection2d;
+import io.jenetics.lattices.structure.Range2d;
+import io.jenetics.lattices.structure.Stride2d;
 import io.jenetics.lattices.structure.Structure2d;
+import io.jenetics.lattices.structure.View2d;
 import io.jenetics.lattices.MatrixRandom;
 
 /**
@@ -108,4 +116,142 @@ public class DoubleGrid2dTest {
         }
     }
 
+    @Test(dataProvider = "views")
+    public void assignView(final View2d sourceView, final View2d targetView) {
+        final var source = DoubleGrid2d.DENSE.create(50, 60);
+        source.forEach((r, c) -> source.set(r, c, r*1000 + c));
+        final var view = source.view(sourceView);
+
+        final var target = DoubleGrid2d.DENSE.create(70, 70).view(targetView);
+        target.assign(view);
+        target.forEach((r, c) ->
+            assertThat(target.get(r, c)).isEqualTo(view.get(r, c))
+        );
+
+        final var copy = view.copy();
+        assertThat(copy.structure()).isEqualTo(new Structure2d(view.extent()));
+        copy.forEach((r, c) ->
+            assertThat(copy.get(r, c)).isEqualTo(view.get(r, c))
+        );
+    }
+
+    @DataProvider
+    public Object[][] views() {
+        final var range = new Range2d(new Index2d(3, 4), new Extent2d(20, 30));
+        final var other = new Range2d(new Index2d(7, 1), new Extent2d(20, 30));
+        final var transposed = new Range2d(new Index2d(7, 1), new Extent2d(30, 20));
+        return new Object[][] {
+            { View2d.of(range), View2d.of(other) },
+            {
+                View2d.of(new Range2d(new Extent2d(50, 60))),
+                View2d.of(new Range2d(new Extent2d(50, 60)))
+            },
+            { View2d.TRANSPOSE.andThen(View2d.of(transposed)), View2d.of(transposed) },
+            { View2d.of(range), View2d.TRANSPOSE.andThen(View2d.of(other)) }
+        };
+    }
+
+    @Test(dataProvider = "views")
+    public void viewOperations(final View2d aView, final View2d bView) {
+        final var a = DoubleGrid2d.DENSE.create(50, 60).view(aView);
+        final var b = DoubleGrid2d.DENSE.create(70, 70).view(bView);
+        a.forEach((r, c) -> a.set(r, c, r*1000 + c));
+        b.forEach((r, c) -> b.set(r, c, -r));
+
+        final var a0 = a.copy();
+        final var b0 = b.copy();
+        a.assign(b, (x, y) -> 2*x + y);
+        a.forEach((r, c) ->
+            assertThat(a.get(r, c)).isEqualTo(2*a0.get(r, c) + b0.get(r, c))
+        );
+
+        final var a1 = a.copy();
+        a.swap(b);
+        assertThat(a.equals(b0)).isTrue();
+        assertThat(b.equals(a1)).isTrue();
+        assertThat(a.equals(a1)).isFalse();
+
+        a.assign(x -> x + 1);
+        a.forEach((r, c) ->
+            assertThat(a.get(r, c)).isEqualTo(b0.get(r, c) + 1)
+        );
+
+        a.assign(3.0);
+        assertThat(a.reduce(Double::sum, x -> x).orElseThrow())
+            .isEqualTo(3.0*a.extent().cells());
+    }
+
+    @Test
+    public void transposedSelfAssign() {
+        final int n = 40;
+        final var grid = DoubleGrid2d.DENSE.create(n, n);
+        grid.forEach((r, c) -> grid.set(r, c, r*n + c));
+
+        // Element-wise assignment of the overlapping views, in row-major order.
+        final var expected = grid.copy();
+        final var expectedSum = grid.copy();
+        for (int r = 0; r < n; ++r) {
+            for (int c = 0; c < n; ++c) {
+                expected.set(c, r, expected.get(r, c));
+                expectedSum.set(c, r, expectedSum.get(c, r) + expectedSum.get(r, c));
+            }
+        }
+
+        final var sum = grid.copy();
+        grid.view(View2d.TRANSPOSE).assign(grid);
+        assertThat(grid.equals(expected)).isTrue();
+
+        sum.view(View2d.TRANSPOSE).assign(sum, Double::sum);
+        assertThat(sum.equals(expectedSum)).isTrue();
+    }
+
+    @Test(dataProvider = "streamViews")
+    public void stream(final View2d view) {
+        final var grid = DoubleGrid2d.DENSE.create(50, 60);
+        grid.forEach((r, c) -> grid.set(r, c, r*1000 + c));
+        final var lattice = grid.view(view);
+
+        final var expected = new ArrayList<Double>();
+        for (int r = 0; r < lattice.rows(); ++r) {
+            for (int c = 0; c < lattice.cols(); ++c) {
+                expected.add(lattice.get(r, c));
+            }
+        }
+
+        assertThat(lattice.stream().boxed().toList()).isEqualTo(expected);
+        assertThat(lattice.stream().parallel().boxed().toList()).isEqualTo(expected);
+
+        final var spliterator = lattice.stream().spliterator();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(expected.size());
+        assertThat(spliterator.hasCharacteristics(
+            Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED
+        )).isTrue();
+
+        final var prefix = spliterator.trySplit();
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown())
+            .isEqualTo(expected.size());
+    }
+
+    @DataProvider
+    public Object[][] streamViews() {
+        final var range = new Range2d(new Index2d(3, 4), new Extent2d(20, 30));
+        return new Object[][] {
+            { View2d.of(new Range2d(new Extent2d(50, 60))) },
+            { View2d.of(range) },
+            { View2d.TRANSPOSE.andThen(View2d.of(range)) },
+            { View2d.of(new Stride2d(2, 3)) }
+        };
+    }
+
+    @Test
+    public void streamProjection() {
+        final var grid = DoubleGrid2d.DENSE.create(4, 3);
+        grid.forEach((r, c) -> grid.set(r, c, r*10 + c));
+
+        final var col = grid.project(Projection2d.col(1));
+        assertThat(col.stream().toArray())
+            .containsExactly(1.0, 11.0, 21.0, 31.0);
+    }
+
 }
@@ -0,0 +1,210 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.lattices.grid.array.DenseShortArray;
+import io.jenetics.lattices.structure.Extent1d;
+import io.jenetics.lattices.structure.Extent2d;
+import io.jenetics.lattices.structure.Extent3d;
+import io.jenetics.lattices.structure.Index2d;
+import io.jenetics.lattices.structure.Projection2d;
+import io.jenetics.lattices.structure.Range2d;
+import io.jenetics.lattices.structure.Structure2d;
+import io.jenetics.lattices.structure.View2d;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ShortGrid2dTest {
+
+    private static ShortGrid2d grid(final Extent2d extent) {
+        final var grid = ShortGrid2d.DENSE.create(extent);
+        grid.forEach((r, c) -> grid.set(r, c, (short)(r*extent.cols() + c)));
+        return grid;
+    }
+
+    @Test
+    public void array() {
+        final var array = new DenseShortArray(new short[] {1, 2, 3, 4, 5}, 1, 3);
+        assertThat(array.length()).isEqualTo(3);
+        assertThat(array.get(0)).isEqualTo((short)2);
+
+        array.set(2, Short.MAX_VALUE);
+        assertThat(array.elements()[3]).isEqualTo(Short.MAX_VALUE);
+
+        final var copy = array.copy(1, 2);
+        assertThat(copy.length()).isEqualTo(2);
+        assertThat(copy.get(1)).isEqualTo(Short.MAX_VALUE);
+        copy.set(0, (short)0);
+        assertThat(array.get(1)).isEqualTo((short)3);
+
+        assertThat(array.like(7).length()).isEqualTo(7);
+        assertThat(DenseShortArray.ofSize(4).get(3)).isEqualTo((short)0);
+    }
+
+    @Test
+    public void setAndGet() {
+        final var extent = new Extent2d(10, 20);
+        final var grid = new ShortGrid2d(
+            new Structure2d(extent),
+            DenseShortArray.ofSize(extent.cells())
+        );
+
+        grid.forEach((r, c) -> grid.set(r, c, (short)(r*c)));
+        grid.forEach((r, c) -> assertThat(grid.get(r, c)).isEqualTo((short)(r*c)));
+        assertThat(grid.get(9, 19)).isEqualTo((short)171);
+    }
+
+    @Test
+    public void createFromValues() {
+        final var grid = ShortGrid2d.of(
+            new Extent2d(2, 3),
+            (short)1, (short)2, (short)3,
+            (short)4, (short)5, (short)6
+        );
+        assertThat(grid.get(0, 2)).isEqualTo((short)3);
+        assertThat(grid.get(1, 0)).isEqualTo((short)4);
+
+        final var values = ShortGrid2d.DENSE.create(2, 3);
+        values.assign(new short[][] {{1, 2, 3}, {4, 5, 6}});
+        assertThat(values.equals(grid)).isTrue();
+
+        final var grid1d = ShortGrid1d.of((short)1, (short)2, (short)3);
+        assertThat(grid1d.get(2)).isEqualTo((short)3);
+        assertThat((Object)grid1d.extent()).isEqualTo(new Extent1d(3));
+
+        final var grid3d = ShortGrid3d.DENSE.create(new Extent3d(2, 3, 4));
+        grid3d.set(1, 2, 3, Short.MAX_VALUE);
+        assertThat(grid3d.get(1, 2, 3)).isEqualTo(Short.MAX_VALUE);
+    }
+
+    @Test
+    public void assign() {
+        final var grid = grid(new Extent2d(5, 7));
+
+        grid.assign(a -> a + 30000);
+        grid.forEach((r, c) ->
+            assertThat(grid.get(r, c)).isEqualTo((short)(r*7 + c + 30000))
+        );
+
+        final var other = grid(new Extent2d(5, 7));
+        grid.assign(other, (a, b) -> a - b);
+        grid.forEach((r, c) ->
+            assertThat(grid.get(r, c)).isEqualTo((short)30000)
+        );
+
+        grid.assign((short)-3);
+        assertThat(grid.reduce(Integer::sum, a -> a).orElseThrow())
+            .isEqualTo(-3*35);
+
+        grid.assign(other);
+        assertThat(grid.equals(other)).isTrue();
+    }
+
+    @Test(dataProvider = "views")
+    public void assignView(final View2d sourceView, final View2d targetView) {
+        final var source = grid(new Extent2d(20, 20)).view(sourceView);
+        final var target = ShortGrid2d.DENSE.create(20, 20).view(targetView);
+
+        target.assign(source);
+        assertThat(target.equals(source)).isTrue();
+        target.forEach((r, c) ->
+            assertThat(target.get(r, c)).isEqualTo(source.get(r, c))
+        );
+    }
+
+    @Test(dataProvider = "views")
+    public void swap(final View2d aView, final View2d bView) {
+        final var a = grid(new Extent2d(20, 20)).view(aView);
+        final var b = ShortGrid2d.DENSE.create(20, 20).view(bView);
+        b.assign((short)7);
+
+        final var a0 = a.copy();
+        final var b0 = b.copy();
+        a.swap(b);
+        assertThat(a.equals(b0)).isTrue();
+        assertThat(b.equals(a0)).isTrue();
+    }
+
+    @DataProvider
+    public Object[][] views() {
+        final var all = View2d.of(new Range2d(new Extent2d(20, 20)));
+        final var range = View2d.of(
+            new Range2d(new Index2d(2, 3), new Extent2d(10, 10))
+        );
+        return new Object[][] {
+            { all, all },
+            { View2d.TRANSPOSE, all },
+            { all, View2d.TRANSPOSE },
+            { range, range },
+            { range, View2d.TRANSPOSE.andThen(range) }
+        };
+    }
+
+    @Test
+    public void viewRange() {
+        final var grid = grid(new Extent2d(7, 9));
+        final var view = grid.view(View2d.of(
+            new Range2d(new Index2d(2, 3), new Extent2d(3, 4))
+        ));
+
+        assertThat(view.extent()).isEqualTo(new Extent2d(3, 4));
+        view.forEach((r, c) ->
+            assertThat(view.get(r, c)).isEqualTo(grid.get(r + 2, c + 3))
+        );
+
+        // The view writes through to the underlying grid.
+        view.set(0, 0, (short)-1);
+        assertThat(grid.get(2, 3)).isEqualTo((short)-1);
+    }
+
+    @Test
+    public void projection() {
+        final var grid = grid(new Extent2d(7, 9));
+
+        final var row = grid.project(Projection2d.row(3));
+        assertThat((Object)row.extent()).isEqualTo(new Extent1d(9));
+        row.forEach(c -> assertThat(row.get(c)).isEqualTo(grid.get(3, c)));
+
+        final var col = grid.project(Projection2d.col(4));
+        assertThat((Object)col.extent()).isEqualTo(new Extent1d(7));
+        col.forEach(r -> assertThat(col.get(r)).isEqualTo(grid.get(r, 4)));
+    }
+
+    @Test
+    public void equals() {
+        final var a = grid(new Extent2d(6, 8));
+        final var b = grid(new Extent2d(6, 8));
+        assertThat(a.equals(b)).isTrue();
+
+        b.set(5, 7, (short)(b.get(5, 7) + 1));
+        assertThat(a.equals(b)).isFalse();
+        assertThat(a.equals(grid(new Extent2d(8, 6)))).isFalse();
+
+        final var t = a.view(View2d.TRANSPOSE).copy().view(View2d.TRANSPOSE);
+        assertThat(t.equals(a)).isTrue();
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.array;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.testng.annotations.Test;
+
+import io.jenetics.lattices.matrix.DoubleMatrix2d;
+import io.jenetics.lattices.structure.Extent2d;
+import io.jenetics.lattices.structure.Structure2d;
+import io.jenetics.lattices.MatrixRandom;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class MappedDoubleArrayTest {
+
+    @Test
+    public void createAndMap() throws IOException {
+        final Path file = Files.createTempFile("lattices-", ".bin");
+        try {
+            try (var array = MappedDoubleArray.create(file, 1_000)) {
+                for (int i = 0; i < array.length(); ++i) {
+                    assertThat(array.get(i)).isZero();
+                    array.set(i, i*2);
+                }
+                array.force();
+            }
+            assertThat(Files.size(file)).isEqualTo(1_000L*Double.BYTES);
+
+            try (var array = MappedDoubleArray.map(file, MapMode.READ_ONLY)) {
+                assertThat(array.length()).isEqualTo(1_000);
+                for (int i = 0; i < array.length(); ++i) {
+                    assertThat(array.get(i)).isEqualTo(i*2);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void mapRegion() throws IOException {
+        final Path file = Files.createTempFile("lattices-", ".bin");
+        try {
+            try (var array = MappedLongArray.map(
+                file, MapMode.READ_WRITE, 16, 10, ByteOrder.BIG_ENDIAN))
+            {
+                array.set(0, 1);
+                array.set(9, Long.MAX_VALUE);
+            }
+            assertThat(Files.size(file)).isEqualTo(16 + 10L*Long.BYTES);
+
+            try (var array = MappedIntArray.map(
+                file, MapMode.READ_ONLY, 16, 20, ByteOrder.BIG_ENDIAN))
+            {
+                assertThat(array.get(1)).isEqualTo(1);
+                assertThat(array.get(18)).isEqualTo(Integer.MAX_VALUE);
+                assertThat(array.get(19)).isEqualTo(-1);
+                assertThat(array.copy(18, 2).get(0)).isEqualTo(Integer.MAX_VALUE);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void mappedMatrix() throws IOException {
+        final Path file = Files.createTempFile("lattices-", ".bin");
+        try (var array = MappedDoubleArray.create(file, 20*30)) {
+            final var dense = MatrixRandom.nextDoubleMatrix2d(20, 30);
+            final var matrix = new DoubleMatrix2d(
+                new Structure2d(new Extent2d(20, 30)),
+                array
+            );
+            matrix.assign(dense);
+
+            assertThat(matrix.equals(dense)).isTrue();
+            assertThat(matrix.transpose().equals(dense.transpose())).isTrue();
+            assertThat(matrix.colAt(7).equals(dense.colAt(7))).isTrue();
+
+            matrix.transpose().rowAt(3).assign(42);
+            assertThat(array.get(5*30 + 3)).isEqualTo(42);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void closeUnmapsFile() throws IOException {
+        final Path file = Files.createTempFile("lattices-", ".bin");
+        try {
+            final long bytes = 1_000_000L*Double.BYTES;
+            final long used = mappedMemoryUsed();
+
+            final var array = MappedDoubleArray.create(file, 1_000_000);
+            array.set(999_999, 42);
+            assertThat(mappedMemoryUsed() - used).isGreaterThanOrEqualTo(bytes);
+
+            array.close();
+            assertThat(mappedMemoryUsed() - used).isLessThan(bytes);
+
+            // Fails on Windows, if the file is still mapped.
+            Files.delete(file);
+            assertThat(Files.exists(file)).isFalse();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static long mappedMemoryUsed() {
+        return ManagementFactory
+            .getPlatformMXBeans(BufferPoolMXBean.class).stream()
+            .filter(pool -> pool.getName().equals("mapped"))
+            .mapToLong(BufferPoolMXBean::getMemoryUsed)
+            .sum();
+    }
+
+    @Test(expectedExceptions = ReadOnlyBufferException.class)
+    public void writeReadOnly() throws IOException {
+        final Path file = Files.createTempFile("lattices-", ".bin");
+        try {
+            MappedDoubleArray.create(file, 10).close();
+            try (var array = MappedDoubleArray.map(file, MapMode.READ_ONLY)) {
+                array.set(1, 1);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void mapTooSmallFile() throws IOException {
+        final Path file = Files.createTempFile("lattices-", ".bin");
+        try {
+            MappedDoubleArray.map(
+                file, MapMode.READ_ONLY, 0, 10, ByteOrder.nativeOrder()
+            );
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+}
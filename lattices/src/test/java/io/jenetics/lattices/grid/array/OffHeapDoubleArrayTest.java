@@ -0,0 +1,123 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.array;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+
+import org.testng.annotations.Test;
+
+import io.jenetics.lattices.grid.DoubleGrid2d;
+import io.jenetics.lattices.matrix.DoubleMatrix2d;
+import io.jenetics.lattices.MatrixRandom;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class OffHeapDoubleArrayTest {
+
+    @Test
+    public void setAndGet() {
+        try (var array = OffHeapDoubleArray.ofSize(1_000)) {
+            for (int i = 0; i < array.length(); ++i) {
+                assertThat(array.get(i)).isZero();
+                array.set(i, i*2);
+            }
+            for (int i = 0; i < array.length(); ++i) {
+                assertThat(array.get(i)).isEqualTo(i*2);
+            }
+        }
+    }
+
+    @Test
+    public void copy() {
+        try (var array = OffHeapDoubleArray.ofSize(100)) {
+            for (int i = 0; i < array.length(); ++i) {
+                array.set(i, i);
+            }
+
+            try (var copy = array.copy(10, 50)) {
+                assertThat(copy.length()).isEqualTo(50);
+                for (int i = 0; i < copy.length(); ++i) {
+                    assertThat(copy.get(i)).isEqualTo(i + 10);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void intAndLongArrays() {
+        try (var ints = OffHeapIntArray.ofSize(10);
+             var longs = OffHeapLongArray.ofSize(10))
+        {
+            ints.set(3, 42);
+            longs.set(4, Long.MAX_VALUE);
+            assertThat(ints.get(3)).isEqualTo(42);
+            assertThat(longs.get(4)).isEqualTo(Long.MAX_VALUE);
+            assertThat(ints.copy().get(3)).isEqualTo(42);
+        }
+    }
+
+    @Test
+    public void offHeapMatrix() {
+        final var dense = MatrixRandom.nextDoubleMatrix2d(20, 30);
+        final var matrix = DoubleMatrix2d.OFF_HEAP.create(20, 30);
+        matrix.assign(dense);
+
+        assertThat(matrix.array()).isInstanceOf(OffHeapDoubleArray.class);
+        assertThat(matrix.equals(dense)).isTrue();
+        assertThat(matrix.transpose().mult(matrix, null)
+            .equals(dense.transpose().mult(dense, null))).isTrue();
+
+        ((OffHeapDoubleArray)matrix.array()).close();
+    }
+
+    @Test
+    public void closeReleasesMemory() {
+        final long bytes = 10_000_000L*Double.BYTES;
+        final long used = directMemoryUsed();
+
+        final var array = OffHeapDoubleArray.ofSize(10_000_000);
+        assertThat(directMemoryUsed() - used).isGreaterThanOrEqualTo(bytes);
+
+        array.close();
+        assertThat(directMemoryUsed() - used).isLessThan(bytes);
+    }
+
+    static long directMemoryUsed() {
+        return ManagementFactory
+            .getPlatformMXBeans(BufferPoolMXBean.class).stream()
+            .filter(pool -> pool.getName().equals("direct"))
+            .mapToLong(BufferPoolMXBean::getMemoryUsed)
+            .sum();
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void accessClosed() {
+        final var grid = DoubleGrid2d.OFF_HEAP.create(10, 10);
+        final var array = (OffHeapDoubleArray)grid.array();
+        array.close();
+        array.close();
+        grid.get(1, 1);
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.array;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.random.RandomGenerator;
+
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SparseDoubleArrayTest {
+
+    @Test
+    public void setAndGet() {
+        final var random = RandomGenerator.getDefault();
+        final var dense = DenseDoubleArray.ofSize(1_000);
+        final var sparse = SparseDoubleArray.ofSize(dense.length());
+
+        // Many overwrites and removals, which exercise the hash table.
+        for (int i = 0; i < 50_000; ++i) {
+            final int index = random.nextInt(dense.length());
+            final double value = random.nextInt(3) == 0 ? 0 : random.nextDouble();
+            dense.set(index, value);
+            sparse.set(index, value);
+        }
+
+        int size = 0;
+        for (int i = 0; i < dense.length(); ++i) {
+            assertThat(sparse.get(i)).isEqualTo(dense.get(i));
+            if (dense.get(i) != 0) {
+                ++size;
+            }
+        }
+        assertThat(sparse.size()).isEqualTo(size);
+    }
+
+    @Test
+    public void isConcurrentWritable() {
+        assertThat(SparseDoubleArray.ofSize(10).isConcurrentWritable()).isFalse();
+        assertThat(SparseIntArray.ofSize(10).isConcurrentWritable()).isFalse();
+        assertThat(BitArray.ofSize(10).isConcurrentWritable()).isFalse();
+        assertThat(DenseDoubleArray.ofSize(10).isConcurrentWritable()).isTrue();
+        try (var array = OffHeapDoubleArray.ofSize(10)) {
+            assertThat(array.isConcurrentWritable()).isTrue();
+        }
+    }
+
+    @Test
+    public void forEach() {
+        final var sparse = SparseDoubleArray.ofSize(1_000_000);
+        sparse.set(10, 1);
+        sparse.set(999_999, 2);
+        sparse.set(500, 3);
+        sparse.set(500, 0);
+
+        final var sum = new double[1];
+        final var count = new int[1];
+        sparse.forEach((i, v) -> {
+            assertThat(sparse.get(i)).isEqualTo(v);
+            sum[0] += v;
+            ++count[0];
+        });
+        assertThat(count[0]).isEqualTo(2);
+        assertThat(sum[0]).isEqualTo(3);
+    }
+
+    @Test
+    public void copy() {
+        final var sparse = SparseDoubleArray.ofSize(100);
+        for (int i = 0; i < sparse.length(); i += 3) {
+            sparse.set(i, i);
+        }
+
+        final var copy = sparse.copy(10, 50);
+        assertThat(copy.length()).isEqualTo(50);
+        for (int i = 0; i < copy.length(); ++i) {
+            assertThat(copy.get(i)).isEqualTo(sparse.get(i + 10));
+        }
+
+        copy.set(2, 42);
+        assertThat(sparse.get(12)).isEqualTo(12);
+        assertThat(sparse.like(sparse.length()).size()).isZero();
+    }
+
+    @Test
+    public void objectArray() {
+        final var sparse = SparseObjectArray.<String>ofSize(1_000);
+        sparse.set(3, "a");
+        sparse.set(700, "b");
+        sparse.set(3, null);
+
+        assertThat(sparse.get(3)).isNull();
+        assertThat(sparse.get(700)).isEqualTo("b");
+        assertThat(sparse.size()).isEqualTo(1);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void getOutOfBounds() {
+        SparseDoubleArray.ofSize(10).get(10);
+    }
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.lattice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.lattices.grid.DoubleGrid1d;
+import io.jenetics.lattices.grid.DoubleGrid3d;
+import io.jenetics.lattices.grid.IntGrid1d;
+import io.jenetics.lattices.grid.IntGrid2d;
+import io.jenetics.lattices.grid.IntGrid3d;
+import io.jenetics.lattices.grid.LongGrid1d;
+import io.jenetics.lattices.grid.LongGrid2d;
+import io.jenetics.lattices.grid.LongGrid3d;
+import io.jenetics.lattices.structure.Extent2d;
+import io.jenetics.lattices.structure.Extent3d;
+import io.jenetics.lattices.structure.Index2d;
+import io.jenetics.lattices.structure.Index3d;
+import io.jenetics.lattices.structure.Range1d;
+import io.jenetics.lattices.structure.Range2d;
+import io.jenetics.lattices.structure.Range3d;
+import io.jenetics.lattices.structure.Stride1d;
+import io.jenetics.lattices.structure.Stride2d;
+import io.jenetics.lattices.structure.Stride3d;
+import io.jenetics.lattices.structure.View1d;
+import io.jenetics.lattices.structure.View2d;
+import io.jenetics.lattices.structure.View3d;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class LatticeSpliteratorTest {
+
+    @Test(dataProvider = "views1d")
+    public void stream1d(final View1d view) {
+        final var doubles = DoubleGrid1d.DENSE.create(100);
+        final var ints = IntGrid1d.DENSE.create(100);
+        final var longs = LongGrid1d.DENSE.create(100);
+        doubles.forEach(i -> doubles.set(i, i + 0.5));
+        ints.forEach(i -> ints.set(i, i));
+        longs.forEach(i -> longs.set(i, i*1_000_000_000L));
+
+        final var dv = doubles.view(view);
+        final var iv = ints.view(view);
+        final var lv = longs.view(view);
+
+        final var expectedDoubles = new ArrayList<Double>();
+        final var expectedInts = new ArrayList<Integer>();
+        final var expectedLongs = new ArrayList<Long>();
+        for (int i = 0; i < dv.extent().elements(); ++i) {
+            expectedDoubles.add(dv.get(i));
+            expectedInts.add(iv.get(i));
+            expectedLongs.add(lv.get(i));
+        }
+
+        assertThat(dv.stream().boxed().toList()).isEqualTo(expectedDoubles);
+        assertThat(dv.stream().parallel().boxed().toList()).isEqualTo(expectedDoubles);
+        assertThat(elements(dv.stream().spliterator())).isEqualTo(expectedDoubles);
+
+        assertThat(iv.stream().boxed().toList()).isEqualTo(expectedInts);
+        assertThat(iv.stream().parallel().boxed().toList()).isEqualTo(expectedInts);
+        assertThat(elements(iv.stream().spliterator())).isEqualTo(expectedInts);
+
+        assertThat(lv.stream().boxed().toList()).isEqualTo(expectedLongs);
+        assertThat(lv.stream().parallel().boxed().toList()).isEqualTo(expectedLongs);
+        assertThat(elements(lv.stream().spliterator())).isEqualTo(expectedLongs);
+    }
+
+    @DataProvider
+    public Object[][] views1d() {
+        return new Object[][] {
+            { View1d.of(new Range1d(0, 100)) },
+            { View1d.of(new Range1d(13, 71)) },
+            { View1d.of(new Stride1d(3)) },
+            { View1d.of(new Range1d(5, 5)) }
+        };
+    }
+
+    @Test(dataProvider = "views2d")
+    public void stream2d(final View2d view) {
+        final var ints = IntGrid2d.DENSE.create(50, 60);
+        final var longs = LongGrid2d.DENSE.create(50, 60);
+        ints.forEach((r, c) -> ints.set(r, c, r*1000 + c));
+        longs.forEach((r, c) -> longs.set(r, c, r*1_000_000_000L + c));
+
+        final var iv = ints.view(view);
+        final var lv = longs.view(view);
+
+        final var expectedInts = new ArrayList<Integer>();
+        final var expectedLongs = new ArrayList<Long>();
+        for (int r = 0; r < iv.rows(); ++r) {
+            for (int c = 0; c < iv.cols(); ++c) {
+                expectedInts.add(iv.get(r, c));
+                expectedLongs.add(lv.get(r, c));
+            }
+        }
+
+        assertThat(iv.stream().boxed().toList()).isEqualTo(expectedInts);
+        assertThat(iv.stream().parallel().boxed().toList()).isEqualTo(expectedInts);
+        assertThat(elements(iv.stream().spliterator())).isEqualTo(expectedInts);
+
+        assertThat(lv.stream().boxed().toList()).isEqualTo(expectedLongs);
+        assertThat(lv.stream().parallel().boxed().toList()).isEqualTo(expectedLongs);
+        assertThat(elements(lv.stream().spliterator())).isEqualTo(expectedLongs);
+    }
+
+    @DataProvider
+    public Object[][] views2d() {
+        final var range = new Range2d(new Index2d(3, 4), new Extent2d(20, 30));
+        return new Object[][] {
+            { View2d.of(new Range2d(new Extent2d(50, 60))) },
+            { View2d.of(range) },
+            { View2d.TRANSPOSE },
+            { View2d.TRANSPOSE.andThen(View2d.of(range)) },
+            { View2d.of(new Stride2d(3, 7)) }
+        };
+    }
+
+    @Test(dataProvider = "views3d")
+    public void stream3d(final View3d view) {
+        final var doubles = DoubleGrid3d.DENSE.create(10, 20, 30);
+        final var ints = IntGrid3d.DENSE.create(10, 20, 30);
+        final var longs = LongGrid3d.DENSE.create(10, 20, 30);
+        doubles.forEach((s, r, c) -> doubles.set(s, r, c, s*1000 + r + c/100.0));
+        ints.forEach((s, r, c) -> ints.set(s, r, c, s*100_000 + r*100 + c));
+        longs.forEach((s, r, c) -> longs.set(s, r, c, s*1_000_000_000L + r*100 + c));
+
+        final var dv = doubles.view(view);
+        final var iv = ints.view(view);
+        final var lv = longs.view(view);
+
+        final var expectedDoubles = new ArrayList<Double>();
+        final var expectedInts = new ArrayList<Integer>();
+        final var expectedLongs = new ArrayList<Long>();
+        for (int s = 0; s < dv.slices(); ++s) {
+            for (int r = 0; r < dv.rows(); ++r) {
+                for (int c = 0; c < dv.cols(); ++c) {
+                    expectedDoubles.add(dv.get(s, r, c));
+                    expectedInts.add(iv.get(s, r, c));
+                    expectedLongs.add(lv.get(s, r, c));
+                }
+            }
+        }
+
+        assertThat(dv.stream().boxed().toList()).isEqualTo(expectedDoubles);
+        assertThat(dv.stream().parallel().boxed().toList()).isEqualTo(expectedDoubles);
+        assertThat(elements(dv.stream().spliterator())).isEqualTo(expectedDoubles);
+
+        assertThat(iv.stream().boxed().toList()).isEqualTo(expectedInts);
+        assertThat(iv.stream().parallel().boxed().toList()).isEqualTo(expectedInts);
+        assertThat(elements(iv.stream().spliterator())).isEqualTo(expectedInts);
+
+        assertThat(lv.stream().boxed().toList()).isEqualTo(expectedLongs);
+        assertThat(lv.stream().parallel().boxed().toList()).isEqualTo(expectedLongs);
+        assertThat(elements(lv.stream().spliterator())).isEqualTo(expectedLongs);
+    }
+
+    @DataProvider
+    public Object[][] views3d() {
+        return new Object[][] {
+            { View3d.of(new Range3d(new Extent3d(10, 20, 30))) },
+            { View3d.of(new Range3d(new Index3d(1, 2, 3), new Extent3d(7, 11, 13))) },
+            { View3d.of(new Range3d(new Index3d(4, 2, 3), new Extent3d(1, 11, 13))) },
+            { View3d.of(new Stride3d(2, 3, 4)) }
+        };
+    }
+
+    /**
+     * Collects the elements of the given spliterator, by splitting it down
+     * to the leaves. The sizes and the characteristics are checked for every
+     * split.
+     */
+    private static List<Object> elements(final Spliterator<?> spliterator) {
+        assertThat(spliterator.hasCharacteristics(
+            Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED
+        )).isTrue();
+
+        final long size = spliterator.getExactSizeIfKnown();
+        final var result = new ArrayList<Object>();
+        final var prefix = spliterator.trySplit();
+        if (prefix != null) {
+            assertThat(prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown())
+                .isEqualTo(size);
+            result.addAll(elements(prefix));
+            result.addAll(elements(spliterator));
+        } else {
+            if (spliterator.tryAdvance(result::add)) {
+                assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(size - 1);
+            }
+            spliterator.forEachRemaining(result::add);
+            assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(0L);
+        }
+
+        assertThat(result.size()).isEqualTo((int)size);
+        return result;
+    }
+
+}
@@ -21,15 +21,23 @@ package io.jenetics.lattices.grid.lattice;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import io.jenetics.lattices.grid.DoubleGrid2d;
 import io.jenetics.lattices.structure.Extent2d;
 import io.jenetics.lattices.structure.Index2d;
 import io.jenetics.lattices.structure.Range2d;
+import io.jenetics.lattices.structure.Stride2d;
+import io.jenetics.lattices.structure.Structure2d;
+import io.jenetics.lattices.structure.View2d;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -89,4 +97,124 @@ public class Loop2dTest {
         };
     }
 
+    @Test(dataProvider = "ranges")
+    public void parallelForEach(final Range2d range) {
+        final var pool = new ForkJoinPool(4);
+        try {
+            final var rows = range.start().row() + range.extent().rows();
+            final var cols = range.start().col() + range.extent().cols();
+            final var visits = new AtomicIntegerArray(rows*cols);
+
+            new Loop2dParallel(range, pool, 7)
+                .forEach((r, c) -> visits.incrementAndGet(r*cols + c));
+
+            new Loop2dRowFirst(new Extent2d(rows, cols)).forEach((r, c) -> {
+                final boolean inside =
+                    r >= range.start().row() && c >= range.start().col();
+                assertThat(visits.get(r*cols + c)).isEqualTo(inside ? 1 : 0);
+            });
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @DataProvider
+    public Object[][] ranges() {
+        return new Object[][] {
+            { new Range2d(new Extent2d(0, 5)) },
+            { new Range2d(new Extent2d(1, 1)) },
+            { new Range2d(new Extent2d(1, 100)) },
+            { new Range2d(new Extent2d(100, 1)) },
+            { new Range2d(new Index2d(3, 5), new Extent2d(37, 23)) }
+        };
+    }
+
+    @Test
+    public void parallelMatch() {
+        final var pool = new ForkJoinPool(4);
+        try {
+            final var loop = new Loop2dParallel(
+                new Range2d(new Extent2d(200, 300)), pool, 16
+            );
+            final var tests = new AtomicInteger();
+
+            assertThat(loop.anyMatch((r, c) -> r == 150 && c == 7)).isTrue();
+            assertThat(loop.anyMatch((r, c) -> r == 200)).isFalse();
+            assertThat(loop.allMatch((r, c) -> r < 200 && c < 300)).isTrue();
+            assertThat(loop.nonMatch((r, c) -> c == 299)).isFalse();
+            assertThat(loop.anyMatch((r, c) -> tests.incrementAndGet() > 0)).isTrue();
+            assertThat(tests.get()).isLessThan(200*300);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void stridedLoop2d() {
+        final var range = new Range2d(new Index2d(1, 2), new Extent2d(2, 3));
+
+        final var positions = new ArrayList<Index2d>();
+        Loop2d.of(range, new Stride2d(1, 10))
+            .forEach((r, c) -> positions.add(new Index2d(r, c)));
+        assertThat(positions).containsExactly(
+            new Index2d(1, 2), new Index2d(2, 2),
+            new Index2d(1, 3), new Index2d(2, 3),
+            new Index2d(1, 4), new Index2d(2, 4)
+        );
+
+        assertThat(Loop2d.of(range, new Stride2d(10, 1)))
+            .isInstanceOf(Loop2dRowFirst.class);
+        assertThat(DoubleGrid2d.DENSE.create(3, 4).loop())
+            .isInstanceOf(Loop2dRowFirst.class);
+        assertThat(DoubleGrid2d.DENSE.create(3, 4).view(View2d.TRANSPOSE).loop())
+            .isInstanceOf(Loop2dColFirst.class);
+    }
+
+    @Test(dataProvider = "tiles")
+    public void tiledLoop(final Range2d range, final int tile) {
+        final var loop = Loop2d.tiled(range, tile);
+
+        final var positions = new HashSet<Index2d>();
+        loop.forEach((r, c) -> {
+            assertThat(positions.add(new Index2d(r, c))).isTrue();
+            assertThat(r - range.start().row()).isBetween(0, range.extent().rows() - 1);
+            assertThat(c - range.start().col()).isBetween(0, range.extent().cols() - 1);
+        });
+        assertThat(positions).hasSize(range.extent().cells());
+
+        final int lastRow = range.start().row() + range.extent().rows() - 1;
+        final int lastCol = range.start().col() + range.extent().cols() - 1;
+        assertThat(loop.anyMatch((r, c) -> r == lastRow && c == lastCol))
+            .isEqualTo(range.extent().cells() > 0);
+        assertThat(loop.allMatch((r, c) -> r >= range.start().row())).isTrue();
+        assertThat(loop.nonMatch((r, c) -> c < range.start().col())).isTrue();
+    }
+
+    @DataProvider
+    public Object[][] tiles() {
+        final var range = new Range2d(new Index2d(2, 3), new Extent2d(70, 45));
+        return new Object[][] {
+            { range, 1 },
+            { range, 7 },
+            { range, 32 },
+            { range, 100 },
+            { new Range2d(new Extent2d(0, 10)), 32 },
+            { new Range2d(new Extent2d(1, 1)), 32 }
+        };
+    }
+
+    @Test
+    public void mixedLayoutLoop() {
+        final var structure = new Structure2d(new Extent2d(20, 30));
+        final var transposed = View2d.TRANSPOSE
+            .apply(new Structure2d(new Extent2d(30, 20)));
+
+        assertThat(Loop2d.of(structure, structure))
+            .isInstanceOf(Loop2dRowFirst.class);
+        assertThat(Loop2d.of(transposed, transposed))
+            .isInstanceOf(Loop2dColFirst.class);
+        assertThat(Loop2d.of(structure, transposed))
+            .isInstanceOf(Loop2dTiled.class);
+    }
+
 }
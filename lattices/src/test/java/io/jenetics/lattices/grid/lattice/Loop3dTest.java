@@ -0,0 +1,126 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.lattice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.lattices.structure.Band;
+import io.jenetics.lattices.structure.Extent3d;
+import io.jenetics.lattices.structure.Index3d;
+import io.jenetics.lattices.structure.Layout3d;
+import io.jenetics.lattices.structure.Range3d;
+import io.jenetics.lattices.structure.Stride3d;
+import io.jenetics.lattices.structure.Structure3d;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class Loop3dTest {
+
+    @Test
+    public void parallelForEach() {
+        final var pool = new ForkJoinPool(4);
+        try {
+            final var range = new Range3d(new Index3d(1, 2, 3), new Extent3d(5, 7, 11));
+            final var count = new AtomicInteger();
+            new Loop3dParallel(range, pool, 3).forEach((s, r, c) -> {
+                assertThat(s).isBetween(1, 5);
+                assertThat(r).isBetween(2, 8);
+                assertThat(c).isBetween(3, 13);
+                count.incrementAndGet();
+            });
+            assertThat(count.get()).isEqualTo(5*7*11);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(dataProvider = "axes")
+    public void stridedLoop(final int outer, final int middle, final int inner) {
+        // Dense strides, where the given axes are ordered from the largest to
+        // the smallest stride.
+        final int[] extent = {2, 3, 4};
+        final int[] stride = new int[3];
+        stride[inner] = 1;
+        stride[middle] = extent[inner];
+        stride[outer] = extent[inner]*extent[middle];
+
+        final var loop = Loop3d.of(
+            new Range3d(new Extent3d(extent[0], extent[1], extent[2])),
+            new Stride3d(stride[0], stride[1], stride[2])
+        );
+
+        // The innermost loop walks the smallest stride, which means that
+        // the dense offsets are visited in ascending order.
+        final List<Integer> offsets = new ArrayList<>();
+        loop.forEach((s, r, c) ->
+            offsets.add(s*stride[0] + r*stride[1] + c*stride[2])
+        );
+        assertThat(offsets).hasSize(24).isSorted().doesNotHaveDuplicates();
+        assertThat(loop.anyMatch((s, r, c) -> s == 1 && r == 2 && c == 3)).isTrue();
+        assertThat(loop.allMatch((s, r, c) -> c < 4)).isTrue();
+        assertThat(loop.nonMatch((s, r, c) -> r == 3)).isTrue();
+    }
+
+    @DataProvider
+    public Object[][] axes() {
+        return new Object[][] {
+            {0, 1, 2}, {0, 2, 1}, {1, 0, 2}, {1, 2, 0}, {2, 0, 1}, {2, 1, 0}
+        };
+    }
+
+    @Test
+    public void tiledLoop() {
+        final var range = new Range3d(new Index3d(1, 2, 3), new Extent3d(5, 9, 11));
+
+        final var positions = new HashSet<Index3d>();
+        Loop3d.tiled(range, 4).forEach((s, r, c) ->
+            assertThat(positions.add(new Index3d(s, r, c))).isTrue()
+        );
+        assertThat(positions).hasSize(range.extent().cells());
+    }
+
+    @Test
+    public void mixedLayoutLoop() {
+        final var extent = new Extent3d(4, 5, 6);
+        final var structure = new Structure3d(extent);
+        final var colMajor = new Structure3d(
+            extent,
+            new Layout3d(Index3d.ZERO, new Stride3d(1, 4, 20), Band.ZERO)
+        );
+
+        assertThat(Loop3d.of(structure, structure))
+            .isInstanceOf(Loop3dSliceFirst.class);
+        assertThat(Loop3d.of(colMajor, colMajor))
+            .isInstanceOf(Loop3dOrdered.class);
+        assertThat(Loop3d.of(structure, colMajor))
+            .isInstanceOf(Loop3dTiled.class);
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.grid.lattice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.lattices.grid.DoubleGrid2d;
+import io.jenetics.lattices.grid.DoubleGrid3d;
+import io.jenetics.lattices.grid.Grid2d;
+import io.jenetics.lattices.grid.IntGrid2d;
+import io.jenetics.lattices.structure.Extent2d;
+import io.jenetics.lattices.structure.Extent3d;
+import io.jenetics.lattices.structure.Index2d;
+import io.jenetics.lattices.structure.Index3d;
+import io.jenetics.lattices.structure.Range2d;
+import io.jenetics.lattices.structure.Range3d;
+import io.jenetics.lattices.structure.View2d;
+import io.jenetics.lattices.structure.View3d;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ParallelScopeTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterClass
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    @Test(dataProvider = "views")
+    public void doubleOps(final View2d viewA, final View2d viewB) {
+        final var a = next(DoubleGrid2d.DENSE, 150, 140);
+        final var b = next(DoubleGrid2d.DENSE, 150, 140);
+
+        final var seqA = a.copy().view(viewA);
+        final var seqB = b.copy().view(viewB);
+        final var parA = a.copy().view(viewA);
+        final var parB = b.copy().view(viewB);
+
+        seqA.assign(seqB);
+        seqA.assign(seqB, (x, y) -> x*y + 1);
+        seqA.assign(x -> x/2);
+        seqA.swap(seqB);
+        final boolean seqEquals = seqA.equals(seqB);
+
+        final boolean parEquals = ParallelScope.with(pool, () -> {
+            parA.assign(parB);
+            parA.assign(parB, (x, y) -> x*y + 1);
+            parA.assign(x -> x/2);
+            parA.swap(parB);
+            return parA.equals(parB);
+        });
+
+        assertThat(parA.equals(seqA)).isTrue();
+        assertThat(parB.equals(seqB)).isTrue();
+        assertThat(parEquals).isEqualTo(seqEquals);
+        assertThat(ParallelScope.with(pool, () -> parA.equals(seqA))).isTrue();
+    }
+
+    @Test(dataProvider = "views")
+    public void intOps(final View2d viewA, final View2d viewB) {
+        final var random = RandomGenerator.getDefault();
+        final var a = IntGrid2d.DENSE.create(150, 140);
+        final var b = IntGrid2d.DENSE.create(150, 140);
+        a.forEach((r, c) -> a.set(r, c, random.nextInt(1000)));
+        b.forEach((r, c) -> b.set(r, c, random.nextInt(1000)));
+
+        final var seqA = a.copy().view(viewA);
+        final var seqB = b.copy().view(viewB);
+        final var parA = a.copy().view(viewA);
+        final var parB = b.copy().view(viewB);
+
+        seqA.assign(seqB);
+        seqA.assign(seqB, (x, y) -> x*y + 1);
+        seqA.assign(x -> x/2);
+        seqA.swap(seqB);
+
+        ParallelScope.using(pool, () -> {
+            parA.assign(parB);
+            parA.assign(parB, (x, y) -> x*y + 1);
+            parA.assign(x -> x/2);
+            parA.swap(parB);
+        });
+
+        assertThat(parA.equals(seqA)).isTrue();
+        assertThat(parB.equals(seqB)).isTrue();
+        assertThat(ParallelScope.with(pool, () -> parA.equals(seqA))).isTrue();
+    }
+
+    @DataProvider
+    public Object[][] views() {
+        final var range = View2d.of(
+            new Range2d(new Index2d(3, 5), new Extent2d(100, 90))
+        );
+        return new Object[][] {
+            { range, range },
+            { View2d.TRANSPOSE, View2d.TRANSPOSE },
+            { View2d.TRANSPOSE.andThen(range), range }
+        };
+    }
+
+    @Test
+    public void doubleOps3d() {
+        final var random = RandomGenerator.getDefault();
+        final var a = DoubleGrid3d.DENSE.create(20, 30, 40);
+        final var b = DoubleGrid3d.DENSE.create(20, 30, 40);
+        a.forEach((s, r, c) -> a.set(s, r, c, random.nextDouble()));
+        b.forEach((s, r, c) -> b.set(s, r, c, random.nextDouble()));
+
+        final var range = View3d.of(
+            new Range3d(new Index3d(1, 2, 3), new Extent3d(15, 25, 30))
+        );
+        final var seqA = a.copy().view(range);
+        final var seqB = b.copy().view(range);
+        final var parA = a.copy().view(range);
+        final var parB = b.copy().view(range);
+
+        seqA.assign(seqB, (x, y) -> x*y + 1);
+        seqA.assign(x -> x/2);
+        seqA.swap(seqB);
+
+        ParallelScope.using(pool, () -> {
+            parA.assign(parB, (x, y) -> x*y + 1);
+            parA.assign(x -> x/2);
+            parA.swap(parB);
+        });
+
+        assertThat(parA.equals(seqA)).isTrue();
+        assertThat(parB.equals(seqB)).isTrue();
+    }
+
+    @Test
+    public void denseArraysRunInParallel() {
+        final var grid = next(DoubleGrid2d.DENSE, 150, 140);
+        final var first = new AtomicBoolean(true);
+        final var active = new AtomicInteger();
+        final var concurrent = new AtomicInteger();
+
+        ParallelScope.using(pool, () ->
+            grid.assign(x -> {
+                concurrent.accumulateAndGet(active.incrementAndGet(), Math::max);
+                // The first call waits until a second thread is working.
+                if (first.getAndSet(false)) {
+                    final long end = System.nanoTime() + 10_000_000_000L;
+                    while (concurrent.get() < 2 && System.nanoTime() < end) {
+                        Thread.onSpinWait();
+                    }
+                }
+                active.decrementAndGet();
+                return x;
+            })
+        );
+        assertThat(concurrent.get() >= 2).isTrue();
+    }
+
+    @Test
+    public void sparseArraysRunSequential() {
+        final var grid = next(DoubleGrid2d.SPARSE, 150, 140);
+        final var other = next(DoubleGrid2d.DENSE, 150, 140);
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        ParallelScope.using(pool, () -> {
+            grid.assign(x -> { threads.add(Thread.currentThread()); return x; });
+            grid.assign(other, (x, y) -> { threads.add(Thread.currentThread()); return y; });
+        });
+        assertThat(threads).isEqualTo(Set.of(Thread.currentThread()));
+        assertThat(grid.equals(other)).isTrue();
+    }
+
+    @Test
+    public void sharedArraysRunSequential() {
+        final var grid = next(DoubleGrid2d.DENSE, 150, 150);
+        final var expected = grid.copy();
+        expected.view(View2d.TRANSPOSE).assign(expected);
+
+        ParallelScope.using(pool, () -> grid.view(View2d.TRANSPOSE).assign(grid));
+        assertThat(grid.equals(expected)).isTrue();
+    }
+
+    private static DoubleGrid2d next(
+        final Grid2d.Factory<DoubleGrid2d> factory,
+        final int rows,
+        final int cols
+    ) {
+        final var random = RandomGenerator.getDefault();
+        final var grid = factory.create(rows, cols);
+        grid.forEach((r, c) -> grid.set(r, c, random.nextDouble()));
+        return grid;
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.assertj.core.data.Offset;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class DoubleKernelsTest {
+
+    private static final Offset<Double> EPSILON = Offset.offset(1e-12);
+
+    private static double[] next(final Random random, final int length) {
+        final var values = new double[length];
+        for (int i = 0; i < length; ++i) {
+            values[i] = random.nextDouble()*2 - 1;
+        }
+        return values;
+    }
+
+    @Test(dataProvider = "lengths")
+    public void dot(final int length) {
+        final var random = new Random(length);
+        final var x = next(random, length + 3);
+        final var y = next(random, length + 5);
+
+        final double expected = DoubleKernels.scalar().dot(x, 3, y, 5, length);
+        final double actual = DoubleKernels.get().dot(x, 3, y, 5, length);
+        assertThat(actual).isCloseTo(expected, EPSILON);
+    }
+
+    @Test(dataProvider = "lengths")
+    public void axpy(final int length) {
+        final var random = new Random(length);
+        final var x = next(random, length + 3);
+        final var y = next(random, length + 5);
+        final var expected = y.clone();
+
+        DoubleKernels.scalar().axpy(1.5, x, 3, expected, 5, length);
+        DoubleKernels.get().axpy(1.5, x, 3, y, 5, length);
+        for (int i = 0; i < y.length; ++i) {
+            assertThat(y[i]).isCloseTo(expected[i], EPSILON);
+        }
+    }
+
+    @Test(dataProvider = "lengths")
+    public void scal(final int length) {
+        final var random = new Random(length);
+        final var x = next(random, length + 3);
+        final var expected = x.clone();
+
+        DoubleKernels.scalar().scal(0.75, expected, 3, length);
+        DoubleKernels.get().scal(0.75, x, 3, length);
+        assertThat(x).isEqualTo(expected);
+    }
+
+    @Test(dataProvider = "lengths")
+    public void gemm(final int k) {
+        final var random = new Random(k);
+        final var A = next(random, k*DoubleKernels.MR + 1);
+        final var B = next(random, k*DoubleKernels.NR + 2);
+
+        for (int colStride : new int[] {1, 7}) {
+            final int rowStride = colStride == 1 ? 9 : 1;
+            final var C = next(random, 64);
+            final var expected = C.clone();
+
+            DoubleKernels.scalar()
+                .gemm(k, 2.5, A, 1, B, 2, expected, 3, rowStride, colStride);
+            DoubleKernels.get()
+                .gemm(k, 2.5, A, 1, B, 2, C, 3, rowStride, colStride);
+
+            for (int i = 0; i < C.length; ++i) {
+                assertThat(C[i]).isCloseTo(expected[i], EPSILON);
+            }
+        }
+    }
+
+    @DataProvider
+    public Object[][] lengths() {
+        return new Object[][] {
+            {0}, {1}, {3}, {4}, {7}, {8}, {15}, {16}, {17}, {100}, {1031}
+        };
+    }
+
+}
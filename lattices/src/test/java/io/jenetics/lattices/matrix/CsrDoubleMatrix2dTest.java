@@ -0,0 +1,239 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static io.jenetics.lattices.LinealgebraAsserts.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.lattices.structure.Extent2d;
+import io.jenetics.lattices.MatrixRandom;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class CsrDoubleMatrix2dTest {
+
+    private static DoubleMatrix2d sparse(final int rows, final int cols) {
+        final var matrix = MatrixRandom.nextDoubleMatrix2d(rows, cols);
+        matrix.assign(v -> Math.abs(v) < 0.7 ? 0 : v);
+        return matrix;
+    }
+
+    @Test(dataProvider = "extents")
+    public void toDense(final Extent2d extent) {
+        final var dense = sparse(extent.rows(), extent.cols());
+
+        assertEquals(CsrDoubleMatrix2d.of(dense).toDense(), dense);
+        assertEquals(CscDoubleMatrix2d.of(dense).toDense(), dense);
+        assertEquals(CsrDoubleMatrix2d.of(dense).toCsc().toDense(), dense);
+        assertEquals(CscDoubleMatrix2d.of(dense).toCsr().toDense(), dense);
+        assertEquals(new DoubleMatrix2d(CsrDoubleMatrix2d.of(dense)), dense);
+        assertEquals(new DoubleMatrix2d(CscDoubleMatrix2d.of(dense)), dense);
+    }
+
+    @Test(dataProvider = "extents")
+    public void ofTriplets(final Extent2d extent) {
+        final var dense = sparse(extent.rows(), extent.cols());
+
+        // Every element is split into two (duplicate) triplets.
+        final List<int[]> indexes = new ArrayList<>();
+        dense.forEach((r, c) -> {
+            if (dense.get(r, c) != 0) {
+                indexes.add(new int[] {r, c});
+                indexes.add(0, new int[] {r, c});
+            }
+        });
+        final int[] rows = indexes.stream().mapToInt(i -> i[0]).toArray();
+        final int[] cols = indexes.stream().mapToInt(i -> i[1]).toArray();
+        final double[] values = indexes.stream()
+            .mapToDouble(i -> dense.get(i[0], i[1])/2)
+            .toArray();
+
+        final var csr = CsrDoubleMatrix2d
+            .ofTriplets(extent.rows(), extent.cols(), rows, cols, values);
+        final var csc = CscDoubleMatrix2d
+            .ofTriplets(extent.rows(), extent.cols(), rows, cols, values);
+
+        assertThat(csr.nonZeros()).isEqualTo(indexes.size()/2);
+        assertThat(csc.nonZeros()).isEqualTo(indexes.size()/2);
+        assertEquals(csr.toDense(), dense);
+        assertEquals(csc.toDense(), dense);
+    }
+
+    @Test
+    public void ofTripletsDropsZeroSums() {
+        // [0, 1] and [2, 0] cancel out, [1, 1] is an explicit zero.
+        final int[] rows = {0, 2, 0, 1, 2, 1, 0};
+        final int[] cols = {1, 0, 1, 1, 0, 2, 0};
+        final double[] values = {1.5, -2, -1.5, 0, 2, 3, 4};
+
+        final var csr = CsrDoubleMatrix2d.ofTriplets(3, 3, rows, cols, values);
+        final var csc = CscDoubleMatrix2d.ofTriplets(3, 3, rows, cols, values);
+
+        final var expected = DoubleMatrix2d.DENSE.create(3, 3);
+        expected.set(0, 0, 4);
+        expected.set(1, 2, 3);
+
+        assertThat(csr.nonZeros()).isEqualTo(2);
+        assertThat(csc.nonZeros()).isEqualTo(2);
+        assertEquals(csr.toDense(), expected);
+        assertEquals(csc.toDense(), expected);
+        csr.forEachNonZero((r, c, v) -> assertThat(v).isNotZero());
+        csc.forEachNonZero((r, c, v) -> assertThat(v).isNotZero());
+    }
+
+    @Test(dataProvider = "extents")
+    public void multVector(final Extent2d extent) {
+        final var dense = sparse(extent.rows(), extent.cols());
+        final var csr = CsrDoubleMatrix2d.of(dense);
+        final var csc = CscDoubleMatrix2d.of(dense);
+
+        final var x = MatrixRandom.nextDoubleMatrix1d(extent.cols());
+        final var z = MatrixRandom.nextDoubleMatrix1d(extent.rows());
+        final var expected = dense.mult(x, z.copy(), 2, 0.5, false);
+        assertEquals(csr.mult(x, z.copy(), 2, 0.5, false), expected);
+        assertEquals(csc.mult(x, z.copy(), 2, 0.5, false), expected);
+
+        final var xt = MatrixRandom.nextDoubleMatrix1d(extent.rows());
+        final var zt = MatrixRandom.nextDoubleMatrix1d(extent.cols());
+        final var expectedT = dense.mult(xt, zt.copy(), 2, 0.5, true);
+        assertEquals(csr.mult(xt, zt.copy(), 2, 0.5, true), expectedT);
+        assertEquals(csc.mult(xt, zt.copy(), 2, 0.5, true), expectedT);
+    }
+
+    @Test(dataProvider = "extents")
+    public void multMatrix(final Extent2d extent) {
+        final var dense = sparse(extent.rows(), extent.cols());
+        final var csr = CsrDoubleMatrix2d.of(dense);
+        final var csc = CscDoubleMatrix2d.of(dense);
+
+        final var B = MatrixRandom.nextDoubleMatrix2d(extent.cols(), 7);
+        final var C = MatrixRandom.nextDoubleMatrix2d(extent.rows(), 7);
+        final var expected = dense.mult(B, C.copy(), 2, 0.5, false, false);
+        assertEquals(csr.mult(B, C.copy(), 2, 0.5, false), expected);
+        assertEquals(csc.mult(B, C.copy(), 2, 0.5, false), expected);
+        assertEquals(csr.mult(B, null), dense.mult(B, null));
+
+        final var Bt = MatrixRandom.nextDoubleMatrix2d(extent.rows(), 7);
+        final var Ct = MatrixRandom.nextDoubleMatrix2d(extent.cols(), 7);
+        final var expectedT = dense.mult(Bt, Ct.copy(), 2, 0.5, true, false);
+        assertEquals(csr.mult(Bt, Ct.copy(), 2, 0.5, true), expectedT);
+        assertEquals(csc.mult(Bt, Ct.copy(), 2, 0.5, true), expectedT);
+    }
+
+    @Test(dataProvider = "extents")
+    public void multParallel(final Extent2d extent) {
+        final var csr = CsrDoubleMatrix2d.of(sparse(extent.rows(), extent.cols()));
+        final var x = MatrixRandom.nextDoubleMatrix1d(extent.cols());
+        final var expected = csr.mult(x, null);
+
+        final var z = DoubleMatrix1d.DENSE.create(extent.rows());
+        final var context = new ParallelContext(new ForkJoinPool(4), 0);
+        ParallelContext.using(context, () -> csr.mult(x, z));
+
+        // The summation order is the same for every row.
+        assertThat(z).isEqualTo(expected);
+    }
+
+    @DataProvider
+    public Object[][] extents() {
+        return new Object[][] {
+            { new Extent2d(1, 1) },
+            { new Extent2d(5, 5) },
+            { new Extent2d(7, 13) },
+            { new Extent2d(13, 7) },
+            { new Extent2d(100, 80) }
+        };
+    }
+
+    @Test
+    public void forEachNonZero() {
+        final var dense = sparse(20, 15);
+        final var csr = CsrDoubleMatrix2d.of(dense);
+        final var csc = CscDoubleMatrix2d.of(dense);
+
+        final var result = DoubleMatrix2d.DENSE.create(20, 15);
+        for (int r = 0; r < csr.rows(); ++r) {
+            final int row = r;
+            csr.forEachNonZero(r, (c, v) -> {
+                assertThat(v).isNotZero();
+                result.set(row, c, v);
+            });
+        }
+        assertEquals(result, dense);
+
+        result.assign(0);
+        csc.forEachNonZero(result::set);
+        assertEquals(result, dense);
+    }
+
+    @Test
+    public void set() {
+        final var dense = sparse(10, 10);
+        final var csr = CsrDoubleMatrix2d.of(10, 10);
+        final var csc = CscDoubleMatrix2d.of(10, 10);
+        csr.assign(dense);
+        csc.assign(dense);
+        assertEquals(csr.toDense(), dense);
+        assertEquals(csc.toDense(), dense);
+
+        final int nonZeros = csr.nonZeros();
+        csr.set(3, 4, 5);
+        assertThat(csr.get(3, 4)).isEqualTo(5);
+        csr.set(3, 4, 0);
+        assertThat(csr.get(3, 4)).isZero();
+        assertThat(csr.nonZeros())
+            .isEqualTo(dense.get(3, 4) != 0 ? nonZeros - 1 : nonZeros);
+    }
+
+    @Test
+    public void transpose() {
+        final var dense = sparse(7, 9);
+        final var csr = CsrDoubleMatrix2d.of(dense);
+        final var transposed = csr.transpose();
+
+        assertEquals(transposed.toDense(), dense.transpose());
+        transposed.set(2, 5, 42);
+        assertThat(csr.get(5, 2)).isEqualTo(42);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void invalidPointers() {
+        CsrDoubleMatrix2d.of(
+            2, 2,
+            new int[] {0, 2, 1},
+            new int[] {0, 1},
+            new double[] {1, 2}
+        );
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void incompatibleMult() {
+        CsrDoubleMatrix2d.of(3, 4).mult(DoubleMatrix1d.DENSE.create(3), null);
+    }
+
+}
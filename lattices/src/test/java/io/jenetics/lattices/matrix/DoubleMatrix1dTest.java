@@ -94,5 +94,18 @@ public class DoubleMatrix1dTest {
         }
     }
 
+    @Test
+    public void cardinality() {
+        final var dense = DoubleMatrix1d.of(0, 1, 0, 2, 3, 0);
+        assertThat(dense.cardinality()).isEqualTo(3);
+        assertThat(dense.nonZeroIndices()).containsExactly(1, 3, 4);
+
+        final var sparse = DoubleMatrix1d.SPARSE.create(1_000_000);
+        sparse.set(999, 1);
+        sparse.set(7, 2);
+        assertThat(sparse.cardinality()).isEqualTo(2);
+        assertThat(sparse.nonZeroIndices()).containsExactly(7, 999);
+        assertThat(sparse.sum()).isEqualTo(3);
+    }
 
 }
@@ -21,6 +21,9 @@ package io.jenetics.lattices.matrix;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+
 import cern.colt.matrix.DoubleMatrix2D;
 
 import org.assertj.core.data.Percentage;
@@ -294,6 +297,110 @@ public class DoubleMatrix2dTest {
         assertEquals(C, coltC);
     }
 
+    @Test(dataProvider = "multShapes")
+    public void multBlocked(
+        final Extent2d extentA,
+        final Extent2d extentB,
+        final boolean transposeA,
+        final boolean transposeB
+    ) {
+        final var A = MatrixRandom.nextDoubleMatrix2d(extentA);
+        final var B = MatrixRandom.nextDoubleMatrix2d(extentB);
+        final var C0 = MatrixRandom.nextDoubleMatrix2d(new Extent2d(
+            transposeA ? extentA.cols() : extentA.rows(),
+            transposeB ? extentB.rows() : extentB.cols()
+        ));
+        final var C = A.mult(B, C0.copy(), 2, 3, transposeA, transposeB);
+
+        final var coltA = Colts.toColt(A);
+        final var coltB = Colts.toColt(B);
+        final var coltC = coltA.zMult(coltB, Colts.toColt(C0), 2, 3, transposeA, transposeB);
+
+        assertEquals(C, coltC);
+    }
+
+    @DataProvider
+    public Object[][] multShapes() {
+        return new Object[][] {
+            { new Extent2d(1, 1), new Extent2d(1, 1), false, false },
+            { new Extent2d(3, 5), new Extent2d(5, 7), false, false },
+            { new Extent2d(97, 385), new Extent2d(385, 5), false, false },
+            { new Extent2d(385, 97), new Extent2d(385, 101), true, false },
+            { new Extent2d(97, 385), new Extent2d(1030, 385), false, true },
+            { new Extent2d(385, 97), new Extent2d(1030, 385), true, true },
+            { new Extent2d(200, 3), new Extent2d(3, 1100), false, false }
+        };
+    }
+
+    @Test(dataProvider = "multShapes")
+    public void multParallel(
+        final Extent2d extentA,
+        final Extent2d extentB,
+        final boolean transposeA,
+        final boolean transposeB
+    ) {
+        final var A = MatrixRandom.nextDoubleMatrix2d(extentA);
+        final var B = MatrixRandom.nextDoubleMatrix2d(extentB);
+
+        final var expected = ParallelContext.with(
+            ParallelContext.SEQUENTIAL,
+            () -> A.mult(B, null, 2, 0, transposeA, transposeB)
+        );
+
+        final var pool = new ForkJoinPool(5);
+        try {
+            final var actual = ParallelContext.with(
+                new ParallelContext(pool, 0),
+                () -> A.mult(B, null, 2, 0, transposeA, transposeB)
+            );
+
+            assertThat(actual).isEqualTo(expected);
+            Loop2d.of(new Range2d(actual.extent())).forEach((r, c) ->
+                assertThat(actual.get(r, c)).isEqualTo(expected.get(r, c))
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void multParallelSparse() {
+        final var A = MatrixRandom.nextDoubleMatrix2d(new Extent2d(300, 300));
+        final var B = MatrixRandom.nextDoubleMatrix2d(new Extent2d(300, 300));
+
+        final var expected = ParallelContext.with(
+            ParallelContext.SEQUENTIAL,
+            () -> A.mult(B, null)
+        );
+
+        final var pool = new ForkJoinPool(8);
+        try {
+            final var actual = DoubleMatrix2d.SPARSE.create(300, 300);
+            ParallelContext.using(
+                new ParallelContext(pool, 0),
+                () -> A.mult(B, actual)
+            );
+
+            assertThat(actual.equals(expected)).isTrue();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void multView() {
+        final var A = MatrixRandom.nextDoubleMatrix2d(new Extent2d(130, 150))
+            .view(View2d.of(new Range2d(new Index2d(3, 7), new Extent2d(101, 103))));
+        final var B = MatrixRandom.nextDoubleMatrix2d(new Extent2d(150, 130))
+            .view(View2d.of(new Range2d(new Index2d(5, 1), new Extent2d(103, 99))));
+        final var C = DoubleMatrix2d.DENSE.create(110, 120)
+            .view(View2d.of(new Range2d(new Index2d(4, 9), new Extent2d(101, 99))));
+        A.mult(B, C, 1, 0, false, false);
+
+        final var coltC = Colts.toColt(A).zMult(Colts.toColt(B), null);
+        assertEquals(C, coltC);
+    }
+
     private static void assertEquals(final DoubleMatrix2d a, final DoubleMatrix2D coltA) {
         final var epsilon = Percentage.withPercentage(0.01);
 
@@ -343,4 +450,30 @@ public class DoubleMatrix2dTest {
         assertThat(grid.equals(matrix)).isTrue();
     }
 
+    @Test(dataProvider = "sparseMatrices")
+    public void forEachNonZero(final DoubleMatrix2d matrix) {
+        final var result = DoubleMatrix2d.DENSE.create(matrix.extent());
+        matrix.forEachNonZero(result::set);
+
+        assertThat(result.equals(matrix)).isTrue();
+        assertThat(result.sum()).isCloseTo(matrix.sum(), Percentage.withPercentage(0.001));
+    }
+
+    @DataProvider
+    public Object[][] sparseMatrices() {
+        final var matrix = DoubleMatrix2d.SPARSE.create(300, 200);
+        final var random = RandomGenerator.getDefault();
+        for (int i = 0; i < 500; ++i) {
+            matrix.set(random.nextInt(300), random.nextInt(200), random.nextDouble());
+        }
+        final var range = new Range2d(new Index2d(10, 20), new Extent2d(50, 60));
+
+        return new Object[][] {
+            { matrix },
+            { matrix.transpose() },
+            { matrix.view(View2d.of(range)) },
+            { matrix.transpose().view(View2d.of(range)) }
+        };
+    }
+
 }
@@ -0,0 +1,140 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.lattices.grid.lattice.Loop2d;
+import io.jenetics.lattices.structure.Extent2d;
+import io.jenetics.lattices.structure.Range2d;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class FloatMatrix2dTest {
+
+    private static FloatMatrix2d next(final Extent2d extent) {
+        final var random = RandomGenerator.getDefault();
+        final var result = FloatMatrix2d.DENSE.create(extent);
+        result.assign(a -> random.nextFloat(-1, 1));
+        return result;
+    }
+
+    private static DoubleMatrix2d toDouble(final FloatMatrix2d matrix) {
+        final var result = DoubleMatrix2d.DENSE.create(matrix.extent());
+        Loop2d.of(new Range2d(matrix.extent())).forEach((r, c) ->
+            result.set(r, c, matrix.get(r, c))
+        );
+        return result;
+    }
+
+    private static void assertEquals(final FloatMatrix2d a, final DoubleMatrix2d b) {
+        assertThat(a.extent()).isEqualTo(b.extent());
+        Loop2d.of(new Range2d(a.extent())).forEach((r, c) ->
+            assertThat((double)a.get(r, c)).isCloseTo(b.get(r, c), within(1.0E-3))
+        );
+    }
+
+    @Test
+    public void getAndSet() {
+        final var matrix = FloatMatrix2d.DENSE.create(3, 4);
+        matrix.set(1, 2, 1.5F);
+        assertThat(matrix.get(1, 2)).isEqualTo(1.5F);
+        assertThat(matrix.transpose().get(2, 1)).isEqualTo(1.5F);
+        assertThat(matrix.rowAt(1).get(2)).isEqualTo(1.5F);
+        assertThat(matrix.colAt(2).get(1)).isEqualTo(1.5F);
+        assertThat(matrix.sum()).isEqualTo(1.5);
+    }
+
+    @Test
+    public void copyEquals() {
+        final var matrix = next(new Extent2d(13, 17));
+        assertThat(matrix.copy()).isEqualTo(matrix);
+        assertThat(matrix.transpose().copy()).isEqualTo(matrix.transpose());
+    }
+
+    @Test(dataProvider = "multShapes")
+    public void mult(
+        final Extent2d extentA,
+        final Extent2d extentB,
+        final boolean transposeA,
+        final boolean transposeB
+    ) {
+        final var A = next(extentA);
+        final var B = next(extentB);
+        final var C0 = next(new Extent2d(
+            transposeA ? extentA.cols() : extentA.rows(),
+            transposeB ? extentB.rows() : extentB.cols()
+        ));
+        final var C = A.mult(B, C0.copy(), 2, 3, transposeA, transposeB);
+
+        final var expected = toDouble(A)
+            .mult(toDouble(B), toDouble(C0), 2, 3, transposeA, transposeB);
+        assertEquals(C, expected);
+    }
+
+    @Test(dataProvider = "multShapes")
+    public void multParallel(
+        final Extent2d extentA,
+        final Extent2d extentB,
+        final boolean transposeA,
+        final boolean transposeB
+    ) {
+        final var A = next(extentA);
+        final var B = next(extentB);
+
+        final var expected = ParallelContext.with(
+            ParallelContext.SEQUENTIAL,
+            () -> A.mult(B, null, 2, 0, transposeA, transposeB)
+        );
+
+        final var pool = new ForkJoinPool(5);
+        try {
+            final var actual = ParallelContext.with(
+                new ParallelContext(pool, 0),
+                () -> A.mult(B, null, 2, 0, transposeA, transposeB)
+            );
+            assertThat(actual).isEqualTo(expected);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @DataProvider
+    public Object[][] multShapes() {
+        return new Object[][] {
+            { new Extent2d(1, 1), new Extent2d(1, 1), false, false },
+            { new Extent2d(3, 5), new Extent2d(5, 7), false, false },
+            { new Extent2d(97, 385), new Extent2d(385, 5), false, false },
+            { new Extent2d(385, 97), new Extent2d(385, 101), true, false },
+            { new Extent2d(97, 385), new Extent2d(1030, 385), false, true },
+            { new Extent2d(385, 97), new Extent2d(1030, 385), true, true },
+            { new Extent2d(200, 3), new Extent2d(3, 1100), false, false }
+        };
+    }
+
+}
@@ -49,6 +49,25 @@ public class CholeskyTest {
             .isEqualTo(expected.isSymmetricPositiveDefinite());
     }
 
+    @Test
+    public void decomposeBlocked() {
+        final var G = MatrixRandom.nextDoubleMatrix2d(new Extent2d(150, 150));
+        final var matrix = G.mult(G, null, 1, 0, false, true);
+        for (int i = 0; i < matrix.rows(); ++i) {
+            matrix.set(i, i, matrix.get(i, i) + matrix.rows());
+        }
+
+        final var expected = new CholeskyDecomposition(Colts.toColt(matrix));
+        final var cholesky = Cholesky.decompose(matrix);
+
+        assertEquals(cholesky.L(), toLinealgebra(expected.getL()));
+        assertThat(cholesky.isSymmetricPositiveDefinite()).isTrue();
+
+        matrix.set(0, 149, matrix.get(0, 149) + 1);
+        assertThat(Cholesky.decompose(matrix).isSymmetricPositiveDefinite())
+            .isFalse();
+    }
+
     @Test(invocationCount = 20, successPercentage = 80)
     public void solver() {
         final var extent = new Extent2d(15, 15);
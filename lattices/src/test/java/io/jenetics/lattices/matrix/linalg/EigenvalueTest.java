@@ -28,6 +28,8 @@ import cern.colt.matrix.linalg.EigenvalueDecomposition;
 
 import org.testng.annotations.Test;
 
+import io.jenetics.lattices.matrix.DoubleMatrix1d;
+import io.jenetics.lattices.matrix.DoubleMatrix2d;
 import io.jenetics.lattices.matrix.Matrices;
 import io.jenetics.lattices.structure.Extent2d;
 import io.jenetics.lattices.MatrixRandom;
@@ -78,4 +80,47 @@ public class EigenvalueTest {
         );
     }
 
+    @Test
+    public void decomposeSkippedHouseholderColumn() {
+        // The second column is zero, within the numerical epsilon, after the
+        // first Householder step. No transformation is applied for it.
+        final var A = DoubleMatrix2d.DENSE.create(4, 4);
+        A.assign(new double[][] {
+            {1, 2,     3, 4},
+            {1, 2,     0, 5},
+            {1, 0,     2, 6},
+            {0, 1e-14, 0, 7}
+        });
+
+        final var eigen = Eigenvalue.decompose(A);
+        assertEquals(A.mult(eigen.V(), null), eigen.V().mult(eigen.D(), null));
+    }
+
+    @Test
+    public void decomposeDivideAndConquer() {
+        final var A = MatrixRandom.nextDoubleMatrix2d(new Extent2d(150, 150));
+        A.forEach((i, j) -> A.set(i, j, A.get(j, i)));
+        Matrices.checkSymmetric(A);
+
+        final var expected = new EigenvalueDecomposition(toColt(A));
+        final var d = new double[A.rows()];
+        final var V = DivideAndConquer.decompose(A, d);
+
+        final var values = DoubleMatrix1d.DENSE.create(d.length);
+        values.assign(d);
+        assertEquals(values, toLinealgebra(expected.getRealEigenvalues()));
+
+        // The eigenvectors are only unique up to their sign.
+        final var D = DoubleMatrix2d.DENSE.create(d.length, d.length);
+        for (int i = 0; i < d.length; ++i) {
+            D.set(i, i, d[i]);
+        }
+        final var I = DoubleMatrix2d.DENSE.create(d.length, d.length);
+        for (int i = 0; i < d.length; ++i) {
+            I.set(i, i, 1);
+        }
+        assertEquals(A.mult(V, null), V.mult(D, null));
+        assertEquals(V.transpose().mult(V, null), I);
+    }
+
 }
@@ -23,12 +23,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static io.jenetics.lattices.Colts.toColt;
 import static io.jenetics.lattices.Colts.toLinealgebra;
 import static io.jenetics.lattices.LinealgebraAsserts.assertEquals;
+import static io.jenetics.lattices.matrix.linalg.Views.block;
+
+import java.util.stream.IntStream;
 
 import cern.colt.matrix.linalg.LUDecomposition;
 
 import org.assertj.core.data.Percentage;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import io.jenetics.lattices.matrix.DoubleMatrix2d;
 import io.jenetics.lattices.structure.Extent2d;
 import io.jenetics.lattices.MatrixRandom;
 
@@ -50,6 +55,98 @@ public class LUTest {
             .isCloseTo(expected.det(), Percentage.withPercentage(0.000000001));
     }
 
+    @Test
+    public void decomposeBlocked() {
+        final var A = MatrixRandom.nextDoubleMatrix2d(new Extent2d(150, 150));
+
+        final var expected = new LUDecomposition(toColt(A));
+        final var lu = LU.decompose(A);
+
+        assertEquals(lu.L(), toLinealgebra(expected.getL()));
+        assertEquals(lu.U(), toLinealgebra(expected.getU()));
+        assertThat(lu.pivot()).isEqualTo(expected.getPivot());
+        assertThat(lu.det())
+            .isCloseTo(expected.det(), Percentage.withPercentage(0.000001));
+        assertEquals(product(lu), permuteRows(A, lu.pivot()));
+    }
+
+    @Test(dataProvider = "rectangularExtents")
+    public void decomposeBlockedRectangular(final Extent2d extent) {
+        final var A = MatrixRandom.nextDoubleMatrix2d(extent);
+
+        final var expected = new LUDecomposition(toColt(A));
+        final var lu = LU.decompose(A);
+
+        assertEquals(lu.L(), toLinealgebra(expected.getL()));
+        assertEquals(lu.U(), toLinealgebra(expected.getU()));
+        assertThat(lu.pivot()).isEqualTo(expected.getPivot());
+        assertEquals(product(lu), permuteRows(A, lu.pivot()));
+    }
+
+    @DataProvider
+    public Object[][] rectangularExtents() {
+        return new Object[][] {
+            { new Extent2d(200, 150) },
+            { new Extent2d(150, 200) },
+            { new Extent2d(300, 70) },
+            { new Extent2d(70, 300) }
+        };
+    }
+
+    @Test
+    public void pivotBlocked() {
+        final int n = 150;
+        final var A = MatrixRandom.nextDoubleMatrix2d(new Extent2d(n, n));
+
+        // The pivot of column j is in row (j + 50) % n. It lies in another
+        // panel than the column for most of the columns.
+        for (int r = 0; r < n; ++r) {
+            A.set(r, (r + 100) % n, 1000);
+        }
+
+        final var lu = LU.decompose(A);
+        assertThat(lu.pivot())
+            .isEqualTo(IntStream.range(0, n).map(j -> (j + 50) % n).toArray());
+        assertEquals(product(lu), permuteRows(A, lu.pivot()));
+
+        final var B = MatrixRandom.nextDoubleMatrix2d(new Extent2d(n, 7));
+        assertEquals(A.mult(lu.solve(B), null), B);
+    }
+
+    @Test
+    public void solverBlocked() {
+        final var A = MatrixRandom.nextDoubleMatrix2d(new Extent2d(150, 150));
+        final var B = MatrixRandom.nextDoubleMatrix2d(new Extent2d(150, 23));
+
+        final var X = LU.decompose(A).solve(B);
+        assertEquals(
+            X,
+            toLinealgebra(new LUDecomposition(toColt(A)).solve(toColt(B)))
+        );
+        assertEquals(A.mult(X, null), B);
+    }
+
+    // Returns L*U, without the zero parts of rectangular factors.
+    private static DoubleMatrix2d product(final LU lu) {
+        final var L = lu.L();
+        final var U = lu.U();
+        final int min = Math.min(L.rows(), L.cols());
+
+        return block(L, 0, L.rows(), 0, min)
+            .mult(block(U, 0, min, 0, U.cols()), null);
+    }
+
+    private static DoubleMatrix2d permuteRows(
+        final DoubleMatrix2d A,
+        final int[] pivot
+    ) {
+        final var result = A.like();
+        for (int i = 0; i < pivot.length; ++i) {
+            result.rowAt(i).assign(A.rowAt(pivot[i]));
+        }
+        return result;
+    }
+
     @Test(invocationCount = 20, successPercentage = 80)
     public void solver() {
         final var extent = new Extent2d(15, 15);
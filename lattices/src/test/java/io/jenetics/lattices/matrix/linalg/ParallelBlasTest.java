@@ -0,0 +1,191 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix.linalg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.random.RandomGenerator;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.lattices.grid.lattice.Loop1d;
+import io.jenetics.lattices.grid.lattice.Loop2d;
+import io.jenetics.lattices.matrix.DoubleMatrix1d;
+import io.jenetics.lattices.matrix.DoubleMatrix2d;
+import io.jenetics.lattices.structure.Range1d;
+import io.jenetics.lattices.structure.Range2d;
+import io.jenetics.lattices.MatrixRandom;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ParallelBlasTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+    private final Blas blas = new ParallelBlas(executor, 5, 0);
+
+    @AfterClass
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test(dataProvider = "sizes")
+    public void dgemv(final int size) {
+        final var random = RandomGenerator.getDefault();
+        final var transposeA = random.nextBoolean();
+
+        final var A = MatrixRandom.nextDoubleMatrix2d(size, size + 3);
+        final var x = MatrixRandom.nextDoubleMatrix1d(transposeA ? size : size + 3);
+        final var expected = MatrixRandom.nextDoubleMatrix1d(transposeA ? size + 3 : size);
+        final var actual = expected.copy();
+
+        Blas.DEFAULT.dgemv(transposeA, 2.5, A, x, 0.5, expected);
+        blas.dgemv(transposeA, 2.5, A, x, 0.5, actual);
+        assertIdentical(actual, expected);
+    }
+
+    @Test(dataProvider = "sizes")
+    public void dger(final int size) {
+        final var x = MatrixRandom.nextDoubleMatrix1d(size);
+        final var y = MatrixRandom.nextDoubleMatrix1d(size + 3);
+        final var expected = MatrixRandom.nextDoubleMatrix2d(size, size + 3);
+        final var actual = expected.copy();
+
+        Blas.DEFAULT.dger(1.5, x, y, expected);
+        blas.dger(1.5, x, y, actual);
+        assertIdentical(actual, expected);
+    }
+
+    @Test(dataProvider = "sizes")
+    public void dsymv(final int size) {
+        final var upper = RandomGenerator.getDefault().nextBoolean();
+        final var A = MatrixRandom.nextDoubleMatrix2d(size, size);
+        final var x = MatrixRandom.nextDoubleMatrix1d(size);
+        final var expected = MatrixRandom.nextDoubleMatrix1d(size);
+        final var actual = expected.copy();
+
+        Blas.DEFAULT.dsymv(upper, 2.5, A, x, 0.5, expected);
+        blas.dsymv(upper, 2.5, A, x, 0.5, actual);
+        assertIdentical(actual, expected);
+    }
+
+    @Test(dataProvider = "sizes")
+    public void dgemm(final int size) {
+        final var random = RandomGenerator.getDefault();
+        final var transposeA = random.nextBoolean();
+        final var transposeB = random.nextBoolean();
+
+        final var A = transposeA
+            ? MatrixRandom.nextDoubleMatrix2d(size + 5, size)
+            : MatrixRandom.nextDoubleMatrix2d(size, size + 5);
+        final var B = transposeB
+            ? MatrixRandom.nextDoubleMatrix2d(2*size + 1, size + 5)
+            : MatrixRandom.nextDoubleMatrix2d(size + 5, 2*size + 1);
+        final var expected = MatrixRandom.nextDoubleMatrix2d(size, 2*size + 1);
+        final var actual = expected.copy();
+
+        Blas.DEFAULT.dgemm(transposeA, transposeB, 2.5, A, B, 0.5, expected);
+        blas.dgemm(transposeA, transposeB, 2.5, A, B, 0.5, actual);
+        assertIdentical(actual, expected);
+    }
+
+    @Test(dataProvider = "sizes")
+    public void daxpy(final int size) {
+        final var A = MatrixRandom.nextDoubleMatrix2d(size, size + 3);
+        final var expected = MatrixRandom.nextDoubleMatrix2d(size, size + 3);
+        final var actual = expected.copy();
+
+        Blas.DEFAULT.daxpy(2.5, A, expected);
+        blas.daxpy(2.5, A, actual);
+        assertIdentical(actual, expected);
+    }
+
+    @Test(dataProvider = "sizes")
+    public void dscal(final int size) {
+        final var expected = MatrixRandom.nextDoubleMatrix2d(size, size + 3);
+        final var actual = expected.copy();
+
+        Blas.DEFAULT.dscal(2.5, expected);
+        blas.dscal(2.5, actual);
+        assertIdentical(actual, expected);
+    }
+
+    @Test
+    public void solve() {
+        final var A = MatrixRandom.nextDoubleMatrix2d(150, 150);
+        final var B = MatrixRandom.nextDoubleMatrix2d(150, 7);
+
+        final var expected = LU.decompose(A).solve(B);
+        try {
+            Blas.set(blas);
+            assertThat(Blas.get()).isSameAs(blas);
+
+            final var actual = LU.decompose(A).solve(B);
+            assertIdentical(actual, expected);
+        } finally {
+            Blas.reset();
+        }
+        assertThat(Blas.get()).isSameAs(Blas.DEFAULT);
+    }
+
+    @Test
+    public void dgemmSparse() {
+        final var A = MatrixRandom.nextDoubleMatrix2d(131, 150);
+        final var B = MatrixRandom.nextDoubleMatrix2d(150, 140);
+        final var expected = DoubleMatrix2d.DENSE.create(131, 140);
+        final var actual = DoubleMatrix2d.SPARSE.create(131, 140);
+
+        Blas.DEFAULT.dgemm(false, false, 2.5, A, B, 0, expected);
+        blas.dgemm(false, false, 2.5, A, B, 0, actual);
+        assertIdentical(actual, expected);
+    }
+
+    @DataProvider
+    public Object[][] sizes() {
+        return new Object[][] {
+            {0}, {1}, {3}, {4}, {17}, {64}, {131}
+        };
+    }
+
+    private static void assertIdentical(
+        final DoubleMatrix1d actual,
+        final DoubleMatrix1d expected
+    ) {
+        assertThat(actual.extent()).isEqualTo(expected.extent());
+        Loop1d.of(new Range1d(actual.extent())).forEach(i ->
+            assertThat(actual.get(i)).isEqualTo(expected.get(i))
+        );
+    }
+
+    private static void assertIdentical(
+        final DoubleMatrix2d actual,
+        final DoubleMatrix2d expected
+    ) {
+        assertThat(actual.extent()).isEqualTo(expected.extent());
+        Loop2d.of(new Range2d(actual.extent())).forEach((r, c) ->
+            assertThat(actual.get(r, c)).isEqualTo(expected.get(r, c))
+        );
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix.linalg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static io.jenetics.lattices.Colts.toColt;
+import static io.jenetics.lattices.LinealgebraAsserts.assertEquals;
+
+import java.util.Comparator;
+import java.util.stream.DoubleStream;
+
+import cern.colt.matrix.linalg.EigenvalueDecomposition;
+
+import org.testng.annotations.Test;
+
+import io.jenetics.lattices.matrix.DoubleMatrix1d;
+import io.jenetics.lattices.matrix.DoubleMatrix2d;
+import io.jenetics.lattices.structure.Extent2d;
+import io.jenetics.lattices.MatrixRandom;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class PartialEigenvalueTest {
+
+    @Test
+    public void decomposeSymmetric() {
+        final var A = MatrixRandom.nextDoubleMatrix2d(new Extent2d(100, 100));
+        A.forEach((i, j) -> A.set(i, j, A.get(j, i)));
+
+        final int k = 5;
+        final var eigen = PartialEigenvalue
+            .decomposeSymmetric(LinearOperator.of(A), k);
+        assertThat(eigen.isConverged()).isTrue();
+
+        // The eigenvalues of Colt are sorted in ascending order.
+        final var values = new EigenvalueDecomposition(toColt(A))
+            .getRealEigenvalues();
+        final var expected = DoubleMatrix1d.DENSE.create(k);
+        for (int i = 0; i < k; ++i) {
+            expected.set(i, values.get(values.size() - 1 - i));
+        }
+
+        assertEquals(eigen.realEigenvalues(), expected);
+        assertEquals(
+            A.mult(eigen.V(), null),
+            eigen.V().mult(eigen.D(), null)
+        );
+    }
+
+    @Test
+    public void decomposeSymmetricMatrix() {
+        final var A = MatrixRandom.nextDoubleMatrix2d(new Extent2d(100, 100));
+        A.forEach((i, j) -> A.set(i, j, A.get(j, i)));
+
+        final int k = 5;
+        final var eigen = PartialEigenvalue.decompose(A, k);
+        assertThat(eigen.isConverged()).isTrue();
+
+        // The dominant eigenvalues are the ones with the largest magnitude.
+        final var values = new EigenvalueDecomposition(toColt(A))
+            .getRealEigenvalues().toArray();
+        final var expected = DoubleMatrix1d.DENSE.create(k);
+        expected.assign(
+            DoubleStream.of(values).boxed()
+                .sorted(Comparator.<Double>comparingDouble(Math::abs).reversed())
+                .limit(k)
+                .mapToDouble(Double::doubleValue)
+                .toArray()
+        );
+
+        assertEquals(eigen.realEigenvalues(), expected);
+        assertEquals(
+            A.mult(eigen.V(), null),
+            eigen.V().mult(eigen.D(), null)
+        );
+    }
+
+    @Test
+    public void decomposeNonsymmetric() {
+        final var A = MatrixRandom.nextDoubleMatrix2d(new Extent2d(100, 100));
+
+        final var eigen = PartialEigenvalue.decompose(LinearOperator.of(A), 6);
+        assertThat(eigen.isConverged()).isTrue();
+        assertThat(eigen.realEigenvalues().extent().elements())
+            .isBetween(6, 7);
+
+        assertEquals(
+            A.mult(eigen.V(), null),
+            eigen.V().mult(eigen.D(), null)
+        );
+    }
+
+    @Test
+    public void decomposeOperator() {
+        final var X = MatrixRandom.nextDoubleMatrix2d(new Extent2d(200, 50));
+        final var C = X.transpose().mult(X, null);
+
+        // The covariance matrix X'*X is never created explicitly.
+        final var tmp = DoubleMatrix1d.DENSE.create(X.rows());
+        final var operator = LinearOperator.of(X.cols(), (x, y) -> {
+            X.mult(x, tmp);
+            X.transpose().mult(tmp, y);
+        });
+
+        final var eigen = PartialEigenvalue.decomposeSymmetric(operator, 3);
+        final var expected = PartialEigenvalue.decompose(C, 3);
+
+        assertEquals(eigen.realEigenvalues(), expected.realEigenvalues());
+        assertEquals(
+            C.mult(eigen.V(), null),
+            eigen.V().mult(eigen.D(), null)
+        );
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void decomposeInvalidCount() {
+        final var A = DoubleMatrix2d.DENSE.create(10, 10);
+        PartialEigenvalue.decompose(A, 11);
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix.linalg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static io.jenetics.lattices.Colts.toColt;
+import static io.jenetics.lattices.LinealgebraAsserts.assertEquals;
+
+import cern.colt.matrix.linalg.SingularValueDecomposition;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.lattices.matrix.DoubleMatrix1d;
+import io.jenetics.lattices.matrix.DoubleMatrix2d;
+import io.jenetics.lattices.structure.Extent2d;
+import io.jenetics.lattices.MatrixRandom;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class PartialSingularValueTest {
+
+    @Test(dataProvider = "extents")
+    public void decompose(final Extent2d extent) {
+        final var A = MatrixRandom.nextDoubleMatrix2d(extent);
+
+        final int k = 5;
+        final var singular = PartialSingularValue.decompose(A, k);
+        assertThat(singular.isConverged()).isTrue();
+
+        // Colt only supports matrices with rows >= cols.
+        final var expected = new SingularValueDecomposition(
+            toColt(A.rows() >= A.cols() ? A : A.transpose())
+        );
+        final var values = expected.getSingularValues();
+        final var S = DoubleMatrix1d.DENSE.create(k);
+        for (int i = 0; i < k; ++i) {
+            S.set(i, values[i]);
+        }
+
+        assertEquals(singular.values(), S);
+        assertEquals(
+            A.mult(singular.V(), null),
+            singular.U().mult(singular.S(), null)
+        );
+        assertEquals(
+            A.mult(singular.U(), null, 1, 0, true, false),
+            singular.V().mult(singular.S(), null)
+        );
+    }
+
+    @DataProvider
+    public Object[][] extents() {
+        return new Object[][] {
+            { new Extent2d(5, 5) },
+            { new Extent2d(40, 30) },
+            { new Extent2d(30, 40) },
+            { new Extent2d(150, 100) }
+        };
+    }
+
+    @Test
+    public void decomposeRandomized() {
+        // Low rank matrices are reconstructed exactly.
+        final var L = MatrixRandom.nextDoubleMatrix2d(new Extent2d(100, 4));
+        final var R = MatrixRandom.nextDoubleMatrix2d(new Extent2d(4, 60));
+        final var A = L.mult(R, null);
+
+        final var singular = PartialSingularValue.decomposeRandomized(A, 4);
+        final var expected = PartialSingularValue.decompose(A, 4);
+        assertEquals(singular.values(), expected.values());
+
+        final var B = singular.U()
+            .mult(singular.S(), null)
+            .mult(singular.V(), null, 1, 0, false, true);
+        assertEquals(B, A);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void decomposeInvalidCount() {
+        final var A = DoubleMatrix2d.DENSE.create(10, 5);
+        PartialSingularValue.decompose(A, 6);
+    }
+
+}
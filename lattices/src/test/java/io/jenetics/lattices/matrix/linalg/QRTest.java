@@ -47,6 +47,17 @@ public class QRTest {
         assertEquals(qr.H(), toLinealgebra(expected.getH()));
     }
 
+    @Test
+    public void decomposeBlocked() {
+        final var A = MatrixRandom.nextDoubleMatrix2d(new Extent2d(300, 150));
+
+        final var expected = new QRDecomposition(toColt(A));
+        final var qr = QR.decompose(A);
+
+        assertEquals(qr.R(), toLinealgebra(expected.getR()));
+        assertEquals(qr.H(), toLinealgebra(expected.getH()));
+    }
+
     @Test(invocationCount = 20, successPercentage = 80)
     public void solver() {
         final var extent = new Extent2d(15, 15);
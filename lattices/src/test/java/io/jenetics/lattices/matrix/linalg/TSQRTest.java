@@ -0,0 +1,109 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix.linalg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static io.jenetics.lattices.LinealgebraAsserts.assertEquals;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.testng.annotations.Test;
+
+import io.jenetics.lattices.matrix.DoubleMatrix2d;
+import io.jenetics.lattices.matrix.ParallelContext;
+import io.jenetics.lattices.structure.Extent2d;
+import io.jenetics.lattices.structure.Index2d;
+import io.jenetics.lattices.structure.Range2d;
+import io.jenetics.lattices.structure.View2d;
+import io.jenetics.lattices.MatrixRandom;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class TSQRTest {
+
+    @Test
+    public void decompose() {
+        final var A = MatrixRandom.nextDoubleMatrix2d(new Extent2d(5000, 20));
+
+        final var expected = QR.decompose(A).R();
+        final var R = TSQR.decompose(A).R();
+
+        // The rows of R are only unique up to their sign.
+        expected.assign(Math::abs);
+        R.assign(Math::abs);
+        assertEquals(R, expected);
+    }
+
+    @Test
+    public void decomposeParallel() {
+        final var A = MatrixRandom.nextDoubleMatrix2d(new Extent2d(5000, 20));
+        final var B = MatrixRandom.nextDoubleMatrix2d(new Extent2d(5000, 3));
+
+        final var pool = new ForkJoinPool(4);
+        try {
+            final var qr = ParallelContext.with(
+                new ParallelContext(pool, 0),
+                () -> TSQR.decompose(A, B)
+            );
+
+            assertThat(qr.hasFullRank()).isTrue();
+            assertEquals(qr.solve(), QR.decompose(A).solve(B));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void decomposeStream() {
+        final var A = MatrixRandom.nextDoubleMatrix2d(new Extent2d(3000, 25));
+        final var B = MatrixRandom.nextDoubleMatrix2d(new Extent2d(3000, 2));
+        final var AB = A.like(new Extent2d(3000, 27));
+        AB.forEach((r, c) -> AB.set(r, c, c < 25 ? A.get(r, c) : B.get(r, c - 25)));
+
+        final Stream<DoubleMatrix2d> blocks = IntStream.range(0, 30)
+            .mapToObj(i -> AB.view(View2d.of(
+                new Range2d(new Index2d(i*100, 0), new Extent2d(100, 27))
+            )));
+
+        final var qr = TSQR.decompose(blocks.parallel(), 25);
+        assertThat(qr.R().extent()).isEqualTo(new Extent2d(25, 25));
+        assertEquals(qr.solve(), QR.decompose(A).solve(B));
+    }
+
+    @Test
+    public void decomposeWide() {
+        final var A = MatrixRandom.nextDoubleMatrix2d(new Extent2d(3, 5));
+
+        final var qr = TSQR.decompose(A);
+        assertThat(qr.R().extent()).isEqualTo(new Extent2d(5, 5));
+        assertThat(qr.hasFullRank()).isFalse();
+    }
+
+    @Test
+    public void decomposeEmptyStream() {
+        assertThatThrownBy(() -> TSQR.decompose(Stream.empty()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
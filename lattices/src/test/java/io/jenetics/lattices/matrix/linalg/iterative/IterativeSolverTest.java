@@ -0,0 +1,250 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.matrix.linalg.iterative;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static io.jenetics.lattices.LinealgebraAsserts.assertEquals;
+
+import java.util.ArrayList;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.lattices.matrix.CsrDoubleMatrix2d;
+import io.jenetics.lattices.matrix.DoubleMatrix1d;
+import io.jenetics.lattices.matrix.DoubleMatrix2d;
+import io.jenetics.lattices.matrix.linalg.LU;
+import io.jenetics.lattices.matrix.linalg.LinearOperator;
+import io.jenetics.lattices.MatrixRandom;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class IterativeSolverTest {
+
+    /**
+     * Creates the matrix of the five-point stencil on a {@code size x size}
+     * grid, with an additional (nonsymmetric) convection term.
+     */
+    private static DoubleMatrix2d stencil(int size, double convection) {
+        final int n = size*size;
+        final var A = DoubleMatrix2d.DENSE.create(n, n);
+        for (int i = 0; i < size; ++i) {
+            for (int j = 0; j < size; ++j) {
+                final int k = i*size + j;
+                A.set(k, k, 4);
+                if (i > 0) {
+                    A.set(k, k - size, -1);
+                }
+                if (i < size - 1) {
+                    A.set(k, k + size, -1);
+                }
+                if (j > 0) {
+                    A.set(k, k - 1, -1 - convection);
+                }
+                if (j < size - 1) {
+                    A.set(k, k + 1, -1 + convection);
+                }
+            }
+        }
+        return A;
+    }
+
+    /**
+     * Creates the sparse matrix of the five-point stencil on a
+     * {@code size x size} grid, directly from its triplets.
+     */
+    private static CsrDoubleMatrix2d sparseStencil(int size) {
+        final var rows = new ArrayList<Integer>();
+        final var cols = new ArrayList<Integer>();
+        final var values = new ArrayList<Double>();
+        for (int i = 0; i < size; ++i) {
+            for (int j = 0; j < size; ++j) {
+                final int k = i*size + j;
+                rows.add(k); cols.add(k); values.add(4.0);
+                if (i > 0) {
+                    rows.add(k); cols.add(k - size); values.add(-1.0);
+                }
+                if (i < size - 1) {
+                    rows.add(k); cols.add(k + size); values.add(-1.0);
+                }
+                if (j > 0) {
+                    rows.add(k); cols.add(k - 1); values.add(-1.0);
+                }
+                if (j < size - 1) {
+                    rows.add(k); cols.add(k + 1); values.add(-1.0);
+                }
+            }
+        }
+
+        final int n = size*size;
+        return CsrDoubleMatrix2d.ofTriplets(
+            n, n,
+            rows.stream().mapToInt(Integer::intValue).toArray(),
+            cols.stream().mapToInt(Integer::intValue).toArray(),
+            values.stream().mapToDouble(Double::doubleValue).toArray()
+        );
+    }
+
+    private static DoubleMatrix1d solve(DoubleMatrix2d A, DoubleMatrix1d b) {
+        final var B = DoubleMatrix2d.DENSE.create(b.extent().elements(), 1);
+        B.colAt(0).assign(b);
+        return LU.decompose(A).solve(B).colAt(0);
+    }
+
+    @Test(dataProvider = "symmetricSolvers")
+    public void solveSymmetric(final IterativeSolver solver) {
+        final var A = stencil(10, 0);
+        final var b = MatrixRandom.nextDoubleMatrix1d(A.rows());
+
+        final var solution = solver.solve(LinearOperator.of(A), b);
+        assertThat(solution.converged()).isTrue();
+        assertThat(solution.iterations()).isPositive();
+        assertEquals(solution.x(), solve(A, b));
+    }
+
+    @DataProvider
+    public Object[][] symmetricSolvers() {
+        final var A = stencil(10, 0);
+        return new Object[][] {
+            { IterativeSolver.cg() },
+            { IterativeSolver.cg(Preconditioner.jacobi(A)) },
+            { IterativeSolver.cg(Preconditioner.incompleteCholesky(A)) },
+            { IterativeSolver.bicgstab() },
+            { IterativeSolver.gmres() }
+        };
+    }
+
+    @Test(dataProvider = "nonsymmetricSolvers")
+    public void solveNonsymmetric(final IterativeSolver solver) {
+        final var A = stencil(10, 0.4);
+        final var b = MatrixRandom.nextDoubleMatrix1d(A.rows());
+
+        final var solution = solver.solve(LinearOperator.of(A), b);
+        assertThat(solution.converged()).isTrue();
+        assertEquals(solution.x(), solve(A, b));
+    }
+
+    @DataProvider
+    public Object[][] nonsymmetricSolvers() {
+        final var A = stencil(10, 0.4);
+        return new Object[][] {
+            { IterativeSolver.bicgstab() },
+            { IterativeSolver.bicgstab(Preconditioner.jacobi(A)) },
+            { IterativeSolver.gmres() },
+            { IterativeSolver.gmres(Preconditioner.jacobi(A)) },
+            {
+                IterativeSolver.gmres(
+                    Preconditioner.identity(), 5, Termination.of(10_000)
+                )
+            }
+        };
+    }
+
+    @Test
+    public void solveSparse() {
+        final var A = stencil(10, 0);
+        final var b = MatrixRandom.nextDoubleMatrix1d(A.rows());
+
+        final var solution = IterativeSolver.cg()
+            .solve(LinearOperator.of(CsrDoubleMatrix2d.of(A)), b);
+        assertThat(solution.converged()).isTrue();
+        assertEquals(solution.x(), solve(A, b));
+    }
+
+    @Test
+    public void incompleteCholeskySparse() {
+        // The dense matrix would have 10^10 elements.
+        final var A = sparseStencil(316);
+        final var b = MatrixRandom.nextDoubleMatrix1d(A.rows());
+
+        final var plain = IterativeSolver.cg().solve(LinearOperator.of(A), b);
+        final var solution = IterativeSolver
+            .cg(Preconditioner.incompleteCholesky(A))
+            .solve(LinearOperator.of(A), b);
+        assertThat(solution.converged()).isTrue();
+        assertThat(solution.iterations()).isLessThan(plain.iterations());
+
+        final var r = A.mult(solution.x(), null);
+        r.assign(b, (a, c) -> a - c);
+        assertThat(Math.sqrt(r.dotProduct(r)) <= 1.0E-6*Math.sqrt(b.dotProduct(b)))
+            .isTrue();
+    }
+
+    @Test
+    public void incompleteCholeskySparseEqualsDense() {
+        final var A = stencil(10, 0);
+        final var r = MatrixRandom.nextDoubleMatrix1d(A.rows());
+
+        final var expected = DoubleMatrix1d.DENSE.create(A.rows());
+        Preconditioner.incompleteCholesky(A).apply(r, expected);
+        final var z = DoubleMatrix1d.DENSE.create(A.rows());
+        Preconditioner.incompleteCholesky(sparseStencil(10)).apply(r, z);
+
+        assertEquals(z, expected);
+    }
+
+    @Test
+    public void solveWithInitialGuess() {
+        final var A = stencil(10, 0);
+        final var b = MatrixRandom.nextDoubleMatrix1d(A.rows());
+        final var x = solve(A, b);
+
+        final var solution = IterativeSolver.cg().solve(LinearOperator.of(A), b, x.copy());
+        assertThat(solution.iterations()).isLessThanOrEqualTo(1);
+        assertEquals(solution.x(), x);
+    }
+
+    @Test
+    public void solveZeroRightHandSide() {
+        final var A = stencil(5, 0);
+        final var b = DoubleMatrix1d.DENSE.create(A.rows());
+        final var x = MatrixRandom.nextDoubleMatrix1d(A.rows());
+
+        final var solution = IterativeSolver.gmres().solve(LinearOperator.of(A), b, x);
+        assertThat(solution.converged()).isTrue();
+        assertEquals(solution.x(), b);
+    }
+
+    @Test
+    public void iterationLimit() {
+        final var A = stencil(10, 0);
+        final var b = MatrixRandom.nextDoubleMatrix1d(A.rows());
+
+        final var solution = IterativeSolver
+            .cg(Preconditioner.identity(), new Termination(1.0E-12, 3))
+            .solve(LinearOperator.of(A), b);
+        assertThat(solution.converged()).isFalse();
+        assertThat(solution.iterations()).isEqualTo(3);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void solveIncompatibleSize() {
+        final var A = stencil(5, 0);
+        final var b = DoubleMatrix1d.DENSE.create(A.rows() + 1);
+        IterativeSolver.cg().solve(LinearOperator.of(A), b);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void jacobiZeroDiagonal() {
+        Preconditioner.jacobi(DoubleMatrix2d.DENSE.create(3, 3));
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.structure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.random.RandomGenerator;
+
+import org.testng.annotations.Test;
+
+import io.jenetics.lattices.Index2dRandom;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class BigStructure2dTest {
+
+    private final Index2dRandom random =
+        new Index2dRandom(RandomGenerator.getDefault());
+
+    @Test
+    public void bigExtent() {
+        final var extent = new Extent2d(50_000, 50_000);
+        assertThat(extent.bigElements()).isEqualTo(2_500_000_000L);
+        assertThat(extent.bigCells()).isEqualTo(2_500_000_000L);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void bigExtentElements() {
+        new Extent2d(50_000, 50_000).elements();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void bigExtentIntStructure() {
+        new Structure2d(new Extent2d(50_000, 50_000));
+    }
+
+    @Test
+    public void indexOffset() {
+        final var structure = new BigStructure2d(new Extent2d(50_000, 50_000));
+        final var range = new Range2d(structure.extent());
+        final var layout = structure.layout();
+
+        for (int i = 0; i < 1000; ++i) {
+            final Index2d index = random.next(range);
+
+            final long offset = layout.offset(index);
+            assertThat(offset)
+                .isEqualTo(index.row()*50_000L + index.col());
+            assertThat(layout.index(offset)).isEqualTo(index);
+        }
+    }
+
+    @Test
+    public void view() {
+        final var structure = new BigStructure2d(new Extent2d(50_000, 50_000));
+        final var view = structure.view(
+            new Range2d(new Index2d(45_000, 100), new Extent2d(1_000, 1_000))
+        );
+
+        assertThat(view.extent()).isEqualTo(new Extent2d(1_000, 1_000));
+        assertThat(view.layout().offset(10, 20))
+            .isEqualTo(structure.layout().offset(45_010, 120));
+        assertThat(view.transpose().layout().offset(20, 10))
+            .isEqualTo(structure.layout().offset(45_010, 120));
+        assertThat(view.view(new Stride2d(2, 3)).layout().offset(5, 7))
+            .isEqualTo(structure.layout().offset(45_010, 121));
+    }
+
+    @Test
+    public void projection() {
+        final var structure = new BigStructure2d(new Extent2d(50_000, 50_000, 2))
+            .view(Band.ONE);
+
+        final var row = structure.row(45_000);
+        assertThat(row.extent().elements()).isEqualTo(50_000);
+        assertThat(row.layout().offset(123))
+            .isEqualTo(structure.layout().offset(45_000, 123));
+
+        final var col = structure.col(123);
+        assertThat(col.extent().elements()).isEqualTo(50_000);
+        assertThat(col.layout().offset(45_000))
+            .isEqualTo(structure.layout().offset(45_000, 123));
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.internal;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD implementation of the {@link DoubleKernels}, using the
+ * {@code jdk.incubator.vector} API. This class is loaded reflectively by
+ * {@link Kernels}, if the incubator module is available at runtime.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+final class VectorDoubleKernels extends ScalarDoubleKernels {
+
+    private static final VectorSpecies<Double> SPECIES =
+        DoubleVector.SPECIES_PREFERRED;
+
+    // The species for one row of the micro-kernel, which has NR lanes.
+    private static final VectorSpecies<Double> ROW_SPECIES =
+        DoubleVector.SPECIES_256;
+
+    // Only use the vectorized micro-kernel if the hardware supports it.
+    private static final boolean VECTOR_GEMM =
+        SPECIES.vectorBitSize() >= ROW_SPECIES.vectorBitSize();
+
+    public VectorDoubleKernels() {
+    }
+
+    @Override
+    public double dot(
+        double[] x, int xOffset,
+        double[] y, int yOffset,
+        int length
+    ) {
+        final int bound = SPECIES.loopBound(length);
+
+        var sum = DoubleVector.zero(SPECIES);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final var a = DoubleVector.fromArray(SPECIES, x, xOffset + i);
+            final var b = DoubleVector.fromArray(SPECIES, y, yOffset + i);
+            sum = a.fma(b, sum);
+        }
+
+        double result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; ++i) {
+            result = Math.fma(x[xOffset + i], y[yOffset + i], result);
+        }
+        return result;
+    }
+
+    @Override
+    public void axpy(
+        double alpha,
+        double[] x, int xOffset,
+        double[] y, int yOffset,
+        int length
+    ) {
+        final int bound = SPECIES.loopBound(length);
+        final var a = DoubleVector.broadcast(SPECIES, alpha);
+
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final var vx = DoubleVector.fromArray(SPECIES, x, xOffset + i);
+            final var vy = DoubleVector.fromArray(SPECIES, y, yOffset + i);
+            a.fma(vx, vy).intoArray(y, yOffset + i);
+        }
+        for (; i < length; ++i) {
+            y[yOffset + i] = Math.fma(alpha, x[xOffset + i], y[yOffset + i]);
+        }
+    }
+
+    @Override
+    public void scal(double alpha, double[] x, int offset, int length) {
+        final int bound = SPECIES.loopBound(length);
+
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, x, offset + i)
+                .mul(alpha)
+                .intoArray(x, offset + i);
+        }
+        for (; i < length; ++i) {
+            x[offset + i] *= alpha;
+        }
+    }
+
+    /**
+     * Every row of the {@code 4 x 4} result block is kept in one vector
+     * register. For every {@code k}, the row of {@code B} is loaded once and
+     * multiplied with the broadcast elements of the {@code A} column.
+     */
+    @Override
+    public void gemm(
+        int k,
+        double alpha,
+        double[] A, int aOffset,
+        double[] B, int bOffset,
+        double[] C, int cOffset,
+        int rowStride, int colStride
+    ) {
+        if (!VECTOR_GEMM) {
+            super.gemm(k, alpha, A, aOffset, B, bOffset, C, cOffset, rowStride, colStride);
+            return;
+        }
+
+        var c0 = DoubleVector.zero(ROW_SPECIES);
+        var c1 = DoubleVector.zero(ROW_SPECIES);
+        var c2 = DoubleVector.zero(ROW_SPECIES);
+        var c3 = DoubleVector.zero(ROW_SPECIES);
+
+        int ai = aOffset;
+        int bi = bOffset;
+        for (int l = 0; l < k; ++l) {
+            final var b = DoubleVector.fromArray(ROW_SPECIES, B, bi);
+            c0 = DoubleVector.broadcast(ROW_SPECIES, A[ai]).fma(b, c0);
+            c1 = DoubleVector.broadcast(ROW_SPECIES, A[ai + 1]).fma(b, c1);
+            c2 = DoubleVector.broadcast(ROW_SPECIES, A[ai + 2]).fma(b, c2);
+            c3 = DoubleVector.broadcast(ROW_SPECIES, A[ai + 3]).fma(b, c3);
+
+            ai += MR;
+            bi += NR;
+        }
+
+        if (colStride == 1) {
+            final var a = DoubleVector.broadcast(ROW_SPECIES, alpha);
+            int ci = cOffset;
+            c0.fma(a, DoubleVector.fromArray(ROW_SPECIES, C, ci)).intoArray(C, ci);
+            ci += rowStride;
+            c1.fma(a, DoubleVector.fromArray(ROW_SPECIES, C, ci)).intoArray(C, ci);
+            ci += rowStride;
+            c2.fma(a, DoubleVector.fromArray(ROW_SPECIES, C, ci)).intoArray(C, ci);
+            ci += rowStride;
+            c3.fma(a, DoubleVector.fromArray(ROW_SPECIES, C, ci)).intoArray(C, ci);
+        } else {
+            final double[] block = new double[MR*NR];
+            c0.intoArray(block, 0);
+            c1.intoArray(block, NR);
+            c2.intoArray(block, 2*NR);
+            c3.intoArray(block, 3*NR);
+
+            for (int r = 0; r < MR; ++r) {
+                int ci = cOffset + r*rowStride;
+                for (int c = 0; c < NR; ++c) {
+                    C[ci] = Math.fma(alpha, block[r*NR + c], C[ci]);
+                    ci += colStride;
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Java Lattice Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.lattices.internal;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD implementation of the {@link FloatKernels}, using the
+ * {@code jdk.incubator.vector} API. This class is loaded reflectively by
+ * {@link Kernels}, if the incubator module is available at runtime.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0
+ */
+final class VectorFloatKernels extends ScalarFloatKernels {
+
+    private static final VectorSpecies<Float> SPECIES =
+        FloatVector.SPECIES_PREFERRED;
+
+    // The species for one row of the micro-kernel, which has NR lanes.
+    private static final VectorSpecies<Float> ROW_SPECIES =
+        FloatVector.SPECIES_256;
+
+    // Only use the vectorized micro-kernel if the hardware supports it.
+    private static final boolean VECTOR_GEMM =
+        SPECIES.vectorBitSize() >= ROW_SPECIES.vectorBitSize();
+
+    public VectorFloatKernels() {
+    }
+
+    /**
+     * Every row of the {@code 4 x 8} result block is kept in one vector
+     * register. For every {@code k}, the row of {@code B} is loaded once and
+     * multiplied with the broadcast elements of the {@code A} column.
+     */
+    @Override
+    public void gemm(
+        int k,
+        float alpha,
+        float[] A, int aOffset,
+        float[] B, int bOffset,
+        float[] C, int cOffset,
+        int rowStride, int colStride
+    ) {
+        if (!VECTOR_GEMM) {
+            super.gemm(k, alpha, A, aOffset, B, bOffset, C, cOffset, rowStride, colStride);
+            return;
+        }
+
+        var c0 = FloatVector.zero(ROW_SPECIES);
+        var c1 = FloatVector.zero(ROW_SPECIES);
+        var c2 = FloatVector.zero(ROW_SPECIES);
+        var c3 = FloatVector.zero(ROW_SPECIES);
+
+        int ai = aOffset;
+        int bi = bOffset;
+        for (int l = 0; l < k; ++l) {
+            final var b = FloatVector.fromArray(ROW_SPECIES, B, bi);
+            c0 = FloatVector.broadcast(ROW_SPECIES, A[ai]).fma(b, c0);
+            c1 = FloatVector.broadcast(ROW_SPECIES, A[ai + 1]).fma(b, c1);
+            c2 = FloatVector.broadcast(ROW_SPECIES, A[ai + 2]).fma(b, c2);
+            c3 = FloatVector.broadcast(ROW_SPECIES, A[ai + 3]).fma(b, c3);
+
+            ai += MR;
+            bi += NR;
+        }
+
+        if (colStride == 1) {
+            final var a = FloatVector.broadcast(ROW_SPECIES, alpha);
+            int ci = cOffset;
+            c0.fma(a, FloatVector.fromArray(ROW_SPECIES, C, ci)).intoArray(C, ci);
+            ci += rowStride;
+            c1.fma(a, FloatVector.fromArray(ROW_SPECIES, C, ci)).intoArray(C, ci);
+            ci += rowStride;
+            c2.fma(a, FloatVector.fromArray(ROW_SPECIES, C, ci)).intoArray(C, ci);
+            ci += rowStride;
+            c3.fma(a, FloatVector.fromArray(ROW_SPECIES, C, ci)).intoArray(C, ci);
+        } else {
+            final float[] block = new float[MR*NR];
+            c0.intoArray(block, 0);
+            c1.intoArray(block, NR);
+            c2.intoArray(block, 2*NR);
+            c3.intoArray(block, 3*NR);
+
+            for (int r = 0; r < MR; ++r) {
+                int ci = cOffset + r*rowStride;
+                for (int c = 0; c < NR; ++c) {
+                    C[ci] = Math.fma(alpha, block[r*NR + c], C[ci]);
+                    ci += colStride;
+                }
+            }
+        }
+    }
+
+}